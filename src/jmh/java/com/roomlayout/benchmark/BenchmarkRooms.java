@@ -0,0 +1,57 @@
+package com.roomlayout.benchmark;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.Wall;
+import com.roomlayout.model.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared fixtures for the benchmarks.
+ */
+final class BenchmarkRooms {
+
+    private BenchmarkRooms() {
+    }
+
+    /**
+     * Returns {@code count} non-overlapping 0.8m x 0.8m pieces laid out on a 1m grid,
+     * row by row, in a square of {@link #sideFor(int)} meters.
+     */
+    static List<Furniture> gridOfPieces(int count) {
+        int side = sideFor(count);
+        List<Furniture> pieces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pieces.add(new Furniture("Crate " + (i % 16), 0.8, 0.8, 1.0, i % side, i / side));
+        }
+        return pieces;
+    }
+
+    /**
+     * Returns the side in meters of a square room that fits {@code count} grid pieces.
+     */
+    static int sideFor(int count) {
+        return (int) Math.ceil(Math.sqrt(count));
+    }
+
+    /**
+     * Returns a furnished 30m x 20m room with doors and windows on every wall.
+     */
+    static Room furnishedHall() {
+        Room room = new Room(30.0, 20.0, 3.0);
+        for (int x = 0; x < 28; x += 3) {
+            for (int y = 1; y < 18; y += 3) {
+                room.addFurniture(new Furniture("Table", 1.6, 0.9, 0.75, x + 0.5, y + 0.5));
+                room.addFurniture(new Furniture("Cabinet", 0.6, 0.5, 2.0, x + 2.2, y + 0.5));
+            }
+        }
+        room.addDoor(new Door(Wall.NORTH, 2.0, 1.0, 2.1));
+        room.addDoor(new Door(Wall.SOUTH, 14.0, 1.8, 2.4));
+        room.addWindow(new Window(Wall.EAST, 5.0, 2.0, 1.2, 0.9));
+        room.addWindow(new Window(Wall.WEST, 9.0, 2.0, 1.2, 0.9));
+        return room;
+    }
+}
@@ -0,0 +1,74 @@
+package com.roomlayout.benchmark;
+
+import com.roomlayout.model.Room;
+import com.roomlayout.visualization.ImageVisualizer;
+import com.roomlayout.visualization.PngEncodingPipeline;
+import com.roomlayout.visualization.View;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ImageVisualizer} rendering and PNG encoding at several scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageRenderBenchmark {
+
+    /** Pixels per meter. */
+    @Param({"10", "25", "50"})
+    public int scale;
+
+    private ImageVisualizer visualizer;
+    private BufferedImage floorPlan;
+
+    @Setup
+    public void setUp() throws IOException {
+        Room room = BenchmarkRooms.furnishedHall();
+        String outputDirectory = Files.createTempDirectory("image-benchmark").toString();
+        visualizer = new ImageVisualizer(room, outputDirectory, scale);
+        floorPlan = visualizer.render(View.FLOOR_PLAN);
+    }
+
+    @Benchmark
+    public BufferedImage renderFloorPlan() {
+        return visualizer.render(View.FLOOR_PLAN);
+    }
+
+    @Benchmark
+    public void renderAllViews(Blackhole blackhole) {
+        for (View view : View.values()) {
+            blackhole.consume(visualizer.render(view));
+        }
+    }
+
+    @Benchmark
+    public void encodeFloorPlan() throws IOException {
+        PngEncodingPipeline.writePng(floorPlan, OutputStream.nullOutputStream(),
+            PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    @Benchmark
+    public void streamTiledFloorPlan() throws IOException {
+        visualizer.tiled(256).writePng(OutputStream.nullOutputStream(), Runnable::run);
+    }
+}
@@ -0,0 +1,82 @@
+package com.roomlayout.benchmark;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.Wall;
+import com.roomlayout.placement.CenterPlacementStrategy;
+import com.roomlayout.placement.Corner;
+import com.roomlayout.placement.CornerPlacementStrategy;
+import com.roomlayout.placement.Gap;
+import com.roomlayout.placement.PlacementStrategy;
+import com.roomlayout.placement.PositionResolver;
+import com.roomlayout.placement.RelativePlacementStrategy;
+import com.roomlayout.placement.Side;
+import com.roomlayout.placement.WallPlacementStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures position resolution for each {@link PlacementStrategy}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+
+    @Param({"CORNER", "WALL", "RELATIVE", "CENTER"})
+    public String strategy;
+
+    private Room room;
+    private Furniture furniture;
+    private PlacementStrategy placement;
+
+    @Setup
+    public void setUp() {
+        room = new Room(8.0, 6.0, 3.0);
+        Furniture bed = new Furniture("Bed", 1.6, 2.0, 0.5, 0.0, 0.0);
+        room.addFurniture(bed);
+        furniture = new Furniture("Nightstand", 0.5, 0.4, 0.6, 0, 0);
+
+        switch (strategy) {
+            case "CORNER":
+                placement = new CornerPlacementStrategy(Corner.SOUTH_EAST, Gap.of(0.1));
+                break;
+            case "WALL":
+                placement = new WallPlacementStrategy(Wall.NORTH, WallPlacementStrategy.WallPosition.CENTERED);
+                break;
+            case "RELATIVE":
+                placement = new RelativePlacementStrategy(bed, Side.EAST, Gap.of(0.1));
+                break;
+            case "CENTER":
+                placement = new CenterPlacementStrategy();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    @Benchmark
+    public Point2D resolve() {
+        return PositionResolver.resolve(placement, room, furniture);
+    }
+
+    @Benchmark
+    public Furniture createFurnitureAt() {
+        return PositionResolver.createFurnitureAt("Nightstand", 0.5, 0.4, 0.6, placement, room);
+    }
+}
@@ -0,0 +1,71 @@
+package com.roomlayout.benchmark;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.FurnitureStore;
+import com.roomlayout.model.Room;
+import com.roomlayout.spatial.GridSpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling an empty room with non-overlapping furniture, one piece at a time
+ * and as a single batch, with both furniture backings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RoomInsertionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int count;
+
+    @Param({"list", "store"})
+    public String backing;
+
+    private List<Furniture> pieces;
+    private int side;
+
+    @Setup
+    public void setUp() {
+        pieces = BenchmarkRooms.gridOfPieces(count);
+        side = BenchmarkRooms.sideFor(count);
+    }
+
+    @Benchmark
+    public Room addFurniture() {
+        Room room = newRoom();
+        for (Furniture piece : pieces) {
+            room.addFurniture(piece);
+        }
+        return room;
+    }
+
+    @Benchmark
+    public Room addAllFurniture() {
+        Room room = newRoom();
+        room.addAllFurniture(pieces);
+        return room;
+    }
+
+    private Room newRoom() {
+        if ("store".equals(backing)) {
+            return new Room(side, side, 3.0, new GridSpatialIndex(), new FurnitureStore(count));
+        }
+        return new Room(side, side, 3.0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.roomlayout.benchmark;
+
+import com.roomlayout.model.Room;
+import com.roomlayout.model.Wall;
+import com.roomlayout.visualization.ConsoleVisualizer;
+import com.roomlayout.visualization.TextVisualizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConsoleVisualizer} and {@link TextVisualizer} at several scales.
+ *
+ * <p>Console output is discarded while the benchmark runs, and the text visualizer streams
+ * into a null writer, so the numbers cover grid building and formatting only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextRenderBenchmark {
+
+    @Param({"5", "10", "20"})
+    public int charactersPerMeter;
+
+    private ConsoleVisualizer console;
+    private TextVisualizer text;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        Room room = BenchmarkRooms.furnishedHall();
+        console = new ConsoleVisualizer(room, charactersPerMeter);
+        text = new TextVisualizer(room, Files.createTempDirectory("text-benchmark").toString(), charactersPerMeter);
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void consoleFloorPlan() {
+        console.visualizeFloorPlan();
+    }
+
+    @Benchmark
+    public void consoleWall() {
+        console.visualizeWall(Wall.NORTH);
+    }
+
+    @Benchmark
+    public void textFloorPlan() throws IOException {
+        text.writeFloorPlan(Writer.nullWriter());
+    }
+
+    @Benchmark
+    public void textAll() throws IOException {
+        text.writeAll(Writer.nullWriter());
+    }
+}
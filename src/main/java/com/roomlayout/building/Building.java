@@ -0,0 +1,129 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.Point2D;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A building made of {@linkplain Floor floors} of rooms.
+ *
+ * <p>Floors share one horizontal coordinate system, so a point means the same spot on
+ * every floor. Queries that span the building go through the spatial indexes of the
+ * floors they touch and never iterate rooms that are not near the area in question.
+ *
+ * <p>Example: every piece of furniture within 3m of an exit, on any floor:
+ * <pre>{@code
+ * Building office = new Building("Office");
+ * Floor ground = office.addFloor("Ground", 0.0);
+ * ground.addRoom("Lobby", lobby, 0, 0);
+ * ...
+ * List<LocatedFurniture> nearExits = office.furnitureNear(office.getExits(), 3.0);
+ * }</pre>
+ *
+ * <p>A building is not thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class Building {
+    private final String name;
+    private final Map<String, Floor> floors = new LinkedHashMap<>();
+
+    public Building(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds an empty floor.
+     *
+     * @param floorName the display name of the floor, unique within the building
+     * @param elevation the height of the floor above the building's base in meters
+     * @return the new floor
+     * @throws IllegalArgumentException if the building already has a floor of that name
+     */
+    public Floor addFloor(String floorName, double elevation) {
+        if (floors.containsKey(floorName)) {
+            throw new IllegalArgumentException("Building already has a floor named " + floorName);
+        }
+        Floor floor = new Floor(floorName, elevation);
+        floors.put(floorName, floor);
+        return floor;
+    }
+
+    /**
+     * @param floorName the name of a floor
+     * @return the floor, or {@code null} if the building has none of that name
+     */
+    public Floor getFloor(String floorName) {
+        return floors.get(floorName);
+    }
+
+    /**
+     * @return the floors in the order they were added
+     */
+    public List<Floor> getFloors() {
+        return Collections.unmodifiableList(new ArrayList<>(floors.values()));
+    }
+
+    /**
+     * @return the number of rooms on all floors
+     */
+    public int getRoomCount() {
+        int count = 0;
+        for (Floor floor : floors.values()) {
+            count += floor.getRooms().size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the doorways that lead out of the floor plan, on every floor.
+     *
+     * @return the exits, floor by floor
+     * @see Floor#getExits()
+     */
+    public List<Doorway> getExits() {
+        List<Doorway> result = new ArrayList<>();
+        for (Floor floor : floors.values()) {
+            result.addAll(floor.getExits());
+        }
+        return result;
+    }
+
+    /**
+     * Finds furniture closer than a given distance to the middle of any of the doorways.
+     *
+     * <p>Each doorway is searched on its own floor, in every room near it.
+     *
+     * @param doorways the doorways to search around, from any floors
+     * @param distance the search radius in meters
+     * @return the matching furniture, each piece once, in the order first found
+     * @throws IllegalArgumentException if the distance is negative
+     * @see Floor#furnitureWithin(double, double, double)
+     */
+    public List<LocatedFurniture> furnitureNear(List<Doorway> doorways, double distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        Set<LocatedFurniture> result = new LinkedHashSet<>();
+        for (Doorway doorway : doorways) {
+            Point2D center = doorway.getCenter();
+            result.addAll(doorway.getRoom().getFloor().furnitureWithin(center.getX(), center.getY(), distance));
+        }
+        return new ArrayList<>(result);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Building %s: %d floors, %d rooms", name, floors.size(), getRoomCount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Wall;
+
+/**
+ * A door on a floor together with the rooms it connects.
+ *
+ * <p>Doors are stored by the rooms they sit in, and each room only knows the wall of the
+ * door. A doorway adds the room on the other side of that wall, found by position on the
+ * floor. Rooms often list the same opening once each, on facing walls; such a pair forms
+ * a single doorway whose {@link #getOtherDoor()} is the neighbour's door. A door with no
+ * room behind it leads outside and is an {@linkplain #isExit() exit}.
+ *
+ * @see Floor#getDoorways()
+ * @since 1.1.0
+ */
+public final class Doorway {
+    private final PlacedRoom room;
+    private final Door door;
+    private final PlacedRoom otherRoom;
+    private final Door otherDoor;
+
+    Doorway(PlacedRoom room, Door door, PlacedRoom otherRoom, Door otherDoor) {
+        this.room = room;
+        this.door = door;
+        this.otherRoom = otherRoom;
+        this.otherDoor = otherDoor;
+    }
+
+    /**
+     * @return the room the door belongs to
+     */
+    public PlacedRoom getRoom() {
+        return room;
+    }
+
+    public Door getDoor() {
+        return door;
+    }
+
+    /**
+     * @return the room behind the door, or {@code null} for an exit
+     */
+    public PlacedRoom getOtherRoom() {
+        return otherRoom;
+    }
+
+    /**
+     * @return the other room's door for the same opening, or {@code null} if it lists none
+     */
+    public Door getOtherDoor() {
+        return otherDoor;
+    }
+
+    /**
+     * @return {@code true} if the door leads out of the floor plan rather than into a room
+     */
+    public boolean isExit() {
+        return otherRoom == null;
+    }
+
+    /**
+     * Tells whether the doorway joins a room to another one.
+     *
+     * @param placedRoom the room
+     * @return {@code true} if the room is on either side of the door
+     */
+    public boolean connects(PlacedRoom placedRoom) {
+        return room == placedRoom || otherRoom == placedRoom;
+    }
+
+    /**
+     * @return the middle of the opening in floor coordinates
+     */
+    public Point2D getCenter() {
+        return center(room, door);
+    }
+
+    static Point2D center(PlacedRoom room, Door door) {
+        double x = room.wallItemStartX(door);
+        double y = room.wallItemStartY(door);
+        if (door.getWall() == Wall.NORTH || door.getWall() == Wall.SOUTH) {
+            return new Point2D(x + door.getWidth() / 2, y);
+        }
+        return new Point2D(x, y + door.getWidth() / 2);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s door of %s to %s", door.getWall(), room.getName(),
+            otherRoom == null ? "outside" : otherRoom.getName());
+    }
+}
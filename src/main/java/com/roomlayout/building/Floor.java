@@ -0,0 +1,323 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Wall;
+import com.roomlayout.spatial.GridSpatialIndex;
+import com.roomlayout.spatial.SpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One level of a {@link Building}: rooms laid out in a shared coordinate system.
+ *
+ * <p>Floor coordinates use the room axes (x grows east, y grows south) with an origin
+ * chosen by the caller. Rooms may share walls but not floor area. Their bounds are kept
+ * in a spatial index, and each room keeps its own furniture index, so a query over an
+ * area of the floor visits only the rooms under that area and only the furniture those
+ * rooms index there. The cost does not grow with the number of rooms on the floor.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Floor ground = building.addFloor("Ground", 0.0);
+ * PlacedRoom hall = ground.addRoom("Hall", hallRoom, 0, 0);
+ * PlacedRoom office = ground.addRoom("Office", officeRoom, hallRoom.getWidth(), 0);
+ * for (Doorway exit : ground.getExits()) {
+ *     Point2D door = exit.getCenter();
+ *     List<LocatedFurniture> blocking = ground.furnitureWithin(door.getX(), door.getY(), 3.0);
+ * }
+ * }</pre>
+ *
+ * <p>Rooms stay editable after they are added; queries always see their current contents.
+ * A floor is not thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class Floor {
+    /** Rooms are several meters across, so the room grid is coarser than a furniture grid. */
+    public static final double DEFAULT_CELL_SIZE = 5.0;
+    /** How far beyond a wall to look for the room behind a door, in meters. */
+    private static final double PROBE = 1e-6;
+
+    private final String name;
+    private final double elevation;
+    private final SpatialIndex roomIndex;
+    private final List<PlacedRoom> rooms = new ArrayList<>();
+    private final List<PlacedRoom> roomView = Collections.unmodifiableList(rooms);
+
+    /**
+     * Creates an empty floor.
+     *
+     * @param name the display name of the floor
+     * @param elevation the height of the floor above the building's base in meters
+     */
+    public Floor(String name, double elevation) {
+        this(name, elevation, new GridSpatialIndex(DEFAULT_CELL_SIZE));
+    }
+
+    /**
+     * Creates an empty floor that keeps its room bounds in the given index.
+     *
+     * @param name the display name of the floor
+     * @param elevation the height of the floor above the building's base in meters
+     * @param roomIndex an empty spatial index for the room bounds
+     * @throws IllegalArgumentException if the index is not empty
+     */
+    public Floor(String name, double elevation, SpatialIndex roomIndex) {
+        if (roomIndex.size() != 0) {
+            throw new IllegalArgumentException("Spatial index must be empty");
+        }
+        this.name = name;
+        this.elevation = elevation;
+        this.roomIndex = roomIndex;
+    }
+
+    /**
+     * Places a room on the floor.
+     *
+     * @param roomName the display name of the room
+     * @param room the room
+     * @param x the west edge of the room in floor coordinates
+     * @param y the north edge of the room in floor coordinates
+     * @return the placed room
+     * @throws IllegalArgumentException if the room overlaps a room already on the floor
+     */
+    public PlacedRoom addRoom(String roomName, RoomLayout room, double x, double y) {
+        int[] overlapping = roomIndex.query(x, y, room.getWidth(), room.getLength());
+        if (overlapping.length > 0) {
+            throw new IllegalArgumentException("Room " + roomName + " overlaps " + rooms.get(overlapping[0]).getName());
+        }
+        PlacedRoom placed = new PlacedRoom(this, rooms.size(), roomName, room, x, y);
+        roomIndex.insert(placed.getIndex(), x, y, room.getWidth(), room.getLength());
+        rooms.add(placed);
+        return placed;
+    }
+
+    /**
+     * Finds the room covering a point.
+     *
+     * @param x the x coordinate in floor coordinates
+     * @param y the y coordinate in floor coordinates
+     * @return the room with the point in its interior, or {@code null} if the point is
+     *         outside every room or on a wall
+     */
+    public PlacedRoom roomAt(double x, double y) {
+        int[] found = roomIndex.query(x, y, 0, 0);
+        return found.length == 0 ? null : rooms.get(found[0]);
+    }
+
+    /**
+     * Finds the rooms sharing floor area with a rectangle.
+     *
+     * @param x the west edge of the area in floor coordinates
+     * @param y the north edge of the area in floor coordinates
+     * @param width the east-west extent of the area in meters
+     * @param length the north-south extent of the area in meters
+     * @return the rooms in the order they were added
+     */
+    public List<PlacedRoom> roomsIntersecting(double x, double y, double width, double length) {
+        int[] found = roomIndex.query(x, y, width, length);
+        List<PlacedRoom> result = new ArrayList<>(found.length);
+        for (int id : found) {
+            result.add(rooms.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Finds furniture whose footprint overlaps an area of the floor, in any room.
+     *
+     * @param x the west edge of the area in floor coordinates
+     * @param y the north edge of the area in floor coordinates
+     * @param width the east-west extent of the area in meters
+     * @param length the north-south extent of the area in meters
+     * @return the matching furniture, grouped by room in the order the rooms were added
+     */
+    public List<LocatedFurniture> furnitureIntersecting(double x, double y, double width, double length) {
+        List<LocatedFurniture> result = new ArrayList<>();
+        for (int id : roomIndex.query(x, y, width, length)) {
+            PlacedRoom placed = rooms.get(id);
+            for (Furniture f : placed.getRoom().furnitureIntersecting(x - placed.getX(), y - placed.getY(), width, length)) {
+                result.add(new LocatedFurniture(placed, f));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds furniture closer to a point than a given distance, in any room.
+     *
+     * <p>Distance is measured to the nearest point of each footprint, so pieces in the
+     * next room count if they are close enough, walls notwithstanding.
+     *
+     * @param x the x coordinate in floor coordinates
+     * @param y the y coordinate in floor coordinates
+     * @param distance the search radius in meters
+     * @return the matching furniture, grouped by room in the order the rooms were added
+     * @throws IllegalArgumentException if the distance is negative
+     */
+    public List<LocatedFurniture> furnitureWithin(double x, double y, double distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        List<LocatedFurniture> result = furnitureIntersecting(x - distance, y - distance, 2 * distance, 2 * distance);
+        result.removeIf(f -> f.getFootprint().distanceTo(x, y) >= distance);
+        return result;
+    }
+
+    /**
+     * Links every door on the floor to the room behind it.
+     *
+     * <p>A door listed by both rooms of an opening, on facing walls and over the same
+     * span, gives a single doorway, reported for the room that was added first.
+     *
+     * @return the doorways, by room in the order the rooms were added
+     */
+    public List<Doorway> getDoorways() {
+        List<Doorway> result = new ArrayList<>();
+        for (PlacedRoom placed : rooms) {
+            for (Door door : placed.getRoom().getDoorView()) {
+                Doorway doorway = link(placed, door);
+                if (doorway.getOtherDoor() == null || doorway.getOtherRoom().getIndex() > placed.getIndex()) {
+                    result.add(doorway);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the doorways that lead out of the floor plan.
+     *
+     * @return the exits, by room in the order the rooms were added
+     */
+    public List<Doorway> getExits() {
+        List<Doorway> result = new ArrayList<>();
+        for (PlacedRoom placed : rooms) {
+            for (Door door : placed.getRoom().getDoorView()) {
+                Doorway doorway = link(placed, door);
+                if (doorway.isExit()) {
+                    result.add(doorway);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the doorways into or out of one room, seen from that room.
+     *
+     * <p>Only the room and its neighbours are examined, so this is cheap on large floors.
+     * Doors that only a neighbour lists are included, with that neighbour's door as
+     * {@link Doorway#getDoor()}.
+     *
+     * @param placed a room on this floor
+     * @return the room's own doorways followed by those only its neighbours list
+     * @throws IllegalArgumentException if the room is on another floor
+     */
+    public List<Doorway> getDoorways(PlacedRoom placed) {
+        if (placed.getFloor() != this) {
+            throw new IllegalArgumentException("Room " + placed.getName() + " is not on floor " + name);
+        }
+        List<Doorway> result = new ArrayList<>();
+        for (Door door : placed.getRoom().getDoorView()) {
+            result.add(link(placed, door));
+        }
+        for (int id : roomIndex.query(placed.getX() - PROBE, placed.getY() - PROBE,
+                placed.getWidth() + 2 * PROBE, placed.getLength() + 2 * PROBE)) {
+            PlacedRoom neighbour = rooms.get(id);
+            if (neighbour == placed) {
+                continue;
+            }
+            for (Door door : neighbour.getRoom().getDoorView()) {
+                Doorway doorway = link(neighbour, door);
+                if (doorway.getOtherRoom() == placed && doorway.getOtherDoor() == null) {
+                    result.add(doorway);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Doorway link(PlacedRoom placed, Door door) {
+        Point2D center = Doorway.center(placed, door);
+        double probeX = center.getX();
+        double probeY = center.getY();
+        switch (door.getWall()) {
+            case NORTH:
+                probeY -= PROBE;
+                break;
+            case SOUTH:
+                probeY += PROBE;
+                break;
+            case EAST:
+                probeX += PROBE;
+                break;
+            default:
+                probeX -= PROBE;
+        }
+        PlacedRoom other = roomAt(probeX, probeY);
+        if (other == null) {
+            return new Doorway(placed, door, null, null);
+        }
+        return new Doorway(placed, door, other, matchingDoor(placed, door, other));
+    }
+
+    /**
+     * Finds the door of another room that fills the same opening as a door.
+     */
+    private static Door matchingDoor(PlacedRoom placed, Door door, PlacedRoom other) {
+        Wall facing = opposite(door.getWall());
+        boolean horizontal = facing == Wall.NORTH || facing == Wall.SOUTH;
+        double start = horizontal ? placed.wallItemStartX(door) : placed.wallItemStartY(door);
+        for (Door candidate : other.getRoom().getDoorView()) {
+            if (candidate.getWall() != facing || Math.abs(candidate.getWidth() - door.getWidth()) > PROBE) {
+                continue;
+            }
+            double candidateStart = horizontal ? other.wallItemStartX(candidate) : other.wallItemStartY(candidate);
+            if (Math.abs(candidateStart - start) <= PROBE) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Wall opposite(Wall wall) {
+        switch (wall) {
+            case NORTH:
+                return Wall.SOUTH;
+            case SOUTH:
+                return Wall.NORTH;
+            case EAST:
+                return Wall.WEST;
+            case WEST:
+                return Wall.EAST;
+            default:
+                throw new IllegalArgumentException("Invalid wall for door: " + wall);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getElevation() {
+        return elevation;
+    }
+
+    /**
+     * @return the rooms in the order they were added, as an unmodifiable list
+     */
+    public List<PlacedRoom> getRooms() {
+        return roomView;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Floor %s: %d rooms at %.1fm", name, rooms.size(), elevation);
+    }
+}
@@ -0,0 +1,65 @@
+package com.roomlayout.building;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Furniture;
+
+/**
+ * A piece of furniture found by a floor or building query, with the room it stands in.
+ *
+ * <p>The furniture keeps its position in room coordinates; {@link #getFootprint()} gives
+ * the footprint in floor coordinates. Two results are equal if they refer to equal pieces
+ * in the same placed room, so a piece read twice from a room that creates pieces on
+ * every read, like a {@link com.roomlayout.model.FurnitureStore} backed room, is still
+ * recognized.
+ *
+ * @since 1.1.0
+ */
+public final class LocatedFurniture {
+    private final PlacedRoom room;
+    private final Furniture furniture;
+    private final OrientedBox footprint;
+
+    LocatedFurniture(PlacedRoom room, Furniture furniture) {
+        this.room = room;
+        this.furniture = furniture;
+        this.footprint = new OrientedBox(room.getX() + furniture.getX(), room.getY() + furniture.getY(),
+            furniture.getWidth(), furniture.getLength(), furniture.getRotation());
+    }
+
+    public PlacedRoom getRoom() {
+        return room;
+    }
+
+    public Floor getFloor() {
+        return room.getFloor();
+    }
+
+    public Furniture getFurniture() {
+        return furniture;
+    }
+
+    /**
+     * @return the footprint in floor coordinates
+     */
+    public OrientedBox getFootprint() {
+        return footprint;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LocatedFurniture)) return false;
+        LocatedFurniture other = (LocatedFurniture) obj;
+        return room == other.room && furniture.equals(other.furniture);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(room) + furniture.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return furniture.getName() + " in " + room.getName();
+    }
+}
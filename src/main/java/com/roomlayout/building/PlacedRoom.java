@@ -0,0 +1,119 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.WallItem;
+
+/**
+ * A room positioned on a {@link Floor}.
+ *
+ * <p>Rooms keep their own coordinate system, with the origin at their north-west corner.
+ * A placed room adds the offset of that corner in floor coordinates, which use the same
+ * axes: x grows east and y grows south. Rooms are created by
+ * {@link Floor#addRoom(String, RoomLayout, double, double)}.
+ *
+ * @since 1.1.0
+ */
+public final class PlacedRoom {
+    private final Floor floor;
+    private final int index;
+    private final String name;
+    private final RoomLayout room;
+    private final double x;
+    private final double y;
+
+    PlacedRoom(Floor floor, int index, String name, RoomLayout room, double x, double y) {
+        this.floor = floor;
+        this.index = index;
+        this.name = name;
+        this.room = room;
+        this.x = x;
+        this.y = y;
+    }
+
+    public Floor getFloor() {
+        return floor;
+    }
+
+    /**
+     * Returns the position of the room in its floor's room list.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RoomLayout getRoom() {
+        return room;
+    }
+
+    /**
+     * @return the west edge of the room in floor coordinates
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the north edge of the room in floor coordinates
+     */
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return room.getWidth();
+    }
+
+    public double getLength() {
+        return room.getLength();
+    }
+
+    /**
+     * Tells whether a point on the floor lies inside the room or on its walls.
+     *
+     * @param floorX the x coordinate in floor coordinates
+     * @param floorY the y coordinate in floor coordinates
+     * @return {@code true} if the room covers the point
+     */
+    public boolean contains(double floorX, double floorY) {
+        return floorX >= x && floorX <= x + room.getWidth() && floorY >= y && floorY <= y + room.getLength();
+    }
+
+    /**
+     * Returns the x coordinate, in floor coordinates, where a door or window starts.
+     */
+    double wallItemStartX(WallItem item) {
+        switch (item.getWall()) {
+            case NORTH:
+            case SOUTH:
+                return x + item.getPosition();
+            case EAST:
+                return x + room.getWidth();
+            default:
+                return x;
+        }
+    }
+
+    /**
+     * Returns the y coordinate, in floor coordinates, where a door or window starts.
+     */
+    double wallItemStartY(WallItem item) {
+        switch (item.getWall()) {
+            case EAST:
+            case WEST:
+                return y + item.getPosition();
+            case SOUTH:
+                return y + room.getLength();
+            default:
+                return y;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1fm x %.1fm at (%.1f, %.1f)", name, room.getWidth(), room.getLength(), x, y);
+    }
+}
@@ -0,0 +1,363 @@
+package com.roomlayout.geometry;
+
+/**
+ * A rectangle on the floor plane, rotated about its center.
+ *
+ * <p>A box is described like an unrotated furniture footprint, by its north-west corner,
+ * width (x extent) and length (y extent), plus a rotation in degrees. Positive rotations
+ * turn the box clockwise as seen on the floor plan, where x grows east and y grows south.
+ *
+ * <p>The corners and the axis-aligned bounds are computed once, when the box is created,
+ * so intersection tests in hot loops never evaluate trigonometric functions. Boxes rotated
+ * by a multiple of 90 degrees are axis-aligned and are tested like plain rectangles; other
+ * boxes use the separating axis theorem.
+ *
+ * <p>Like {@link com.roomlayout.spatial.SpatialIndex}, boxes intersect only if they share
+ * interior area; boxes that merely touch along an edge or at a corner do not intersect.
+ *
+ * @since 1.1.0
+ */
+public final class OrientedBox {
+    /** Tolerance for rounding in the corners of rotated boxes, in meters. */
+    private static final double EPSILON = 1e-9;
+
+    private final double centerX;
+    private final double centerY;
+    private final double halfWidth;
+    private final double halfLength;
+    private final double cos;
+    private final double sin;
+    private final boolean axisAligned;
+    /** Corners in clockwise order, starting with the rotated north-west corner. */
+    private final double[] cornerX = new double[4];
+    private final double[] cornerY = new double[4];
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final double boundsWidth;
+    private final double boundsLength;
+
+    /**
+     * Creates a box.
+     *
+     * @param x the west edge of the unrotated box
+     * @param y the north edge of the unrotated box
+     * @param width the east-west extent of the unrotated box
+     * @param length the north-south extent of the unrotated box
+     * @param rotation the clockwise rotation about the center in degrees
+     */
+    public OrientedBox(double x, double y, double width, double length, double rotation) {
+        this.centerX = x + width / 2;
+        this.centerY = y + length / 2;
+        this.halfWidth = width / 2;
+        this.halfLength = length / 2;
+        double degrees = ((rotation % 360) + 360) % 360;
+        // Exact values for right angles, so axis-aligned boxes have exact corners
+        if (degrees == 0) {
+            cos = 1;
+            sin = 0;
+        } else if (degrees == 90) {
+            cos = 0;
+            sin = 1;
+        } else if (degrees == 180) {
+            cos = -1;
+            sin = 0;
+        } else if (degrees == 270) {
+            cos = 0;
+            sin = -1;
+        } else {
+            double radians = Math.toRadians(degrees);
+            cos = Math.cos(radians);
+            sin = Math.sin(radians);
+        }
+        this.axisAligned = cos == 0 || sin == 0;
+
+        double[] localX = {-halfWidth, halfWidth, halfWidth, -halfWidth};
+        double[] localY = {-halfLength, -halfLength, halfLength, halfLength};
+        double lowX = Double.POSITIVE_INFINITY;
+        double lowY = Double.POSITIVE_INFINITY;
+        double highX = Double.NEGATIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < 4; i++) {
+            cornerX[i] = centerX + localX[i] * cos - localY[i] * sin;
+            cornerY[i] = centerY + localX[i] * sin + localY[i] * cos;
+            lowX = Math.min(lowX, cornerX[i]);
+            lowY = Math.min(lowY, cornerY[i]);
+            highX = Math.max(highX, cornerX[i]);
+            highY = Math.max(highY, cornerY[i]);
+        }
+        if (sin == 0) {
+            // Unturned boxes keep exactly the edges they were given
+            lowX = x;
+            highX = x + width;
+            lowY = y;
+            highY = y + length;
+        } else if (cos == 0) {
+            lowX = centerX - halfLength;
+            highX = centerX + halfLength;
+            lowY = centerY - halfWidth;
+            highY = centerY + halfWidth;
+        }
+        this.minX = lowX;
+        this.minY = lowY;
+        this.maxX = highX;
+        this.maxY = highY;
+        // Axis-aligned extents are taken from the size, so they don't pick up rounding from the edges
+        this.boundsWidth = sin == 0 ? width : cos == 0 ? length : highX - lowX;
+        this.boundsLength = sin == 0 ? length : cos == 0 ? width : highY - lowY;
+    }
+
+    /**
+     * Tells whether this box shares interior area with another one.
+     *
+     * @param other the other box
+     * @return {@code true} if the boxes overlap
+     */
+    public boolean intersects(OrientedBox other) {
+        if (!boundsIntersect(other.minX, other.minY, other.maxX, other.maxY)) {
+            return false;
+        }
+        if (axisAligned && other.axisAligned) {
+            return true;
+        }
+        return !separatedAlongAxes(this, other) && !separatedAlongAxes(other, this);
+    }
+
+    /**
+     * Tells whether this box shares interior area with an axis-aligned rectangle.
+     *
+     * @param x the west edge of the rectangle
+     * @param y the north edge of the rectangle
+     * @param width the east-west extent of the rectangle
+     * @param length the north-south extent of the rectangle
+     * @return {@code true} if the box and the rectangle overlap
+     */
+    public boolean intersects(double x, double y, double width, double length) {
+        if (!boundsIntersect(x, y, x + width, y + length)) {
+            return false;
+        }
+        if (axisAligned) {
+            return true;
+        }
+        // The rectangle's own axes are covered by the bounds test above
+        return !separatedAlongAxes(this, new OrientedBox(x, y, width, length, 0));
+    }
+
+    /**
+     * Tells whether a point lies inside this box or on its edge.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return {@code true} if the point is covered by the box
+     */
+    public boolean contains(double x, double y) {
+        double dx = x - centerX;
+        double dy = y - centerY;
+        double alongWidth = dx * cos + dy * sin;
+        double alongLength = -dx * sin + dy * cos;
+        return Math.abs(alongWidth) <= halfWidth + EPSILON && Math.abs(alongLength) <= halfLength + EPSILON;
+    }
+
+    /**
+     * Measures the distance from a point to the nearest point of this box.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return the distance, 0 if the box covers the point
+     */
+    public double distanceTo(double x, double y) {
+        double dx = x - centerX;
+        double dy = y - centerY;
+        double outsideWidth = Math.max(0, Math.abs(dx * cos + dy * sin) - halfWidth);
+        double outsideLength = Math.max(0, Math.abs(-dx * sin + dy * cos) - halfLength);
+        return Math.hypot(outsideWidth, outsideLength);
+    }
+
+    /**
+     * Tells whether this box lies entirely within an axis-aligned rectangle.
+     *
+     * @param x the west edge of the rectangle
+     * @param y the north edge of the rectangle
+     * @param width the east-west extent of the rectangle
+     * @param length the north-south extent of the rectangle
+     * @return {@code true} if every corner of the box is inside the rectangle or on its edge
+     */
+    public boolean isWithin(double x, double y, double width, double length) {
+        double tolerance = sin == 0 ? 0 : EPSILON;
+        return minX >= x - tolerance && minY >= y - tolerance
+            && maxX <= x + width + tolerance && maxY <= y + length + tolerance;
+    }
+
+    /**
+     * Computes the area this box shares with another one.
+     *
+     * @param other the other box
+     * @return the overlapping area, 0 if the boxes don't intersect
+     */
+    public double intersectionArea(OrientedBox other) {
+        if (!intersects(other)) {
+            return 0;
+        }
+        if (axisAligned && other.axisAligned) {
+            return (Math.min(maxX, other.maxX) - Math.max(minX, other.minX))
+                * (Math.min(maxY, other.maxY) - Math.max(minY, other.minY));
+        }
+        // Clip this box against each edge of the other one (Sutherland-Hodgman)
+        double[] xs = cornerX.clone();
+        double[] ys = cornerY.clone();
+        int count = 4;
+        for (int edge = 0; edge < 4 && count > 0; edge++) {
+            double ax = other.cornerX[edge];
+            double ay = other.cornerY[edge];
+            double bx = other.cornerX[(edge + 1) % 4];
+            double by = other.cornerY[(edge + 1) % 4];
+            double[] clippedX = new double[count + 4];
+            double[] clippedY = new double[count + 4];
+            int clipped = 0;
+            for (int i = 0; i < count; i++) {
+                int j = (i + 1) % count;
+                double si = side(ax, ay, bx, by, xs[i], ys[i]);
+                double sj = side(ax, ay, bx, by, xs[j], ys[j]);
+                if (si >= 0) {
+                    clippedX[clipped] = xs[i];
+                    clippedY[clipped++] = ys[i];
+                }
+                if ((si >= 0) != (sj >= 0)) {
+                    double t = si / (si - sj);
+                    clippedX[clipped] = xs[i] + t * (xs[j] - xs[i]);
+                    clippedY[clipped++] = ys[i] + t * (ys[j] - ys[i]);
+                }
+            }
+            xs = clippedX;
+            ys = clippedY;
+            count = clipped;
+        }
+        double twiceArea = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            twiceArea += xs[i] * ys[j] - xs[j] * ys[i];
+        }
+        return Math.abs(twiceArea) / 2;
+    }
+
+    /**
+     * Tells whether the box is a plain rectangle, rotated by a multiple of 90 degrees.
+     *
+     * @return {@code true} if the box's edges are parallel to the x and y axes
+     */
+    public boolean isAxisAligned() {
+        return axisAligned;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * @param index the corner, from 0 to 3, in clockwise order starting with the corner
+     *        that is north-west before rotation
+     * @return the x coordinate of the corner
+     */
+    public double getCornerX(int index) {
+        return cornerX[index];
+    }
+
+    /**
+     * @param index the corner, from 0 to 3, in clockwise order starting with the corner
+     *        that is north-west before rotation
+     * @return the y coordinate of the corner
+     */
+    public double getCornerY(int index) {
+        return cornerY[index];
+    }
+
+    /**
+     * @return the west edge of the axis-aligned bounds
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * @return the north edge of the axis-aligned bounds
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return the east edge of the axis-aligned bounds
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * @return the south edge of the axis-aligned bounds
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return the east-west extent of the axis-aligned bounds
+     */
+    public double getBoundsWidth() {
+        return boundsWidth;
+    }
+
+    /**
+     * @return the north-south extent of the axis-aligned bounds
+     */
+    public double getBoundsLength() {
+        return boundsLength;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OrientedBox: center (%.2f, %.2f), %.2fx%.2fm, bounds (%.2f, %.2f)-(%.2f, %.2f)",
+            centerX, centerY, 2 * halfWidth, 2 * halfLength, minX, minY, maxX, maxY);
+    }
+
+    private boolean boundsIntersect(double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+        return minX < otherMaxX && maxX > otherMinX && minY < otherMaxY && maxY > otherMinY;
+    }
+
+    /**
+     * Tells whether the edges of {@code box} define an axis along which the projections of
+     * both boxes are disjoint.
+     */
+    private static boolean separatedAlongAxes(OrientedBox box, OrientedBox other) {
+        // Axis 0 runs along the box's width, axis 1 along its length
+        for (int axis = 0; axis < 2; axis++) {
+            double axisX = axis == 0 ? box.cos : -box.sin;
+            double axisY = axis == 0 ? box.sin : box.cos;
+            double extent = axis == 0 ? box.halfWidth : box.halfLength;
+            double center = box.centerX * axisX + box.centerY * axisY;
+            double low = Double.POSITIVE_INFINITY;
+            double high = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < 4; i++) {
+                double projection = other.cornerX[i] * axisX + other.cornerY[i] * axisY;
+                low = Math.min(low, projection);
+                high = Math.max(high, projection);
+            }
+            if (high <= center - extent + EPSILON || low >= center + extent - EPSILON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns how far a point lies to the right of the directed edge from a to b; corners
+     * are clockwise on screen, so positive values are inside.
+     */
+    private static double side(double ax, double ay, double bx, double by, double px, double py) {
+        return (bx - ax) * (py - ay) - (by - ay) * (px - ax);
+    }
+}
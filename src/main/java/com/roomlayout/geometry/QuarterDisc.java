@@ -0,0 +1,166 @@
+package com.roomlayout.geometry;
+
+/**
+ * A quarter of a disc on the floor plane, like the area a door leaf sweeps as it opens.
+ *
+ * <p>The disc is centered on the corner it is cut from, the hinge of a door, and extends
+ * from there east or west and north or south. Like {@link OrientedBox}, shapes intersect
+ * only if they share interior area; a box that merely touches the arc or the straight
+ * edges does not intersect.
+ *
+ * @since 1.1.0
+ */
+public final class QuarterDisc {
+    /** Tolerance for rounding in rotated boxes, in meters. */
+    private static final double EPSILON = 1e-9;
+
+    private final double centerX;
+    private final double centerY;
+    private final double radius;
+    private final double minX;
+    private final double minY;
+
+    /**
+     * Creates a quarter disc.
+     *
+     * @param centerX the x coordinate of the corner the disc is cut from
+     * @param centerY the y coordinate of the corner the disc is cut from
+     * @param radius the radius in meters
+     * @param east {@code true} if the disc extends east of the center, {@code false} for west
+     * @param south {@code true} if the disc extends south of the center, {@code false} for north
+     * @throws IllegalArgumentException if the radius is not positive
+     */
+    public QuarterDisc(double centerX, double centerY, double radius, boolean east, boolean south) {
+        if (!(radius > 0)) {
+            throw new IllegalArgumentException("Radius must be positive");
+        }
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.radius = radius;
+        this.minX = east ? centerX : centerX - radius;
+        this.minY = south ? centerY : centerY - radius;
+    }
+
+    /**
+     * Tells whether a box shares interior area with this quarter disc.
+     *
+     * @param box the box
+     * @return {@code true} if the box reaches into the disc
+     */
+    public boolean intersects(OrientedBox box) {
+        double maxX = minX + radius;
+        double maxY = minY + radius;
+        if (box.getMaxX() <= minX || box.getMinX() >= maxX || box.getMaxY() <= minY || box.getMinY() >= maxY) {
+            return false;
+        }
+        // Clip the box to the square around the quarter disc (Sutherland-Hodgman), then
+        // check how close the clipped polygon comes to the center
+        double[] xs = new double[8];
+        double[] ys = new double[8];
+        for (int i = 0; i < 4; i++) {
+            xs[i] = box.getCornerX(i);
+            ys[i] = box.getCornerY(i);
+        }
+        int count = 4;
+        count = clip(xs, ys, count, 0, minX, 1);
+        count = clip(xs, ys, count, 0, maxX, -1);
+        count = clip(xs, ys, count, 1, minY, 1);
+        count = clip(xs, ys, count, 1, maxY, -1);
+        if (count < 3 || area(xs, ys, count) <= EPSILON * EPSILON) {
+            return false;
+        }
+        return distance(xs, ys, count) < radius - EPSILON;
+    }
+
+    /**
+     * Keeps the part of a polygon on one side of an axis-parallel line.
+     *
+     * @param axis 0 to clip by x, 1 by y
+     * @param sign 1 to keep coordinates at or above the line, -1 at or below
+     * @return the new number of vertices
+     */
+    private static int clip(double[] xs, double[] ys, int count, int axis, double line, int sign) {
+        double[] inX = xs.clone();
+        double[] inY = ys.clone();
+        int clipped = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            double si = sign * ((axis == 0 ? inX[i] : inY[i]) - line);
+            double sj = sign * ((axis == 0 ? inX[j] : inY[j]) - line);
+            if (si >= 0) {
+                xs[clipped] = inX[i];
+                ys[clipped++] = inY[i];
+            }
+            if ((si >= 0) != (sj >= 0)) {
+                double t = si / (si - sj);
+                xs[clipped] = inX[i] + t * (inX[j] - inX[i]);
+                ys[clipped++] = inY[i] + t * (inY[j] - inY[i]);
+            }
+        }
+        return clipped;
+    }
+
+    private static double area(double[] xs, double[] ys, int count) {
+        double twiceArea = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            twiceArea += xs[i] * ys[j] - xs[j] * ys[i];
+        }
+        return Math.abs(twiceArea) / 2;
+    }
+
+    /**
+     * Measures the distance from the center to a convex polygon, 0 if it covers the center.
+     */
+    private double distance(double[] xs, double[] ys, int count) {
+        boolean left = false;
+        boolean right = false;
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            double ex = xs[j] - xs[i];
+            double ey = ys[j] - ys[i];
+            double px = centerX - xs[i];
+            double py = centerY - ys[i];
+            double cross = ex * py - ey * px;
+            left |= cross > 0;
+            right |= cross < 0;
+            double lengthSquared = ex * ex + ey * ey;
+            double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * ex + py * ey) / lengthSquared));
+            nearest = Math.min(nearest, Math.hypot(px - t * ex, py - t * ey));
+        }
+        return left && right ? nearest : 0;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterY() {
+        return centerY;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * @return the west edge of the axis-aligned bounds
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * @return the north edge of the axis-aligned bounds
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QuarterDisc[center=(%.2f, %.2f), radius=%.2f, bounds=(%.2f, %.2f)]",
+            centerX, centerY, radius, minX, minY);
+    }
+}
@@ -0,0 +1,454 @@
+package com.roomlayout.io;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.OverlapPolicy;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.Wall;
+import com.roomlayout.model.Window;
+import com.roomlayout.placement.CenterPlacementStrategy;
+import com.roomlayout.placement.Corner;
+import com.roomlayout.placement.CornerPlacementStrategy;
+import com.roomlayout.placement.Gap;
+import com.roomlayout.placement.PlacementContext;
+import com.roomlayout.placement.PlacementRequest;
+import com.roomlayout.placement.PlacementStrategy;
+import com.roomlayout.placement.RelativePlacementStrategy;
+import com.roomlayout.placement.Side;
+import com.roomlayout.placement.WallPlacementStrategy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads rooms from the JSON layout format, streaming token by token.
+ *
+ * <p>A document is either one room object or an array of rooms. A room looks like this;
+ * the dimensions must come before the contents, and unknown fields are ignored:
+ * <pre>{@code
+ * {
+ *   "version": 2,
+ *   "width": 6.0, "length": 4.0, "height": 2.7,
+ *   "overlapPolicy": "REJECT",
+ *   "doors": [{"wall": "NORTH", "position": 2.5, "width": 0.9, "height": 2.1, "type": "Standard",
+ *              "swing": "INWARD_HINGED_AT_START"}],
+ *   "windows": [{"wall": "EAST", "position": 1.0, "width": 1.5, "height": 1.2, "bottomHeight": 0.9,
+ *                "keepSillClear": true}],
+ *   "furniture": [
+ *     {"name": "Desk", "width": 1.2, "length": 0.6, "height": 0.75, "x": 0.0, "y": 0.0, "rotation": 0},
+ *     {"name": "Sofa", "width": 2.0, "length": 0.8, "height": 0.8,
+ *      "placement": {"type": "corner", "corner": "SOUTH_WEST", "gap": 0.2, "shiftX": 0.3, "shiftY": 0}},
+ *     {"name": "TV", "width": 1.5, "length": 0.3, "height": 0.6,
+ *      "placement": {"type": "wall", "wall": "NORTH", "position": "CENTERED", "gap": 0, "offset": 0}},
+ *     {"name": "Table", "width": 1.0, "length": 0.6, "height": 0.4,
+ *      "placement": {"type": "relative", "reference": "Sofa", "side": "NORTH", "gap": 0.4}},
+ *     {"name": "Rug", "width": 2.0, "length": 1.5, "height": 0.01,
+ *      "placement": {"type": "center", "shiftX": 0, "shiftY": 0}}
+ *   ]
+ * }
+ * }</pre>
+ * A piece has either a position or a placement intent. A relative placement refers to an
+ * earlier piece of the same room by name. A placed piece may also have a rotation, in which
+ * case the placement positions the bounds of its rotated footprint.
+ *
+ * <p>Furniture is collected into batches and added with {@link Room#placeAll(List)}, so
+ * memory use does not grow with the size of the document beyond the rooms themselves.
+ * Placement intents in a batch are resolved in order against the room as it was before
+ * the batch, and see the pieces earlier in the same batch, positioned or placed, through
+ * {@link PlacementContext#getPlacedInBatch()}. A door or window without a type is
+ * {@code "Standard"}; an explicit {@code null} type is rejected. With
+ * {@link #forEachRoom(Reader, Consumer)} each room can be processed and dropped before
+ * the next one is read.
+ *
+ * @see JsonLayoutWriter
+ * @since 1.1.0
+ */
+public final class JsonLayoutReader {
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final JsonTokenReader json;
+    private final int batchSize;
+
+    private JsonLayoutReader(Reader in, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.json = new JsonTokenReader(in);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads a document holding a single room.
+     *
+     * @param in the JSON to read
+     * @return the room
+     * @throws IOException if reading fails or the document is malformed or holds no single room
+     * @throws IllegalArgumentException if a piece does not fit or overlaps under the room's policy
+     */
+    public static Room read(Reader in) throws IOException {
+        List<Room> rooms = new ArrayList<>(1);
+        forEachRoom(in, rooms::add);
+        if (rooms.size() != 1) {
+            throw new IOException("Expected one room but found " + rooms.size());
+        }
+        return rooms.get(0);
+    }
+
+    /**
+     * Reads every room of a document, handing each one over as soon as it is complete.
+     *
+     * @param in the JSON to read
+     * @param action receives each room in document order
+     * @throws IOException if reading fails or the document is malformed
+     * @throws IllegalArgumentException if a piece does not fit or overlaps under the room's policy
+     */
+    public static void forEachRoom(Reader in, Consumer<? super Room> action) throws IOException {
+        forEachRoom(in, DEFAULT_BATCH_SIZE, action);
+    }
+
+    /**
+     * Reads every room of a document, adding furniture in batches of the given size.
+     *
+     * @param in the JSON to read
+     * @param batchSize the number of pieces added to a room at once
+     * @param action receives each room in document order
+     * @throws IOException if reading fails or the document is malformed
+     */
+    public static void forEachRoom(Reader in, int batchSize, Consumer<? super Room> action) throws IOException {
+        JsonLayoutReader reader = new JsonLayoutReader(in, batchSize);
+        JsonTokenReader json = reader.json;
+        if (json.peek() == JsonTokenReader.Token.BEGIN_ARRAY) {
+            json.beginArray();
+            while (json.hasNext()) {
+                action.accept(reader.readRoom());
+            }
+            json.endArray();
+        } else {
+            action.accept(reader.readRoom());
+        }
+        if (json.peek() != JsonTokenReader.Token.END_DOCUMENT) {
+            throw json.syntaxError("Unexpected content after the layout");
+        }
+    }
+
+    private Room readRoom() throws IOException {
+        json.beginObject();
+        double width = Double.NaN;
+        double length = Double.NaN;
+        double height = Double.NaN;
+        Room room = null;
+        while (json.hasNext()) {
+            String name = json.nextName();
+            switch (name) {
+                case "version":
+                    double version = json.nextDouble();
+                    if (version > JsonLayoutWriter.VERSION) {
+                        throw json.syntaxError("Unsupported layout version " + version);
+                    }
+                    break;
+                case "width":
+                    width = json.nextDouble();
+                    break;
+                case "length":
+                    length = json.nextDouble();
+                    break;
+                case "height":
+                    height = json.nextDouble();
+                    break;
+                case "overlapPolicy":
+                    room = roomOf(room, width, length, height);
+                    room.setOverlapPolicy(enumValue(OverlapPolicy.class, json.nextString()));
+                    break;
+                case "doors":
+                    room = roomOf(room, width, length, height);
+                    readDoors(room);
+                    break;
+                case "windows":
+                    room = roomOf(room, width, length, height);
+                    readWindows(room);
+                    break;
+                case "furniture":
+                    room = roomOf(room, width, length, height);
+                    readFurniture(room);
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+        json.endObject();
+        return roomOf(room, width, length, height);
+    }
+
+    private Room roomOf(Room room, double width, double length, double height) throws IOException {
+        if (room != null) {
+            return room;
+        }
+        if (Double.isNaN(width) || Double.isNaN(length) || Double.isNaN(height)) {
+            throw json.syntaxError("Room width, length and height must precede its contents");
+        }
+        return new Room(width, length, height);
+    }
+
+    private void readDoors(Room room) throws IOException {
+        json.beginArray();
+        while (json.hasNext()) {
+            Fields fields = readFields();
+            room.addDoor(new Door(fields.wall("wall"), fields.number("position"), fields.number("width"),
+                fields.number("height"), fields.type(),
+                enumValue(Door.Swing.class, fields.text("swing", Door.Swing.NONE.name()))));
+        }
+        json.endArray();
+    }
+
+    private void readWindows(Room room) throws IOException {
+        json.beginArray();
+        while (json.hasNext()) {
+            Fields fields = readFields();
+            room.addWindow(new Window(fields.wall("wall"), fields.number("position"), fields.number("width"),
+                fields.number("height"), fields.number("bottomHeight"), fields.type(),
+                fields.flag("keepSillClear", false)));
+        }
+        json.endArray();
+    }
+
+    private void readFurniture(Room room) throws IOException {
+        // Pieces added in earlier batches by name, for relative placements
+        Map<String, Furniture> placed = new HashMap<>();
+        for (Furniture existing : room.getFurnitureView()) {
+            placed.put(existing.getName(), existing);
+        }
+        List<Pending> batch = new ArrayList<>(batchSize);
+        json.beginArray();
+        while (json.hasNext()) {
+            batch.add(readPiece());
+            if (batch.size() == batchSize) {
+                flush(room, batch, placed);
+            }
+        }
+        json.endArray();
+        flush(room, batch, placed);
+    }
+
+    private void flush(Room room, List<Pending> batch, Map<String, Furniture> placed) throws IOException {
+        List<PlacementRequest> requests = new ArrayList<>(batch.size());
+        // Position of each name in the batch, for references to pieces not added yet
+        Map<String, Integer> batchIndex = new HashMap<>();
+        for (Pending piece : batch) {
+            if (piece.position != null) {
+                requests.add(PlacementRequest.at(piece.position));
+            } else {
+                PlacementStrategy strategy = piece.strategy;
+                if (piece.reference != null) {
+                    Integer index = batchIndex.get(piece.reference);
+                    Furniture reference = placed.get(piece.reference);
+                    if (index == null && reference == null) {
+                        throw new IOException("Unknown reference '" + piece.reference + "' for " + piece.name);
+                    }
+                    strategy = new ReferencePlacement(index == null ? -1 : index, reference, piece.side, piece.gap);
+                }
+                requests.add(new PlacementRequest(piece.name, piece.width, piece.length, piece.height,
+                    piece.rotation, strategy));
+            }
+            batchIndex.put(piece.name, requests.size() - 1);
+        }
+        for (Furniture f : room.placeAll(requests)) {
+            placed.put(f.getName(), f);
+        }
+        batch.clear();
+    }
+
+    private Pending readPiece() throws IOException {
+        Pending piece = new Pending();
+        Fields placement = null;
+        Fields fields = new Fields();
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (name.equals("placement")) {
+                placement = readFields();
+            } else {
+                fields.read(name);
+            }
+        }
+        json.endObject();
+
+        piece.name = fields.text("name", null);
+        piece.width = fields.number("width");
+        piece.length = fields.number("length");
+        piece.height = fields.number("height");
+        piece.rotation = fields.number("rotation", 0);
+        if (placement == null) {
+            piece.position = new Furniture(piece.name, piece.width, piece.length, piece.height,
+                fields.number("x"), fields.number("y"), piece.rotation);
+            return piece;
+        }
+        Gap gap = Gap.of(placement.number("gap", 0));
+        String type = placement.text("type", null);
+        switch (type == null ? "" : type) {
+            case "corner":
+                piece.strategy = new CornerPlacementStrategy(corner(placement.text("corner", null)), gap,
+                    placement.number("shiftX", 0), placement.number("shiftY", 0));
+                break;
+            case "wall":
+                piece.strategy = new WallPlacementStrategy(placement.wall("wall"),
+                    enumValue(WallPlacementStrategy.WallPosition.class, placement.text("position", "CENTERED")),
+                    gap, placement.number("offset", 0));
+                break;
+            case "relative":
+                piece.reference = placement.text("reference", null);
+                if (piece.reference == null) {
+                    throw json.syntaxError("Relative placement of " + piece.name + " needs a reference");
+                }
+                piece.side = enumValue(Side.class, placement.text("side", null));
+                piece.gap = gap;
+                break;
+            case "center":
+                piece.strategy = new CenterPlacementStrategy(placement.number("shiftX", 0),
+                    placement.number("shiftY", 0));
+                break;
+            default:
+                throw json.syntaxError("Unknown placement type '" + type + "'");
+        }
+        return piece;
+    }
+
+    private Fields readFields() throws IOException {
+        Fields fields = new Fields();
+        json.beginObject();
+        while (json.hasNext()) {
+            fields.read(json.nextName());
+        }
+        json.endObject();
+        return fields;
+    }
+
+    private Corner corner(String name) throws IOException {
+        for (Corner corner : new Corner[] {Corner.NORTH_WEST, Corner.NORTH_EAST, Corner.SOUTH_WEST, Corner.SOUTH_EAST}) {
+            if (corner.toString().equals(name)) {
+                return corner;
+            }
+        }
+        throw json.syntaxError("Unknown corner '" + name + "'");
+    }
+
+    private <E extends Enum<E>> E enumValue(Class<E> type, String name) throws IOException {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw json.syntaxError("Unknown " + type.getSimpleName() + " '" + name + "'");
+        }
+    }
+
+    /**
+     * The scalar fields of one JSON object, which may come in any order.
+     */
+    private final class Fields {
+        private final Map<String, Object> values = new HashMap<>();
+
+        void read(String name) throws IOException {
+            switch (json.peek()) {
+                case NUMBER:
+                    values.put(name, json.nextDouble());
+                    break;
+                case STRING:
+                    values.put(name, json.nextString());
+                    break;
+                case BOOLEAN:
+                    values.put(name, json.nextBoolean());
+                    break;
+                case NULL:
+                    json.nextNull();
+                    values.put(name, null);
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+
+        double number(String name) throws IOException {
+            Object value = values.get(name);
+            if (!(value instanceof Double)) {
+                throw json.syntaxError("Missing number '" + name + "'");
+            }
+            return (Double) value;
+        }
+
+        double number(String name, double defaultValue) throws IOException {
+            return values.containsKey(name) ? number(name) : defaultValue;
+        }
+
+        String text(String name, String defaultValue) {
+            Object value = values.get(name);
+            return value instanceof String ? (String) value : defaultValue;
+        }
+
+        boolean flag(String name, boolean defaultValue) {
+            Object value = values.get(name);
+            return value instanceof Boolean ? (Boolean) value : defaultValue;
+        }
+
+        /**
+         * Returns the type of a door or window, {@code "Standard"} if the field is missing.
+         */
+        String type() throws IOException {
+            if (!values.containsKey("type")) {
+                return "Standard";
+            }
+            Object value = values.get("type");
+            if (!(value instanceof String)) {
+                throw json.syntaxError("Type must be a string, not " + value);
+            }
+            return (String) value;
+        }
+
+        Wall wall(String name) throws IOException {
+            return enumValue(Wall.class, text(name, null));
+        }
+    }
+
+    /**
+     * Places a piece next to a named piece, which may still be waiting in the same batch.
+     */
+    private static final class ReferencePlacement implements PlacementStrategy {
+        private final int batchIndex;
+        private final Furniture added;
+        private final Side side;
+        private final Gap gap;
+
+        /**
+         * @param batchIndex the reference's position in the batch, or -1 if it was added before
+         * @param added the reference from an earlier batch, used when {@code batchIndex} is -1
+         */
+        ReferencePlacement(int batchIndex, Furniture added, Side side, Gap gap) {
+            this.batchIndex = batchIndex;
+            this.added = added;
+            this.side = side;
+            this.gap = gap;
+        }
+
+        @Override
+        public Point2D calculatePosition(PlacementContext context) {
+            Furniture reference = batchIndex < 0 ? added : context.getPlacedInBatch().get(batchIndex);
+            return new RelativePlacementStrategy(reference, side, gap).calculatePosition(context);
+        }
+    }
+
+    private static final class Pending {
+        private String name;
+        private double width;
+        private double length;
+        private double height;
+        private double rotation;
+        private Furniture position;
+        private PlacementStrategy strategy;
+        private String reference;
+        private Side side;
+        private Gap gap;
+    }
+}
@@ -0,0 +1,202 @@
+package com.roomlayout.io;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.WallItem;
+import com.roomlayout.model.Window;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rooms in the JSON layout format read by {@link JsonLayoutReader}.
+ *
+ * <p>Output is written piece by piece, one piece per line, so exporting never builds
+ * the document in memory. Furniture is written with its resolved position; rooms do not
+ * remember the placement intents that put it there.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * try (Writer out = Files.newBufferedWriter(Paths.get("apartment.json"))) {
+ *     JsonLayoutWriter.writeAll(List.of(kitchen, livingRoom, bedroom), out);
+ * }
+ * }</pre>
+ *
+ * @see JsonLayoutReader
+ * @since 1.1.0
+ */
+public final class JsonLayoutWriter {
+    /** The format version written to, and the newest accepted by, {@link JsonLayoutReader}. */
+    public static final int VERSION = 2;
+
+    private JsonLayoutWriter() {
+    }
+
+    /**
+     * Writes one room as a JSON object.
+     *
+     * @param room the room to write
+     * @param out the destination; it is not closed
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if a value is not a finite number, or a door or window has no type
+     */
+    public static void write(RoomLayout room, Writer out) throws IOException {
+        writeRoom(room, out);
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * Writes several rooms as a JSON array.
+     *
+     * @param rooms the rooms to write, for example all rooms of a building
+     * @param out the destination; it is not closed
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if a value is not a finite number, or a door or window has no type
+     */
+    public static void writeAll(Iterable<? extends RoomLayout> rooms, Writer out) throws IOException {
+        out.write("[\n");
+        boolean first = true;
+        for (RoomLayout room : rooms) {
+            if (!first) {
+                out.write(",\n");
+            }
+            first = false;
+            writeRoom(room, out);
+        }
+        out.write("\n]\n");
+        out.flush();
+    }
+
+    private static void writeRoom(RoomLayout room, Writer out) throws IOException {
+        out.write("{\n  \"version\": " + VERSION);
+        out.write(",\n  \"width\": ");
+        number(room.getWidth(), out);
+        out.write(", \"length\": ");
+        number(room.getLength(), out);
+        out.write(", \"height\": ");
+        number(room.getHeight(), out);
+        if (room instanceof Room) {
+            out.write(",\n  \"overlapPolicy\": ");
+            string(((Room) room).getOverlapPolicy().name(), out);
+        }
+
+        out.write(",\n  \"doors\": [");
+        List<Door> doors = room.getDoorView();
+        for (int i = 0; i < doors.size(); i++) {
+            separator(i, out);
+            wallItem(doors.get(i), doors.get(i).getType(), out);
+            if (doors.get(i).getSwing() != Door.Swing.NONE) {
+                out.write(", \"swing\": ");
+                string(doors.get(i).getSwing().name(), out);
+            }
+            out.write('}');
+        }
+        out.write(doors.isEmpty() ? "]" : "\n  ]");
+
+        out.write(",\n  \"windows\": [");
+        List<Window> windows = room.getWindowView();
+        for (int i = 0; i < windows.size(); i++) {
+            separator(i, out);
+            wallItem(windows.get(i), windows.get(i).getType(), out);
+            out.write(", \"bottomHeight\": ");
+            number(windows.get(i).getBottomHeight(), out);
+            if (windows.get(i).isSillKeptClear()) {
+                out.write(", \"keepSillClear\": true");
+            }
+            out.write('}');
+        }
+        out.write(windows.isEmpty() ? "]" : "\n  ]");
+
+        out.write(",\n  \"furniture\": [");
+        List<Furniture> furniture = room.getFurnitureView();
+        for (int i = 0; i < furniture.size(); i++) {
+            Furniture f = furniture.get(i);
+            separator(i, out);
+            out.write("{\"name\": ");
+            string(f.getName(), out);
+            out.write(", \"width\": ");
+            number(f.getWidth(), out);
+            out.write(", \"length\": ");
+            number(f.getLength(), out);
+            out.write(", \"height\": ");
+            number(f.getHeight(), out);
+            out.write(", \"x\": ");
+            number(f.getX(), out);
+            out.write(", \"y\": ");
+            number(f.getY(), out);
+            if (f.getRotation() != 0) {
+                out.write(", \"rotation\": ");
+                number(f.getRotation(), out);
+            }
+            out.write('}');
+        }
+        out.write(furniture.isEmpty() ? "]" : "\n  ]");
+        out.write("\n}");
+    }
+
+    private static void separator(int index, Writer out) throws IOException {
+        out.write(index == 0 ? "\n    " : ",\n    ");
+    }
+
+    private static void wallItem(WallItem item, String type, Writer out) throws IOException {
+        out.write("{\"wall\": ");
+        string(item.getWall().name(), out);
+        out.write(", \"position\": ");
+        number(item.getPosition(), out);
+        out.write(", \"width\": ");
+        number(item.getWidth(), out);
+        out.write(", \"height\": ");
+        number(item.getHeight(), out);
+        if (type == null) {
+            throw new IllegalArgumentException("JSON cannot represent a door or window without a type");
+        }
+        out.write(", \"type\": ");
+        string(type, out);
+    }
+
+    private static void number(double value, Writer out) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON cannot represent " + value);
+        }
+        out.write(Double.toString(value));
+    }
+
+    private static void string(String value, Writer out) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
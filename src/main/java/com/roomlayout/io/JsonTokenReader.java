@@ -0,0 +1,352 @@
+package com.roomlayout.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Minimal pull parser for JSON, reading one token at a time from a character stream.
+ *
+ * <p>Only the current token and a fixed-size buffer are held in memory, so documents of
+ * any size can be read. Containers must be entered and left explicitly; values that are
+ * not of interest can be skipped with {@link #skipValue()}.
+ */
+final class JsonTokenReader {
+    enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int line = 1;
+    /** Nesting of open containers: true for objects, false for arrays. */
+    private boolean[] stack = new boolean[32];
+    private int depth;
+    /** Whether the next token in the current container is the first one. */
+    private boolean first = true;
+    /** Whether the next string in the current object is a name rather than a value. */
+    private boolean expectName;
+    private Token peeked;
+
+    JsonTokenReader(Reader in) {
+        this.in = in;
+    }
+
+    Token peek() throws IOException {
+        if (peeked == null) {
+            peeked = readToken();
+        }
+        return peeked;
+    }
+
+    void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(true);
+    }
+
+    void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        pop();
+    }
+
+    void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(false);
+    }
+
+    void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        pop();
+    }
+
+    /**
+     * @return {@code true} if the current container has another element
+     */
+    boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.NULL) {
+            nextNull();
+            return null;
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+
+    double nextDouble() throws IOException {
+        expect(Token.NUMBER);
+        StringBuilder number = new StringBuilder();
+        while (true) {
+            int c = peekChar();
+            if (c == -1 || "+-0123456789.eE".indexOf(c) < 0) {
+                break;
+            }
+            number.append((char) c);
+            position++;
+        }
+        try {
+            return Double.parseDouble(number.toString());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number '" + number + "'");
+        }
+    }
+
+    boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        if (peekChar() == 't') {
+            readLiteral("true");
+            return true;
+        }
+        readLiteral("false");
+        return false;
+    }
+
+    void nextNull() throws IOException {
+        expect(Token.NULL);
+        readLiteral("null");
+    }
+
+    void skipValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING:
+                nextString();
+                break;
+            case NUMBER:
+                nextDouble();
+                break;
+            case BOOLEAN:
+                nextBoolean();
+                break;
+            case NULL:
+                nextNull();
+                break;
+            default:
+                throw syntaxError("Expected a value but was " + peek());
+        }
+    }
+
+    IOException syntaxError(String message) {
+        return new IOException(message + " at line " + line);
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        peeked = null;
+        if (depth > 0 && stack[depth - 1] && token != Token.END_OBJECT) {
+            // In an object, names and values alternate
+            expectName = token != Token.NAME;
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = object;
+        first = true;
+        expectName = object;
+    }
+
+    private void pop() {
+        depth--;
+        first = false;
+        expectName = depth > 0 && stack[depth - 1];
+    }
+
+    /**
+     * Reads up to the start of the next token and classifies it, consuming only
+     * separators and the punctuation of containers.
+     */
+    private Token readToken() throws IOException {
+        int c = nextNonWhitespace();
+        boolean inObject = depth > 0 && stack[depth - 1];
+        if (c == '}' || c == ']') {
+            if (c == '}' != inObject || depth == 0 || (inObject && !expectName)) {
+                throw syntaxError("Unexpected '" + (char) c + "'");
+            }
+            position++;
+            return c == '}' ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+        if (c == -1) {
+            if (depth > 0) {
+                throw syntaxError("Unexpected end of input");
+            }
+            return Token.END_DOCUMENT;
+        }
+        if (!first && (!inObject || expectName)) {
+            if (c != ',') {
+                throw syntaxError("Expected ',' but was '" + (char) c + "'");
+            }
+            position++;
+            c = nextNonWhitespace();
+        }
+        first = false;
+        if (inObject && !expectName) {
+            if (c != ':') {
+                throw syntaxError("Expected ':' but was '" + (char) c + "'");
+            }
+            position++;
+            c = nextNonWhitespace();
+        }
+        if (inObject && expectName) {
+            if (c != '"') {
+                throw syntaxError("Expected a name");
+            }
+            position++;
+            return Token.NAME;
+        }
+        switch (c) {
+            case '{':
+                position++;
+                return Token.BEGIN_OBJECT;
+            case '[':
+                position++;
+                return Token.BEGIN_ARRAY;
+            case '"':
+                position++;
+                return Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected '" + (char) c + "'");
+        }
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote was consumed.
+     */
+    private String readString() throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            int c = readChar();
+            if (c == -1) {
+                throw syntaxError("Unterminated string");
+            }
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append((char) c);
+                continue;
+            }
+            int escaped = readChar();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    value.append((char) escaped);
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(readChar(), 16);
+                        if (digit < 0) {
+                            throw syntaxError("Invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    value.append((char) code);
+                    break;
+                default:
+                    throw syntaxError("Invalid escape");
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (readChar() != literal.charAt(i)) {
+                throw syntaxError("Expected '" + literal + "'");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = peekChar();
+            if (c == '\n') {
+                line++;
+            } else if (c != ' ' && c != '\t' && c != '\r') {
+                return c;
+            }
+            position++;
+        }
+    }
+
+    private int peekChar() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int readChar() throws IOException {
+        int c = peekChar();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
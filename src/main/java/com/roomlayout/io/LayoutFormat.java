@@ -0,0 +1,47 @@
+package com.roomlayout.io;
+
+/**
+ * Layout of the binary room format shared by {@link LayoutWriter} and {@link MappedRoom}.
+ *
+ * <p>All values are big-endian and every section starts on an 8-byte boundary:
+ * <pre>
+ * header     magic, version, reserved, width, length, height,
+ *            furniture count, door count, window count, string count
+ * furniture  x[], y[], width[], length[], height[], rotation[] as doubles, name id[] as ints
+ * doors      per door: wall, type id as ints; position, width, height as doubles;
+ *            swing, reserved as ints
+ * windows    per window: wall, type id as ints; position, width, height, bottom height as doubles;
+ *            keep sill clear (0 or 1), reserved as ints
+ * strings    offset[count + 1] as ints relative to the string data, then UTF-8 bytes
+ * </pre>
+ * A string id of -1 stands for {@code null}.
+ */
+final class LayoutFormat {
+    static final int MAGIC = 0x524C4159; // "RLAY"
+    static final short VERSION = 1;
+
+    static final int WIDTH_OFFSET = 8;
+    static final int LENGTH_OFFSET = 16;
+    static final int HEIGHT_OFFSET = 24;
+    static final int FURNITURE_COUNT_OFFSET = 32;
+    static final int DOOR_COUNT_OFFSET = 36;
+    static final int WINDOW_COUNT_OFFSET = 40;
+    static final int STRING_COUNT_OFFSET = 44;
+    static final int HEADER_SIZE = 48;
+
+    static final int FURNITURE_DOUBLE_COLUMNS = 6;
+    static final int DOOR_RECORD_SIZE = 40;
+    static final int WINDOW_RECORD_SIZE = 48;
+    static final int NO_STRING = -1;
+
+    private LayoutFormat() {
+    }
+
+    static long furnitureSize(int count) {
+        return align(count * (FURNITURE_DOUBLE_COLUMNS * 8L + 4L));
+    }
+
+    static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,170 @@
+package com.roomlayout.io;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.WallItem;
+import com.roomlayout.model.Window;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves rooms in the compact binary layout format read by {@link MappedRoom}.
+ *
+ * <p>Furniture is written column by column and names are stored once in a string table,
+ * so a piece takes 52 bytes plus its share of the distinct names. The file is written
+ * through a memory mapping in a single pass.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * LayoutWriter.write(room, Paths.get("warehouse.rlay"));
+ * MappedRoom loaded = MappedRoom.open(Paths.get("warehouse.rlay"));
+ * }</pre>
+ *
+ * @see MappedRoom
+ * @since 1.1.0
+ */
+public final class LayoutWriter {
+
+    private LayoutWriter() {
+    }
+
+    /**
+     * Writes a room to a file, replacing any existing content.
+     *
+     * @param room the room to save; a {@link com.roomlayout.model.Room}, a snapshot or a mapped room
+     * @param file the file to write
+     * @throws IOException if the file cannot be written, or the layout exceeds 2 GB
+     */
+    public static void write(RoomLayout room, Path file) throws IOException {
+        List<Furniture> furniture = room.getFurnitureView();
+        List<Door> doors = room.getDoorView();
+        List<Window> windows = room.getWindowView();
+        int n = furniture.size();
+
+        StringTable strings = new StringTable();
+        int[] nameIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            nameIds[i] = strings.id(furniture.get(i).getName());
+        }
+        int[] doorTypes = new int[doors.size()];
+        for (int i = 0; i < doors.size(); i++) {
+            doorTypes[i] = strings.id(doors.get(i).getType());
+        }
+        int[] windowTypes = new int[windows.size()];
+        for (int i = 0; i < windows.size(); i++) {
+            windowTypes[i] = strings.id(windows.get(i).getType());
+        }
+
+        long doorsStart = LayoutFormat.HEADER_SIZE + LayoutFormat.furnitureSize(n);
+        long windowsStart = doorsStart + (long) doors.size() * LayoutFormat.DOOR_RECORD_SIZE;
+        long stringsStart = windowsStart + (long) windows.size() * LayoutFormat.WINDOW_RECORD_SIZE;
+        long total = stringsStart + 4L * (strings.size() + 1) + strings.byteSize;
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("Layout too large for the binary format: " + total + " bytes");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, total);
+            out.putInt(LayoutFormat.MAGIC)
+                .putShort(LayoutFormat.VERSION)
+                .putShort((short) 0)
+                .putDouble(room.getWidth())
+                .putDouble(room.getLength())
+                .putDouble(room.getHeight())
+                .putInt(n)
+                .putInt(doors.size())
+                .putInt(windows.size())
+                .putInt(strings.size());
+
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getX());
+            }
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getY());
+            }
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getWidth());
+            }
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getLength());
+            }
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getHeight());
+            }
+            for (int i = 0; i < n; i++) {
+                out.putDouble(furniture.get(i).getRotation());
+            }
+            for (int nameId : nameIds) {
+                out.putInt(nameId);
+            }
+
+            out.position((int) doorsStart);
+            for (int i = 0; i < doors.size(); i++) {
+                writeWallItem(out, doors.get(i), doorTypes[i]);
+                out.putInt(doors.get(i).getSwing().ordinal())
+                    .putInt(0);
+            }
+            for (int i = 0; i < windows.size(); i++) {
+                writeWallItem(out, windows.get(i), windowTypes[i]);
+                out.putDouble(windows.get(i).getBottomHeight())
+                    .putInt(windows.get(i).isSillKeptClear() ? 1 : 0)
+                    .putInt(0);
+            }
+
+            int offset = 0;
+            for (byte[] bytes : strings.encoded) {
+                out.putInt(offset);
+                offset += bytes.length;
+            }
+            out.putInt(offset);
+            for (byte[] bytes : strings.encoded) {
+                out.put(bytes);
+            }
+            out.force();
+        }
+    }
+
+    private static void writeWallItem(MappedByteBuffer out, WallItem item, int typeId) {
+        out.putInt(item.getWall().ordinal())
+            .putInt(typeId)
+            .putDouble(item.getPosition())
+            .putDouble(item.getWidth())
+            .putDouble(item.getHeight());
+    }
+
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private long byteSize;
+
+        int id(String value) {
+            if (value == null) {
+                return LayoutFormat.NO_STRING;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                id = encoded.size();
+                ids.put(value, id);
+                encoded.add(bytes);
+                byteSize += bytes.length;
+            }
+            return id;
+        }
+
+        int size() {
+            return encoded.size();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.roomlayout.io;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.OverlapPolicy;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Wall;
+import com.roomlayout.model.Window;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read-only room loaded from the binary layout format by memory-mapping the file.
+ *
+ * <p>Opening a file only maps it and checks its header, so it takes the same time for
+ * ten pieces as for a million. No contents are copied onto the heap when it is opened:
+ * the lists returned by {@link #getFurnitureView()} and friends create each
+ * {@link Furniture} from the mapped columns when it is read. Names are decoded from the
+ * string table on first use, and the footprints of rotated pieces are computed on first
+ * use; both are then cached in arrays allocated when the first one is needed.
+ * Hot loops that only need geometry should use the primitive accessors like
+ * {@link #getX(int)} to avoid creating pieces at all.
+ *
+ * <p>Spatial queries scan the mapped columns. For rooms that will be queried or edited
+ * heavily, {@link #toRoom()} loads the layout into an indexed {@link Room}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * MappedRoom warehouse = MappedRoom.open(Paths.get("warehouse.rlay"));
+ * new ImageVisualizer(warehouse, "output").visualizeFloorPlan();
+ * }</pre>
+ *
+ * <p>The mapping stays valid until the room is garbage collected; the file must not be
+ * modified while it is mapped. Mapped rooms are safe to share between threads.
+ *
+ * @see LayoutWriter
+ * @since 1.1.0
+ */
+public final class MappedRoom implements RoomLayout {
+    private static final Wall[] WALLS = Wall.values();
+    private static final Door.Swing[] SWINGS = Door.Swing.values();
+
+    private final ByteBuffer buffer;
+    private final double width;
+    private final double length;
+    private final double height;
+    private final int furnitureCount;
+    private final int doorCount;
+    private final int windowCount;
+    private final int stringCount;
+    private final int nameIdsStart;
+    private final int doorsStart;
+    private final int windowsStart;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    /** Decoded strings, allocated on first use. */
+    private volatile String[] strings;
+    /** Footprints of rotated pieces, allocated and computed on first use. */
+    private volatile OrientedBox[] footprints;
+    private final List<Furniture> furnitureView = new FurnitureView();
+    private final List<Door> doorView = new DoorView();
+    private final List<Window> windowView = new WindowView();
+
+    private MappedRoom(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < LayoutFormat.HEADER_SIZE || buffer.getInt(0) != LayoutFormat.MAGIC) {
+            throw new IOException("Not a room layout file");
+        }
+        short version = buffer.getShort(4);
+        if (version < 1 || version > LayoutFormat.VERSION) {
+            throw new IOException("Unsupported layout version: " + version);
+        }
+        this.width = buffer.getDouble(LayoutFormat.WIDTH_OFFSET);
+        this.length = buffer.getDouble(LayoutFormat.LENGTH_OFFSET);
+        this.height = buffer.getDouble(LayoutFormat.HEIGHT_OFFSET);
+        this.furnitureCount = buffer.getInt(LayoutFormat.FURNITURE_COUNT_OFFSET);
+        this.doorCount = buffer.getInt(LayoutFormat.DOOR_COUNT_OFFSET);
+        this.windowCount = buffer.getInt(LayoutFormat.WINDOW_COUNT_OFFSET);
+        this.stringCount = buffer.getInt(LayoutFormat.STRING_COUNT_OFFSET);
+        if (furnitureCount < 0 || doorCount < 0 || windowCount < 0 || stringCount < 0) {
+            throw new IOException("Corrupt layout header");
+        }
+
+        long doors = LayoutFormat.HEADER_SIZE + LayoutFormat.furnitureSize(furnitureCount);
+        long windows = doors + (long) doorCount * LayoutFormat.DOOR_RECORD_SIZE;
+        long offsets = windows + (long) windowCount * LayoutFormat.WINDOW_RECORD_SIZE;
+        long data = offsets + 4L * (stringCount + 1);
+        if (data > buffer.capacity() || data + buffer.getInt((int) (data - 4)) > buffer.capacity()) {
+            throw new IOException("Truncated layout file");
+        }
+        this.nameIdsStart = LayoutFormat.HEADER_SIZE + LayoutFormat.FURNITURE_DOUBLE_COLUMNS * 8 * furnitureCount;
+        this.doorsStart = (int) doors;
+        this.windowsStart = (int) windows;
+        this.stringOffsetsStart = (int) offsets;
+        this.stringDataStart = (int) data;
+    }
+
+    /**
+     * Maps a layout file.
+     *
+     * @param file a file written by {@link LayoutWriter}
+     * @return the mapped room
+     * @throws IOException if the file cannot be read, is not a layout file, or is truncated
+     */
+    public static MappedRoom open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Layout file too large: " + channel.size() + " bytes");
+            }
+            return new MappedRoom(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Loads the whole layout into a new mutable room.
+     *
+     * <p>Pieces that overlap in the file are recorded in the room's
+     * {@linkplain Room#getOverlaps() overlaps}; its policy is reset to reject further ones.
+     *
+     * @return a new room with the contents of the file
+     */
+    public Room toRoom() {
+        Room room = new Room(width, length, height);
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        room.addAllFurniture(furnitureView);
+        room.setOverlapPolicy(OverlapPolicy.REJECT);
+        doorView.forEach(room::addDoor);
+        windowView.forEach(room::addWindow);
+        return room;
+    }
+
+    public int getFurnitureCount() {
+        return furnitureCount;
+    }
+
+    public double getX(int index) {
+        return column(0, index);
+    }
+
+    public double getY(int index) {
+        return column(1, index);
+    }
+
+    public double getFurnitureWidth(int index) {
+        return column(2, index);
+    }
+
+    public double getFurnitureLength(int index) {
+        return column(3, index);
+    }
+
+    public double getRotation(int index) {
+        return column(5, index);
+    }
+
+    public String getName(int index) {
+        checkIndex(index, furnitureCount);
+        return string(buffer.getInt(nameIdsStart + 4 * index));
+    }
+
+    /**
+     * Returns the footprint of a rotated piece, computing it on first use.
+     */
+    private OrientedBox footprint(int index) {
+        OrientedBox[] boxes = footprints;
+        if (boxes == null) {
+            // Racing threads may each allocate a cache; the losers' boxes are recomputed later
+            boxes = new OrientedBox[furnitureCount];
+            footprints = boxes;
+        }
+        OrientedBox box = boxes[index];
+        if (box == null) {
+            // Racing threads compute equal boxes; either one may win
+            box = new OrientedBox(getX(index), getY(index), getFurnitureWidth(index), getFurnitureLength(index),
+                getRotation(index));
+            boxes[index] = box;
+        }
+        return box;
+    }
+
+    private double column(int column, int index) {
+        checkIndex(index, furnitureCount);
+        return buffer.getDouble(LayoutFormat.HEADER_SIZE + 8 * (column * furnitureCount + index));
+    }
+
+    private String string(int id) {
+        if (id == LayoutFormat.NO_STRING) {
+            return null;
+        }
+        String[] decoded = strings;
+        if (decoded == null) {
+            // Racing threads may each allocate a cache; the losers' strings are decoded again later
+            decoded = new String[stringCount];
+            strings = decoded;
+        }
+        String value = decoded[id];
+        if (value == null) {
+            int start = buffer.getInt(stringOffsetsStart + 4 * id);
+            int end = buffer.getInt(stringOffsetsStart + 4 * (id + 1));
+            byte[] bytes = new byte[end - start];
+            ByteBuffer slice = buffer.duplicate();
+            slice.position(stringDataStart + start);
+            slice.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            // Racing threads decode equal strings; either one may win
+            decoded[id] = value;
+        }
+        return value;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    @Override
+    public List<Furniture> furnitureIntersecting(double x, double y, double width, double length) {
+        List<Furniture> result = new ArrayList<>();
+        if (width < 0 || length < 0) {
+            return result;
+        }
+        double right = x + width;
+        double bottom = y + length;
+        for (int i = 0; i < furnitureCount; i++) {
+            double fx = getX(i);
+            double fy = getY(i);
+            if (getRotation(i) != 0) {
+                if (footprint(i).intersects(x, y, width, length)) {
+                    result.add(furnitureView.get(i));
+                }
+            } else if (fx < right && fx + getFurnitureWidth(i) > x && fy < bottom && fy + getFurnitureLength(i) > y) {
+                result.add(furnitureView.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getLength() {
+        return length;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public List<Furniture> getFurnitureView() {
+        return furnitureView;
+    }
+
+    @Override
+    public List<Door> getDoorView() {
+        return doorView;
+    }
+
+    @Override
+    public List<Window> getWindowView() {
+        return windowView;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Room: %.1fm x %.1fm x %.1fm (W x L x H)", width, length, height);
+    }
+
+    private final class FurnitureView extends AbstractList<Furniture> implements RandomAccess {
+        @Override
+        public Furniture get(int index) {
+            return new Furniture(getName(index), column(2, index), column(3, index), column(4, index),
+                column(0, index), column(1, index), column(5, index));
+        }
+
+        @Override
+        public int size() {
+            return furnitureCount;
+        }
+    }
+
+    private final class DoorView extends AbstractList<Door> implements RandomAccess {
+        @Override
+        public Door get(int index) {
+            checkIndex(index, doorCount);
+            int at = doorsStart + index * LayoutFormat.DOOR_RECORD_SIZE;
+            return new Door(WALLS[buffer.getInt(at)], buffer.getDouble(at + 8), buffer.getDouble(at + 16),
+                buffer.getDouble(at + 24), string(buffer.getInt(at + 4)), SWINGS[buffer.getInt(at + 32)]);
+        }
+
+        @Override
+        public int size() {
+            return doorCount;
+        }
+    }
+
+    private final class WindowView extends AbstractList<Window> implements RandomAccess {
+        @Override
+        public Window get(int index) {
+            checkIndex(index, windowCount);
+            int at = windowsStart + index * LayoutFormat.WINDOW_RECORD_SIZE;
+            return new Window(WALLS[buffer.getInt(at)], buffer.getDouble(at + 8), buffer.getDouble(at + 16),
+                buffer.getDouble(at + 24), buffer.getDouble(at + 32), string(buffer.getInt(at + 4)),
+                buffer.getInt(at + 40) != 0);
+        }
+
+        @Override
+        public int size() {
+            return windowCount;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.roomlayout.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list that only grows at its end and can be read while one thread appends.
+ *
+ * <p>Appends must be serialized by the caller. Readers need no locking: an element is
+ * stored before the size that exposes it is published, and a grown array is published
+ * before the size as well, so a reader sees every element below the size it read.
+ */
+final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+    private volatile Object[] elements = new Object[16];
+    private volatile int size;
+
+    @Override
+    public boolean add(E element) {
+        Object[] current = elements;
+        int count = size;
+        if (count == current.length) {
+            current = Arrays.copyOf(current, count * 2);
+            elements = current;
+        }
+        current[count] = element;
+        size = count + 1;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        int count = size;
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+        }
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        int count = size;
+        return Arrays.copyOf(elements, count);
+    }
+}
@@ -0,0 +1,162 @@
+package com.roomlayout.model;
+
+import com.roomlayout.placement.PlacementRequest;
+import com.roomlayout.spatial.GridSpatialIndex;
+import com.roomlayout.spatial.SpatialIndex;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A room that many threads can furnish and read at the same time.
+ *
+ * <p>Writes are serialized: each one validates and commits under a single write lock, so
+ * overlap checks are linearizable and two threads can never both place a piece on the
+ * same spot. Writes only validate against the spatial index and append, so the lock is
+ * held briefly even for large rooms. The lock is not striped by region, because every
+ * write also appends to the furniture list and inserts into the one spatial index, which
+ * would have to be serialized anyway.
+ *
+ * <p>Reads of the contents do not lock at all. Furniture, doors, windows and overlaps
+ * are kept in append-only lists that are safely published on every write, so
+ * {@link #getFurnitureView()}, {@link #getFurniture()}, {@link #forEachFurniture} and the
+ * visualizers see a consistent prefix of the room even while other threads are adding
+ * to it. Spatial queries such as {@link #furnitureIntersecting} share a read lock, so
+ * they run concurrently with each other and wait only for writes in progress; this relies
+ * on the index's queries not modifying it, as {@link SpatialIndex} requires.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ConcurrentRoom hall = new ConcurrentRoom(40.0, 25.0, 4.0);
+ * importService.forEachRecord(record ->
+ *     executor.execute(() -> hall.addFurniture(record.toFurniture())));
+ * }</pre>
+ *
+ * <p>Strategy-based placement through {@link #place} resolves its position before taking
+ * the lock, so a placement may be refused if another thread took the spot in between.
+ * {@link #placeAll(List)} resolves and adds under the lock and never sees such races.
+ *
+ * @since 1.1.0
+ */
+public class ConcurrentRoom extends Room {
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    public ConcurrentRoom(double width, double length, double height) {
+        this(width, length, height, new GridSpatialIndex());
+    }
+
+    /**
+     * Creates a concurrent room that keeps its furniture footprints in the given index.
+     *
+     * @param width the width of the room in meters (east-west dimension)
+     * @param length the length of the room in meters (north-south dimension)
+     * @param height the height of the room in meters (floor to ceiling)
+     * @param furnitureIndex an empty index used for furniture lookups
+     * @throws IllegalArgumentException if any dimension is not positive or the index is not empty
+     * @see Room#Room(double, double, double, SpatialIndex)
+     */
+    public ConcurrentRoom(double width, double length, double height, SpatialIndex furnitureIndex) {
+        super(width, length, height, furnitureIndex, new AppendOnlyList<>(), new AppendOnlyList<>(),
+            new AppendOnlyList<>(), new AppendOnlyList<>());
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    @Override
+    public void addFurniture(Furniture item) {
+        writeLock.lock();
+        try {
+            super.addFurniture(item);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addAllFurniture(List<Furniture> items) {
+        writeLock.lock();
+        try {
+            super.addAllFurniture(items);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Furniture> placeAll(List<PlacementRequest> requests) {
+        writeLock.lock();
+        try {
+            return super.placeAll(requests);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addDoor(Door door) {
+        writeLock.lock();
+        try {
+            super.addDoor(door);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addWindow(Window window) {
+        writeLock.lock();
+        try {
+            super.addWindow(window);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void setOverlapPolicy(OverlapPolicy overlapPolicy) {
+        writeLock.lock();
+        try {
+            super.setOverlapPolicy(overlapPolicy);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OverlapPolicy getOverlapPolicy() {
+        readLock.lock();
+        try {
+            return super.getOverlapPolicy();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Furniture> furnitureIntersecting(double x, double y, double width, double length) {
+        readLock.lock();
+        try {
+            return super.furnitureIntersecting(x, y, width, length);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Furniture> nearest(Point2D point, int k) {
+        readLock.lock();
+        try {
+            return super.nearest(point, k);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Concurrent" + super.toString();
+    }
+}
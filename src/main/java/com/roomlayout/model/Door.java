@@ -1,11 +1,50 @@
 package com.roomlayout.model;
 
 public class Door extends WallItem {
+    /**
+     * How a door opens, which decides the floor area its leaf sweeps.
+     *
+     * <p>The start of a door is the end at its {@linkplain #getPosition() position} along
+     * the wall, the end nearer the west or north end of the wall.
+     *
+     * @since 1.1.0
+     */
+    public enum Swing {
+        /** Sliding, folding or without a leaf; nothing sweeps the floor. */
+        NONE,
+        /** Opens into the room, hinged at the start of the opening. */
+        INWARD_HINGED_AT_START,
+        /** Opens into the room, hinged at the end of the opening. */
+        INWARD_HINGED_AT_END,
+        /** Opens away from the room, sweeping the floor on the other side of the wall. */
+        OUTWARD
+    }
+
     private final String type;
+    private final Swing swing;
     
-    public Door(Wall wall, double position, double width, double height, String type) {
+    /**
+     * Creates a door whose leaf sweeps part of the floor.
+     * 
+     * @param wall the wall the door is in
+     * @param position the distance from the west or north end of the wall in meters
+     * @param width the width of the opening in meters, which is also the radius of the swing
+     * @param height the height of the opening in meters
+     * @param type a description of the door
+     * @param swing how the door opens
+     * @since 1.1.0
+     */
+    public Door(Wall wall, double position, double width, double height, String type, Swing swing) {
         super(wall, position, width, height, 0);
+        if (swing == null) {
+            throw new IllegalArgumentException("Swing must not be null");
+        }
         this.type = type;
+        this.swing = swing;
+    }
+    
+    public Door(Wall wall, double position, double width, double height, String type) {
+        this(wall, position, width, height, type, Swing.NONE);
     }
     
     public Door(Wall wall, double position, double width, double height) {
@@ -16,9 +55,17 @@ public class Door extends WallItem {
         return type;
     }
     
+    /**
+     * @return how the door opens; {@link Swing#NONE} unless given
+     * @since 1.1.0
+     */
+    public Swing getSwing() {
+        return swing;
+    }
+    
     @Override
     public String toString() {
         return String.format("%s Door on %s wall: %.1fm wide x %.1fm high at position %.1fm", 
             type, wall, width, height, position);
     }
-}
\ No newline at end of file
+}
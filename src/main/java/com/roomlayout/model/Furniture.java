@@ -1,5 +1,9 @@
 package com.roomlayout.model;
 
+import com.roomlayout.geometry.OrientedBox;
+
+import java.util.Objects;
+
 public class Furniture {
     private final String name;
     private final double width;
@@ -8,6 +12,7 @@ public class Furniture {
     private final double x;
     private final double y;
     private final double rotation;
+    private final OrientedBox footprint;
     
     public Furniture(String name, double width, double length, double height, double x, double y) {
         this(name, width, length, height, x, y, 0);
@@ -24,6 +29,23 @@ public class Furniture {
         this.x = x;
         this.y = y;
         this.rotation = ((rotation % 360) + 360) % 360;
+        this.footprint = new OrientedBox(x, y, width, length, this.rotation);
+    }
+    
+    /**
+     * Recreates a stored piece around the footprint it already had, skipping validation
+     * and the trigonometry of the footprint.
+     */
+    Furniture(String name, double width, double length, double height, double x, double y, double rotation,
+              OrientedBox footprint) {
+        this.name = name;
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.footprint = footprint;
     }
     
     public String getName() {
@@ -54,10 +76,42 @@ public class Furniture {
         return rotation;
     }
     
+    /**
+     * Returns the area the piece covers on the floor.
+     * 
+     * <p>The piece is rotated clockwise by {@link #getRotation()} degrees about its center.
+     * The footprint is computed once, when the piece is created.
+     * 
+     * @return the rotated footprint
+     * @since 1.1.0
+     */
+    public OrientedBox getFootprint() {
+        return footprint;
+    }
+    
     public Point2D getCenter() {
         return new Point2D(x + width / 2, y + length / 2);
     }
     
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Furniture other = (Furniture) obj;
+        return Double.compare(other.width, width) == 0 &&
+            Double.compare(other.length, length) == 0 &&
+            Double.compare(other.height, height) == 0 &&
+            Double.compare(other.x, x) == 0 &&
+            Double.compare(other.y, y) == 0 &&
+            Double.compare(other.rotation, rotation) == 0 &&
+            Objects.equals(name, other.name);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, width, length, height, x, y, rotation);
+    }
+    
     @Override
     public String toString() {
         return String.format("%s: %.1fx%.1fx%.1fm at (%.1f, %.1f)", 
@@ -0,0 +1,234 @@
+package com.roomlayout.model;
+
+import com.roomlayout.geometry.OrientedBox;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Columnar (structure-of-arrays) storage for furniture.
+ *
+ * <p>Instead of keeping one {@link Furniture} object per piece, the store keeps each
+ * property in its own primitive {@code double[]} column and replaces names by indexes
+ * into a table of distinct names. A piece then costs about 56 bytes of column data instead of
+ * a full object, and loops over a single property walk contiguous memory.
+ *
+ * <p>The store is a {@link java.util.List} of furniture so a {@link Room} can use it in
+ * place of its default list. Reading an element returns a lightweight {@code Furniture}
+ * built from the columns; since furniture is an immutable value, such a view is equal to
+ * the piece that was stored. Hot loops that only need geometry should use the primitive
+ * accessors like {@link #getX(int)} and {@link #intersects(int, OrientedBox)} to avoid
+ * creating views at all.
+ *
+ * <p>The footprints of rotated pieces are kept from the stored furniture, so neither views
+ * nor intersection tests redo their trigonometry. Unrotated pieces keep no footprint; their
+ * columns describe it exactly.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Room warehouse = new Room(200.0, 100.0, 8.0, new GridSpatialIndex(2.0), new FurnitureStore());
+ * }</pre>
+ *
+ * @see Room#Room(double, double, double, com.roomlayout.spatial.SpatialIndex, FurnitureStore)
+ * @since 1.1.0
+ */
+public final class FurnitureStore extends AbstractList<Furniture> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] x;
+    private double[] y;
+    private double[] width;
+    private double[] length;
+    private double[] height;
+    private double[] rotation;
+    /** Footprints of rotated pieces, {@code null} for unrotated ones. */
+    private OrientedBox[] turnedFootprints;
+    private int[] nameIds;
+    private String[] names;
+    private final Map<String, Integer> nameTable;
+    private int size;
+
+    public FurnitureStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store sized for the expected number of pieces.
+     *
+     * @param initialCapacity the number of pieces to reserve room for
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public FurnitureStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.x = new double[initialCapacity];
+        this.y = new double[initialCapacity];
+        this.width = new double[initialCapacity];
+        this.length = new double[initialCapacity];
+        this.height = new double[initialCapacity];
+        this.rotation = new double[initialCapacity];
+        this.turnedFootprints = new OrientedBox[initialCapacity];
+        this.nameIds = new int[initialCapacity];
+        this.names = new String[DEFAULT_CAPACITY];
+        this.nameTable = new HashMap<>();
+    }
+
+    @Override
+    public boolean add(Furniture item) {
+        ensureCapacity(size + 1);
+        write(size, item);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Furniture set(int index, Furniture item) {
+        Furniture previous = get(index);
+        write(index, item);
+        return previous;
+    }
+
+    @Override
+    public Furniture get(int index) {
+        checkIndex(index);
+        OrientedBox footprint = turnedFootprints[index];
+        if (footprint == null) {
+            footprint = new OrientedBox(x[index], y[index], width[index], length[index], 0);
+        }
+        return new Furniture(names[nameIds[index]], width[index], length[index], height[index],
+            x[index], y[index], rotation[index], footprint);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    public double getWidth(int index) {
+        checkIndex(index);
+        return width[index];
+    }
+
+    public double getLength(int index) {
+        checkIndex(index);
+        return length[index];
+    }
+
+    public double getHeight(int index) {
+        checkIndex(index);
+        return height[index];
+    }
+
+    public double getRotation(int index) {
+        checkIndex(index);
+        return rotation[index];
+    }
+
+    public String getName(int index) {
+        checkIndex(index);
+        return names[nameIds[index]];
+    }
+
+    /**
+     * Tells whether a piece shares floor area with a footprint, without creating a view.
+     *
+     * @param index the piece
+     * @param box the footprint to test against
+     * @return whether the footprints overlap; touching edges don't count
+     * @see OrientedBox#intersects(OrientedBox)
+     */
+    public boolean intersects(int index, OrientedBox box) {
+        checkIndex(index);
+        OrientedBox footprint = turnedFootprints[index];
+        return footprint != null ? footprint.intersects(box)
+            : box.intersects(x[index], y[index], width[index], length[index]);
+    }
+
+    /**
+     * Tells whether a piece shares floor area with an axis-aligned area, without creating
+     * a view.
+     *
+     * @param index the piece
+     * @return whether the piece overlaps the area; touching edges don't count
+     * @see OrientedBox#intersects(double, double, double, double)
+     */
+    public boolean intersects(int index, double areaX, double areaY, double areaWidth, double areaLength) {
+        checkIndex(index);
+        OrientedBox footprint = turnedFootprints[index];
+        if (footprint != null) {
+            return footprint.intersects(areaX, areaY, areaWidth, areaLength);
+        }
+        return x[index] < areaX + areaWidth && areaX < x[index] + width[index]
+            && y[index] < areaY + areaLength && areaY < y[index] + length[index];
+    }
+
+    /**
+     * Returns the number of distinct furniture names held in the name table.
+     *
+     * @return the distinct name count
+     */
+    public int getDistinctNameCount() {
+        return nameTable.size();
+    }
+
+    private void write(int index, Furniture item) {
+        x[index] = item.getX();
+        y[index] = item.getY();
+        width[index] = item.getWidth();
+        length[index] = item.getLength();
+        height[index] = item.getHeight();
+        rotation[index] = item.getRotation();
+        turnedFootprints[index] = item.getRotation() == 0 ? null : item.getFootprint();
+        nameIds[index] = internName(item.getName());
+    }
+
+    private int internName(String name) {
+        Integer id = nameTable.get(name);
+        if (id != null) {
+            return id;
+        }
+        int newId = nameTable.size();
+        if (newId == names.length) {
+            names = Arrays.copyOf(names, newId * 2);
+        }
+        names[newId] = name;
+        nameTable.put(name, newId);
+        return newId;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, x.length + (x.length >> 1) + 1);
+        x = Arrays.copyOf(x, newLength);
+        y = Arrays.copyOf(y, newLength);
+        width = Arrays.copyOf(width, newLength);
+        length = Arrays.copyOf(length, newLength);
+        height = Arrays.copyOf(height, newLength);
+        rotation = Arrays.copyOf(rotation, newLength);
+        turnedFootprints = Arrays.copyOf(turnedFootprints, newLength);
+        nameIds = Arrays.copyOf(nameIds, newLength);
+    }
+}
@@ -0,0 +1,183 @@
+package com.roomlayout.model;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.geometry.QuarterDisc;
+import com.roomlayout.spatial.GridSpatialIndex;
+import com.roomlayout.spatial.SpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The floor areas a room's doors and windows need kept clear: the quarter disc an
+ * inward-opening door sweeps, and, for windows that ask for it, the strip in front of the
+ * window where nothing may stand taller than the sill.
+ *
+ * <p>Zones are kept in their own spatial index, keyed by the order they were added, so
+ * checking a piece costs a query around its footprint instead of a pass over every door
+ * and window. Rooms keep one to check pieces as they are added; validators and solvers
+ * build one with {@link #of(RoomLayout)} to apply the same rule. Once filled, the zones
+ * may be queried from several threads at once.
+ *
+ * @since 1.1.0
+ */
+public final class KeepOutZones {
+    private final double width;
+    private final double length;
+    private final SpatialIndex index = new GridSpatialIndex();
+    private final List<WallItem> items = new ArrayList<>();
+
+    KeepOutZones(double width, double length) {
+        this.width = width;
+        this.length = length;
+    }
+
+    /**
+     * Collects the zones of a layout's doors and windows.
+     *
+     * @param room the layout
+     * @return the zones, to which more doors and windows may be added
+     */
+    public static KeepOutZones of(RoomLayout room) {
+        KeepOutZones zones = new KeepOutZones(room.getWidth(), room.getLength());
+        room.getDoorView().forEach(zones::add);
+        room.getWindowView().forEach(zones::add);
+        return zones;
+    }
+
+    /**
+     * Adds the zone of a door or window; doors that don't swing into the room and windows
+     * that don't keep their sill clear have none.
+     *
+     * @param item the door or window, in the coordinates of this room
+     */
+    public void add(WallItem item) {
+        double[] bounds = bounds(item, width, length);
+        if (bounds != null) {
+            index.insert(items.size(), bounds[0], bounds[1], bounds[2], bounds[3]);
+            items.add(item);
+        }
+    }
+
+    /**
+     * @param item a positioned piece
+     * @return the first door or window whose zone the piece blocks, or {@code null}
+     */
+    public WallItem blocking(Furniture item) {
+        OrientedBox box = item.getFootprint();
+        for (int id : index.query(box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength())) {
+            if (blocks(items.get(id), item, width, length)) {
+                return items.get(id);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param item a positioned piece
+     * @return every door and window whose zone the piece blocks, in the order they were added
+     */
+    public List<WallItem> blockedBy(Furniture item) {
+        OrientedBox box = item.getFootprint();
+        int[] ids = index.query(box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength()).clone();
+        Arrays.sort(ids);
+        List<WallItem> result = new ArrayList<>();
+        for (int id : ids) {
+            if (blocks(items.get(id), item, width, length)) {
+                result.add(items.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the axis-aligned bounds of a door's or window's zone.
+     *
+     * @return x, y, width and length, or {@code null} if the item has no zone
+     */
+    static double[] bounds(WallItem item, double width, double length) {
+        if (item instanceof Door) {
+            QuarterDisc swing = swing((Door) item, width, length);
+            return swing == null ? null
+                : new double[] {swing.getMinX(), swing.getMinY(), swing.getRadius(), swing.getRadius()};
+        }
+        return ((Window) item).isSillKeptClear() ? sillStrip(item, width, length) : null;
+    }
+
+    /**
+     * Tells whether a piece stands in the zone of a door or window.
+     */
+    static boolean blocks(WallItem item, Furniture furniture, double width, double length) {
+        if (item instanceof Door) {
+            QuarterDisc swing = swing((Door) item, width, length);
+            return swing != null && swing.intersects(furniture.getFootprint());
+        }
+        if (!((Window) item).isSillKeptClear() || furniture.getHeight() <= item.getBottomHeight()) {
+            return false;
+        }
+        double[] strip = sillStrip(item, width, length);
+        return furniture.getFootprint().intersects(strip[0], strip[1], strip[2], strip[3]);
+    }
+
+    /**
+     * @return the quarter disc a door sweeps inside the room, or {@code null} if it sweeps none
+     */
+    static QuarterDisc swing(Door door, double width, double length) {
+        boolean atStart;
+        switch (door.getSwing()) {
+            case INWARD_HINGED_AT_START:
+                atStart = true;
+                break;
+            case INWARD_HINGED_AT_END:
+                atStart = false;
+                break;
+            default:
+                return null;
+        }
+        double hinge = atStart ? door.getPosition() : door.getPosition() + door.getWidth();
+        double radius = door.getWidth();
+        switch (door.getWall()) {
+            case NORTH:
+                return new QuarterDisc(hinge, 0, radius, atStart, true);
+            case SOUTH:
+                return new QuarterDisc(hinge, length, radius, atStart, false);
+            case WEST:
+                return new QuarterDisc(0, hinge, radius, true, atStart);
+            case EAST:
+                return new QuarterDisc(width, hinge, radius, false, atStart);
+            default:
+                return null;
+        }
+    }
+
+    private static double[] sillStrip(WallItem item, double width, double length) {
+        double depth = Window.SILL_CLEARANCE_DEPTH;
+        switch (item.getWall()) {
+            case NORTH:
+                return new double[] {item.getPosition(), 0, item.getWidth(), depth};
+            case SOUTH:
+                return new double[] {item.getPosition(), length - depth, item.getWidth(), depth};
+            case WEST:
+                return new double[] {0, item.getPosition(), depth, item.getWidth()};
+            case EAST:
+                return new double[] {width - depth, item.getPosition(), depth, item.getWidth()};
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Explains why a piece may not stand where it is.
+     *
+     * @param item the door or window whose zone the piece blocks
+     * @param furniture the piece
+     * @return a message naming both
+     */
+    public static String describe(WallItem item, Furniture furniture) {
+        if (item instanceof Door) {
+            return furniture.getName() + " blocks the swing of " + item;
+        }
+        return furniture.getName() + " stands taller than the sill in front of " + item;
+    }
+}
@@ -0,0 +1,105 @@
+package com.roomlayout.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hashes the contents of a room, so that results computed from a room can be cached and
+ * reused until the room changes.
+ *
+ * <p>The hash covers the dimensions and every furniture piece, door and window, and is
+ * computed afresh on each call, so editing a room, or looking up an equal copy of it,
+ * needs no explicit invalidation.
+ *
+ * @since 1.1.0
+ */
+public final class LayoutFingerprint {
+
+    private LayoutFingerprint() {
+    }
+
+    /**
+     * Computes a 64-bit hash of a room's dimensions and contents.
+     *
+     * @param room the room
+     * @return the fingerprint; equal rooms have equal fingerprints
+     */
+    public static long of(RoomLayout room) {
+        long h = mixDimensions(0, room);
+        h = mixFurniture(h, room.getFurnitureView());
+        return mixWallItems(h, room);
+    }
+
+    /**
+     * Computes a 64-bit hash of a room's dimensions, doors and windows, leaving out the
+     * furniture.
+     *
+     * <p>Together with {@link #ofFurniture(List)} this tells whether a room only gained
+     * furniture since a result was computed.
+     *
+     * @param room the room
+     * @return the fingerprint; rooms with equal walls have equal fingerprints
+     */
+    public static long ofWalls(RoomLayout room) {
+        return mixWallItems(mixDimensions(0, room), room);
+    }
+
+    /**
+     * Computes a 64-bit hash of furniture pieces in order.
+     *
+     * @param furniture the pieces, for example the first pieces of a room
+     * @return the fingerprint; equal lists have equal fingerprints
+     */
+    public static long ofFurniture(List<Furniture> furniture) {
+        return mixFurniture(0, furniture);
+    }
+
+    private static long mixDimensions(long h, RoomLayout room) {
+        h = mix(h, room.getWidth());
+        h = mix(h, room.getLength());
+        return mix(h, room.getHeight());
+    }
+
+    private static long mixFurniture(long h, List<Furniture> furniture) {
+        h = mix(h, furniture.size());
+        for (Furniture f : furniture) {
+            h = mix(h, Objects.hashCode(f.getName()));
+            h = mix(h, f.getWidth());
+            h = mix(h, f.getLength());
+            h = mix(h, f.getHeight());
+            h = mix(h, f.getX());
+            h = mix(h, f.getY());
+            h = mix(h, f.getRotation());
+        }
+        return h;
+    }
+
+    private static long mixWallItems(long h, RoomLayout room) {
+        h = mix(h, room.getDoorView().size());
+        for (Door d : room.getDoorView()) {
+            h = mix(h, d);
+        }
+        h = mix(h, room.getWindowView().size());
+        for (Window w : room.getWindowView()) {
+            h = mix(h, w);
+        }
+        return h;
+    }
+
+    private static long mix(long h, WallItem item) {
+        h = mix(h, item.getWall().ordinal());
+        h = mix(h, item.getPosition());
+        h = mix(h, item.getWidth());
+        h = mix(h, item.getHeight());
+        return mix(h, item.getBottomHeight());
+    }
+
+    private static long mix(long h, double value) {
+        return mix(h, Double.doubleToLongBits(value));
+    }
+
+    private static long mix(long h, long value) {
+        h = (h ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+}
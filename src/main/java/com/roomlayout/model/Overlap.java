@@ -0,0 +1,49 @@
+package com.roomlayout.model;
+
+/**
+ * A pair of furniture pieces whose footprints share floor area.
+ * 
+ * @see Room#getOverlaps()
+ * @since 1.1.0
+ */
+public final class Overlap {
+    private final Furniture existing;
+    private final Furniture added;
+    private final double area;
+    
+    public Overlap(Furniture existing, Furniture added) {
+        this.existing = existing;
+        this.added = added;
+        this.area = overlapArea(existing, added);
+    }
+    
+    static double overlapArea(Furniture a, Furniture b) {
+        return a.getFootprint().intersectionArea(b.getFootprint());
+    }
+    
+    /**
+     * @return the piece that was already in the room
+     */
+    public Furniture getExisting() {
+        return existing;
+    }
+    
+    /**
+     * @return the piece whose addition caused the overlap
+     */
+    public Furniture getAdded() {
+        return added;
+    }
+    
+    /**
+     * @return the shared floor area in square meters
+     */
+    public double getArea() {
+        return area;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s overlaps %s by %.2f sq m", added.getName(), existing.getName(), area);
+    }
+}
@@ -0,0 +1,24 @@
+package com.roomlayout.model;
+
+/**
+ * Decides what {@link Room#addFurniture(Furniture)} does when a new piece overlaps
+ * furniture already in the room.
+ * 
+ * <p>Overlaps are found through the room's spatial index, so the check only looks at
+ * furniture near the new piece. Pieces that merely touch along an edge never overlap.
+ * 
+ * @see Room#setOverlapPolicy(OverlapPolicy)
+ * @see Room#getOverlaps()
+ * @since 1.1.0
+ */
+public enum OverlapPolicy {
+    /** Refuse the piece with an {@link IllegalArgumentException}. */
+    REJECT,
+    /**
+     * Add the piece and record the overlap for the caller to report from
+     * {@link Room#getOverlaps()}. The room itself prints nothing, so bulk inserts stay quiet.
+     */
+    WARN,
+    /** Add the piece and record the overlap as expected. */
+    ALLOW
+}
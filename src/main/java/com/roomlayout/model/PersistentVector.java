@@ -0,0 +1,105 @@
+package com.roomlayout.model;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list whose updates return a new version sharing structure with the old one.
+ *
+ * <p>Elements sit in the leaves of a 32-way trie. {@link #plus(Object)} and
+ * {@link #with(int, Object)} copy only the path from the root to one leaf, so they run in
+ * O(log32 n) time and space; every other node is shared between versions. Missing
+ * subtrees read as {@code null}, so a long vector of nulls costs no memory until its
+ * slots are set.
+ */
+final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(null, 0, 0);
+
+    private final Object[] root;
+    private final int size;
+    private final int shift;
+
+    private PersistentVector(Object[] root, int size, int shift) {
+        this.root = root;
+        this.size = size;
+        this.shift = shift;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of the given size holding only {@code null}.
+     */
+    static <E> PersistentVector<E> ofNulls(int size) {
+        int shift = 0;
+        while (capacity(shift) < size) {
+            shift += BITS;
+        }
+        return new PersistentVector<>(null, size, shift);
+    }
+
+    private static long capacity(int shift) {
+        return 1L << (shift + BITS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        Object[] node = root;
+        for (int level = shift; level > 0 && node != null; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node == null ? null : (E) node[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new version with the element appended.
+     */
+    PersistentVector<E> plus(E element) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        if (size == capacity(shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newShift += BITS;
+        }
+        return new PersistentVector<>(set(newRoot, newShift, size, element), size + 1, newShift);
+    }
+
+    /**
+     * Returns a new version with the element at {@code index} replaced.
+     */
+    PersistentVector<E> with(int index, E element) {
+        checkIndex(index);
+        return new PersistentVector<>(set(root, shift, index, element), size, shift);
+    }
+
+    private static Object[] set(Object[] node, int level, int index, Object element) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            copy[slot] = set((Object[]) copy[slot], level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.roomlayout.model;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.placement.FurniturePlacementBuilder;
+import com.roomlayout.placement.PlacementRequest;
+import com.roomlayout.placement.PositionResolver;
 import com.roomlayout.placement.WallItemPlacementBuilder;
+import com.roomlayout.spatial.GridSpatialIndex;
+import com.roomlayout.spatial.SpatialIndex;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a room with natural furniture and wall item placement capabilities.
@@ -49,13 +56,22 @@ import java.util.List;
  * @see WallItemPlacementBuilder
  * @since 1.0.0
  */
-public class Room {
+public class Room implements RoomLayout {
     private final double width;
     private final double length;
     private final double height;
     private final List<Furniture> furniture;
+    /** The furniture list when it is columnar, so candidates can be tested without views. */
+    private final FurnitureStore store;
     private final List<Door> doors;
     private final List<Window> windows;
+    private final List<Furniture> furnitureView;
+    private final List<Door> doorView;
+    private final List<Window> windowView;
+    private final SpatialIndex furnitureIndex;
+    private final List<Overlap> overlaps;
+    private final KeepOutZones keepOutZones;
+    private OverlapPolicy overlapPolicy;
     
     /**
      * Creates a new room with specified dimensions.
@@ -66,27 +82,312 @@ public class Room {
      * @throws IllegalArgumentException if any dimension is not positive
      */
     public Room(double width, double length, double height) {
+        this(width, length, height, new GridSpatialIndex());
+    }
+    
+    /**
+     * Creates a new room that keeps its furniture footprints in the given spatial index.
+     * 
+     * <p>The index is owned by the room from this point on and must not be modified
+     * by the caller. Use this constructor to tune the index for unusual layouts, for
+     * example a coarser {@link GridSpatialIndex} for warehouse-sized floors.
+     * 
+     * @param width the width of the room in meters (east-west dimension)
+     * @param length the length of the room in meters (north-south dimension)
+     * @param height the height of the room in meters (floor to ceiling)
+     * @param furnitureIndex an empty index used for furniture lookups
+     * @throws IllegalArgumentException if any dimension is not positive or the index is not empty
+     * @since 1.1.0
+     */
+    public Room(double width, double length, double height, SpatialIndex furnitureIndex) {
+        this(width, length, height, furnitureIndex, new ArrayList<>());
+    }
+    
+    /**
+     * Creates a new room backed by columnar furniture storage.
+     * 
+     * <p>Intended for rooms with very many pieces: furniture is kept in primitive
+     * columns instead of individual objects, and pieces read back from the room are
+     * lightweight views equal to the ones that were added.
+     * 
+     * @param width the width of the room in meters (east-west dimension)
+     * @param length the length of the room in meters (north-south dimension)
+     * @param height the height of the room in meters (floor to ceiling)
+     * @param furnitureIndex an empty index used for furniture lookups
+     * @param furnitureStore an empty store holding the furniture
+     * @throws IllegalArgumentException if any dimension is not positive or the index or store is not empty
+     * @see FurnitureStore
+     * @since 1.1.0
+     */
+    public Room(double width, double length, double height, SpatialIndex furnitureIndex, FurnitureStore furnitureStore) {
+        this(width, length, height, furnitureIndex, (List<Furniture>) furnitureStore);
+    }
+    
+    private Room(double width, double length, double height, SpatialIndex furnitureIndex, List<Furniture> furniture) {
+        this(width, length, height, furnitureIndex, furniture, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+    
+    /**
+     * Creates a room on the given backing lists, so subclasses can choose their storage.
+     */
+    Room(double width, double length, double height, SpatialIndex furnitureIndex, List<Furniture> furniture,
+         List<Door> doors, List<Window> windows, List<Overlap> overlaps) {
         if (width <= 0 || length <= 0 || height <= 0) {
             throw new IllegalArgumentException("Room dimensions must be positive");
         }
+        if (furnitureIndex.size() != 0) {
+            throw new IllegalArgumentException("Spatial index must be empty");
+        }
+        if (!furniture.isEmpty()) {
+            throw new IllegalArgumentException("Furniture store must be empty");
+        }
         this.width = width;
         this.length = length;
         this.height = height;
-        this.furniture = new ArrayList<>();
-        this.doors = new ArrayList<>();
-        this.windows = new ArrayList<>();
+        this.furniture = furniture;
+        this.store = furniture instanceof FurnitureStore ? (FurnitureStore) furniture : null;
+        this.doors = doors;
+        this.windows = windows;
+        this.furnitureView = Collections.unmodifiableList(furniture);
+        this.doorView = Collections.unmodifiableList(doors);
+        this.windowView = Collections.unmodifiableList(windows);
+        this.furnitureIndex = furnitureIndex;
+        this.overlaps = overlaps;
+        this.keepOutZones = new KeepOutZones(width, length);
+        this.overlapPolicy = OverlapPolicy.REJECT;
     }
     
+    /**
+     * Adds a positioned furniture piece to the room.
+     * 
+     * <p>The piece must lie within the room, outside the swing of every door that opens
+     * into the room, and, if it is taller than the sill of a window that
+     * {@linkplain Window#isSillKeptClear() keeps its sill clear}, outside the strip of
+     * {@link Window#SILL_CLEARANCE_DEPTH} in front of that window. What happens when it
+     * overlaps furniture already in the room depends on the
+     * {@linkplain #setOverlapPolicy(OverlapPolicy) overlap policy}; by default such pieces
+     * are rejected.
+     * 
+     * @param item the furniture to add
+     * @throws IllegalArgumentException if the piece doesn't fit in the room, blocks a door
+     *         or window, or overlaps other furniture under {@link OverlapPolicy#REJECT}
+     */
     public void addFurniture(Furniture item) {
-        if (item.getX() < 0 || item.getY() < 0 || 
-            item.getX() + item.getWidth() > width || 
-            item.getY() + item.getLength() > length ||
-            item.getHeight() > height) {
+        checkFits(item);
+        checkClear(item);
+        List<Overlap> found = new ArrayList<>();
+        for (Furniture other : overlapping(item)) {
+            found.add(new Overlap(other, item));
+        }
+        acceptOverlaps(found);
+        commit(item);
+    }
+    
+    /**
+     * Adds a batch of positioned furniture pieces atomically.
+     * 
+     * <p>All pieces are validated before any of them is added: each one is checked
+     * against the room bounds, the furniture already in the room and the other pieces
+     * of the batch. If a piece is refused the room is left unchanged.
+     * 
+     * @param items the furniture to add, in order
+     * @throws IllegalArgumentException if any piece doesn't fit in the room, blocks a door
+     *         or window, or overlaps other furniture under {@link OverlapPolicy#REJECT}
+     * @see #addFurniture(Furniture)
+     * @since 1.1.0
+     */
+    public void addAllFurniture(List<Furniture> items) {
+        for (Furniture item : items) {
+            checkFits(item);
+            checkClear(item);
+        }
+        SpatialIndex batchIndex = new GridSpatialIndex();
+        List<Overlap> found = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Furniture item = items.get(i);
+            for (Furniture other : overlapping(item)) {
+                found.add(new Overlap(other, item));
+            }
+            OrientedBox box = item.getFootprint();
+            for (int id : batchIndex.query(box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength())) {
+                if (items.get(id).getFootprint().intersects(box)) {
+                    found.add(new Overlap(items.get(id), item));
+                }
+            }
+            if (!found.isEmpty() && overlapPolicy == OverlapPolicy.REJECT) {
+                break;
+            }
+            insert(batchIndex, i, item);
+        }
+        acceptOverlaps(found);
+        for (Furniture item : items) {
+            commit(item);
+        }
+    }
+    
+    /**
+     * Places a batch of furniture pieces in one pass.
+     * 
+     * <p>Placement strategies are resolved in request order against the room as it is
+     * before the call; a custom strategy can see the pieces resolved before it through
+     * {@link com.roomlayout.placement.PlacementContext#getPlacedInBatch()}. The resulting
+     * pieces are then added atomically with
+     * {@link #addAllFurniture(List)}. Either every piece is placed or none is.
+     * 
+     * <p>Example:
+     * <pre>{@code
+     * List<Furniture> placed = room.placeAll(List.of(
+     *     room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_WEST).toRequest(),
+     *     room.place("TV", 1.5, 0.3, 0.6).onWall(Wall.NORTH).centered().toRequest()));
+     * }</pre>
+     * 
+     * @param requests the pieces to place
+     * @return the placed furniture in request order
+     * @throws IllegalArgumentException if any piece doesn't fit, or overlaps other
+     *         furniture under {@link OverlapPolicy#REJECT}
+     * @see PlacementRequest
+     * @since 1.1.0
+     */
+    public List<Furniture> placeAll(List<PlacementRequest> requests) {
+        List<Furniture> placed = PositionResolver.resolveAll(requests, this);
+        addAllFurniture(placed);
+        return placed;
+    }
+    
+    private void checkFits(Furniture item) {
+        checkFits(item, width, length, height);
+    }
+    
+    /**
+     * Checks that a piece stands within a room of the given size, the rule
+     * {@link #addFurniture(Furniture)} applies to each piece.
+     * 
+     * @param item the furniture, positioned in room coordinates
+     * @param width the east-west extent of the room in meters
+     * @param length the north-south extent of the room in meters
+     * @param height the ceiling height of the room in meters
+     * @throws IllegalArgumentException if the footprint leaves the room or the piece is too tall
+     * @since 1.1.0
+     */
+    public static void checkFits(Furniture item, double width, double length, double height) {
+        if (!item.getFootprint().isWithin(0, 0, width, length) || item.getHeight() > height) {
             throw new IllegalArgumentException("Furniture doesn't fit in the room");
         }
+    }
+    
+    private void checkClear(Furniture item) {
+        WallItem blocked = keepOutZones.blocking(item);
+        if (blocked != null) {
+            throw new IllegalArgumentException(KeepOutZones.describe(blocked, item));
+        }
+    }
+    
+    /**
+     * Checks that no furniture already in the room stands where a new door or window
+     * needs the floor kept clear.
+     */
+    private void checkClear(WallItem item) {
+        double[] zone = KeepOutZones.bounds(item, width, length);
+        if (zone == null) {
+            return;
+        }
+        for (Furniture f : furnitureIntersecting(zone[0], zone[1], zone[2], zone[3])) {
+            if (KeepOutZones.blocks(item, f, width, length)) {
+                throw new IllegalArgumentException(KeepOutZones.describe(item, f));
+            }
+        }
+    }
+    
+    private void acceptOverlaps(List<Overlap> found) {
+        if (found.isEmpty()) {
+            return;
+        }
+        if (overlapPolicy == OverlapPolicy.REJECT) {
+            throw new IllegalArgumentException("Furniture overlaps with " + found.get(0).getExisting().getName());
+        }
+        overlaps.addAll(found);
+    }
+    
+    private void commit(Furniture item) {
+        insert(furnitureIndex, furniture.size(), item);
         furniture.add(item);
     }
     
+    /**
+     * Indexes a piece by the axis-aligned bounds of its footprint. Queries then narrow the
+     * candidates down with the exact, possibly rotated footprint.
+     */
+    private static void insert(SpatialIndex index, int id, Furniture item) {
+        OrientedBox box = item.getFootprint();
+        index.insert(id, box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength());
+    }
+    
+    /**
+     * Finds the furniture in the room whose footprint shares floor area with a piece's.
+     */
+    private List<Furniture> overlapping(Furniture item) {
+        OrientedBox box = item.getFootprint();
+        List<Furniture> result = new ArrayList<>();
+        for (int id : furnitureIndex.query(box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength())) {
+            if (store != null ? store.intersects(id, box) : furniture.get(id).getFootprint().intersects(box)) {
+                result.add(furniture.get(id));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Finds furniture whose footprint overlaps the given floor area.
+     * 
+     * <p>Footprints that only touch the area along an edge are not included.
+     * 
+     * @param x the west edge of the area in meters
+     * @param y the north edge of the area in meters
+     * @param width the east-west extent of the area in meters
+     * @param length the north-south extent of the area in meters
+     * @return the overlapping furniture in the order it was added to the room
+     * @since 1.1.0
+     */
+    @Override
+    public List<Furniture> furnitureIntersecting(double x, double y, double width, double length) {
+        if (store == null) {
+            List<Furniture> result = toFurniture(furnitureIndex.query(x, y, width, length));
+            result.removeIf(f -> !f.getFootprint().intersects(x, y, width, length));
+            return result;
+        }
+        List<Furniture> result = new ArrayList<>();
+        for (int id : furnitureIndex.query(x, y, width, length)) {
+            if (store.intersects(id, x, y, width, length)) {
+                result.add(store.get(id));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Finds the furniture closest to a point on the floor.
+     * 
+     * <p>Distance is measured to the nearest edge of the bounding box of each footprint,
+     * so furniture standing on the point comes first.
+     * 
+     * @param point the reference point in room coordinates
+     * @param k the maximum number of pieces to return
+     * @return up to {@code k} pieces ordered from nearest to farthest
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @since 1.1.0
+     */
+    public List<Furniture> nearest(Point2D point, int k) {
+        return toFurniture(furnitureIndex.nearest(point.getX(), point.getY(), k));
+    }
+    
+    private List<Furniture> toFurniture(int[] ids) {
+        List<Furniture> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(furniture.get(id));
+        }
+        return result;
+    }
+    
     /**
      * Starts natural furniture placement using fluent API.
      * 
@@ -173,17 +474,51 @@ public class Room {
         return new WallItemPlacementBuilder(name, width, height, bottomHeight, this, WallItemPlacementBuilder.WallItemType.WINDOW);
     }
     
+    /**
+     * Adds a door to the room.
+     * 
+     * @param door the door
+     * @throws IllegalArgumentException if the door doesn't fit its wall, or opens into
+     *         the room where furniture stands in its swing
+     */
     public void addDoor(Door door) {
         validateWallItem(door);
+        checkClear(door);
         doors.add(door);
+        keepOutZones.add(door);
     }
     
+    /**
+     * Adds a window to the room.
+     * 
+     * @param window the window
+     * @throws IllegalArgumentException if the window doesn't fit its wall, or it
+     *         {@linkplain Window#isSillKeptClear() keeps its sill clear} and furniture taller
+     *         than the sill stands in front of it
+     */
     public void addWindow(Window window) {
         validateWallItem(window);
+        checkClear(window);
         windows.add(window);
+        keepOutZones.add(window);
     }
     
     private void validateWallItem(WallItem item) {
+        validateWallItem(item, width, length, height);
+    }
+    
+    /**
+     * Checks that a door or window fits its wall in a room of the given size, the rule
+     * {@link #addDoor(Door)} and {@link #addWindow(Window)} apply.
+     * 
+     * @param item the door or window
+     * @param width the east-west extent of the room in meters
+     * @param length the north-south extent of the room in meters
+     * @param height the ceiling height of the room in meters
+     * @throws IllegalArgumentException if the item runs past the end or top of its wall
+     * @since 1.1.0
+     */
+    public static void validateWallItem(WallItem item, double width, double length, double height) {
         switch (item.getWall()) {
             case NORTH:
             case SOUTH:
@@ -206,14 +541,46 @@ public class Room {
         }
     }
     
+    /**
+     * Sets how {@link #addFurniture(Furniture)} treats overlapping furniture.
+     * 
+     * <p>The policy only affects pieces added after the call.
+     * 
+     * @param overlapPolicy the policy to apply
+     * @since 1.1.0
+     */
+    public void setOverlapPolicy(OverlapPolicy overlapPolicy) {
+        if (overlapPolicy == null) {
+            throw new IllegalArgumentException("Overlap policy cannot be null");
+        }
+        this.overlapPolicy = overlapPolicy;
+    }
+    
+    public OverlapPolicy getOverlapPolicy() {
+        return overlapPolicy;
+    }
+    
+    /**
+     * Returns the overlaps accepted under {@link OverlapPolicy#WARN} or {@link OverlapPolicy#ALLOW}.
+     * 
+     * @return the recorded overlaps in the order they occurred
+     * @since 1.1.0
+     */
+    public List<Overlap> getOverlaps() {
+        return new ArrayList<>(overlaps);
+    }
+    
+    @Override
     public double getWidth() {
         return width;
     }
     
+    @Override
     public double getLength() {
         return length;
     }
     
+    @Override
     public double getHeight() {
         return height;
     }
@@ -230,6 +597,63 @@ public class Room {
         return new ArrayList<>(windows);
     }
     
+    /**
+     * Returns a read-only live view of the furniture in this room.
+     * 
+     * <p>Unlike {@link #getFurniture()} no copy is made: the same view is returned on
+     * every call and reflects later additions. In rooms backed by a {@link FurnitureStore}
+     * each read creates a new piece equal to the one that was added. Use it on hot paths such as rendering,
+     * and take a copy with {@link #getFurniture()} when a stable list is needed.
+     * 
+     * @return an unmodifiable view of the furniture in insertion order
+     * @since 1.1.0
+     */
+    @Override
+    public List<Furniture> getFurnitureView() {
+        return furnitureView;
+    }
+    
+    /**
+     * Returns a read-only live view of the doors in this room.
+     * 
+     * @return an unmodifiable view of the doors in insertion order
+     * @see #getFurnitureView()
+     * @since 1.1.0
+     */
+    @Override
+    public List<Door> getDoorView() {
+        return doorView;
+    }
+    
+    /**
+     * Returns a read-only live view of the windows in this room.
+     * 
+     * @return an unmodifiable view of the windows in insertion order
+     * @see #getFurnitureView()
+     * @since 1.1.0
+     */
+    @Override
+    public List<Window> getWindowView() {
+        return windowView;
+    }
+    
+    /**
+     * Performs an action for each furniture piece without copying the list or allocating
+     * an iterator.
+     * 
+     * <p>Rooms backed by a {@link FurnitureStore} keep no piece objects, so they create
+     * a new {@link Furniture} for every piece visited; other rooms hand out the pieces
+     * they store.
+     * 
+     * @param action the action to perform, in insertion order
+     * @since 1.1.0
+     */
+    public void forEachFurniture(Consumer<? super Furniture> action) {
+        for (int i = 0; i < furniture.size(); i++) {
+            action.accept(furniture.get(i));
+        }
+    }
+    
     @Override
     public String toString() {
         return String.format("Room: %.1fm x %.1fm x %.1fm (W x L x H)", width, length, height);
@@ -0,0 +1,82 @@
+package com.roomlayout.model;
+
+import java.util.List;
+
+/**
+ * Read access to a furnished room: its dimensions, its contents and spatial lookups.
+ *
+ * <p>This is everything the visualizers need, so they render a mutable {@link Room}
+ * and an immutable {@link RoomSnapshot} alike.
+ *
+ * @since 1.1.0
+ */
+public interface RoomLayout {
+
+    double getWidth();
+
+    double getLength();
+
+    double getHeight();
+
+    /**
+     * Returns the furniture as an unmodifiable list, without copying.
+     *
+     * @return the furniture in insertion order
+     */
+    List<Furniture> getFurnitureView();
+
+    /**
+     * Returns the doors as an unmodifiable list, without copying.
+     *
+     * @return the doors in insertion order
+     */
+    List<Door> getDoorView();
+
+    /**
+     * Returns the windows as an unmodifiable list, without copying.
+     *
+     * @return the windows in insertion order
+     */
+    List<Window> getWindowView();
+
+    /**
+     * Finds furniture whose footprint overlaps the given floor area.
+     *
+     * <p>Footprints that only touch the area along an edge are not included.
+     *
+     * @param x the west edge of the area in meters
+     * @param y the north edge of the area in meters
+     * @param width the east-west extent of the area in meters
+     * @param length the north-south extent of the area in meters
+     * @return the overlapping furniture in the order it was added to the room
+     */
+    List<Furniture> furnitureIntersecting(double x, double y, double width, double length);
+
+    /**
+     * Finds furniture standing closer than {@code depth} to a wall.
+     *
+     * <p>Distance is measured from the wall to the nearest face of the footprint,
+     * which is what the wall views use to decide which pieces to project.
+     *
+     * @param wall the wall to measure from (NORTH, SOUTH, EAST, WEST)
+     * @param depth the distance from the wall in meters
+     * @return the matching furniture in the order it was added to the room
+     */
+    default List<Furniture> furnitureNearWall(Wall wall, double depth) {
+        // Widened by a hair so rounding never drops a piece exactly at the threshold;
+        // callers compare the precise distance themselves
+        double band = depth + 1e-9;
+        switch (wall) {
+            case NORTH:
+                return furnitureIntersecting(0, 0, getWidth(), band);
+            case SOUTH:
+                return furnitureIntersecting(0, getLength() - band, getWidth(), band);
+            case EAST:
+                return furnitureIntersecting(getWidth() - band, 0, band, getLength());
+            case WEST:
+                return furnitureIntersecting(0, 0, band, getLength());
+            default:
+                throw new IllegalArgumentException("Invalid wall: " + wall);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.roomlayout.model;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.spatial.GridSpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable version of a furnished room.
+ *
+ * <p>Every change returns a new snapshot and leaves the old one untouched, so keeping a
+ * list of snapshots gives undo and redo, and editing an older snapshot starts a what-if
+ * branch. Versions share structure: furniture, doors, windows and the spatial grid used
+ * for overlap checks live in persistent tries, and a change copies only the few nodes on
+ * its path. Adding a piece costs O(log n) regardless of how many pieces the room holds.
+ *
+ * <p>Snapshots implement {@link RoomLayout}, so the visualizers render them directly.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Deque<RoomSnapshot> history = new ArrayDeque<>();
+ * RoomSnapshot current = RoomSnapshot.of(room);
+ * history.push(current);
+ * current = current.addFurniture(new Furniture("Armchair", 0.8, 0.8, 0.9, 1.0, 1.0));
+ * // Undo
+ * current = history.pop();
+ * new ImageVisualizer(current, "output").visualizeFloorPlan();
+ * }</pre>
+ *
+ * <p>Overlapping furniture is always rejected, as under {@link OverlapPolicy#REJECT}.
+ * Snapshots are safe to share between threads.
+ *
+ * @see Room
+ * @since 1.1.0
+ */
+public final class RoomSnapshot implements RoomLayout {
+    private static final double CELL_SIZE = GridSpatialIndex.DEFAULT_CELL_SIZE;
+
+    private final double width;
+    private final double length;
+    private final double height;
+    private final int columns;
+    private final int rows;
+    private final PersistentVector<Furniture> furniture;
+    private final PersistentVector<Door> doors;
+    private final PersistentVector<Window> windows;
+    /** Ids of the furniture touching each grid cell, row by row; null for empty cells. */
+    private final PersistentVector<int[]> cells;
+
+    /**
+     * Creates an empty snapshot.
+     *
+     * @param width the width of the room in meters (east-west dimension)
+     * @param length the length of the room in meters (north-south dimension)
+     * @param height the height of the room in meters (floor to ceiling)
+     * @throws IllegalArgumentException if any dimension is not positive
+     */
+    public RoomSnapshot(double width, double length, double height) {
+        if (width <= 0 || length <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Room dimensions must be positive");
+        }
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        this.columns = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(length / CELL_SIZE));
+        this.furniture = PersistentVector.empty();
+        this.doors = PersistentVector.empty();
+        this.windows = PersistentVector.empty();
+        this.cells = PersistentVector.ofNulls(columns * rows);
+    }
+
+    private RoomSnapshot(RoomSnapshot base, PersistentVector<Furniture> furniture, PersistentVector<Door> doors,
+                         PersistentVector<Window> windows, PersistentVector<int[]> cells) {
+        this.width = base.width;
+        this.length = base.length;
+        this.height = base.height;
+        this.columns = base.columns;
+        this.rows = base.rows;
+        this.furniture = furniture;
+        this.doors = doors;
+        this.windows = windows;
+        this.cells = cells;
+    }
+
+    /**
+     * Captures the current contents of a room.
+     *
+     * <p>Furniture the room accepted with overlaps is captured as it is.
+     *
+     * @param room the room to capture
+     * @return a snapshot with the room's dimensions and contents
+     */
+    public static RoomSnapshot of(Room room) {
+        RoomSnapshot snapshot = new RoomSnapshot(room.getWidth(), room.getLength(), room.getHeight());
+        for (Furniture item : room.getFurnitureView()) {
+            snapshot = snapshot.insert(item);
+        }
+        PersistentVector<Door> doors = snapshot.doors;
+        for (Door door : room.getDoorView()) {
+            doors = doors.plus(door);
+        }
+        PersistentVector<Window> windows = snapshot.windows;
+        for (Window window : room.getWindowView()) {
+            windows = windows.plus(window);
+        }
+        return new RoomSnapshot(snapshot, snapshot.furniture, doors, windows, snapshot.cells);
+    }
+
+    /**
+     * Returns a snapshot with one more furniture piece.
+     *
+     * @param item the furniture to add
+     * @return the new snapshot
+     * @throws IllegalArgumentException if the piece doesn't fit in the room, blocks a door or
+     *         window, or overlaps other furniture
+     */
+    public RoomSnapshot addFurniture(Furniture item) {
+        Room.checkFits(item, width, length, height);
+        // Rooms have few doors and windows, so snapshots check them all instead of indexing them
+        for (Door door : doors) {
+            checkClear(door, item);
+        }
+        for (Window window : windows) {
+            checkClear(window, item);
+        }
+        OrientedBox box = item.getFootprint();
+        for (Furniture other : furnitureIntersecting(box.getMinX(), box.getMinY(), box.getBoundsWidth(), box.getBoundsLength())) {
+            if (other.getFootprint().intersects(box)) {
+                throw new IllegalArgumentException("Furniture overlaps with " + other.getName());
+            }
+        }
+        return insert(item);
+    }
+
+    /**
+     * Returns a snapshot with one more door.
+     *
+     * @param door the door to add
+     * @return the new snapshot
+     * @throws IllegalArgumentException if the door doesn't fit on its wall, or furniture
+     *         stands in its swing
+     */
+    public RoomSnapshot addDoor(Door door) {
+        Room.validateWallItem(door, width, length, height);
+        checkClear(door);
+        return new RoomSnapshot(this, furniture, doors.plus(door), windows, cells);
+    }
+
+    /**
+     * Returns a snapshot with one more window.
+     *
+     * @param window the window to add
+     * @return the new snapshot
+     * @throws IllegalArgumentException if the window doesn't fit on its wall, or it
+     *         {@linkplain Window#isSillKeptClear() keeps its sill clear} and furniture taller
+     *         than the sill stands in front of it
+     */
+    public RoomSnapshot addWindow(Window window) {
+        Room.validateWallItem(window, width, length, height);
+        checkClear(window);
+        return new RoomSnapshot(this, furniture, doors, windows.plus(window), cells);
+    }
+
+    private void checkClear(WallItem wallItem, Furniture item) {
+        if (KeepOutZones.blocks(wallItem, item, width, length)) {
+            throw new IllegalArgumentException(KeepOutZones.describe(wallItem, item));
+        }
+    }
+
+    private void checkClear(WallItem wallItem) {
+        double[] zone = KeepOutZones.bounds(wallItem, width, length);
+        if (zone == null) {
+            return;
+        }
+        for (Furniture f : furnitureIntersecting(zone[0], zone[1], zone[2], zone[3])) {
+            checkClear(wallItem, f);
+        }
+    }
+
+    private RoomSnapshot insert(Furniture item) {
+        int id = furniture.size();
+        OrientedBox box = item.getFootprint();
+        PersistentVector<int[]> newCells = cells;
+        for (int row = row(box.getMinY()); row <= row(box.getMaxY()); row++) {
+            for (int column = column(box.getMinX()); column <= column(box.getMaxX()); column++) {
+                int cell = row * columns + column;
+                int[] ids = newCells.get(cell);
+                int[] grown = ids == null ? new int[1] : Arrays.copyOf(ids, ids.length + 1);
+                grown[grown.length - 1] = id;
+                newCells = newCells.with(cell, grown);
+            }
+        }
+        return new RoomSnapshot(this, furniture.plus(item), doors, windows, newCells);
+    }
+
+    /**
+     * Creates a mutable room with the contents of this snapshot.
+     *
+     * <p>Overlaps captured from a room that allowed them are recorded in the new room's
+     * {@linkplain Room#getOverlaps() overlaps}; its policy is reset to reject further ones.
+     *
+     * @return a new room
+     */
+    public Room toRoom() {
+        Room room = new Room(width, length, height);
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        room.addAllFurniture(furniture);
+        room.setOverlapPolicy(OverlapPolicy.REJECT);
+        doors.forEach(room::addDoor);
+        windows.forEach(room::addWindow);
+        return room;
+    }
+
+    @Override
+    public List<Furniture> furnitureIntersecting(double x, double y, double width, double length) {
+        if (furniture.isEmpty() || width < 0 || length < 0) {
+            return new ArrayList<>();
+        }
+        double right = x + width;
+        double bottom = y + length;
+        int[] found = new int[8];
+        int count = 0;
+        for (int row = row(y); row <= row(bottom); row++) {
+            for (int column = column(x); column <= column(right); column++) {
+                int[] ids = cells.get(row * columns + column);
+                if (ids == null) {
+                    continue;
+                }
+                for (int id : ids) {
+                    if (furniture.get(id).getFootprint().intersects(x, y, width, length)) {
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = id;
+                    }
+                }
+            }
+        }
+        Arrays.sort(found, 0, count);
+        List<Furniture> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Pieces spanning several cells are found once per cell
+            if (i == 0 || found[i] != found[i - 1]) {
+                result.add(furniture.get(found[i]));
+            }
+        }
+        return result;
+    }
+
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) (x / CELL_SIZE)));
+    }
+
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) (y / CELL_SIZE)));
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getLength() {
+        return length;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public List<Furniture> getFurnitureView() {
+        return furniture;
+    }
+
+    @Override
+    public List<Door> getDoorView() {
+        return doors;
+    }
+
+    @Override
+    public List<Window> getWindowView() {
+        return windows;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Room: %.1fm x %.1fm x %.1fm (W x L x H)", width, length, height);
+    }
+}
@@ -1,11 +1,34 @@
 package com.roomlayout.model;
 
 public class Window extends WallItem {
+    /**
+     * How far into the room, in meters, the floor in front of a window that
+     * {@linkplain #isSillKeptClear() keeps its sill clear} must stay clear of pieces taller
+     * than its sill.
+     *
+     * @since 1.1.0
+     */
+    public static final double SILL_CLEARANCE_DEPTH = 0.5;
+
     private final String type;
+    private final boolean sillKeptClear;
     
-    public Window(Wall wall, double position, double width, double height, double bottomHeight, String type) {
+    /**
+     * Creates a window.
+     *
+     * @param keepSillClear whether pieces taller than the sill are kept out of the
+     *        {@link #SILL_CLEARANCE_DEPTH} strip in front of the window
+     * @since 1.1.0
+     */
+    public Window(Wall wall, double position, double width, double height, double bottomHeight, String type,
+                  boolean keepSillClear) {
         super(wall, position, width, height, bottomHeight);
         this.type = type;
+        this.sillKeptClear = keepSillClear;
+    }
+    
+    public Window(Wall wall, double position, double width, double height, double bottomHeight, String type) {
+        this(wall, position, width, height, bottomHeight, type, false);
     }
     
     public Window(Wall wall, double position, double width, double height, double bottomHeight) {
@@ -16,6 +39,15 @@ public class Window extends WallItem {
         return type;
     }
     
+    /**
+     * @return whether pieces taller than the sill must stay out of the strip in front of
+     *         the window; {@code false} unless asked for when the window was created
+     * @since 1.1.0
+     */
+    public boolean isSillKeptClear() {
+        return sillKeptClear;
+    }
+    
     @Override
     public String toString() {
         return String.format("%s Window on %s wall: %.1fm wide x %.1fm high at position %.1fm, %.1fm from floor", 
@@ -2,7 +2,6 @@ package com.roomlayout.placement;
 
 import com.roomlayout.model.Point2D;
 import com.roomlayout.model.Room;
-import com.roomlayout.model.Furniture;
 
 public final class CenterPlacementStrategy implements PlacementStrategy {
     private final double xOffset;
@@ -20,10 +19,9 @@ public final class CenterPlacementStrategy implements PlacementStrategy {
     @Override
     public Point2D calculatePosition(PlacementContext context) {
         Room room = context.getRoom();
-        Furniture furniture = context.getFurniture();
         
-        double x = (room.getWidth() - furniture.getWidth()) / 2.0 + xOffset;
-        double y = (room.getLength() - furniture.getLength()) / 2.0 + yOffset;
+        double x = (room.getWidth() - context.getBoundsWidth()) / 2.0 + xOffset;
+        double y = (room.getLength() - context.getBoundsLength()) / 2.0 + yOffset;
         
         return new Point2D(x, y);
     }
@@ -2,7 +2,6 @@ package com.roomlayout.placement;
 
 import com.roomlayout.model.Point2D;
 import com.roomlayout.model.Room;
-import com.roomlayout.model.Furniture;
 
 public final class CornerPlacementStrategy implements PlacementStrategy {
     private final Corner corner;
@@ -28,7 +27,6 @@ public final class CornerPlacementStrategy implements PlacementStrategy {
     @Override
     public Point2D calculatePosition(PlacementContext context) {
         Room room = context.getRoom();
-        Furniture furniture = context.getFurniture();
         double gapValue = gap.getValue();
         
         double x, y;
@@ -37,14 +35,14 @@ public final class CornerPlacementStrategy implements PlacementStrategy {
             x = gapValue;
             y = gapValue;
         } else if (corner == Corner.NORTH_EAST) {
-            x = room.getWidth() - furniture.getWidth() - gapValue;
+            x = room.getWidth() - context.getBoundsWidth() - gapValue;
             y = gapValue;
         } else if (corner == Corner.SOUTH_WEST) {
             x = gapValue;
-            y = room.getLength() - furniture.getLength() - gapValue;
+            y = room.getLength() - context.getBoundsLength() - gapValue;
         } else if (corner == Corner.SOUTH_EAST) {
-            x = room.getWidth() - furniture.getWidth() - gapValue;
-            y = room.getLength() - furniture.getLength() - gapValue;
+            x = room.getWidth() - context.getBoundsWidth() - gapValue;
+            y = room.getLength() - context.getBoundsLength() - gapValue;
         } else {
             throw new IllegalArgumentException("Unknown corner: " + corner);
         }
@@ -47,6 +47,7 @@ public final class FurniturePlacementBuilder {
     private final double length;
     private final double height;
     private final Room room;
+    private double rotation;
     
     /**
      * Creates a new furniture placement builder.
@@ -65,6 +66,22 @@ public final class FurniturePlacementBuilder {
         this.room = room;
     }
     
+    /**
+     * Rotates the furniture clockwise about its center before it is placed.
+     * 
+     * <p>The placement that follows positions the bounds of the rotated footprint, so a
+     * bed rotated by 90 degrees and placed in a corner fills the corner with its long side
+     * along the east-west wall.
+     * 
+     * @param degrees the clockwise rotation in degrees
+     * @return this builder for method chaining
+     * @since 1.1.0
+     */
+    public FurniturePlacementBuilder rotated(double degrees) {
+        this.rotation = degrees;
+        return this;
+    }
+    
     /**
      * Places furniture in a room corner.
      * 
@@ -203,6 +220,15 @@ public final class FurniturePlacementBuilder {
             return this;
         }
         
+        /**
+         * Creates a placement request for batch placement instead of placing the furniture now.
+         * 
+         * @return a request that can be passed to {@link Room#placeAll(java.util.List)}
+         */
+        public PlacementRequest toRequest() {
+            return new PlacementRequest(name, width, length, height, rotation, new CornerPlacementStrategy(corner, gap, shiftX, shiftY));
+        }
+        
         /**
          * Builds and places the furniture in the room.
          * 
@@ -211,7 +237,7 @@ public final class FurniturePlacementBuilder {
          */
         public Furniture build() {
             PlacementStrategy strategy = new CornerPlacementStrategy(corner, gap, shiftX, shiftY);
-            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, strategy, room);
+            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, rotation, strategy, room);
             room.addFurniture(furniture);
             return furniture;
         }
@@ -281,9 +307,13 @@ public final class FurniturePlacementBuilder {
             return this;
         }
         
+        public PlacementRequest toRequest() {
+            return new PlacementRequest(name, width, length, height, rotation, new WallPlacementStrategy(wall, position, gap, offset));
+        }
+        
         public Furniture build() {
             PlacementStrategy strategy = new WallPlacementStrategy(wall, position, gap, offset);
-            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, strategy, room);
+            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, rotation, strategy, room);
             room.addFurniture(furniture);
             return furniture;
         }
@@ -308,12 +338,19 @@ public final class FurniturePlacementBuilder {
             return this;
         }
         
+        public PlacementRequest toRequest() {
+            if (side == null) {
+                throw new IllegalStateException("Side must be specified for relative placement");
+            }
+            return new PlacementRequest(name, width, length, height, rotation, new RelativePlacementStrategy(referenceFurniture, side, gap));
+        }
+        
         public Furniture build() {
             if (side == null) {
                 throw new IllegalStateException("Side must be specified for relative placement");
             }
             PlacementStrategy strategy = new RelativePlacementStrategy(referenceFurniture, side, gap);
-            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, strategy, room);
+            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, rotation, strategy, room);
             room.addFurniture(furniture);
             return furniture;
         }
@@ -343,9 +380,13 @@ public final class FurniturePlacementBuilder {
             return this;
         }
         
+        public PlacementRequest toRequest() {
+            return new PlacementRequest(name, width, length, height, rotation, new CenterPlacementStrategy(xOffset, yOffset));
+        }
+        
         public Furniture build() {
             PlacementStrategy strategy = new CenterPlacementStrategy(xOffset, yOffset);
-            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, strategy, room);
+            Furniture furniture = PositionResolver.createFurnitureAt(name, width, length, height, rotation, strategy, room);
             room.addFurniture(furniture);
             return furniture;
         }
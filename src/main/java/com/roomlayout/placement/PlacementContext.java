@@ -1,22 +1,97 @@
 package com.roomlayout.placement;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.Furniture;
 import com.roomlayout.model.Room;
 
+import java.util.List;
+
 public final class PlacementContext {
     private final Room room;
-    private final Furniture furniture;
-    
+    private final String name;
+    private final double width;
+    private final double length;
+    private final double height;
+    private final double rotation;
+    private final double boundsWidth;
+    private final double boundsLength;
+    private final List<Furniture> placedInBatch;
+    private Furniture furniture;
+
     public PlacementContext(Room room, Furniture furniture) {
         this.room = room;
         this.furniture = furniture;
+        this.name = furniture.getName();
+        this.width = furniture.getWidth();
+        this.length = furniture.getLength();
+        this.height = furniture.getHeight();
+        this.rotation = furniture.getRotation();
+        this.boundsWidth = furniture.getFootprint().getBoundsWidth();
+        this.boundsLength = furniture.getFootprint().getBoundsLength();
+        this.placedInBatch = List.of();
     }
-    
+
+    /**
+     * Creates a context for a piece that exists only as dimensions, with the bounds of its
+     * footprint already known.
+     */
+    PlacementContext(Room room, String name, double width, double length, double height, double rotation,
+                     double boundsWidth, double boundsLength, List<Furniture> placedInBatch) {
+        this.room = room;
+        this.name = name;
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        this.rotation = rotation;
+        this.boundsWidth = boundsWidth;
+        this.boundsLength = boundsLength;
+        this.placedInBatch = placedInBatch;
+    }
+
     public Room getRoom() {
         return room;
     }
-    
+
+    /**
+     * Returns the piece being placed, at the origin. When a piece is placed from its
+     * dimensions, it is created on the first call; strategies that only need its size
+     * should use {@link #getBoundsWidth()} and {@link #getBoundsLength()} instead.
+     *
+     * @return the piece being placed
+     */
     public Furniture getFurniture() {
+        if (furniture == null) {
+            furniture = new Furniture(name, width, length, height, 0, 0, rotation);
+        }
         return furniture;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the east-west extent of the piece's rotated footprint
+     * @see OrientedBox#getBoundsWidth()
+     * @since 1.1.0
+     */
+    public double getBoundsWidth() {
+        return boundsWidth;
+    }
+
+    /**
+     * @return the north-south extent of the piece's rotated footprint
+     * @see OrientedBox#getBoundsLength()
+     * @since 1.1.0
+     */
+    public double getBoundsLength() {
+        return boundsLength;
+    }
+
+    /**
+     * Returns the pieces resolved earlier in the same batch, which are not in the room yet.
+     *
+     * @return the earlier pieces of the batch in request order; empty outside a batch
+     * @see PositionResolver#resolveAll(List, Room)
+     * @since 1.1.0
+     */
+    public List<Furniture> getPlacedInBatch() {
+        return placedInBatch;
+    }
+}
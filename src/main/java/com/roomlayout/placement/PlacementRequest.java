@@ -0,0 +1,118 @@
+package com.roomlayout.placement;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+
+/**
+ * A furniture piece waiting to be placed by a {@link PlacementStrategy}.
+ *
+ * <p>Requests are the unit of work for batch placement with {@link Room#placeAll(java.util.List)}.
+ * They can be created directly or from the fluent API by ending a placement chain with
+ * {@code toRequest()} instead of {@code build()}:
+ * <pre>{@code
+ * List<PlacementRequest> requests = List.of(
+ *     room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_WEST).withGap(0.2).toRequest(),
+ *     room.place("TV", 1.5, 0.3, 0.6).onWall(Wall.NORTH).centered().toRequest());
+ * List<Furniture> placed = room.placeAll(requests);
+ * }</pre>
+ *
+ * @see Room#placeAll(java.util.List)
+ * @since 1.1.0
+ */
+public final class PlacementRequest {
+    private final String name;
+    private final double width;
+    private final double length;
+    private final double height;
+    private final double rotation;
+    private final PlacementStrategy strategy;
+    /** The piece itself when its position is already known, otherwise {@code null}. */
+    private final Furniture positioned;
+
+    public PlacementRequest(String name, double width, double length, double height, PlacementStrategy strategy) {
+        this(name, width, length, height, 0, strategy);
+    }
+
+    /**
+     * Creates a request for a rotated piece.
+     *
+     * @param rotation the clockwise rotation about the piece's center in degrees; the
+     *        strategy positions the bounds of the rotated footprint
+     */
+    public PlacementRequest(String name, double width, double length, double height, double rotation,
+                            PlacementStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Placement strategy cannot be null");
+        }
+        this.name = name;
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        this.rotation = rotation;
+        this.strategy = strategy;
+        this.positioned = null;
+    }
+
+    private PlacementRequest(Furniture piece) {
+        this.name = piece.getName();
+        this.width = piece.getWidth();
+        this.length = piece.getLength();
+        this.height = piece.getHeight();
+        this.rotation = piece.getRotation();
+        this.strategy = context -> new Point2D(piece.getFootprint().getMinX(), piece.getFootprint().getMinY());
+        this.positioned = piece;
+    }
+
+    /**
+     * Creates a request for a piece whose position is already known.
+     *
+     * <p>The piece is added as it is, and strategies later in the same batch see it through
+     * {@link PlacementContext#getPlacedInBatch()}. This lets positioned pieces and placement
+     * intents share one atomic batch.
+     *
+     * @param piece the positioned piece
+     * @return a request that resolves to {@code piece} itself
+     * @throws IllegalArgumentException if the piece is null
+     * @since 1.1.0
+     */
+    public static PlacementRequest at(Furniture piece) {
+        if (piece == null) {
+            throw new IllegalArgumentException("Furniture cannot be null");
+        }
+        return new PlacementRequest(piece);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getRotation() {
+        return rotation;
+    }
+
+    public PlacementStrategy getStrategy() {
+        return strategy;
+    }
+
+    Furniture getPositioned() {
+        return positioned;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1fx%.1fx%.1fm", name, width, length, height);
+    }
+}
@@ -1,11 +1,25 @@
 package com.roomlayout.placement;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.Point2D;
 import com.roomlayout.model.Furniture;
 import com.roomlayout.model.Room;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public final class PositionResolver {
     
+    /**
+     * Runs a strategy for a piece and checks that the result lies within the room.
+     *
+     * @param strategy the strategy to run
+     * @param room the room the piece will be placed in
+     * @param furniture the piece; only its size and rotation matter
+     * @return the north-west corner of the piece's footprint bounds
+     * @throws IllegalArgumentException if the footprint falls outside the room
+     */
     public static Point2D resolve(PlacementStrategy strategy, Room room, Furniture furniture) {
         PlacementContext context = new PlacementContext(room, furniture);
         Point2D position = strategy.calculatePosition(context);
@@ -15,20 +29,89 @@ public final class PositionResolver {
     }
     
     private static void validatePosition(Point2D position, Furniture furniture, Room room) {
+        OrientedBox footprint = furniture.getFootprint();
+        validatePosition(position, footprint.getBoundsWidth(), footprint.getBoundsLength(), room);
+    }
+    
+    private static void validatePosition(Point2D position, double boundsWidth, double boundsLength, Room room) {
         if (position.getX() < 0 || position.getY() < 0) {
             throw new IllegalArgumentException("Furniture position cannot be negative");
         }
         
-        if (position.getX() + furniture.getWidth() > room.getWidth() ||
-            position.getY() + furniture.getLength() > room.getLength()) {
+        if (position.getX() + boundsWidth > room.getWidth() ||
+            position.getY() + boundsLength > room.getLength()) {
             throw new IllegalArgumentException("Furniture doesn't fit in the room at calculated position");
         }
     }
     
     public static Furniture createFurnitureAt(String name, double width, double length, double height,
                                             PlacementStrategy strategy, Room room) {
-        Furniture tempFurniture = new Furniture(name, width, length, height, 0, 0);
-        Point2D position = resolve(strategy, room, tempFurniture);
-        return new Furniture(name, width, length, height, position.getX(), position.getY());
+        return createFurnitureAt(name, width, length, height, 0, strategy, room);
+    }
+    
+    /**
+     * Creates a rotated piece whose footprint bounds start at the position chosen by a strategy.
+     * 
+     * <p>Strategies work on the axis-aligned bounds of the rotated footprint, so a sofa
+     * turned by 90 degrees and placed against the west wall touches the wall with its
+     * long side.
+     * 
+     * @param rotation the clockwise rotation about the piece's center in degrees
+     * @throws IllegalArgumentException if the footprint falls outside the room
+     * @since 1.1.0
+     */
+    public static Furniture createFurnitureAt(String name, double width, double length, double height,
+                                            double rotation, PlacementStrategy strategy, Room room) {
+        return place(name, width, length, height, rotation, strategy, room, List.of());
+    }
+    
+    /**
+     * Resolves a batch of placement requests without adding anything to the room.
+     * 
+     * <p>Requests are resolved in order. Requests made with {@link PlacementRequest#at(Furniture)}
+     * resolve to their piece unchanged. Each strategy sees the room as it is before the
+     * batch, and the pieces resolved before it through
+     * {@link PlacementContext#getPlacedInBatch()}. Pieces are positioned from the request
+     * dimensions; no probe furniture is created unless a strategy asks for one.
+     * 
+     * @param requests the pieces to position
+     * @param room the room the pieces will be placed in
+     * @return positioned furniture in request order
+     * @throws IllegalArgumentException if any placed piece falls outside the room
+     */
+    public static List<Furniture> resolveAll(List<PlacementRequest> requests, Room room) {
+        List<Furniture> resolved = new ArrayList<>(requests.size());
+        List<Furniture> placedInBatch = Collections.unmodifiableList(resolved);
+        for (PlacementRequest request : requests) {
+            Furniture positioned = request.getPositioned();
+            if (positioned != null) {
+                // Checked against the room when it is added, like any other piece
+                resolved.add(positioned);
+            } else {
+                resolved.add(place(request.getName(), request.getWidth(), request.getLength(), request.getHeight(),
+                    request.getRotation(), request.getStrategy(), room, placedInBatch));
+            }
+        }
+        return resolved;
+    }
+    
+    private static Furniture place(String name, double width, double length, double height, double rotation,
+                                   PlacementStrategy strategy, Room room, List<Furniture> placedInBatch) {
+        if (width <= 0 || length <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Furniture dimensions must be positive");
+        }
+        if (((rotation % 360) + 360) % 360 == 0) {
+            Point2D position = strategy.calculatePosition(
+                new PlacementContext(room, name, width, length, height, 0, width, length, placedInBatch));
+            validatePosition(position, width, length, room);
+            return new Furniture(name, width, length, height, position.getX(), position.getY());
+        }
+        OrientedBox footprint = new OrientedBox(0, 0, width, length, rotation);
+        Point2D position = strategy.calculatePosition(new PlacementContext(room, name, width, length, height,
+            rotation, footprint.getBoundsWidth(), footprint.getBoundsLength(), placedInBatch));
+        validatePosition(position, footprint.getBoundsWidth(), footprint.getBoundsLength(), room);
+        // Move the piece so that its bounds, rather than its unrotated corner, land on the position
+        return new Furniture(name, width, length, height, position.getX() - footprint.getMinX(),
+            position.getY() - footprint.getMinY(), rotation);
     }
-}
\ No newline at end of file
+}
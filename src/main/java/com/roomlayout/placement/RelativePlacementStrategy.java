@@ -1,5 +1,6 @@
 package com.roomlayout.placement;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.Point2D;
 import com.roomlayout.model.Furniture;
 
@@ -20,27 +21,27 @@ public final class RelativePlacementStrategy implements PlacementStrategy {
     
     @Override
     public Point2D calculatePosition(PlacementContext context) {
-        Furniture furniture = context.getFurniture();
+        OrientedBox reference = referenceFurniture.getFootprint();
         double gapValue = gap.getValue();
         
         double x, y;
         
         switch (side) {
             case NORTH:
-                x = referenceFurniture.getX();
-                y = referenceFurniture.getY() - furniture.getLength() - gapValue;
+                x = reference.getMinX();
+                y = reference.getMinY() - context.getBoundsLength() - gapValue;
                 break;
             case SOUTH:
-                x = referenceFurniture.getX();
-                y = referenceFurniture.getY() + referenceFurniture.getLength() + gapValue;
+                x = reference.getMinX();
+                y = reference.getMaxY() + gapValue;
                 break;
             case EAST:
-                x = referenceFurniture.getX() + referenceFurniture.getWidth() + gapValue;
-                y = referenceFurniture.getY();
+                x = reference.getMaxX() + gapValue;
+                y = reference.getMinY();
                 break;
             case WEST:
-                x = referenceFurniture.getX() - furniture.getWidth() - gapValue;
-                y = referenceFurniture.getY();
+                x = reference.getMinX() - context.getBoundsWidth() - gapValue;
+                y = reference.getMinY();
                 break;
             default:
                 throw new IllegalArgumentException("Unknown side: " + side);
@@ -32,6 +32,8 @@ public final class WallItemPlacementBuilder {
         private final Wall wall;
         private WallPlacementStrategy.WallPosition position = WallPlacementStrategy.WallPosition.CENTERED;
         private double offset = 0.0;
+        private Door.Swing swing = Door.Swing.NONE;
+        private boolean keepSillClear;
         
         private WallItemWallPlacementBuilder(Wall wall) {
             this.wall = wall;
@@ -86,6 +88,39 @@ public final class WallItemPlacementBuilder {
             return this;
         }
         
+        /**
+         * Sets how a door opens. Doors that swing into the room keep furniture out of
+         * the quarter circle their leaf sweeps.
+         * 
+         * @param swing how the door opens
+         * @return this builder
+         * @throws IllegalArgumentException if the item is a window
+         * @since 1.1.0
+         */
+        public WallItemWallPlacementBuilder swinging(Door.Swing swing) {
+            if (itemType != WallItemType.DOOR) {
+                throw new IllegalArgumentException("Only doors swing");
+            }
+            this.swing = swing;
+            return this;
+        }
+        
+        /**
+         * Keeps furniture taller than the sill out of the strip of
+         * {@link Window#SILL_CLEARANCE_DEPTH} in front of a window.
+         * 
+         * @return this builder
+         * @throws IllegalArgumentException if the item is a door
+         * @since 1.1.0
+         */
+        public WallItemWallPlacementBuilder keepingSillClear() {
+            if (itemType != WallItemType.WINDOW) {
+                throw new IllegalArgumentException("Only windows have a sill");
+            }
+            this.keepSillClear = true;
+            return this;
+        }
+        
         public WallItem build() {
             double wallLength = (wall == Wall.NORTH || wall == Wall.SOUTH) ? room.getWidth() : room.getLength();
             double calculatedPosition = calculateWallPosition(wallLength);
@@ -101,9 +136,9 @@ public final class WallItemPlacementBuilder {
             
             WallItem item;
             if (itemType == WallItemType.DOOR) {
-                item = new Door(wall, calculatedPosition, width, height, name);
+                item = new Door(wall, calculatedPosition, width, height, name, swing);
             } else {
-                item = new Window(wall, calculatedPosition, width, height, bottomHeight);
+                item = new Window(wall, calculatedPosition, width, height, bottomHeight, "Standard", keepSillClear);
             }
             
             // Add to room
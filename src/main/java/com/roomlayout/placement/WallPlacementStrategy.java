@@ -2,7 +2,6 @@ package com.roomlayout.placement;
 
 import com.roomlayout.model.Point2D;
 import com.roomlayout.model.Room;
-import com.roomlayout.model.Furniture;
 import com.roomlayout.model.Wall;
 
 public final class WallPlacementStrategy implements PlacementStrategy {
@@ -25,7 +24,6 @@ public final class WallPlacementStrategy implements PlacementStrategy {
     @Override
     public Point2D calculatePosition(PlacementContext context) {
         Room room = context.getRoom();
-        Furniture furniture = context.getFurniture();
         double gapValue = gap.getValue();
         
         double x, y;
@@ -33,19 +31,19 @@ public final class WallPlacementStrategy implements PlacementStrategy {
         switch (wall) {
             case NORTH:
                 y = gapValue;
-                x = calculateWallPosition(room.getWidth(), furniture.getWidth());
+                x = calculateWallPosition(room.getWidth(), context.getBoundsWidth());
                 break;
             case SOUTH:
-                y = room.getLength() - furniture.getLength() - gapValue;
-                x = calculateWallPosition(room.getWidth(), furniture.getWidth());
+                y = room.getLength() - context.getBoundsLength() - gapValue;
+                x = calculateWallPosition(room.getWidth(), context.getBoundsWidth());
                 break;
             case EAST:
-                x = room.getWidth() - furniture.getWidth() - gapValue;
-                y = calculateWallPosition(room.getLength(), furniture.getLength());
+                x = room.getWidth() - context.getBoundsWidth() - gapValue;
+                y = calculateWallPosition(room.getLength(), context.getBoundsLength());
                 break;
             case WEST:
                 x = gapValue;
-                y = calculateWallPosition(room.getLength(), furniture.getLength());
+                y = calculateWallPosition(room.getLength(), context.getBoundsLength());
                 break;
             default:
                 throw new IllegalArgumentException("Invalid wall: " + wall);
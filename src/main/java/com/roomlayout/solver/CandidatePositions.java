@@ -0,0 +1,107 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Wall;
+import com.roomlayout.placement.CenterPlacementStrategy;
+import com.roomlayout.placement.Corner;
+import com.roomlayout.placement.CornerPlacementStrategy;
+import com.roomlayout.placement.Gap;
+import com.roomlayout.placement.PlacementContext;
+import com.roomlayout.placement.RelativePlacementStrategy;
+import com.roomlayout.placement.Side;
+import com.roomlayout.placement.WallPlacementStrategy;
+
+import java.util.List;
+
+/**
+ * Turns an item's preferences into concrete positions using the placement strategies.
+ *
+ * <p>Positions are suggestions only; callers check bounds and collisions themselves.
+ */
+final class CandidatePositions {
+    private static final Wall[] WALLS = {Wall.NORTH, Wall.SOUTH, Wall.EAST, Wall.WEST};
+    private static final Corner[] CORNERS = {Corner.NORTH_WEST, Corner.NORTH_EAST, Corner.SOUTH_WEST, Corner.SOUTH_EAST};
+
+    private final LayoutProblem problem;
+    private final double step;
+
+    CandidatePositions(LayoutProblem problem, double step) {
+        this.problem = problem;
+        this.step = step;
+    }
+
+    /**
+     * Adds the positions suggested by one preference of an item.
+     */
+    void suggest(int item, int preference, Furniture[] placements, List<Point2D> out) {
+        LayoutItem layoutItem = problem.item(item);
+        Preference p = layoutItem.getPreferences().get(preference);
+        PlacementContext context = new PlacementContext(problem.getRoom(), probe(layoutItem));
+        switch (p.getKind()) {
+            case AGAINST_WALL:
+                if (p.getWall() != null) {
+                    alongWall(p.getWall(), context, out);
+                } else {
+                    for (Wall wall : WALLS) {
+                        alongWall(wall, context, out);
+                    }
+                }
+                break;
+            case IN_CORNER:
+                for (Corner corner : CORNERS) {
+                    out.add(new CornerPlacementStrategy(corner).calculatePosition(context));
+                }
+                break;
+            case NEXT_TO:
+                Furniture reference = problem.reference(item, preference, placements);
+                if (reference != null) {
+                    around(reference, context, out);
+                }
+                break;
+            case CENTERED:
+                out.add(new CenterPlacementStrategy().calculatePosition(context));
+                break;
+        }
+    }
+
+    /**
+     * Adds the positions flush against each side of a reference piece: aligned with its
+     * start, centered on it and aligned with its end.
+     */
+    private void around(Furniture reference, PlacementContext context, List<Point2D> out) {
+        Furniture f = context.getFurniture();
+        for (Side side : Side.values()) {
+            Point2D base = new RelativePlacementStrategy(reference, side, Gap.NO_GAP).calculatePosition(context);
+            out.add(base);
+            if (side == Side.NORTH || side == Side.SOUTH) {
+                out.add(new Point2D(reference.getX() + (reference.getWidth() - f.getWidth()) / 2, base.getY()));
+                out.add(new Point2D(reference.getX() + reference.getWidth() - f.getWidth(), base.getY()));
+            } else {
+                out.add(new Point2D(base.getX(), reference.getY() + (reference.getLength() - f.getLength()) / 2));
+                out.add(new Point2D(base.getX(), reference.getY() + reference.getLength() - f.getLength()));
+            }
+        }
+    }
+
+    private void alongWall(Wall wall, PlacementContext context, List<Point2D> out) {
+        Furniture f = context.getFurniture();
+        double span = (wall == Wall.NORTH || wall == Wall.SOUTH)
+            ? problem.getRoom().getWidth() - f.getWidth()
+            : problem.getRoom().getLength() - f.getLength();
+        if (span < 0) {
+            return;
+        }
+        int steps = (int) Math.floor(span / step);
+        for (int k = 0; k <= steps; k++) {
+            out.add(new WallPlacementStrategy(wall, WallPlacementStrategy.WallPosition.FROM_START, Gap.NO_GAP, k * step)
+                .calculatePosition(context));
+        }
+        out.add(new WallPlacementStrategy(wall, WallPlacementStrategy.WallPosition.FROM_END, Gap.NO_GAP, 0.0)
+            .calculatePosition(context));
+    }
+
+    static Furniture probe(LayoutItem item) {
+        return new Furniture(item.getName(), item.getWidth(), item.getLength(), item.getHeight(), 0, 0);
+    }
+}
@@ -0,0 +1,86 @@
+package com.roomlayout.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A furniture piece for the {@link LayoutSolver} to place, with its soft preferences.
+ *
+ * <p>Items are immutable; {@link #prefer(Preference)} returns a new item.
+ *
+ * @since 1.1.0
+ */
+public final class LayoutItem {
+    private final String name;
+    private final double width;
+    private final double length;
+    private final double height;
+    private final List<Preference> preferences;
+
+    public LayoutItem(String name, double width, double length, double height) {
+        this(name, width, length, height, Collections.emptyList());
+    }
+
+    private LayoutItem(String name, double width, double length, double height, List<Preference> preferences) {
+        if (width <= 0 || length <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Furniture dimensions must be positive");
+        }
+        this.name = name;
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        this.preferences = preferences;
+    }
+
+    /**
+     * Returns a copy of this item with one more preference.
+     *
+     * @param preference the preference to add
+     * @return the new item
+     */
+    public LayoutItem prefer(Preference preference) {
+        if (preference == null) {
+            throw new IllegalArgumentException("Preference cannot be null");
+        }
+        List<Preference> combined = new ArrayList<>(preferences);
+        combined.add(preference);
+        return new LayoutItem(name, width, length, height, Collections.unmodifiableList(combined));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public List<Preference> getPreferences() {
+        return preferences;
+    }
+
+    /**
+     * @return the score this item adds when all its preferences are fully met
+     */
+    public double getMaxScore() {
+        double total = 0;
+        for (Preference preference : preferences) {
+            total += preference.getWeight();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1fx%.1fx%.1fm %s", name, width, length, height, preferences);
+    }
+}
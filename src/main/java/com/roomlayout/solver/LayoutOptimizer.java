@@ -0,0 +1,559 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Optimizes a furniture layout with many independent simulated-annealing chains running
+ * in parallel, keeping the best layout any chain finds.
+ *
+ * <p>Where {@link LayoutSolver} searches systematically for the best preference score,
+ * the optimizer samples the whole floor and also weighs the layout as a whole:
+ * <ul>
+ * <li><b>Preferences</b> of each {@link LayoutItem}, as in {@link LayoutSolver}.</li>
+ * <li><b>Clearance</b>: pieces closer to each other than {@link #clearance(double, double)
+ * the clearance distance} are penalized, unless one wants to be next to the other.</li>
+ * <li><b>Wall adjacency</b>: pieces near a wall score higher.</li>
+ * <li><b>Door access</b>: pieces standing in the square in front of a door are penalized
+ * by how much of it they cover.</li>
+ * </ul>
+ * Positions the room would refuse, in the swing of a door or in front of a window that
+ * keeps its sill clear, are never proposed.
+ *
+ * <p>Each chain starts from its own greedy layout and repeatedly moves one item to a
+ * position suggested by the placement strategies, a nearby position or a random one.
+ * Chains share only the read-only problem; each owns its occupancy grid, placements and
+ * random generator, so they run without locks and scale with the number of cores.
+ * Chains are seeded from {@link #seed(long)}, so a run limited by iterations rather than
+ * time is reproducible.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * LayoutSolution solution = new LayoutOptimizer(room)
+ *     .timeBudget(300)
+ *     .doorAccess(3.0)
+ *     .optimize(items);
+ * solution.applyTo(room);
+ * }</pre>
+ *
+ * <p>The returned solution reports the preference score only; clearance, wall and door
+ * terms guide the search but are not part of {@link LayoutSolution#getScore()}. The room
+ * is read but never modified, and must not be modified while an optimization runs.
+ *
+ * @see LayoutSolver
+ * @since 1.1.0
+ */
+public final class LayoutOptimizer {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+    public static final long DEFAULT_ITERATIONS = 200_000;
+    public static final double DEFAULT_CLEARANCE = 0.6;
+    public static final double DEFAULT_GRID_STEP = 0.25;
+
+    private static final Preference ANY_WALL = Preference.againstAnyWall();
+    private static final double START_TEMPERATURE = 1.0;
+    private static final double END_TEMPERATURE = 0.001;
+    private static final int RANDOM_TRIES = 20;
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    private final Room room;
+    private int chains = Runtime.getRuntime().availableProcessors();
+    private long iterations = DEFAULT_ITERATIONS;
+    private long timeBudgetMillis = DEFAULT_TIME_BUDGET_MILLIS;
+    private long seed;
+    private double gridStep = DEFAULT_GRID_STEP;
+    private double clearance = DEFAULT_CLEARANCE;
+    private double clearanceWeight = 1.0;
+    private double wallWeight = 0.5;
+    private double doorWeight = 2.0;
+
+    public LayoutOptimizer(Room room) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        this.room = room;
+    }
+
+    /**
+     * Sets how many chains run; defaults to the number of available processors.
+     *
+     * @param count the number of chains
+     * @return this optimizer
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public LayoutOptimizer chains(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Chain count must be positive");
+        }
+        this.chains = count;
+        return this;
+    }
+
+    /**
+     * Sets how many moves each chain tries at most.
+     *
+     * @param count the number of moves per chain
+     * @return this optimizer
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public LayoutOptimizer iterations(long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Iteration count must be positive");
+        }
+        this.iterations = count;
+        return this;
+    }
+
+    /**
+     * Sets how long each chain may run. The chains cool down over the budget or the
+     * iterations, whichever runs out first.
+     *
+     * @param millis the time budget in milliseconds
+     * @return this optimizer
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public LayoutOptimizer timeBudget(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        this.timeBudgetMillis = millis;
+        return this;
+    }
+
+    public LayoutOptimizer seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the spacing of wall positions suggested to the chains and the size of local moves.
+     *
+     * @param step the spacing in meters
+     * @return this optimizer
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public LayoutOptimizer gridStep(double step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Grid step must be positive");
+        }
+        this.gridStep = step;
+        return this;
+    }
+
+    /**
+     * Sets the free distance wanted between pieces and how much it counts.
+     *
+     * @param distance the wanted distance in meters
+     * @param weight how much a pair of touching pieces costs
+     * @return this optimizer
+     * @throws IllegalArgumentException if the distance is not positive or the weight is negative
+     */
+    public LayoutOptimizer clearance(double distance, double weight) {
+        if (distance <= 0) {
+            throw new IllegalArgumentException("Clearance must be positive");
+        }
+        this.clearance = distance;
+        this.clearanceWeight = checkWeight(weight);
+        return this;
+    }
+
+    /**
+     * Sets how much a piece standing against a wall counts.
+     *
+     * @param weight the weight, 0 to ignore walls
+     * @return this optimizer
+     */
+    public LayoutOptimizer wallAdjacency(double weight) {
+        this.wallWeight = checkWeight(weight);
+        return this;
+    }
+
+    /**
+     * Sets how much covering the area in front of a door costs.
+     *
+     * @param weight the cost of fully covering one door's area, 0 to ignore doors
+     * @return this optimizer
+     */
+    public LayoutOptimizer doorAccess(double weight) {
+        this.doorWeight = checkWeight(weight);
+        return this;
+    }
+
+    private static double checkWeight(double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative");
+        }
+        return weight;
+    }
+
+    /**
+     * Optimizes the layout on the common fork-join pool.
+     *
+     * @param items the items to place; names are used to resolve next-to preferences
+     * @return the best layout any chain found
+     */
+    public LayoutSolution optimize(List<LayoutItem> items) {
+        return optimize(items, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Optimizes the layout, running one task per chain on the given executor.
+     *
+     * @param items the items to place; names are used to resolve next-to preferences
+     * @param executor the executor that runs the chains
+     * @return the best layout any chain found
+     */
+    public LayoutSolution optimize(List<LayoutItem> items, Executor executor) {
+        long start = System.nanoTime();
+        Objective objective = new Objective(new LayoutProblem(room, items));
+        OccupancyGrid grid = objective.problem.newGrid(Math.max(1.0, gridStep));
+        long deadline = start + timeBudgetMillis * 1_000_000L;
+
+        List<CompletableFuture<Chain>> running = new ArrayList<>(chains);
+        for (int c = 0; c < chains; c++) {
+            long chainSeed = seed + c;
+            running.add(CompletableFuture.supplyAsync(
+                () -> new Chain(objective, new OccupancyGrid(grid), chainSeed).run(start, deadline), executor));
+        }
+
+        Chain best = null;
+        long moves = 0;
+        for (CompletableFuture<Chain> future : running) {
+            Chain chain = future.join();
+            moves += chain.moves;
+            if (best == null || chain.isBetterThan(best)) {
+                best = chain;
+            }
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000L;
+        return objective.problem.toSolution(best.best, false, moves, elapsed);
+    }
+
+    /**
+     * The layout energy, split into terms that change when one item moves. Read-only, so
+     * all chains share one instance.
+     */
+    private final class Objective {
+        private final LayoutProblem problem;
+        private final CandidatePositions positions;
+        private final Furniture[] fixed;
+        private final boolean[][] nextToFixed;
+        private final double[][] doorAreas;
+        private final int[][] dependents;
+        private final boolean[][] linked;
+        private final double unplacedPenalty;
+
+        Objective(LayoutProblem problem) {
+            this.problem = problem;
+            this.positions = new CandidatePositions(problem, gridStep);
+            this.fixed = problem.getRoom().getFurnitureView().toArray(new Furniture[0]);
+            List<Door> doors = problem.getRoom().getDoorView();
+            this.doorAreas = new double[doors.size()][];
+            for (int d = 0; d < doors.size(); d++) {
+                doorAreas[d] = doorArea(doors.get(d));
+            }
+
+            int n = problem.size();
+            this.nextToFixed = new boolean[n][fixed.length];
+            Furniture[] unplaced = new Furniture[n];
+            for (int i = 0; i < n; i++) {
+                for (int p = 0; p < problem.item(i).getPreferences().size(); p++) {
+                    Furniture reference = problem.reference(i, p, unplaced);
+                    for (int f = 0; f < fixed.length; f++) {
+                        nextToFixed[i][f] |= fixed[f] == reference;
+                    }
+                }
+            }
+            this.linked = new boolean[n][n];
+            List<List<Integer>> referencing = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                referencing.add(new ArrayList<>());
+            }
+            for (int i = 0; i < n; i++) {
+                for (int p = 0; p < problem.item(i).getPreferences().size(); p++) {
+                    int target = problem.referencedItem(i, p);
+                    if (target >= 0 && !linked[i][target]) {
+                        linked[i][target] = true;
+                        linked[target][i] = true;
+                        referencing.get(target).add(i);
+                    }
+                }
+            }
+            this.dependents = new int[n][];
+            for (int i = 0; i < n; i++) {
+                dependents[i] = referencing.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            // Any single placement must outweigh what it can cost in clearance and doors
+            this.unplacedPenalty = 1 + wallWeight + problem.getMaxScore()
+                + clearanceWeight * (n + fixed.length) + doorWeight * doorAreas.length;
+        }
+
+        /**
+         * Returns the part of the energy that depends on where one item is: its own terms,
+         * the preferences of items referring to it and its clearance to the other items.
+         */
+        double local(int item, Furniture[] placements) {
+            Furniture placed = placements[item];
+            double energy = placed == null ? -unplacedPenalty : own(item, placed, placements);
+            for (int dependent : dependents[item]) {
+                if (placements[dependent] != null) {
+                    energy += problem.itemScore(dependent, placements[dependent], placements);
+                }
+            }
+            if (placed != null) {
+                for (int other = 0; other < placements.length; other++) {
+                    if (other != item && placements[other] != null && !linked[item][other]) {
+                        energy -= clearanceWeight * crowding(placed, placements[other]);
+                    }
+                }
+            }
+            return energy;
+        }
+
+        double total(Furniture[] placements) {
+            double energy = 0;
+            for (int i = 0; i < placements.length; i++) {
+                if (placements[i] == null) {
+                    energy -= unplacedPenalty;
+                    continue;
+                }
+                energy += own(i, placements[i], placements);
+                for (int other = i + 1; other < placements.length; other++) {
+                    if (placements[other] != null && !linked[i][other]) {
+                        energy -= clearanceWeight * crowding(placements[i], placements[other]);
+                    }
+                }
+            }
+            return energy;
+        }
+
+        private double own(int item, Furniture placed, Furniture[] placements) {
+            double energy = problem.itemScore(item, placed, placements);
+            energy += wallWeight * ANY_WALL.satisfaction(placed, problem.getRoom(), null);
+            for (int f = 0; f < fixed.length; f++) {
+                if (!nextToFixed[item][f]) {
+                    energy -= clearanceWeight * crowding(placed, fixed[f]);
+                }
+            }
+            for (double[] area : doorAreas) {
+                energy -= doorWeight * coverage(placed, area);
+            }
+            return energy;
+        }
+
+        private double crowding(Furniture a, Furniture b) {
+            return Math.max(0, 1 - Preference.distanceBetween(a, b) / clearance);
+        }
+
+        /**
+         * Returns the square in front of a door, as deep as the door is wide, as
+         * {x, y, width, length}.
+         */
+        private double[] doorArea(Door door) {
+            Room r = problem.getRoom();
+            double size = door.getWidth();
+            switch (door.getWall()) {
+                case NORTH:
+                    return new double[] {door.getPosition(), 0, size, size};
+                case SOUTH:
+                    return new double[] {door.getPosition(), r.getLength() - size, size, size};
+                case EAST:
+                    return new double[] {r.getWidth() - size, door.getPosition(), size, size};
+                case WEST:
+                    return new double[] {0, door.getPosition(), size, size};
+                default:
+                    throw new IllegalArgumentException("Invalid wall: " + door.getWall());
+            }
+        }
+
+        /**
+         * Returns the share of an area covered by a piece, from 0 to 1.
+         */
+        private double coverage(Furniture f, double[] area) {
+            double dx = Math.min(f.getX() + f.getWidth(), area[0] + area[2]) - Math.max(f.getX(), area[0]);
+            double dy = Math.min(f.getY() + f.getLength(), area[1] + area[3]) - Math.max(f.getY(), area[1]);
+            return dx <= 0 || dy <= 0 ? 0 : dx * dy / (area[2] * area[3]);
+        }
+    }
+
+    /**
+     * One annealing chain with its own scratch state.
+     */
+    private final class Chain {
+        private final Objective objective;
+        private final LayoutProblem problem;
+        private final OccupancyGrid grid;
+        private final SplittableRandom random;
+        private final Furniture[] current;
+        private final List<Point2D> suggested = new ArrayList<>();
+        private Furniture[] best;
+        private int placedCount;
+        private double energy;
+        private int bestPlaced;
+        private double bestEnergy;
+        private long moves;
+
+        Chain(Objective objective, OccupancyGrid grid, long seed) {
+            this.objective = objective;
+            this.problem = objective.problem;
+            this.grid = grid;
+            this.random = new SplittableRandom(seed);
+            this.current = new Furniture[problem.size()];
+        }
+
+        Chain run(long start, long deadline) {
+            for (int item : problem.placementOrder()) {
+                Furniture placed = initialPosition(item);
+                if (placed != null) {
+                    place(item, placed);
+                    placedCount++;
+                }
+            }
+            energy = objective.total(current);
+            keepBest();
+            if (current.length == 0) {
+                return this;
+            }
+
+            double budget = deadline - start;
+            double progress = 0;
+            while (moves < iterations) {
+                if (moves % DEADLINE_CHECK_INTERVAL == 0) {
+                    long now = System.nanoTime();
+                    if (now > deadline) {
+                        break;
+                    }
+                    progress = Math.max((double) moves / iterations, (now - start) / budget);
+                } else {
+                    progress = Math.max(progress, (double) moves / iterations);
+                }
+                double temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                move(random.nextInt(current.length), temperature);
+                moves++;
+            }
+            return this;
+        }
+
+        private Furniture initialPosition(int item) {
+            suggest(item);
+            for (int tries = suggested.size(); tries > 0; tries--) {
+                Point2D position = suggested.get(random.nextInt(suggested.size()));
+                Furniture placed = freePlacement(item, position.getX(), position.getY());
+                if (placed != null) {
+                    return placed;
+                }
+            }
+            for (int tries = 0; tries < RANDOM_TRIES; tries++) {
+                Furniture placed = randomPlacement(item);
+                if (placed != null) {
+                    return placed;
+                }
+            }
+            return null;
+        }
+
+        private void move(int item, double temperature) {
+            Furniture old = current[item];
+            if (old != null) {
+                grid.remove(item);
+            }
+            Furniture proposed = propose(item, old);
+            if (proposed == null) {
+                if (old != null) {
+                    place(item, old);
+                }
+                return;
+            }
+
+            double before = objective.local(item, current);
+            current[item] = proposed;
+            double delta = objective.local(item, current) - before;
+            boolean improvesCount = old == null;
+            if (improvesCount || delta >= 0 || random.nextDouble() < Math.exp(delta / temperature)) {
+                place(item, proposed);
+                energy += delta;
+                if (improvesCount) {
+                    placedCount++;
+                }
+                keepBest();
+            } else {
+                current[item] = old;
+                place(item, old);
+            }
+        }
+
+        /**
+         * Returns a free placement: one suggested by the item's preferences, a nearby one or
+         * a random one. The item must not be in the grid.
+         */
+        private Furniture propose(int item, Furniture old) {
+            double choice = random.nextDouble();
+            if (choice < 0.4 && !problem.item(item).getPreferences().isEmpty()) {
+                suggest(item);
+                if (!suggested.isEmpty()) {
+                    Point2D position = suggested.get(random.nextInt(suggested.size()));
+                    return freePlacement(item, position.getX(), position.getY());
+                }
+            }
+            if (choice < 0.8 && old != null) {
+                double x = old.getX() + (random.nextDouble() * 2 - 1) * gridStep;
+                double y = old.getY() + (random.nextDouble() * 2 - 1) * gridStep;
+                return freePlacement(item, x, y);
+            }
+            return randomPlacement(item);
+        }
+
+        private void suggest(int item) {
+            suggested.clear();
+            for (int p = 0; p < problem.item(item).getPreferences().size(); p++) {
+                objective.positions.suggest(item, p, current, suggested);
+            }
+        }
+
+        private Furniture randomPlacement(int item) {
+            LayoutItem layoutItem = problem.item(item);
+            double xRange = problem.getRoom().getWidth() - layoutItem.getWidth();
+            double yRange = problem.getRoom().getLength() - layoutItem.getLength();
+            if (xRange < 0 || yRange < 0) {
+                return null;
+            }
+            return freePlacement(item, random.nextDouble() * xRange, random.nextDouble() * yRange);
+        }
+
+        private Furniture freePlacement(int item, double x, double y) {
+            LayoutItem layoutItem = problem.item(item);
+            if (!problem.fits(x, y, layoutItem)
+                || !grid.isFree(x, y, layoutItem.getWidth(), layoutItem.getLength())) {
+                return null;
+            }
+            Furniture placed = new Furniture(layoutItem.getName(), layoutItem.getWidth(), layoutItem.getLength(),
+                layoutItem.getHeight(), x, y);
+            return problem.isClear(placed) ? placed : null;
+        }
+
+        private void place(int item, Furniture placed) {
+            current[item] = placed;
+            grid.add(item, placed.getX(), placed.getY(), placed.getWidth(), placed.getLength());
+        }
+
+        private void keepBest() {
+            if (best == null || placedCount > bestPlaced || (placedCount == bestPlaced && energy > bestEnergy)) {
+                best = current.clone();
+                bestPlaced = placedCount;
+                bestEnergy = energy;
+            }
+        }
+
+        boolean isBetterThan(Chain other) {
+            return bestPlaced > other.bestPlaced || (bestPlaced == other.bestPlaced && bestEnergy > other.bestEnergy);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.KeepOutZones;
+import com.roomlayout.model.Room;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A room and the items to lay out in it, with next-to references resolved once.
+ *
+ * <p>Placements are passed around as arrays parallel to the item list, with
+ * {@code null} for items that are not placed.
+ */
+final class LayoutProblem {
+    /** Reference points at furniture that was already in the room. */
+    private static final int IN_ROOM = -1;
+    /** Reference names a piece that exists nowhere. */
+    private static final int MISSING = -2;
+
+    private final Room room;
+    private final LayoutItem[] items;
+    private final int[][] referenceItems;
+    private final Furniture[][] referenceFurniture;
+    private final double maxScore;
+    private final KeepOutZones keepOutZones;
+
+    LayoutProblem(Room room, List<LayoutItem> items) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        this.room = room;
+        this.items = items.toArray(new LayoutItem[0]);
+        this.referenceItems = new int[this.items.length][];
+        this.referenceFurniture = new Furniture[this.items.length][];
+        double total = 0;
+        for (int i = 0; i < this.items.length; i++) {
+            if (this.items[i] == null) {
+                throw new IllegalArgumentException("Layout item cannot be null");
+            }
+            List<Preference> preferences = this.items[i].getPreferences();
+            referenceItems[i] = new int[preferences.size()];
+            referenceFurniture[i] = new Furniture[preferences.size()];
+            for (int p = 0; p < preferences.size(); p++) {
+                resolveReference(i, p, preferences.get(p).getReference());
+            }
+            total += this.items[i].getMaxScore();
+        }
+        this.maxScore = total;
+        this.keepOutZones = KeepOutZones.of(room);
+    }
+
+    private void resolveReference(int item, int preference, String name) {
+        referenceItems[item][preference] = MISSING;
+        if (name == null) {
+            return;
+        }
+        for (int other = 0; other < items.length; other++) {
+            if (other != item && name.equals(items[other].getName())) {
+                referenceItems[item][preference] = other;
+                return;
+            }
+        }
+        for (Furniture existing : room.getFurnitureView()) {
+            if (name.equals(existing.getName())) {
+                referenceItems[item][preference] = IN_ROOM;
+                referenceFurniture[item][preference] = existing;
+                return;
+            }
+        }
+    }
+
+    Room getRoom() {
+        return room;
+    }
+
+    int size() {
+        return items.length;
+    }
+
+    LayoutItem item(int index) {
+        return items[index];
+    }
+
+    double getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * Returns the item a next-to preference refers to, or -1 if it refers to room
+     * furniture or to nothing.
+     */
+    int referencedItem(int item, int preference) {
+        return Math.max(-1, referenceItems[item][preference]);
+    }
+
+    /**
+     * Returns the piece a next-to preference refers to under the given placements.
+     */
+    Furniture reference(int item, int preference, Furniture[] placements) {
+        int target = referenceItems[item][preference];
+        if (target == IN_ROOM) {
+            return referenceFurniture[item][preference];
+        }
+        return target >= 0 ? placements[target] : null;
+    }
+
+    /**
+     * Scores one placed item against its preferences.
+     */
+    double itemScore(int item, Furniture placed, Furniture[] placements) {
+        List<Preference> preferences = items[item].getPreferences();
+        double score = 0;
+        for (int p = 0; p < preferences.size(); p++) {
+            Preference preference = preferences.get(p);
+            score += preference.getWeight() * preference.satisfaction(placed, room, reference(item, p, placements));
+        }
+        return score;
+    }
+
+    /**
+     * Scores a full set of placements; unplaced items contribute nothing.
+     */
+    double preferenceScore(Furniture[] placements) {
+        double score = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (placements[i] != null) {
+                score += itemScore(i, placements[i], placements);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Orders items largest first, with every item after the items it wants to be next to.
+     */
+    int[] placementOrder() {
+        int n = items.length;
+        int[] depth = new int[n];
+        // Relax dependency depths; n rounds are enough without cycles and bound them with cycles
+        for (int round = 0; round < n; round++) {
+            boolean changed = false;
+            for (int i = 0; i < n; i++) {
+                for (int p = 0; p < items[i].getPreferences().size(); p++) {
+                    int target = referencedItem(i, p);
+                    if (target >= 0 && depth[i] <= depth[target] && depth[target] < n) {
+                        depth[i] = depth[target] + 1;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> depth[i])
+            .thenComparing(Comparator.<Integer>comparingDouble(
+                i -> items[i].getWidth() * items[i].getLength()).reversed()));
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a seeded occupancy grid with room for the items after the room's furniture.
+     */
+    OccupancyGrid newGrid(double cellSize) {
+        List<Furniture> existing = room.getFurnitureView();
+        OccupancyGrid grid = new OccupancyGrid(room.getWidth(), room.getLength(), cellSize,
+            items.length + existing.size());
+        for (int i = 0; i < existing.size(); i++) {
+            // Rotated pieces block the cells under their bounds
+            OrientedBox footprint = existing.get(i).getFootprint();
+            grid.add(items.length + i, footprint.getMinX(), footprint.getMinY(),
+                footprint.getBoundsWidth(), footprint.getBoundsLength());
+        }
+        return grid;
+    }
+
+    boolean fits(double x, double y, LayoutItem item) {
+        return x >= 0 && y >= 0
+            && x + item.getWidth() <= room.getWidth()
+            && y + item.getLength() <= room.getLength()
+            && item.getHeight() <= room.getHeight();
+    }
+
+    /**
+     * Tells whether a candidate stays out of door swings and from in front of windows that
+     * keep their sill clear, so that the room will accept it.
+     */
+    boolean isClear(Furniture placed) {
+        return keepOutZones.blocking(placed) == null;
+    }
+
+    LayoutSolution toSolution(Furniture[] placements, boolean exhaustive, long nodes, long elapsedMillis) {
+        List<Furniture> placed = new ArrayList<>();
+        List<LayoutItem> unplaced = new ArrayList<>();
+        for (int i = 0; i < items.length; i++) {
+            if (placements[i] != null) {
+                placed.add(placements[i]);
+            } else {
+                unplaced.add(items[i]);
+            }
+        }
+        return new LayoutSolution(placed, unplaced, preferenceScore(placements), maxScore,
+            exhaustive, nodes, elapsedMillis);
+    }
+}
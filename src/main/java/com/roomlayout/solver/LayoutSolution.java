@@ -0,0 +1,105 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Room;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The best layout a {@link LayoutSolver} found.
+ *
+ * <p>A solution is a plan: the room it was computed for is not modified until
+ * {@link #applyTo(Room)} is called.
+ *
+ * @since 1.1.0
+ */
+public final class LayoutSolution {
+    private final List<Furniture> placed;
+    private final List<LayoutItem> unplaced;
+    private final double score;
+    private final double maxScore;
+    private final boolean exhaustive;
+    private final long nodesExplored;
+    private final long elapsedMillis;
+
+    LayoutSolution(List<Furniture> placed, List<LayoutItem> unplaced, double score, double maxScore,
+                   boolean exhaustive, long nodesExplored, long elapsedMillis) {
+        this.placed = Collections.unmodifiableList(placed);
+        this.unplaced = Collections.unmodifiableList(unplaced);
+        this.score = score;
+        this.maxScore = maxScore;
+        this.exhaustive = exhaustive;
+        this.nodesExplored = nodesExplored;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return the positioned furniture, in the order the items were given
+     */
+    public List<Furniture> getPlaced() {
+        return placed;
+    }
+
+    /**
+     * @return the items that did not fit anywhere
+     */
+    public List<LayoutItem> getUnplaced() {
+        return unplaced;
+    }
+
+    /**
+     * @return the weighted sum of preference satisfactions
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return the score if every item were placed with all preferences fully met
+     */
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * @return {@code true} if every item was placed
+     */
+    public boolean isComplete() {
+        return unplaced.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if the search finished within the time budget, so no better
+     *         layout exists among the candidates considered; always {@code false} for
+     *         {@link LayoutOptimizer} results
+     */
+    public boolean isExhaustive() {
+        return exhaustive;
+    }
+
+    public long getNodesExplored() {
+        return nodesExplored;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Adds the placed furniture to a room in one atomic batch.
+     *
+     * @param room the room to furnish, normally the one the solution was computed for
+     * @throws IllegalArgumentException if the room rejects any piece
+     * @see Room#addAllFurniture(List)
+     */
+    public void applyTo(Room room) {
+        room.addAllFurniture(placed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Layout: %d placed, %d unplaced, score %.2f of %.2f%s",
+            placed.size(), unplaced.size(), score, maxScore, exhaustive ? "" : " (not exhaustive)");
+    }
+}
@@ -0,0 +1,275 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fits a list of furniture items into a room, searching for the non-overlapping layout
+ * that best meets their {@link Preference preferences}.
+ *
+ * <p>The solver runs a depth-first branch-and-bound search:
+ * <ul>
+ * <li>Items are placed largest first, except that an item wanting to be next to another
+ * item is placed after it.</li>
+ * <li>Candidate positions come from the placement strategies: wall positions for wall
+ * preferences, corners, the sides of the referenced piece, the center, and a grid scan
+ * when preferences suggest too few free spots. Only the best {@link #maxCandidates(int)}
+ * free candidates are tried, best first, so the first complete layout is already a good
+ * greedy one.</li>
+ * <li>Collisions are checked incrementally against an occupancy grid holding the room's
+ * existing furniture and the items placed so far. Positions in the swing of a door, or in
+ * front of a window that keeps its sill clear, are never tried, since the room would refuse
+ * them.</li>
+ * <li>A branch is cut as soon as it cannot place more items, or reach a higher score,
+ * than the best layout found so far.</li>
+ * </ul>
+ *
+ * <p>The search stops when it is exhausted or its time budget runs out, and returns the best
+ * layout found. Layouts that place more items always win; among those, the higher score
+ * wins. Items that fit nowhere are reported as unplaced rather than failing the solve.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * List<LayoutItem> items = List.of(
+ *     new LayoutItem("Sofa", 2.0, 0.9, 0.8).prefer(Preference.againstWall(Wall.SOUTH)),
+ *     new LayoutItem("Coffee table", 1.0, 0.6, 0.4).prefer(Preference.nextTo("Sofa", 0.4)),
+ *     new LayoutItem("Bookshelf", 1.0, 0.35, 2.0).prefer(Preference.againstAnyWall()));
+ * LayoutSolution solution = new LayoutSolver(room).timeBudget(200).solve(items);
+ * solution.applyTo(room);
+ * }</pre>
+ *
+ * <p>The room is read but never modified by {@link #solve(List)}.
+ *
+ * @see LayoutSolution
+ * @since 1.1.0
+ */
+public final class LayoutSolver {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+    public static final double DEFAULT_GRID_STEP = 0.25;
+    public static final int DEFAULT_MAX_CANDIDATES = 12;
+
+    private static final double EPSILON = 1e-9;
+
+    private final Room room;
+    private long timeBudgetMillis = DEFAULT_TIME_BUDGET_MILLIS;
+    private double gridStep = DEFAULT_GRID_STEP;
+    private int maxCandidates = DEFAULT_MAX_CANDIDATES;
+
+    public LayoutSolver(Room room) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        this.room = room;
+    }
+
+    /**
+     * Sets how long {@link #solve(List)} may search.
+     *
+     * @param millis the time budget in milliseconds
+     * @return this solver
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public LayoutSolver timeBudget(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        this.timeBudgetMillis = millis;
+        return this;
+    }
+
+    /**
+     * Sets the spacing of candidate positions along walls and in the fallback grid scan.
+     *
+     * @param step the spacing in meters
+     * @return this solver
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public LayoutSolver gridStep(double step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Grid step must be positive");
+        }
+        this.gridStep = step;
+        return this;
+    }
+
+    /**
+     * Sets how many positions are tried per item. Lower values search deeper within the
+     * budget; higher values search wider.
+     *
+     * @param count the number of candidates per item
+     * @return this solver
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public LayoutSolver maxCandidates(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Candidate count must be positive");
+        }
+        this.maxCandidates = count;
+        return this;
+    }
+
+    /**
+     * Searches for the best layout of the given items.
+     *
+     * @param items the items to place; names are used to resolve next-to preferences
+     * @return the best layout found within the time budget
+     */
+    public LayoutSolution solve(List<LayoutItem> items) {
+        return new Search(new LayoutProblem(room, items)).run();
+    }
+
+    /**
+     * State of one solve. Items are visited in {@code order}; placements are kept by
+     * original item index so scoring can follow next-to references.
+     */
+    private final class Search {
+        private final LayoutProblem problem;
+        private final CandidatePositions positions;
+        private final OccupancyGrid grid;
+        private final int[] order;
+        private final double[] remainingMaxScore;
+        private final Furniture[] current;
+        private Furniture[] best;
+        private int placedCount;
+        private double score;
+        private int bestPlaced = -1;
+        private double bestScore;
+        private long nodes;
+        private long deadline;
+        private boolean timedOut;
+        private boolean optimal;
+
+        Search(LayoutProblem problem) {
+            this.problem = problem;
+            this.positions = new CandidatePositions(problem, gridStep);
+            this.grid = problem.newGrid(Math.max(1.0, gridStep));
+            this.order = problem.placementOrder();
+            this.remainingMaxScore = new double[order.length + 1];
+            for (int i = order.length - 1; i >= 0; i--) {
+                remainingMaxScore[i] = remainingMaxScore[i + 1] + problem.item(order[i]).getMaxScore();
+            }
+            this.current = new Furniture[order.length];
+            this.best = new Furniture[order.length];
+        }
+
+        LayoutSolution run() {
+            long start = System.nanoTime();
+            deadline = start + timeBudgetMillis * 1_000_000L;
+            search(0);
+            long elapsed = (System.nanoTime() - start) / 1_000_000L;
+            return problem.toSolution(best, !timedOut, nodes, elapsed);
+        }
+
+        private void search(int depth) {
+            nodes++;
+            if (System.nanoTime() > deadline) {
+                timedOut = true;
+            }
+            if (timedOut || optimal) {
+                return;
+            }
+            if (depth == order.length) {
+                record();
+                return;
+            }
+            int reachable = placedCount + order.length - depth;
+            if (reachable < bestPlaced
+                || (reachable == bestPlaced && score + remainingMaxScore[depth] <= bestScore + EPSILON)) {
+                return;
+            }
+
+            int item = order[depth];
+            for (Candidate candidate : candidates(item)) {
+                Furniture placed = candidate.furniture;
+                current[item] = placed;
+                grid.add(item, placed.getX(), placed.getY(), placed.getWidth(), placed.getLength());
+                placedCount++;
+                score += candidate.score;
+
+                search(depth + 1);
+
+                score -= candidate.score;
+                placedCount--;
+                grid.remove(item);
+                current[item] = null;
+                if (timedOut || optimal) {
+                    return;
+                }
+            }
+
+            // Leave the item out so the rest can still be placed
+            search(depth + 1);
+        }
+
+        private void record() {
+            if (placedCount > bestPlaced || (placedCount == bestPlaced && score > bestScore + EPSILON)) {
+                bestPlaced = placedCount;
+                bestScore = score;
+                best = current.clone();
+                optimal = placedCount == order.length && score >= problem.getMaxScore() - EPSILON;
+            }
+        }
+
+        private List<Candidate> candidates(int item) {
+            LayoutItem layoutItem = problem.item(item);
+            List<Point2D> suggested = new ArrayList<>();
+            for (int p = 0; p < layoutItem.getPreferences().size(); p++) {
+                positions.suggest(item, p, current, suggested);
+            }
+
+            List<Candidate> found = new ArrayList<>();
+            Set<Furniture> seen = new HashSet<>();
+            for (Point2D position : suggested) {
+                addIfFree(item, position.getX(), position.getY(), found, seen);
+            }
+            if (found.size() < maxCandidates) {
+                scanGrid(item, found, seen);
+            }
+
+            found.sort(Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+            return found.size() > maxCandidates ? found.subList(0, maxCandidates) : found;
+        }
+
+        private void scanGrid(int item, List<Candidate> found, Set<Furniture> seen) {
+            LayoutItem layoutItem = problem.item(item);
+            int columns = (int) Math.floor((room.getWidth() - layoutItem.getWidth()) / gridStep);
+            int rows = (int) Math.floor((room.getLength() - layoutItem.getLength()) / gridStep);
+            int wanted = found.size() + maxCandidates;
+            for (int row = 0; row <= rows && found.size() < wanted; row++) {
+                for (int column = 0; column <= columns && found.size() < wanted; column++) {
+                    addIfFree(item, column * gridStep, row * gridStep, found, seen);
+                }
+            }
+        }
+
+        private void addIfFree(int item, double x, double y, List<Candidate> found, Set<Furniture> seen) {
+            LayoutItem layoutItem = problem.item(item);
+            if (!problem.fits(x, y, layoutItem)
+                || !grid.isFree(x, y, layoutItem.getWidth(), layoutItem.getLength())) {
+                return;
+            }
+            Furniture placed = new Furniture(layoutItem.getName(), layoutItem.getWidth(), layoutItem.getLength(),
+                layoutItem.getHeight(), x, y);
+            if (problem.isClear(placed) && seen.add(placed)) {
+                found.add(new Candidate(placed, problem.itemScore(item, placed, current)));
+            }
+        }
+    }
+
+    private static final class Candidate {
+        private final Furniture furniture;
+        private final double score;
+
+        Candidate(Furniture furniture, double score) {
+            this.furniture = furniture;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.roomlayout.solver;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over a room's floor for incremental collision checks during search.
+ *
+ * <p>Unlike {@link com.roomlayout.spatial.SpatialIndex}, pieces can be removed again,
+ * which backtracking needs. Overlap uses the same rule as {@code Room}: pieces that only
+ * touch do not collide.
+ */
+final class OccupancyGrid {
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[][] cells;
+    private final int[] cellCounts;
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+
+    OccupancyGrid(double width, double length, double cellSize, int capacity) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(length / cellSize));
+        this.cells = new int[columns * rows][];
+        this.cellCounts = new int[columns * rows];
+        this.minX = new double[capacity];
+        this.minY = new double[capacity];
+        this.maxX = new double[capacity];
+        this.maxY = new double[capacity];
+    }
+
+    /**
+     * Copies another grid, so parallel searches can start from the same occupied floor.
+     */
+    OccupancyGrid(OccupancyGrid other) {
+        this.cellSize = other.cellSize;
+        this.columns = other.columns;
+        this.rows = other.rows;
+        this.cells = new int[other.cells.length][];
+        for (int i = 0; i < cells.length; i++) {
+            if (other.cells[i] != null) {
+                cells[i] = other.cells[i].clone();
+            }
+        }
+        this.cellCounts = other.cellCounts.clone();
+        this.minX = other.minX.clone();
+        this.minY = other.minY.clone();
+        this.maxX = other.maxX.clone();
+        this.maxY = other.maxY.clone();
+    }
+
+    void add(int id, double x, double y, double width, double length) {
+        minX[id] = x;
+        minY[id] = y;
+        maxX[id] = x + width;
+        maxY[id] = y + length;
+        for (int row = row(y); row <= row(y + length); row++) {
+            for (int column = column(x); column <= column(x + width); column++) {
+                int cell = row * columns + column;
+                int[] ids = cells[cell];
+                if (ids == null) {
+                    ids = new int[4];
+                    cells[cell] = ids;
+                } else if (cellCounts[cell] == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    cells[cell] = ids;
+                }
+                ids[cellCounts[cell]++] = id;
+            }
+        }
+    }
+
+    void remove(int id) {
+        for (int row = row(minY[id]); row <= row(maxY[id]); row++) {
+            for (int column = column(minX[id]); column <= column(maxX[id]); column++) {
+                int cell = row * columns + column;
+                int[] ids = cells[cell];
+                int count = cellCounts[cell];
+                for (int i = 0; i < count; i++) {
+                    if (ids[i] == id) {
+                        ids[i] = ids[count - 1];
+                        cellCounts[cell] = count - 1;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    boolean isFree(double x, double y, double width, double length) {
+        double right = x + width;
+        double bottom = y + length;
+        for (int row = row(y); row <= row(bottom); row++) {
+            for (int column = column(x); column <= column(right); column++) {
+                int cell = row * columns + column;
+                int[] ids = cells[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int id = ids[i];
+                    if (x < maxX[id] && minX[id] < right && y < maxY[id] && minY[id] < bottom) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) (x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) (y / cellSize)));
+    }
+}
@@ -0,0 +1,251 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.Wall;
+
+/**
+ * A soft wish about where a {@link LayoutItem} should end up.
+ *
+ * <p>Preferences never make a layout invalid; they only make one layout score higher than
+ * another. Each preference has a weight (1.0 unless changed with {@link #weighted(double)})
+ * and is satisfied to a degree between 0 and 1, so a layout's score is the weighted sum
+ * of all satisfactions.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * LayoutItem sofa = new LayoutItem("Sofa", 2.0, 0.9, 0.8)
+ *     .prefer(Preference.againstWall(Wall.SOUTH).weighted(2.0));
+ * LayoutItem table = new LayoutItem("Coffee table", 1.0, 0.6, 0.4)
+ *     .prefer(Preference.nextTo("Sofa", 0.4));
+ * }</pre>
+ *
+ * @see LayoutSolver
+ * @since 1.1.0
+ */
+public final class Preference {
+    /** Distance from a wall in meters at which a wall preference is no longer satisfied at all. */
+    public static final double WALL_TOLERANCE = 1.0;
+    /** Distance beyond the allowed gap in meters at which a next-to preference is no longer satisfied. */
+    public static final double NEXT_TO_FALLOFF = 2.0;
+    public static final double DEFAULT_NEXT_TO_GAP = 0.3;
+
+    public enum Kind {
+        AGAINST_WALL, IN_CORNER, NEXT_TO, CENTERED
+    }
+
+    private final Kind kind;
+    private final Wall wall;
+    private final String reference;
+    private final double maxGap;
+    private final double weight;
+
+    private Preference(Kind kind, Wall wall, String reference, double maxGap, double weight) {
+        this.kind = kind;
+        this.wall = wall;
+        this.reference = reference;
+        this.maxGap = maxGap;
+        this.weight = weight;
+    }
+
+    /**
+     * Prefers the item's back against the given wall.
+     *
+     * @param wall one of NORTH, SOUTH, EAST or WEST
+     * @return the preference
+     * @throws IllegalArgumentException for the floor and ceiling
+     */
+    public static Preference againstWall(Wall wall) {
+        if (wall == null || wall == Wall.FLOOR || wall == Wall.CEILING) {
+            throw new IllegalArgumentException("Preferred wall must be NORTH, SOUTH, EAST or WEST");
+        }
+        return new Preference(Kind.AGAINST_WALL, wall, null, 0, 1.0);
+    }
+
+    /**
+     * Prefers the item against whichever wall is closest.
+     *
+     * @return the preference
+     */
+    public static Preference againstAnyWall() {
+        return new Preference(Kind.AGAINST_WALL, null, null, 0, 1.0);
+    }
+
+    /**
+     * Prefers the item in any corner of the room.
+     *
+     * @return the preference
+     */
+    public static Preference inCorner() {
+        return new Preference(Kind.IN_CORNER, null, null, 0, 1.0);
+    }
+
+    /**
+     * Prefers the item within {@link #DEFAULT_NEXT_TO_GAP} of another piece.
+     *
+     * @param name the name of another layout item or of furniture already in the room
+     * @return the preference
+     */
+    public static Preference nextTo(String name) {
+        return nextTo(name, DEFAULT_NEXT_TO_GAP);
+    }
+
+    /**
+     * Prefers the item within a given distance of another piece.
+     *
+     * @param name the name of another layout item or of furniture already in the room
+     * @param maxGap the largest distance between the two pieces that fully satisfies the preference
+     * @return the preference
+     * @throws IllegalArgumentException if the name is null or the gap is negative
+     */
+    public static Preference nextTo(String name, double maxGap) {
+        if (name == null) {
+            throw new IllegalArgumentException("Reference name cannot be null");
+        }
+        if (maxGap < 0) {
+            throw new IllegalArgumentException("Gap cannot be negative");
+        }
+        return new Preference(Kind.NEXT_TO, null, name, maxGap, 1.0);
+    }
+
+    /**
+     * Prefers the item in the middle of the room.
+     *
+     * @return the preference
+     */
+    public static Preference centered() {
+        return new Preference(Kind.CENTERED, null, null, 0, 1.0);
+    }
+
+    /**
+     * Returns a copy of this preference with another weight.
+     *
+     * @param weight how much this preference counts relative to others
+     * @return the weighted preference
+     * @throws IllegalArgumentException if the weight is not positive
+     */
+    public Preference weighted(double weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive");
+        }
+        return new Preference(kind, wall, reference, maxGap, weight);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the preferred wall, or {@code null} for any wall and for other kinds
+     */
+    public Wall getWall() {
+        return wall;
+    }
+
+    /**
+     * @return the name of the piece to stay next to, or {@code null} for other kinds
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    public double getMaxGap() {
+        return maxGap;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Rates how well a placed piece meets this preference.
+     *
+     * @param placed the placed piece
+     * @param room the room it is placed in
+     * @param referencePiece the placed piece named by a next-to preference, or {@code null}
+     * @return a value from 0 (not at all) to 1 (fully)
+     */
+    double satisfaction(Furniture placed, Room room, Furniture referencePiece) {
+        switch (kind) {
+            case AGAINST_WALL:
+                if (wall != null) {
+                    return wallSatisfaction(distanceToWall(placed, wall, room));
+                }
+                return wallSatisfaction(Math.min(
+                    Math.min(distanceToWall(placed, Wall.NORTH, room), distanceToWall(placed, Wall.SOUTH, room)),
+                    Math.min(distanceToWall(placed, Wall.EAST, room), distanceToWall(placed, Wall.WEST, room))));
+            case IN_CORNER:
+                double northSouth = wallSatisfaction(Math.min(
+                    distanceToWall(placed, Wall.NORTH, room), distanceToWall(placed, Wall.SOUTH, room)));
+                double eastWest = wallSatisfaction(Math.min(
+                    distanceToWall(placed, Wall.EAST, room), distanceToWall(placed, Wall.WEST, room)));
+                return northSouth * eastWest;
+            case NEXT_TO:
+                if (referencePiece == null) {
+                    return 0;
+                }
+                double gap = distanceBetween(placed, referencePiece);
+                if (gap <= maxGap) {
+                    return 1;
+                }
+                return Math.max(0, 1 - (gap - maxGap) / NEXT_TO_FALLOFF);
+            case CENTERED:
+                double dx = placed.getX() + placed.getWidth() / 2 - room.getWidth() / 2;
+                double dy = placed.getY() + placed.getLength() / 2 - room.getLength() / 2;
+                double halfDiagonal = Math.hypot(room.getWidth(), room.getLength()) / 2;
+                return Math.max(0, 1 - Math.hypot(dx, dy) / halfDiagonal);
+            default:
+                throw new IllegalStateException("Unknown preference: " + kind);
+        }
+    }
+
+    static double distanceToWall(Furniture f, Wall wall, Room room) {
+        switch (wall) {
+            case NORTH:
+                return f.getFootprint().getMinY();
+            case SOUTH:
+                return room.getLength() - f.getFootprint().getMaxY();
+            case EAST:
+                return room.getWidth() - f.getFootprint().getMaxX();
+            case WEST:
+                return f.getFootprint().getMinX();
+            default:
+                throw new IllegalArgumentException("Invalid wall: " + wall);
+        }
+    }
+
+    /**
+     * Returns the shortest distance between the footprint bounds of two pieces, 0 if they touch.
+     */
+    static double distanceBetween(Furniture a, Furniture b) {
+        OrientedBox p = a.getFootprint();
+        OrientedBox q = b.getFootprint();
+        double dx = Math.max(0, Math.max(p.getMinX() - q.getMaxX(), q.getMinX() - p.getMaxX()));
+        double dy = Math.max(0, Math.max(p.getMinY() - q.getMaxY(), q.getMinY() - p.getMaxY()));
+        return Math.hypot(dx, dy);
+    }
+
+    private static double wallSatisfaction(double distance) {
+        return Math.max(0, 1 - distance / WALL_TOLERANCE);
+    }
+
+    @Override
+    public String toString() {
+        String target;
+        switch (kind) {
+            case AGAINST_WALL:
+                target = "against " + (wall == null ? "any wall" : wall + " wall");
+                break;
+            case NEXT_TO:
+                target = String.format("next to %s (%.2fm)", reference, maxGap);
+                break;
+            case IN_CORNER:
+                target = "in a corner";
+                break;
+            default:
+                target = "centered";
+        }
+        return String.format("%s x%.1f", target, weight);
+    }
+}
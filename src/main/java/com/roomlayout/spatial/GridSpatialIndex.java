@@ -0,0 +1,281 @@
+package com.roomlayout.spatial;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Uniform grid implementation of {@link SpatialIndex}.
+ *
+ * <p>The plane is divided into square cells of a fixed size and every entry is registered
+ * in each cell its rectangle touches. Queries only visit the cells covering the query area,
+ * so their cost depends on local density rather than on the total number of entries.
+ * Cells are allocated lazily, which keeps the index unbounded and cheap for sparse layouts.
+ *
+ * <p>The grid works best when the cell size is close to the typical size of an entry:
+ * much smaller cells register large entries many times, much larger cells degrade
+ * towards a linear scan.
+ *
+ * <p>Queries don't modify the index: an entry registered in several cells is reported
+ * only from the first of them inside the query area, and {@link #nearest} keeps its
+ * bookkeeping per thread. Any number of threads may therefore query the index at the same
+ * time, as long as no thread inserts meanwhile.
+ *
+ * @since 1.1.0
+ */
+public final class GridSpatialIndex implements SpatialIndex {
+    /** Default cell edge in meters, about the footprint of a typical furniture piece. */
+    public static final double DEFAULT_CELL_SIZE = 1.0;
+
+    private static final ThreadLocal<Visits> VISITS = ThreadLocal.withInitial(Visits::new);
+
+    private final double cellSize;
+    private final Map<Long, Cell> cells;
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private boolean[] present;
+    private int size;
+    private int minCellX = Integer.MAX_VALUE;
+    private int minCellY = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int maxCellY = Integer.MIN_VALUE;
+
+    public GridSpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates an empty grid index.
+     *
+     * @param cellSize the edge length of a grid cell in meters
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public GridSpatialIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.cells = new HashMap<>();
+        this.minX = new double[16];
+        this.minY = new double[16];
+        this.maxX = new double[16];
+        this.maxY = new double[16];
+        this.present = new boolean[16];
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void insert(int id, double x, double y, double width, double length) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id cannot be negative");
+        }
+        ensureCapacity(id + 1);
+        if (present[id]) {
+            throw new IllegalArgumentException("Id already present: " + id);
+        }
+        present[id] = true;
+        minX[id] = x;
+        minY[id] = y;
+        maxX[id] = x + width;
+        maxY[id] = y + length;
+        size++;
+
+        int fromX = cellOf(x);
+        int fromY = cellOf(y);
+        int toX = cellOf(x + width);
+        int toY = cellOf(y + length);
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new Cell()).add(id);
+            }
+        }
+        minCellX = Math.min(minCellX, fromX);
+        minCellY = Math.min(minCellY, fromY);
+        maxCellX = Math.max(maxCellX, toX);
+        maxCellY = Math.max(maxCellY, toY);
+    }
+
+    @Override
+    public int[] query(double x, double y, double width, double length) {
+        if (size == 0 || width < 0 || length < 0) {
+            return new int[0];
+        }
+        double qMaxX = x + width;
+        double qMaxY = y + length;
+        int fromX = Math.max(cellOf(x), minCellX);
+        int fromY = Math.max(cellOf(y), minCellY);
+        int toX = Math.min(cellOf(qMaxX), maxCellX);
+        int toY = Math.min(cellOf(qMaxY), maxCellY);
+
+        int[] result = new int[8];
+        int count = 0;
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                Cell cell = cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.ids[i];
+                    // Report each entry from one cell only: its north-west-most cell in the query area
+                    if (cx != Math.max(fromX, cellOf(minX[id])) || cy != Math.max(fromY, cellOf(minY[id]))) {
+                        continue;
+                    }
+                    if (minX[id] < qMaxX && maxX[id] > x && minY[id] < qMaxY && maxY[id] > y) {
+                        if (count == result.length) {
+                            result = Arrays.copyOf(result, count * 2);
+                        }
+                        result[count++] = id;
+                    }
+                }
+            }
+        }
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    @Override
+    public int[] nearest(double x, double y, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        if (k == 0 || size == 0) {
+            return new int[0];
+        }
+        // Max-heap on distance so the current worst candidate can be evicted cheaply
+        PriorityQueue<Candidate> best = new PriorityQueue<>(
+            (a, b) -> a.distance != b.distance ? Double.compare(b.distance, a.distance) : Integer.compare(b.id, a.id));
+        int originX = cellOf(x);
+        int originY = cellOf(y);
+        int maxRing = Math.max(
+            Math.max(Math.abs(originX - minCellX), Math.abs(maxCellX - originX)),
+            Math.max(Math.abs(originY - minCellY), Math.abs(maxCellY - originY)));
+        Visits visits = VISITS.get();
+        int stamp = visits.next(present.length);
+        int[] visited = visits.stamps;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = originY - ring; cy <= originY + ring; cy++) {
+                boolean edgeRow = cy == originY - ring || cy == originY + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int cx = originX - ring; cx <= originX + ring; cx += step) {
+                    Cell cell = cells.get(key(cx, cy));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        int id = cell.ids[i];
+                        if (visited[id] == stamp) {
+                            continue;
+                        }
+                        visited[id] = stamp;
+                        offer(best, new Candidate(id, distance(id, x, y)), k);
+                    }
+                }
+            }
+            // Every cell beyond this ring is at least ring * cellSize away from the point
+            if (best.size() == k && best.peek().distance <= ring * cellSize) {
+                break;
+            }
+        }
+
+        int[] result = new int[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll().id;
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static void offer(PriorityQueue<Candidate> best, Candidate candidate, int k) {
+        if (best.size() < k) {
+            best.add(candidate);
+            return;
+        }
+        Candidate worst = best.peek();
+        if (candidate.distance < worst.distance
+            || (candidate.distance == worst.distance && candidate.id < worst.id)) {
+            best.poll();
+            best.add(candidate);
+        }
+    }
+
+    private double distance(int id, double x, double y) {
+        double dx = Math.max(Math.max(minX[id] - x, 0), x - maxX[id]);
+        double dy = Math.max(Math.max(minY[id] - y, 0), y - maxY[id]);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= present.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, present.length * 2);
+        minX = Arrays.copyOf(minX, newLength);
+        minY = Arrays.copyOf(minY, newLength);
+        maxX = Arrays.copyOf(maxX, newLength);
+        maxY = Arrays.copyOf(maxY, newLength);
+        present = Arrays.copyOf(present, newLength);
+    }
+
+    /**
+     * Per-thread marks of the entries a nearest-neighbour search has already seen. Stamps
+     * only ever grow, so one array serves every index the thread searches.
+     */
+    private static final class Visits {
+        private int[] stamps = new int[16];
+        private int stamp;
+
+        int next(int capacity) {
+            if (stamps.length < capacity) {
+                stamps = Arrays.copyOf(stamps, capacity);
+            }
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+
+    private static final class Cell {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    private static final class Candidate {
+        private final int id;
+        private final double distance;
+
+        Candidate(int id, double distance) {
+            this.id = id;
+            this.distance = distance;
+        }
+    }
+}
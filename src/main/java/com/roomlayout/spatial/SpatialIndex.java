@@ -0,0 +1,69 @@
+package com.roomlayout.spatial;
+
+/**
+ * Index over axis-aligned rectangles on the floor plane, keyed by integer ids.
+ *
+ * <p>A spatial index answers "what is here?" and "what is closest?" questions without
+ * scanning every entry. {@link com.roomlayout.model.Room} keeps its furniture footprints in
+ * one and uses the entry ids as positions in its own storage, so implementations only ever
+ * deal with ids and bounds, never with domain objects.
+ *
+ * <p>Rectangles use the room coordinate system (x grows east, y grows south) and are
+ * described by their north-west corner plus width (x extent) and length (y extent).
+ * Two rectangles intersect only if they share interior area; rectangles that merely
+ * touch along an edge do not intersect.
+ *
+ * <p>Implementations are not required to be thread-safe for inserts, but queries must not
+ * modify shared state: any number of threads may call {@link #query}, {@link #nearest} and
+ * {@link #size} at the same time as long as no thread inserts meanwhile. Concurrent
+ * renderers and {@link com.roomlayout.model.ConcurrentRoom} rely on this.
+ *
+ * @see GridSpatialIndex
+ * @since 1.1.0
+ */
+public interface SpatialIndex {
+
+    /**
+     * Adds a rectangle to the index.
+     *
+     * @param id non-negative id of the entry, unique within this index
+     * @param x the west edge of the rectangle
+     * @param y the north edge of the rectangle
+     * @param width the east-west extent of the rectangle
+     * @param length the north-south extent of the rectangle
+     * @throws IllegalArgumentException if the id is negative or already present
+     */
+    void insert(int id, double x, double y, double width, double length);
+
+    /**
+     * Returns the ids of all entries whose rectangle intersects the given area.
+     *
+     * @param x the west edge of the query area
+     * @param y the north edge of the query area
+     * @param width the east-west extent of the query area
+     * @param length the north-south extent of the query area
+     * @return matching ids in ascending order, never {@code null}
+     */
+    int[] query(double x, double y, double width, double length);
+
+    /**
+     * Returns the ids of the {@code k} entries closest to a point.
+     *
+     * <p>Distance is measured from the point to the nearest edge of each rectangle, so a
+     * rectangle containing the point has distance zero. Ties are broken by ascending id.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param k the maximum number of ids to return
+     * @return up to {@code k} ids ordered from nearest to farthest
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    int[] nearest(double x, double y, int k);
+
+    /**
+     * Returns the number of entries in the index.
+     *
+     * @return the entry count
+     */
+    int size();
+}
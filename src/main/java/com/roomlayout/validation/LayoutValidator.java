@@ -0,0 +1,387 @@
+package com.roomlayout.validation;
+
+import com.roomlayout.building.Building;
+import com.roomlayout.building.Doorway;
+import com.roomlayout.building.Floor;
+import com.roomlayout.building.PlacedRoom;
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.KeepOutZones;
+import com.roomlayout.model.Overlap;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.Room;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Wall;
+import com.roomlayout.model.WallItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Re-validates whole buildings, or single very large rooms, on all cores.
+ *
+ * <p>Each furniture piece, door and window is checked with the rules rooms apply when
+ * items are added: {@link Room#checkFits}, the overlap test, {@link Room#validateWallItem}
+ * and the {@link KeepOutZones} of the room's doors and windows. On a floor, a door that
+ * opens outward also keeps its swing clear in the room on the other side of the wall. The
+ * violations are collected into a {@link ValidationReport} instead of stopping at the
+ * first one, and overlaps are reported whatever the room's overlap policy.
+ *
+ * <p>The work is split into units of roughly {@code itemsPerTask} items. Small rooms are
+ * grouped into one unit each, and rooms with more pieces than that are cut into a grid of
+ * cells. Units are handed to a {@link ForkJoinPool} by a task that halves its share of the
+ * total weight until it is small enough to run. Inside a unit, overlaps are found by
+ * sorting the pieces by their west edge and sweeping, which needs no index over the
+ * whole room; the keep-out zones of a room are built once and shared by its units.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ValidationReport report = new LayoutValidator().validate(building);
+ * for (Violation v : report.getViolations(Violation.Kind.DOOR_CLEARANCE)) {
+ *     System.out.println(v);
+ * }
+ * }</pre>
+ *
+ * <p>The validator is safe to share between threads; the rooms must not be modified while
+ * they are validated.
+ *
+ * @since 1.1.0
+ */
+public final class LayoutValidator {
+    public static final int DEFAULT_ITEMS_PER_TASK = 2048;
+
+    private final ForkJoinPool pool;
+    private final int itemsPerTask;
+
+    /**
+     * Creates a validator that runs on the common fork-join pool.
+     */
+    public LayoutValidator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_ITEMS_PER_TASK);
+    }
+
+    /**
+     * Creates a validator.
+     *
+     * @param pool the pool to run on
+     * @param itemsPerTask about how many items one task checks before the work is split
+     * @throws IllegalArgumentException if the task size is not positive
+     */
+    public LayoutValidator(ForkJoinPool pool, int itemsPerTask) {
+        if (itemsPerTask <= 0) {
+            throw new IllegalArgumentException("Items per task must be positive");
+        }
+        this.pool = pool;
+        this.itemsPerTask = itemsPerTask;
+    }
+
+    /**
+     * Validates every room on every floor of a building.
+     *
+     * <p>Door clearance is checked on both sides of doors between rooms, so a door listed
+     * only by one room still keeps the other room's side clear.
+     *
+     * @param building the building
+     * @return the report
+     */
+    public ValidationReport validate(Building building) {
+        List<Unit> units = new ArrayList<>();
+        int rooms = 0;
+        for (Floor floor : building.getFloors()) {
+            rooms += addFloor(floor, units);
+        }
+        return run(units, rooms);
+    }
+
+    /**
+     * Validates every room on a floor.
+     *
+     * @param floor the floor
+     * @return the report
+     */
+    public ValidationReport validate(Floor floor) {
+        List<Unit> units = new ArrayList<>();
+        int rooms = addFloor(floor, units);
+        return run(units, rooms);
+    }
+
+    /**
+     * Validates one room, split into cells if it is large.
+     *
+     * @param room the room
+     * @return the report
+     */
+    public ValidationReport validate(RoomLayout room) {
+        List<Unit> units = new ArrayList<>();
+        addRoom(null, room, KeepOutZones.of(room), units);
+        return run(units, 1);
+    }
+
+    private int addFloor(Floor floor, List<Unit> units) {
+        Map<PlacedRoom, KeepOutZones> zones = new IdentityHashMap<>();
+        for (PlacedRoom room : floor.getRooms()) {
+            zones.put(room, KeepOutZones.of(room.getRoom()));
+        }
+        // Doorways need the floor's room index, so they are found here rather than in the tasks
+        for (Doorway doorway : floor.getDoorways()) {
+            PlacedRoom other = doorway.getOtherRoom();
+            if (other != null) {
+                addOutwardSwing(zones.get(other), doorway.getDoor(), doorway.getCenter(), other);
+                if (doorway.getOtherDoor() != null) {
+                    addOutwardSwing(zones.get(doorway.getRoom()), doorway.getOtherDoor(), doorway.getCenter(),
+                        doorway.getRoom());
+                }
+            }
+        }
+        for (PlacedRoom room : floor.getRooms()) {
+            addRoom(room, room.getRoom(), zones.get(room), units);
+        }
+        return floor.getRooms().size();
+    }
+
+    /**
+     * Adds the swing of a door that opens outward into the room on the other side of its
+     * wall. Which side it is hinged on isn't recorded, so both quarter discs are kept clear.
+     *
+     * @param zones the keep-out zones of the room the door opens into
+     * @param center the middle of the opening, in floor coordinates
+     * @param room the room the door opens into
+     */
+    private static void addOutwardSwing(KeepOutZones zones, Door door, Point2D center, PlacedRoom room) {
+        if (door.getSwing() != Door.Swing.OUTWARD) {
+            return;
+        }
+        Wall wall = opposite(door.getWall());
+        double along = (wall == Wall.NORTH || wall == Wall.SOUTH ? center.getX() - room.getX()
+            : center.getY() - room.getY()) - door.getWidth() / 2;
+        zones.add(new Door(wall, along, door.getWidth(), door.getHeight(), door.getType(),
+            Door.Swing.INWARD_HINGED_AT_START));
+        zones.add(new Door(wall, along, door.getWidth(), door.getHeight(), door.getType(),
+            Door.Swing.INWARD_HINGED_AT_END));
+    }
+
+    /**
+     * Adds the units of one room: the whole room if it is small, otherwise one unit per
+     * cell of a grid, each holding the pieces whose bounds reach into it.
+     */
+    private void addRoom(PlacedRoom placed, RoomLayout room, KeepOutZones zones, List<Unit> units) {
+        List<Furniture> furniture = room.getFurnitureView();
+        Grid grid = new Grid(room, furniture.size(), itemsPerTask);
+        if (grid.columns * grid.rows == 1) {
+            units.add(new Unit(placed, room, grid, 0, 0, furniture, zones));
+            return;
+        }
+        List<List<Furniture>> cells = new ArrayList<>(grid.columns * grid.rows);
+        for (int i = 0; i < grid.columns * grid.rows; i++) {
+            cells.add(new ArrayList<>());
+        }
+        for (Furniture f : furniture) {
+            OrientedBox box = f.getFootprint();
+            for (int row = grid.row(box.getMinY()); row <= grid.row(box.getMaxY()); row++) {
+                for (int column = grid.column(box.getMinX()); column <= grid.column(box.getMaxX()); column++) {
+                    cells.get(row * grid.columns + column).add(f);
+                }
+            }
+        }
+        for (int row = 0; row < grid.rows; row++) {
+            for (int column = 0; column < grid.columns; column++) {
+                units.add(new Unit(placed, room, grid, column, row, cells.get(row * grid.columns + column), zones));
+            }
+        }
+    }
+
+    private ValidationReport run(List<Unit> units, int rooms) {
+        long[] weights = new long[units.size() + 1];
+        int items = 0;
+        for (int i = 0; i < units.size(); i++) {
+            Unit unit = units.get(i);
+            weights[i + 1] = weights[i] + unit.weight();
+            if (unit.isFirstCell()) {
+                items += unit.room.getFurnitureView().size() + unit.room.getDoorView().size()
+                    + unit.room.getWindowView().size();
+            }
+        }
+        List<Violation> violations = units.isEmpty()
+            ? new ArrayList<>() : pool.invoke(new ValidationTask(units, weights, 0, units.size(), itemsPerTask));
+        return new ValidationReport(violations, rooms, items);
+    }
+
+    private static Wall opposite(Wall wall) {
+        switch (wall) {
+            case NORTH:
+                return Wall.SOUTH;
+            case SOUTH:
+                return Wall.NORTH;
+            case EAST:
+                return Wall.WEST;
+            case WEST:
+                return Wall.EAST;
+            default:
+                throw new IllegalArgumentException("Invalid wall for door: " + wall);
+        }
+    }
+
+    /**
+     * Splits a room into cells holding about {@code itemsPerCell} pieces each, keeping the
+     * cells roughly square.
+     */
+    private static final class Grid {
+        private final int columns;
+        private final int rows;
+        private final double cellWidth;
+        private final double cellLength;
+
+        Grid(RoomLayout room, int items, int itemsPerCell) {
+            int cells = Math.max(1, (items + itemsPerCell - 1) / itemsPerCell);
+            double aspect = room.getWidth() / room.getLength();
+            this.columns = Math.max(1, Math.min(cells, (int) Math.round(Math.sqrt(cells * aspect))));
+            this.rows = (cells + columns - 1) / columns;
+            this.cellWidth = room.getWidth() / columns;
+            this.cellLength = room.getLength() / rows;
+        }
+
+        int column(double x) {
+            return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellWidth)));
+        }
+
+        int row(double y) {
+            return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellLength)));
+        }
+    }
+
+    /**
+     * The pieces of one cell of a room, checked by a single thread.
+     */
+    private static final class Unit {
+        private final PlacedRoom placed;
+        private final RoomLayout room;
+        private final Grid grid;
+        private final int column;
+        private final int row;
+        private final List<Furniture> furniture;
+        private final KeepOutZones zones;
+
+        Unit(PlacedRoom placed, RoomLayout room, Grid grid, int column, int row, List<Furniture> furniture,
+             KeepOutZones zones) {
+            this.placed = placed;
+            this.room = room;
+            this.grid = grid;
+            this.column = column;
+            this.row = row;
+            this.furniture = furniture;
+            this.zones = zones;
+        }
+
+        boolean isFirstCell() {
+            return column == 0 && row == 0;
+        }
+
+        long weight() {
+            return 1 + furniture.size() + (isFirstCell() ? room.getDoorView().size() + room.getWindowView().size() : 0);
+        }
+
+        void check(List<Violation> out) {
+            if (isFirstCell()) {
+                checkWallItems(room.getDoorView(), out);
+                checkWallItems(room.getWindowView(), out);
+            }
+            Furniture[] sorted = furniture.toArray(new Furniture[0]);
+            Arrays.sort(sorted, Comparator.comparingDouble(f -> f.getFootprint().getMinX()));
+            for (int i = 0; i < sorted.length; i++) {
+                Furniture f = sorted[i];
+                OrientedBox box = f.getFootprint();
+                if (owns(box.getMinX(), box.getMinY())) {
+                    checkFurniture(f, out);
+                }
+                for (int j = i + 1; j < sorted.length && sorted[j].getFootprint().getMinX() < box.getMaxX(); j++) {
+                    OrientedBox other = sorted[j].getFootprint();
+                    // A pair whose bounds span several cells is reported by the cell
+                    // holding the north-west corner of their common bounds
+                    if (other.intersects(box)
+                        && owns(Math.max(box.getMinX(), other.getMinX()), Math.max(box.getMinY(), other.getMinY()))) {
+                        out.add(new Violation(Violation.Kind.OVERLAP, placed, room, f, sorted[j], null,
+                            new Overlap(f, sorted[j]).toString()));
+                    }
+                }
+            }
+        }
+
+        private boolean owns(double x, double y) {
+            return grid.column(x) == column && grid.row(y) == row;
+        }
+
+        private void checkFurniture(Furniture f, List<Violation> out) {
+            try {
+                Room.checkFits(f, room.getWidth(), room.getLength(), room.getHeight());
+            } catch (IllegalArgumentException e) {
+                out.add(new Violation(Violation.Kind.OUT_OF_BOUNDS, placed, room, f, null, null,
+                    f.getName() + ": " + e.getMessage()));
+            }
+            for (WallItem blocked : zones.blockedBy(f)) {
+                out.add(new Violation(blocked instanceof Door ? Violation.Kind.DOOR_CLEARANCE
+                    : Violation.Kind.SILL_CLEARANCE, placed, room, f, null, blocked, KeepOutZones.describe(blocked, f)));
+            }
+        }
+
+        private void checkWallItems(List<? extends WallItem> items, List<Violation> out) {
+            for (WallItem item : items) {
+                try {
+                    Room.validateWallItem(item, room.getWidth(), room.getLength(), room.getHeight());
+                } catch (IllegalArgumentException e) {
+                    out.add(new Violation(Violation.Kind.WALL_ITEM, placed, room, null, null, item, e.getMessage()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks a range of units, splitting it in two halves of equal weight until its
+     * weight is below the threshold.
+     */
+    private static final class ValidationTask extends RecursiveTask<List<Violation>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Unit> units;
+        /** Prefix sums of the unit weights; units [a, b) weigh weights[b] - weights[a]. */
+        private final long[] weights;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ValidationTask(List<Unit> units, long[] weights, int from, int to, int threshold) {
+            this.units = units;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected List<Violation> compute() {
+            if (to - from <= 1 || weights[to] - weights[from] <= threshold) {
+                List<Violation> out = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    units.get(i).check(out);
+                }
+                return out;
+            }
+            long half = (weights[from] + weights[to]) / 2;
+            int split = Arrays.binarySearch(weights, from + 1, to, half);
+            split = Math.max(from + 1, Math.min(to - 1, split < 0 ? -split - 1 : split));
+            ValidationTask left = new ValidationTask(units, weights, from, split, threshold);
+            ValidationTask right = new ValidationTask(units, weights, split, to, threshold);
+            left.fork();
+            List<Violation> out = right.compute();
+            List<Violation> merged = left.join();
+            merged.addAll(out);
+            return merged;
+        }
+    }
+}
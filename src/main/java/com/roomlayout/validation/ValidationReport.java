@@ -0,0 +1,74 @@
+package com.roomlayout.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a {@link LayoutValidator} run: every violation found, plus how much was
+ * checked.
+ *
+ * <p>Violations are grouped by room, in the order the rooms appear in the building, so
+ * reports of the same layout are identical however the work was split across threads.
+ *
+ * @since 1.1.0
+ */
+public final class ValidationReport {
+    private final List<Violation> violations;
+    private final int roomCount;
+    private final int itemCount;
+
+    ValidationReport(List<Violation> violations, int roomCount, int itemCount) {
+        this.violations = Collections.unmodifiableList(violations);
+        this.roomCount = roomCount;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * @return {@code true} if no violations were found
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return all violations, as an unmodifiable list
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * @param kind the rule
+     * @return the violations of one rule, in report order
+     */
+    public List<Violation> getViolations(Violation.Kind kind) {
+        List<Violation> result = new ArrayList<>();
+        for (Violation violation : violations) {
+            if (violation.getKind() == kind) {
+                result.add(violation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of rooms checked
+     */
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    /**
+     * @return the number of furniture pieces, doors and windows checked
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ValidationReport: %d rooms, %d items, %d violations",
+            roomCount, itemCount, violations.size());
+    }
+}
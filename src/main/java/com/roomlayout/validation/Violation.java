@@ -0,0 +1,97 @@
+package com.roomlayout.validation;
+
+import com.roomlayout.building.PlacedRoom;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.WallItem;
+
+/**
+ * One problem found by a {@link LayoutValidator}.
+ *
+ * @since 1.1.0
+ */
+public final class Violation {
+    /**
+     * The rules a layout is checked against.
+     */
+    public enum Kind {
+        /** A piece leaves the room or is taller than the ceiling. */
+        OUT_OF_BOUNDS,
+        /** Two pieces share floor area. */
+        OVERLAP,
+        /** A door or window runs past the end or top of its wall. */
+        WALL_ITEM,
+        /** A piece stands in the swing of a door. */
+        DOOR_CLEARANCE,
+        /** A piece taller than a window's sill stands in front of a window that keeps it clear. */
+        SILL_CLEARANCE
+    }
+
+    private final Kind kind;
+    private final PlacedRoom room;
+    private final RoomLayout layout;
+    private final Furniture furniture;
+    private final Furniture otherFurniture;
+    private final WallItem wallItem;
+    private final String message;
+
+    Violation(Kind kind, PlacedRoom room, RoomLayout layout, Furniture furniture, Furniture otherFurniture,
+              WallItem wallItem, String message) {
+        this.kind = kind;
+        this.room = room;
+        this.layout = layout;
+        this.furniture = furniture;
+        this.otherFurniture = otherFurniture;
+        this.wallItem = wallItem;
+        this.message = message;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the room on its floor, or {@code null} if a single room was validated
+     */
+    public PlacedRoom getRoom() {
+        return room;
+    }
+
+    /**
+     * @return the room the problem was found in
+     */
+    public RoomLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return the offending piece, or {@code null} for {@link Kind#WALL_ITEM}
+     */
+    public Furniture getFurniture() {
+        return furniture;
+    }
+
+    /**
+     * @return the second piece of an {@link Kind#OVERLAP}, otherwise {@code null}
+     */
+    public Furniture getOtherFurniture() {
+        return otherFurniture;
+    }
+
+    /**
+     * @return the door or window involved, or {@code null} for furniture-only problems; a
+     *         door that opens outward into this room is given as seen from this room
+     */
+    public WallItem getWallItem() {
+        return wallItem;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return (room == null ? "" : room.getName() + ": ") + kind + " - " + message;
+    }
+}
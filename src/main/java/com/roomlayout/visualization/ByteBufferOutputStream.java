@@ -0,0 +1,32 @@
+package com.roomlayout.visualization;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An output stream that writes into a fixed buffer and fails when the buffer is full.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        if (!buffer.hasRemaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(bytes, offset, length);
+    }
+}
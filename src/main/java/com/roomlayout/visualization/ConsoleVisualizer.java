@@ -1,5 +1,6 @@
 package com.roomlayout.visualization;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.*;
 
 public class ConsoleVisualizer implements Visualizer {
@@ -9,14 +10,14 @@ public class ConsoleVisualizer implements Visualizer {
     private static final char WINDOW_CHAR = 'W';
     private static final char FURNITURE_CHAR = 'F';
     
-    private final Room room;
+    private final RoomLayout room;
     private final int charactersPerMeter;
     
-    public ConsoleVisualizer(Room room) {
+    public ConsoleVisualizer(RoomLayout room) {
         this(room, calculateOptimalScale(room));
     }
     
-    public ConsoleVisualizer(Room room, int charactersPerMeter) {
+    public ConsoleVisualizer(RoomLayout room, int charactersPerMeter) {
         this.room = room;
         this.charactersPerMeter = Math.max(1, charactersPerMeter);
     }
@@ -24,7 +25,7 @@ public class ConsoleVisualizer implements Visualizer {
     /**
      * Calculate optimal charactersPerMeter to provide good detail while fitting in console (max ~100 characters wide)
      */
-    private static int calculateOptimalScale(Room room) {
+    private static int calculateOptimalScale(RoomLayout room) {
         double maxDimension = Math.max(room.getWidth(), room.getLength());
         int maxConsoleSize = 90; // Allow larger visualizations
         
@@ -74,15 +75,15 @@ public class ConsoleVisualizer implements Visualizer {
             }
         }
         
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : room.getFurnitureView()) {
             placeFurnitureOnGrid(grid, f);
         }
         
-        for (Door d : room.getDoors()) {
+        for (Door d : room.getDoorView()) {
             placeWallItemOnFloorGrid(grid, d, DOOR_CHAR);
         }
         
-        for (Window w : room.getWindows()) {
+        for (Window w : room.getWindowView()) {
             placeWallItemOnFloorGrid(grid, w, WINDOW_CHAR);
         }
         
@@ -119,13 +120,13 @@ public class ConsoleVisualizer implements Visualizer {
             }
         }
         
-        for (Door d : room.getDoors()) {
+        for (Door d : room.getDoorView()) {
             if (d.getWall() == wall) {
                 placeWallItemOnWallGrid(grid, d, DOOR_CHAR);
             }
         }
         
-        for (Window w : room.getWindows()) {
+        for (Window w : room.getWindowView()) {
             if (w.getWall() == wall) {
                 placeWallItemOnWallGrid(grid, w, WINDOW_CHAR);
             }
@@ -156,7 +157,7 @@ public class ConsoleVisualizer implements Visualizer {
             }
         }
         
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : room.getFurnitureView()) {
             if (f.getHeight() > room.getHeight() * 0.5) {
                 placeFurnitureOnGrid(grid, f, '*');
             }
@@ -174,6 +175,12 @@ public class ConsoleVisualizer implements Visualizer {
     }
     
     private void placeFurnitureOnGrid(char[][] grid, Furniture f, char symbol) {
+        if (f.getRotation() != 0) {
+            for (int i = 1; i < grid.length - 1; i++) {
+                TextVisualizer.placeRotatedFurnitureOnRow(grid[i], i, grid.length, f, symbol, charactersPerMeter);
+            }
+            return;
+        }
         int startX = (int)(f.getX() * charactersPerMeter) + 1;
         int startY = (int)(f.getY() * charactersPerMeter) + 1;
         int endX = Math.min(startX + (int)(f.getWidth() * charactersPerMeter), grid[0].length - 1);
@@ -253,37 +260,38 @@ public class ConsoleVisualizer implements Visualizer {
     }
     
     private void projectFurnitureOnWall(char[][] grid, Wall wall) {
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : room.furnitureNearWall(wall, room.getLength() / 3)) {
             projectSingleFurniture(grid, f, wall);
         }
     }
     
     private void projectSingleFurniture(char[][] grid, Furniture f, Wall wall) {
+        OrientedBox footprint = f.getFootprint();
         double distance = 0;
         double projStart = 0;
         double projWidth = 0;
         
         switch (wall) {
             case NORTH:
-                distance = f.getY();
-                projStart = f.getX();
-                projWidth = f.getWidth();
+                distance = footprint.getMinY();
+                projStart = footprint.getMinX();
+                projWidth = footprint.getBoundsWidth();
                 break;
             case SOUTH:
-                distance = room.getLength() - (f.getY() + f.getLength());
-                projStart = f.getX();
-                projWidth = f.getWidth();
+                distance = room.getLength() - footprint.getMaxY();
+                projStart = footprint.getMinX();
+                projWidth = footprint.getBoundsWidth();
                 break;
             case EAST:
-                distance = room.getWidth() - (f.getX() + f.getWidth());
-                projStart = f.getY();
-                projWidth = f.getLength();
+                distance = room.getWidth() - footprint.getMaxX();
+                projStart = footprint.getMinY();
+                projWidth = footprint.getBoundsLength();
                 break;
             case WEST:
-                distance = f.getX();
+                distance = footprint.getMinX();
                 // Flip coordinate for west wall to show from inside perspective (like ImageVisualizer)
-                projStart = room.getLength() - (f.getY() + f.getLength());
-                projWidth = f.getLength();
+                projStart = room.getLength() - footprint.getMaxY();
+                projWidth = footprint.getBoundsLength();
                 break;
         }
         
@@ -315,23 +323,23 @@ public class ConsoleVisualizer implements Visualizer {
         System.out.println("  + = Close furniture projection");
         System.out.println("  . = Distant furniture projection");
         
-        if (!room.getFurniture().isEmpty()) {
+        if (!room.getFurnitureView().isEmpty()) {
             System.out.println("\nFurniture:");
-            for (Furniture f : room.getFurniture()) {
+            for (Furniture f : room.getFurnitureView()) {
                 System.out.println("  " + f);
             }
         }
         
-        if (!room.getDoors().isEmpty()) {
+        if (!room.getDoorView().isEmpty()) {
             System.out.println("\nDoors:");
-            for (Door d : room.getDoors()) {
+            for (Door d : room.getDoorView()) {
                 System.out.println("  " + d);
             }
         }
         
-        if (!room.getWindows().isEmpty()) {
+        if (!room.getWindowView().isEmpty()) {
             System.out.println("\nWindows:");
-            for (Window w : room.getWindows()) {
+            for (Window w : room.getWindowView()) {
                 System.out.println("  " + w);
             }
         }
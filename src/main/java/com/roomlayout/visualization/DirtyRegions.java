@@ -0,0 +1,123 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.WallItem;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects the rectangles of a retained view that need repainting and works out which
+ * furniture changed between two frames.
+ */
+final class DirtyRegions {
+    private final Rectangle bounds;
+    private final List<Rectangle> regions = new ArrayList<>();
+
+    /**
+     * @param bounds the size of the view; damage outside it is dropped
+     */
+    DirtyRegions(Rectangle bounds) {
+        this.bounds = bounds;
+    }
+
+    void add(Rectangle region) {
+        Rectangle clipped = region.intersection(bounds);
+        if (!clipped.isEmpty()) {
+            regions.add(clipped);
+        }
+    }
+
+    void addAll() {
+        regions.clear();
+        regions.add(new Rectangle(bounds));
+    }
+
+    /**
+     * Returns the damage as disjoint rectangles. Overlapping or touching rectangles are
+     * merged into their union, so a piece dragged a short distance repaints as one region.
+     */
+    List<Rectangle> toList() {
+        List<Rectangle> merged = new ArrayList<>(regions);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < merged.size() && !changed; i++) {
+                for (int j = i + 1; j < merged.size(); j++) {
+                    Rectangle a = merged.get(i);
+                    Rectangle b = merged.get(j);
+                    // Grow by one pixel so that adjacent rectangles merge as well
+                    if (new Rectangle(a.x - 1, a.y - 1, a.width + 2, a.height + 2).intersects(b)) {
+                        merged.set(i, a.union(b));
+                        merged.remove(j);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Reports every piece that was drawn in the previous frame but is missing from the next
+     * one, and every piece that is new in the next frame.
+     *
+     * <p>A moved piece is a new {@link Furniture} object, so it shows up twice: once at its
+     * old position and once at the new one. Pieces shared by both frames are skipped by
+     * identity at the start and end of the lists, so a single edit in a large room costs
+     * a pass of reference comparisons; only the differing middle section is hashed.
+     *
+     * @param before the furniture drawn in the previous frame
+     * @param after the furniture of the next frame
+     * @param changed receives removed and added pieces
+     */
+    static void forEachChange(Furniture[] before, List<Furniture> after, Consumer<Furniture> changed) {
+        int start = 0;
+        int end = before.length;
+        int afterEnd = after.size();
+        while (start < end && start < afterEnd && before[start] == after.get(start)) {
+            start++;
+        }
+        while (end > start && afterEnd > start && before[end - 1] == after.get(afterEnd - 1)) {
+            end--;
+            afterEnd--;
+        }
+        Map<Furniture, Integer> removed = new HashMap<>();
+        for (int i = start; i < end; i++) {
+            removed.merge(before[i], 1, Integer::sum);
+        }
+        for (int i = start; i < afterEnd; i++) {
+            Furniture f = after.get(i);
+            // An equal piece draws the same pixels, so it cancels out a removed one
+            Integer count = removed.get(f);
+            if (count == null) {
+                changed.accept(f);
+            } else if (count == 1) {
+                removed.remove(f);
+            } else {
+                removed.put(f, count - 1);
+            }
+        }
+        removed.keySet().forEach(changed);
+    }
+
+    /**
+     * Tells whether two frames hold the same doors or windows.
+     */
+    static boolean sameWallItems(WallItem[] before, List<? extends WallItem> after) {
+        if (before.length != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] != after.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
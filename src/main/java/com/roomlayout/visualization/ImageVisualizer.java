@@ -1,37 +1,95 @@
 package com.roomlayout.visualization;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.*;
 import com.roomlayout.model.Window;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
-public class ImageVisualizer implements Visualizer {
-    private static final int SCALE = 50;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class ImageVisualizer implements Visualizer, ViewEncoder {
+    private static final int DEFAULT_SCALE = 50;
     private static final Color WALL_COLOR = Color.BLACK;
     private static final Color FLOOR_COLOR = Color.LIGHT_GRAY;
     private static final Color FURNITURE_COLOR = new Color(255, 46, 99);
     private static final Color DOOR_COLOR = new Color(37, 42, 52);
     private static final Color WINDOW_COLOR = new Color(8, 217, 214);
     private static final Color CEILING_COLOR = new Color(234, 234, 234);
+    private static final int LABEL_OVERHANG = 8;
 
-    private final Room room;
+    private final RoomLayout room;
     private final String outputDirectory;
+    private final int scale;
+
+    public ImageVisualizer(RoomLayout room, String outputDirectory) {
+        this(room, outputDirectory, DEFAULT_SCALE);
+    }
 
-    public ImageVisualizer(Room room, String outputDirectory) {
+    /**
+     * Creates a visualizer that draws the room at the given resolution.
+     * 
+     * @param room the room to draw
+     * @param outputDirectory the directory the images are saved to
+     * @param scale the number of pixels per meter
+     * @throws IllegalArgumentException if the scale is not positive
+     * @since 1.1.0
+     */
+    public ImageVisualizer(RoomLayout room, String outputDirectory, int scale) {
+        this(room, outputDirectory, scale, true);
+    }
+
+    private ImageVisualizer(RoomLayout room, String outputDirectory, int scale, boolean createDirectory) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Scale must be positive");
+        }
         this.room = room;
         this.outputDirectory = outputDirectory;
-        File outputDir = new File(outputDirectory);
-        outputDir.mkdirs();
+        this.scale = scale;
+        if (createDirectory) {
+            File outputDir = new File(outputDirectory);
+            outputDir.mkdirs();
+        }
+    }
+
+    /**
+     * Returns a visualizer that only renders in memory and encodes to caller-supplied sinks.
+     *
+     * <p>Unlike the constructors, this creates no output directory. The {@code visualize}
+     * methods throw an {@link IllegalStateException} on the result; use
+     * {@link #render(View)} or the {@link ViewEncoder} {@code write} methods instead.
+     *
+     * @param room the room to draw
+     * @param scale the number of pixels per meter
+     * @return a visualizer without an output directory
+     * @throws IllegalArgumentException if the scale is not positive
+     * @since 1.1.0
+     */
+    public static ImageVisualizer forStreams(RoomLayout room, int scale) {
+        return new ImageVisualizer(room, null, scale, false);
+    }
 
+    /**
+     * Returns a visualizer for another room with the same scale and output directory,
+     * without touching the file system.
+     */
+    ImageVisualizer withRoom(RoomLayout room) {
+        return new ImageVisualizer(room, outputDirectory, scale, false);
+    }
 
+    RoomLayout getRoom() {
+        return room;
     }
 
     @Override
@@ -45,34 +103,258 @@ public class ImageVisualizer implements Visualizer {
         System.out.println("Images saved to: " + outputDirectory);
     }
 
+    /**
+     * Renders the given views concurrently and saves each one as soon as it is encoded.
+     * 
+     * <p>The views are independent, so exporting a full layout takes about as long as the
+     * slowest single view when the executor has enough threads. Any executor works, for
+     * example a {@link java.util.concurrent.ForkJoinPool} or, on Java 21 and later, a
+     * virtual-thread-per-task executor. Rendering only reads the room, and the room's
+     * {@link com.roomlayout.spatial.SpatialIndex} answers queries without modifying itself,
+     * so the views can share one room safely. The room must not be modified until all
+     * returned futures have completed.
+     * 
+     * <p>Unlike the synchronous methods, failures to write a file are reported by completing
+     * the matching future exceptionally with an {@link UncheckedIOException}.
+     * 
+     * @param executor the executor that rasterizes and encodes the views
+     * @param views the views to export
+     * @return one future per view, completing with the path of the saved image
+     * @since 1.1.0
+     */
+    public Map<View, CompletableFuture<Path>> visualizeAsync(Executor executor, View... views) {
+        Map<View, CompletableFuture<Path>> futures = new EnumMap<>(View.class);
+        for (View view : views) {
+            futures.put(view, CompletableFuture.supplyAsync(
+                () -> writeImage(render(view), view.getBaseName() + ".png"), executor));
+        }
+        return futures;
+    }
+    
+    /**
+     * Renders all views concurrently, like {@link #visualizeAll()} but without waiting.
+     * 
+     * @param executor the executor that rasterizes and encodes the views
+     * @return one future per view, completing with the path of the saved image
+     * @see #visualizeAsync(Executor, View...)
+     * @since 1.1.0
+     */
+    public Map<View, CompletableFuture<Path>> visualizeAllAsync(Executor executor) {
+        return visualizeAsync(executor, View.values());
+    }
+
+    /**
+     * Renders a view into a new image without saving it.
+     * 
+     * @param view the view to render
+     * @return the rendered image
+     * @since 1.1.0
+     */
+    public BufferedImage render(View view) {
+        Dimension size = imageSize(view);
+        return render(view, new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB));
+    }
+
+    /**
+     * Renders a view into an existing image, overwriting every pixel.
+     * 
+     * @param view the view to render
+     * @param image the target image, exactly {@link #imageSize(View)} in size
+     * @return the target image
+     * @since 1.1.0
+     */
+    public BufferedImage render(View view, BufferedImage image) {
+        Dimension size = imageSize(view);
+        if (image.getWidth() != size.width || image.getHeight() != size.height) {
+            throw new IllegalArgumentException("Image size doesn't match the " + view + " view");
+        }
+        switch (view) {
+            case FLOOR_PLAN:
+                return renderFloorPlan(image);
+            case CEILING:
+                return renderCeiling(image);
+            default:
+                return renderWall(view.getWall(), image);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return "image/png";
+    }
+
+    /**
+     * Renders a view and encodes it as PNG, without saving a file.
+     * 
+     * @param view the view to encode
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    @Override
+    public void write(View view, OutputStream out) throws IOException {
+        PngEncodingPipeline.writePng(render(view), out, PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL);
+        out.flush();
+    }
+
+    /**
+     * Returns the pixel size of a rendered view.
+     * 
+     * @param view the view
+     * @return the width and height of the image {@link #render(View)} produces
+     * @since 1.1.0
+     */
+    public Dimension imageSize(View view) {
+        double viewWidth;
+        double viewHeight;
+        if (view.getWall() == null) {
+            viewWidth = room.getWidth();
+            viewHeight = room.getLength();
+        } else {
+            viewWidth = (view == View.NORTH_WALL || view == View.SOUTH_WALL) ? room.getWidth() : room.getLength();
+            viewHeight = room.getHeight();
+        }
+        return new Dimension((int) (viewWidth * scale) + 40, (int) (viewHeight * scale) + 40);
+    }
+
+    /**
+     * Renders all views on the calling thread and hands them to an encoding pipeline.
+     * 
+     * <p>Rendering the next view overlaps with compressing and writing the previous
+     * ones on the pipeline's encoder thread. Images come from
+     * {@link PngEncodingPipeline#acquireImage(int, int)}, so they are recycled when the
+     * pipeline reuses buffers.
+     * 
+     * @param pipeline the pipeline that encodes and writes the images
+     * @return one future per view, completing with the path of the saved image
+     * @since 1.1.0
+     */
+    public Map<View, CompletableFuture<Path>> visualizeAll(PngEncodingPipeline pipeline) {
+        Map<View, CompletableFuture<Path>> futures = new EnumMap<>(View.class);
+        for (View view : View.values()) {
+            Dimension size = imageSize(view);
+            BufferedImage image = render(view, pipeline.acquireImage(size.width, size.height));
+            futures.put(view, pipeline.submit(image, outputPath(view.getBaseName() + ".png")));
+        }
+        return futures;
+    }
+
+    /**
+     * Returns a renderer that rasterizes the floor plan in fixed-size tiles.
+     *
+     * <p>Use it for rooms whose floor plan is too large to hold in memory as one image.
+     *
+     * @param tileSize the width and height of a tile in pixels
+     * @return a tiled renderer for this visualizer's room and scale
+     * @throws IllegalArgumentException if the tile size is not positive
+     * @see TiledFloorPlanRenderer
+     * @since 1.1.0
+     */
+    public TiledFloorPlanRenderer tiled(int tileSize) {
+        return new TiledFloorPlanRenderer(this, tileSize);
+    }
+
+    /**
+     * Returns a retained-mode renderer of the floor plan that repaints only what changed.
+     *
+     * <p>Use it in an editor that redraws the plan after every edit; see
+     * {@link IncrementalFloorPlanRenderer}.
+     *
+     * @return a renderer holding the current floor plan of this visualizer's room
+     * @since 1.1.0
+     */
+    public IncrementalFloorPlanRenderer incremental() {
+        return new IncrementalFloorPlanRenderer(this);
+    }
+
+    /**
+     * Saves the floor plan like {@link #visualizeFloorPlan()}, rendering it tile by tile.
+     *
+     * <p>Only one row of tiles is held in memory at a time; the tiles of a row are
+     * rendered in parallel on the executor. The resulting image is the same one
+     * {@link #visualizeFloorPlan()} writes.
+     *
+     * @param tileSize the width and height of a tile in pixels
+     * @param executor the executor that renders the tiles
+     * @return the path of the saved image
+     * @throws UncheckedIOException if the file cannot be written
+     * @since 1.1.0
+     */
+    public Path visualizeFloorPlanTiled(int tileSize, Executor executor) {
+        Path path = outputPath(View.FLOOR_PLAN.getBaseName() + ".png");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            tiled(tileSize).writePng(out, executor);
+            System.out.println("Saved: " + path);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
     @Override
     public void visualizeFloorPlan() {
-        int width = (int) (room.getWidth() * SCALE) + 40;
-        int height = (int) (room.getLength() * SCALE) + 40;
+        saveImage(render(View.FLOOR_PLAN), "floor_plan.png");
+    }
+
+    @Override
+    public void visualizeWall(Wall wall) {
+        if (wall == Wall.FLOOR || wall == Wall.CEILING) return;
+
+        saveImage(render(View.ofWall(wall)), wall.toString().toLowerCase() + "_wall.png");
+    }
+
+    @Override
+    public void visualizeCeiling() {
+        saveImage(render(View.CEILING), "ceiling.png");
+    }
 
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    private BufferedImage renderFloorPlan(BufferedImage image) {
         Graphics2D g = image.createGraphics();
+        drawFloorPlan(g, null);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Draws the floor plan in image coordinates, optionally limited to a region.
+     * 
+     * <p>With a region, only furniture near it is looked up in the room's spatial index
+     * and drawn, so the cost of a tile depends on what it shows rather than on the whole
+     * room. The caller is expected to clip the graphics to the region.
+     * 
+     * @param g the graphics to draw on
+     * @param region the pixel region being drawn, or {@code null} for the whole image
+     */
+    void drawFloorPlan(Graphics2D g, Rectangle region) {
+        Dimension size = imageSize(View.FLOOR_PLAN);
+        int width = size.width;
+        int height = size.height;
+
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         g.setColor(Color.WHITE);
         g.fillRect(0, 0, width, height);
 
         g.setColor(FLOOR_COLOR);
-        g.fillRect(20, 20, (int) (room.getWidth() * SCALE), (int) (room.getLength() * SCALE));
+        g.fillRect(20, 20, (int) (room.getWidth() * scale), (int) (room.getLength() * scale));
 
         g.setColor(WALL_COLOR);
         g.setStroke(new BasicStroke(3));
-        g.drawRect(20, 20, (int) (room.getWidth() * SCALE), (int) (room.getLength() * SCALE));
+        g.drawRect(20, 20, (int) (room.getWidth() * scale), (int) (room.getLength() * scale));
 
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : region == null ? room.getFurnitureView() : furnitureNear(region)) {
             drawFurniture(g, f);
         }
 
-        for (Door d : room.getDoors()) {
+        for (Door d : room.getDoorView()) {
             drawDoorOnFloorPlan(g, d);
         }
 
-        for (Window w : room.getWindows()) {
+        for (Window w : room.getWindowView()) {
             drawWindowOnFloorPlan(g, w);
         }
 
@@ -84,20 +366,47 @@ public class ImageVisualizer implements Visualizer {
         g.drawString("E", width - 15, height / 2);
 
         drawLegend(g, width - 150, height - 100);
+    }
 
-        g.dispose();
-        saveImage(image, "floor_plan.png");
+    /**
+     * Returns the furniture whose drawing may reach into a pixel region of the floor plan.
+     * 
+     * @param region the pixel region
+     * @return the furniture in insertion order, which is also the drawing order
+     */
+    List<Furniture> furnitureNear(Rectangle region) {
+        // Outlines and labels can spill a few pixels past the furniture bounds
+        double margin = (double) LABEL_OVERHANG / scale;
+        return room.furnitureIntersecting(
+            (region.x - 20) / (double) scale - margin,
+            (region.y - 20) / (double) scale - margin,
+            region.width / (double) scale + 2 * margin,
+            region.height / (double) scale + 2 * margin);
     }
 
-    @Override
-    public void visualizeWall(Wall wall) {
-        if (wall == Wall.FLOOR || wall == Wall.CEILING) return;
+    /**
+     * Returns the pixel region of the floor plan a piece of furniture may paint, including
+     * outline and label overhang.
+     *
+     * @param f the furniture
+     * @return the region in image coordinates
+     */
+    Rectangle furnitureBounds(Furniture f) {
+        OrientedBox footprint = f.getFootprint();
+        int x = (int) (footprint.getMinX() * scale) + 20;
+        int y = (int) (footprint.getMinY() * scale) + 20;
+        // One more pixel for rotated outlines, whose corners are rounded to pixels
+        int rounding = footprint.isAxisAligned() ? 1 : 2;
+        return new Rectangle(x - LABEL_OVERHANG, y - LABEL_OVERHANG,
+            (int) (footprint.getBoundsWidth() * scale) + 2 * LABEL_OVERHANG + rounding,
+            (int) (footprint.getBoundsLength() * scale) + 2 * LABEL_OVERHANG + rounding);
+    }
 
+    private BufferedImage renderWall(Wall wall, BufferedImage image) {
         double wallWidth = (wall == Wall.NORTH || wall == Wall.SOUTH) ? room.getWidth() : room.getLength();
-        int width = (int) (wallWidth * SCALE) + 40;
-        int height = (int) (room.getHeight() * SCALE) + 40;
+        int width = (int) (wallWidth * scale) + 40;
+        int height = (int) (room.getHeight() * scale) + 40;
 
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g = image.createGraphics();
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -105,19 +414,19 @@ public class ImageVisualizer implements Visualizer {
         g.fillRect(0, 0, width, height);
 
         g.setColor(new Color(250, 240, 230));
-        g.fillRect(20, 20, (int) (wallWidth * SCALE), (int) (room.getHeight() * SCALE));
+        g.fillRect(20, 20, (int) (wallWidth * scale), (int) (room.getHeight() * scale));
 
         g.setColor(WALL_COLOR);
         g.setStroke(new BasicStroke(2));
-        g.drawRect(20, 20, (int) (wallWidth * SCALE), (int) (room.getHeight() * SCALE));
+        g.drawRect(20, 20, (int) (wallWidth * scale), (int) (room.getHeight() * scale));
 
-        for (Door d : room.getDoors()) {
+        for (Door d : room.getDoorView()) {
             if (d.getWall() == wall) {
                 drawDoorOnWall(g, d);
             }
         }
 
-        for (Window w : room.getWindows()) {
+        for (Window w : room.getWindowView()) {
             if (w.getWall() == wall) {
                 drawWindowOnWall(g, w);
             }
@@ -130,15 +439,13 @@ public class ImageVisualizer implements Visualizer {
         g.drawString(wall.toString() + " Wall View", width / 2 - 40, 15);
 
         g.dispose();
-        saveImage(image, wall.toString().toLowerCase() + "_wall.png");
+        return image;
     }
 
-    @Override
-    public void visualizeCeiling() {
-        int width = (int) (room.getWidth() * SCALE) + 40;
-        int height = (int) (room.getLength() * SCALE) + 40;
+    private BufferedImage renderCeiling(BufferedImage image) {
+        int width = (int) (room.getWidth() * scale) + 40;
+        int height = (int) (room.getLength() * scale) + 40;
 
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g = image.createGraphics();
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -146,14 +453,14 @@ public class ImageVisualizer implements Visualizer {
         g.fillRect(0, 0, width, height);
 
         g.setColor(CEILING_COLOR);
-        g.fillRect(20, 20, (int) (room.getWidth() * SCALE), (int) (room.getLength() * SCALE));
+        g.fillRect(20, 20, (int) (room.getWidth() * scale), (int) (room.getLength() * scale));
 
         g.setColor(WALL_COLOR);
         g.setStroke(new BasicStroke(3));
-        g.drawRect(20, 20, (int) (room.getWidth() * SCALE), (int) (room.getLength() * SCALE));
+        g.drawRect(20, 20, (int) (room.getWidth() * scale), (int) (room.getLength() * scale));
 
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : room.getFurnitureView()) {
             if (f.getHeight() > room.getHeight() * 0.5) {
                 drawFurniture(g, f);
             }
@@ -165,14 +472,18 @@ public class ImageVisualizer implements Visualizer {
         g.drawString("Ceiling View", width / 2 - 40, 15);
 
         g.dispose();
-        saveImage(image, "ceiling.png");
+        return image;
     }
 
     private void drawFurniture(Graphics2D g, Furniture f) {
-        int x = (int) (f.getX() * SCALE) + 20;
-        int y = (int) (f.getY() * SCALE) + 20;
-        int width = (int) (f.getWidth() * SCALE);
-        int length = (int) (f.getLength() * SCALE);
+        if (f.getRotation() != 0) {
+            drawRotatedFurniture(g, f);
+            return;
+        }
+        int x = (int) (f.getX() * scale) + 20;
+        int y = (int) (f.getY() * scale) + 20;
+        int width = (int) (f.getWidth() * scale);
+        int length = (int) (f.getLength() * scale);
 
         g.setColor(FURNITURE_COLOR);
         g.fillRect(x, y, width, length);
@@ -193,22 +504,51 @@ public class ImageVisualizer implements Visualizer {
         }
     }
 
+    private void drawRotatedFurniture(Graphics2D g, Furniture f) {
+        OrientedBox footprint = f.getFootprint();
+        Polygon outline = new Polygon();
+        for (int i = 0; i < 4; i++) {
+            outline.addPoint((int) Math.round(footprint.getCornerX(i) * scale) + 20,
+                (int) Math.round(footprint.getCornerY(i) * scale) + 20);
+        }
+
+        g.setColor(FURNITURE_COLOR);
+        g.fillPolygon(outline);
+
+        g.setColor(Color.BLACK);
+        g.setStroke(new BasicStroke(1));
+        g.drawPolygon(outline);
+
+        // Labels stay horizontal, centered on the piece
+        g.setFont(new Font("Arial", Font.PLAIN, 10));
+        FontMetrics fm = g.getFontMetrics();
+        int centerX = (int) (footprint.getCenterX() * scale) + 20;
+        int centerY = (int) (footprint.getCenterY() * scale) + 20;
+        String name = f.getName();
+        int textWidth = fm.stringWidth(name);
+        if (textWidth < (int) (footprint.getBoundsWidth() * scale) - 4) {
+            g.drawString(name, centerX - textWidth / 2, centerY);
+        } else {
+            g.drawString(name.substring(0, 1), centerX - 3, centerY);
+        }
+    }
+
     private void drawDoorOnFloorPlan(Graphics2D g, Door d) {
         g.setColor(DOOR_COLOR);
         g.setStroke(new BasicStroke(4));
 
-        int pos = (int) (d.getPosition() * SCALE) + 20;
-        int width = (int) (d.getWidth() * SCALE);
+        int pos = (int) (d.getPosition() * scale) + 20;
+        int width = (int) (d.getWidth() * scale);
 
         switch (d.getWall()) {
             case NORTH:
                 g.drawLine(pos, 20, pos + width, 20);
                 break;
             case SOUTH:
-                g.drawLine(pos, 20 + (int) (room.getLength() * SCALE), pos + width, 20 + (int) (room.getLength() * SCALE));
+                g.drawLine(pos, 20 + (int) (room.getLength() * scale), pos + width, 20 + (int) (room.getLength() * scale));
                 break;
             case EAST:
-                g.drawLine(20 + (int) (room.getWidth() * SCALE), pos, 20 + (int) (room.getWidth() * SCALE), pos + width);
+                g.drawLine(20 + (int) (room.getWidth() * scale), pos, 20 + (int) (room.getWidth() * scale), pos + width);
                 break;
             case WEST:
                 g.drawLine(20, pos, 20, pos + width);
@@ -220,18 +560,18 @@ public class ImageVisualizer implements Visualizer {
         g.setColor(WINDOW_COLOR);
         g.setStroke(new BasicStroke(3));
 
-        int pos = (int) (w.getPosition() * SCALE) + 20;
-        int width = (int) (w.getWidth() * SCALE);
+        int pos = (int) (w.getPosition() * scale) + 20;
+        int width = (int) (w.getWidth() * scale);
 
         switch (w.getWall()) {
             case NORTH:
                 g.drawLine(pos, 20, pos + width, 20);
                 break;
             case SOUTH:
-                g.drawLine(pos, 20 + (int) (room.getLength() * SCALE), pos + width, 20 + (int) (room.getLength() * SCALE));
+                g.drawLine(pos, 20 + (int) (room.getLength() * scale), pos + width, 20 + (int) (room.getLength() * scale));
                 break;
             case EAST:
-                g.drawLine(20 + (int) (room.getWidth() * SCALE), pos, 20 + (int) (room.getWidth() * SCALE), pos + width);
+                g.drawLine(20 + (int) (room.getWidth() * scale), pos, 20 + (int) (room.getWidth() * scale), pos + width);
                 break;
             case WEST:
                 g.drawLine(20, pos, 20, pos + width);
@@ -248,10 +588,10 @@ public class ImageVisualizer implements Visualizer {
             position = wallWidth - d.getPosition() - d.getWidth();
         }
         
-        int x = (int) (position * SCALE) + 20;
-        int width = (int) (d.getWidth() * SCALE);
-        int height = (int) (d.getHeight() * SCALE);
-        int y = 20 + (int) (room.getHeight() * SCALE) - height;
+        int x = (int) (position * scale) + 20;
+        int width = (int) (d.getWidth() * scale);
+        int height = (int) (d.getHeight() * scale);
+        int y = 20 + (int) (room.getHeight() * scale) - height;
 
         g.setColor(DOOR_COLOR);
         g.fillRect(x, y, width, height);
@@ -272,11 +612,11 @@ public class ImageVisualizer implements Visualizer {
             position = wallWidth - w.getPosition() - w.getWidth();
         }
         
-        int x = (int) (position * SCALE) + 20;
-        int width = (int) (w.getWidth() * SCALE);
-        int height = (int) (w.getHeight() * SCALE);
-        int bottomHeight = (int) (w.getBottomHeight() * SCALE);
-        int y = 20 + (int) (room.getHeight() * SCALE) - bottomHeight - height;
+        int x = (int) (position * scale) + 20;
+        int width = (int) (w.getWidth() * scale);
+        int height = (int) (w.getHeight() * scale);
+        int bottomHeight = (int) (w.getBottomHeight() * scale);
+        int y = 20 + (int) (room.getHeight() * scale) - bottomHeight - height;
 
         g.setColor(WINDOW_COLOR);
         g.fillRect(x, y, width, height);
@@ -292,16 +632,16 @@ public class ImageVisualizer implements Visualizer {
     private void drawFurnitureProjections(Graphics2D g, Wall wall, double wallWidth) {
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.2f));
 
-        for (Furniture f : room.getFurniture()) {
+        for (Furniture f : room.furnitureNearWall(wall, room.getLength() / 2)) {
             double distance = calculateDistanceToWall(f, wall);
             if (distance < room.getLength() / 2) {
                 double projStart = calculateProjectionStart(f, wall);
                 double projWidth = calculateProjectionWidth(f, wall);
 
-                int x = (int) (projStart * SCALE) + 20;
-                int width = (int) (projWidth * SCALE);
-                int y = 20 + (int) (room.getHeight() * SCALE) - (int) (f.getHeight() * SCALE);
-                int height = (int) (f.getHeight() * SCALE);
+                int x = (int) (projStart * scale) + 20;
+                int width = (int) (projWidth * scale);
+                int y = 20 + (int) (room.getHeight() * scale) - (int) (f.getHeight() * scale);
+                int height = (int) (f.getHeight() * scale);
 
                 float alpha = (float) (0.3 * (1 - distance / (room.getLength() / 2)));
                 g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
@@ -316,13 +656,13 @@ public class ImageVisualizer implements Visualizer {
     private double calculateDistanceToWall(Furniture f, Wall wall) {
         switch (wall) {
             case NORTH:
-                return f.getY();
+                return f.getFootprint().getMinY();
             case SOUTH:
-                return room.getLength() - (f.getY() + f.getLength());
+                return room.getLength() - f.getFootprint().getMaxY();
             case EAST:
-                return room.getWidth() - (f.getX() + f.getWidth());
+                return room.getWidth() - f.getFootprint().getMaxX();
             case WEST:
-                return f.getX();
+                return f.getFootprint().getMinX();
             default:
                 return Double.MAX_VALUE;
         }
@@ -332,12 +672,12 @@ public class ImageVisualizer implements Visualizer {
         switch (wall) {
             case NORTH:
             case SOUTH:
-                return f.getX();
+                return f.getFootprint().getMinX();
             case EAST:
-                return f.getY();
+                return f.getFootprint().getMinY();
             case WEST:
                 // Flip the coordinate for west wall to show from inside perspective
-                return room.getLength() - (f.getY() + f.getLength());
+                return room.getLength() - f.getFootprint().getMaxY();
             default:
                 return 0;
         }
@@ -347,10 +687,10 @@ public class ImageVisualizer implements Visualizer {
         switch (wall) {
             case NORTH:
             case SOUTH:
-                return f.getWidth();
+                return f.getFootprint().getBoundsWidth();
             case EAST:
             case WEST:
-                return f.getLength();
+                return f.getFootprint().getBoundsLength();
             default:
                 return 0;
         }
@@ -378,12 +718,28 @@ public class ImageVisualizer implements Visualizer {
     }
 
     private void saveImage(BufferedImage image, String filename) {
-        Path path = Paths.get(outputDirectory, filename);
+        try {
+            writeImage(image, filename);
+        } catch (UncheckedIOException e) {
+            System.err.println("Error saving image " + filename + ": " + e.getCause().getMessage());
+        }
+    }
+
+    private Path outputPath(String filename) {
+        if (outputDirectory == null) {
+            throw new IllegalStateException("Visualizer has no output directory");
+        }
+        return Paths.get(outputDirectory, filename);
+    }
+
+    private Path writeImage(BufferedImage image, String filename) {
+        Path path = outputPath(filename);
         try (OutputStream out = Files.newOutputStream(path)) {
-            ImageIO.write(image, "png", out);
+            PngEncodingPipeline.writePng(image, out, PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL);
             System.out.println("Saved: " + path);
+            return path;
         } catch (IOException e) {
-            System.err.println("Error saving image " + filename + ": " + e.getMessage());
+            throw new UncheckedIOException(e);
         }
     }
 }
\ No newline at end of file
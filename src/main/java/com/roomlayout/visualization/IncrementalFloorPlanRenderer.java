@@ -0,0 +1,129 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Window;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Keeps a rendered floor plan and repaints only the regions that change between frames.
+ *
+ * <p>{@link ImageVisualizer#visualizeFloorPlan()} redraws every pixel and every piece of
+ * furniture. In an editor, a drag changes one piece per frame, so redrawing the whole plan
+ * makes frame time grow with the room. This renderer remembers what it drew. Each call to
+ * {@link #update(RoomLayout)} compares the new layout with the previous frame, repaints
+ * the old and new bounds of each changed piece, and returns those rectangles so the caller
+ * can blit just them to the screen.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * IncrementalFloorPlanRenderer canvas = new ImageVisualizer(snapshot, "out", 40).incremental();
+ * // On every drag event
+ * snapshot = ...;  // the layout with the piece at its new position
+ * for (Rectangle damaged : canvas.update(snapshot)) {
+ *     panel.repaint(damaged);
+ * }
+ * // In paintComponent
+ * g.drawImage(canvas.getImage(), 0, 0, null);
+ * }</pre>
+ *
+ * <p>The repainted pixels are identical to those of a full render of the new layout.
+ * Changing doors or windows repaints the whole plan. The renderer is not thread-safe.
+ *
+ * @see ImageVisualizer#incremental()
+ * @see IncrementalTextFloorPlanRenderer
+ * @since 1.1.0
+ */
+public final class IncrementalFloorPlanRenderer {
+    private final BufferedImage image;
+    private final Rectangle bounds;
+    private ImageVisualizer visualizer;
+    private Furniture[] furniture;
+    private Door[] doors;
+    private Window[] windows;
+
+    IncrementalFloorPlanRenderer(ImageVisualizer visualizer) {
+        Dimension size = visualizer.imageSize(View.FLOOR_PLAN);
+        this.image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB);
+        this.bounds = new Rectangle(0, 0, size.width, size.height);
+        this.visualizer = visualizer;
+        visualizer.render(View.FLOOR_PLAN, image);
+        remember(visualizer.getRoom());
+    }
+
+    /**
+     * Returns the rendered floor plan. The same image is updated in place by every frame.
+     *
+     * @return the image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Brings the floor plan up to date with a new version of the room.
+     *
+     * @param room the room to draw; it must have the dimensions of the first frame
+     * @return the repainted regions, in image coordinates and not overlapping; empty if
+     *         nothing visible changed
+     * @throws IllegalArgumentException if the room has different dimensions
+     */
+    public List<Rectangle> update(RoomLayout room) {
+        ImageVisualizer next = visualizer.withRoom(room);
+        if (!next.imageSize(View.FLOOR_PLAN).equals(bounds.getSize())) {
+            throw new IllegalArgumentException("Room dimensions don't match the rendered floor plan");
+        }
+        DirtyRegions dirty = new DirtyRegions(bounds);
+        if (DirtyRegions.sameWallItems(doors, room.getDoorView())
+            && DirtyRegions.sameWallItems(windows, room.getWindowView())) {
+            DirtyRegions.forEachChange(furniture, room.getFurnitureView(),
+                f -> dirty.add(visualizer.furnitureBounds(f)));
+        } else {
+            dirty.addAll();
+        }
+        visualizer = next;
+        List<Rectangle> damaged = dirty.toList();
+        repaint(damaged);
+        remember(room);
+        return damaged;
+    }
+
+    /**
+     * Repaints regions of the floor plan from the current room, for example after the
+     * caller drew over the image.
+     *
+     * @param regions the regions to repaint, in image coordinates
+     * @return the repainted regions, clipped to the image and not overlapping
+     */
+    public List<Rectangle> invalidate(Rectangle... regions) {
+        DirtyRegions dirty = new DirtyRegions(bounds);
+        for (Rectangle region : regions) {
+            dirty.add(region);
+        }
+        List<Rectangle> damaged = dirty.toList();
+        repaint(damaged);
+        return damaged;
+    }
+
+    private void repaint(List<Rectangle> regions) {
+        for (Rectangle region : regions) {
+            Graphics2D g = image.createGraphics();
+            g.setClip(region);
+            visualizer.drawFloorPlan(g, region);
+            g.dispose();
+        }
+    }
+
+    private void remember(RoomLayout room) {
+        // Copy, because a mutable room's views change along with the room
+        furniture = room.getFurnitureView().toArray(new Furniture[0]);
+        doors = room.getDoorView().toArray(new Door[0]);
+        windows = room.getWindowView().toArray(new Window[0]);
+    }
+}
@@ -0,0 +1,126 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Window;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Keeps the character grid of a text floor plan and redraws only the cells that change
+ * between frames.
+ *
+ * <p>This is the text counterpart of {@link IncrementalFloorPlanRenderer}. The grid holds
+ * the same rows {@link TextVisualizer#writeFloorPlan(java.io.Writer)} writes between its
+ * header and legend, walls included. Each call to {@link #update(RoomLayout)} redraws the
+ * cells under the old and new positions of each changed piece and returns them as
+ * rectangles of columns and rows, so a terminal UI can rewrite just those cells.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * IncrementalTextFloorPlanRenderer grid = new TextVisualizer(snapshot, "out").incremental();
+ * for (Rectangle damaged : grid.update(nextSnapshot)) {
+ *     terminal.redraw(grid.getGrid(), damaged);
+ * }
+ * }</pre>
+ *
+ * <p>Changing doors or windows redraws the whole grid. The renderer is not thread-safe.
+ *
+ * @see TextVisualizer#incremental()
+ * @since 1.1.0
+ */
+public final class IncrementalTextFloorPlanRenderer {
+    private final char[][] grid;
+    private final char[] scratch;
+    private final Rectangle bounds;
+    private TextVisualizer visualizer;
+    private Furniture[] furniture;
+    private Door[] doors;
+    private Window[] windows;
+
+    IncrementalTextFloorPlanRenderer(TextVisualizer visualizer) {
+        Dimension size = visualizer.topDownGridSize();
+        this.grid = new char[size.height][size.width];
+        this.scratch = new char[size.width];
+        this.bounds = new Rectangle(0, 0, size.width, size.height);
+        this.visualizer = visualizer;
+        repaint(List.of(bounds));
+        remember(visualizer.getRoom());
+    }
+
+    /**
+     * Returns the floor plan grid, indexed by row and then column. The same arrays are
+     * updated in place by every frame.
+     *
+     * @return the grid
+     */
+    public char[][] getGrid() {
+        return grid;
+    }
+
+    /**
+     * Brings the grid up to date with a new version of the room.
+     *
+     * @param room the room to draw; it must have the dimensions of the first frame
+     * @return the redrawn cells as rectangles of columns and rows, not overlapping; empty
+     *         if nothing visible changed
+     * @throws IllegalArgumentException if the room has different dimensions
+     */
+    public List<Rectangle> update(RoomLayout room) {
+        TextVisualizer next = visualizer.withRoom(room);
+        if (!next.topDownGridSize().equals(bounds.getSize())) {
+            throw new IllegalArgumentException("Room dimensions don't match the rendered floor plan");
+        }
+        DirtyRegions dirty = new DirtyRegions(bounds);
+        if (DirtyRegions.sameWallItems(doors, room.getDoorView())
+            && DirtyRegions.sameWallItems(windows, room.getWindowView())) {
+            DirtyRegions.forEachChange(furniture, room.getFurnitureView(),
+                f -> dirty.add(visualizer.furnitureCells(f)));
+        } else {
+            dirty.addAll();
+        }
+        visualizer = next;
+        List<Rectangle> damaged = dirty.toList();
+        repaint(damaged);
+        remember(room);
+        return damaged;
+    }
+
+    /**
+     * Redraws cells of the grid from the current room, for example after the caller wrote
+     * a cursor into it.
+     *
+     * @param regions the cells to redraw, as rectangles of columns and rows
+     * @return the redrawn cells, clipped to the grid and not overlapping
+     */
+    public List<Rectangle> invalidate(Rectangle... regions) {
+        DirtyRegions dirty = new DirtyRegions(bounds);
+        for (Rectangle region : regions) {
+            dirty.add(region);
+        }
+        List<Rectangle> damaged = dirty.toList();
+        repaint(damaged);
+        return damaged;
+    }
+
+    private void repaint(List<Rectangle> regions) {
+        for (Rectangle region : regions) {
+            List<Furniture> band = visualizer.furnitureInRows(region.y, region.y + region.height);
+            for (int i = region.y; i < region.y + region.height; i++) {
+                // Rows are drawn whole, then only the damaged columns are copied
+                visualizer.drawFloorPlanRow(scratch, i, band);
+                System.arraycopy(scratch, region.x, grid[i], region.x, region.width);
+            }
+        }
+    }
+
+    private void remember(RoomLayout room) {
+        // Copy, because a mutable room's views change along with the room
+        furniture = room.getFurnitureView().toArray(new Furniture[0]);
+        doors = room.getDoorView().toArray(new Door[0]);
+        windows = room.getWindowView().toArray(new Window[0]);
+    }
+}
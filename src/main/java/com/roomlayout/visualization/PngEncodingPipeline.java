@@ -0,0 +1,341 @@
+package com.roomlayout.visualization;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background stage that encodes rendered images to PNG and writes them to disk.
+ *
+ * <p>Rendering threads hand finished images to {@link #submit(BufferedImage, Path)} and carry
+ * on with the next view while a dedicated encoder thread compresses and writes the previous
+ * ones. The hand-off queue is bounded, so a renderer that outpaces the encoder blocks instead
+ * of piling up images in memory.
+ *
+ * <p>Two knobs trade speed for size and allocation:
+ * <ul>
+ * <li>the PNG compression level, from 0 (fastest, largest files) to 9 (slowest, smallest),
+ * or {@link #DEFAULT_COMPRESSION_LEVEL} for the ImageIO default</li>
+ * <li>buffer reuse: when enabled, images are returned to a pool once written and handed out
+ * again by {@link #acquireImage(int, int)}, so exporting many rooms of the same size stops
+ * allocating a new raster per view</li>
+ * </ul>
+ *
+ * <p>Example:
+ * <pre>{@code
+ * try (PngEncodingPipeline pipeline = new PngEncodingPipeline(4, 1, true)) {
+ *     for (Room room : rooms) {
+ *         new ImageVisualizer(room, "out/" + room.hashCode()).visualizeAll(pipeline);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ImageVisualizer#visualizeAll(PngEncodingPipeline)
+ * @since 1.1.0
+ */
+public final class PngEncodingPipeline implements AutoCloseable {
+    /** Compression level that leaves the choice to the ImageIO PNG writer. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = -1;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    // The queue and both flags are guarded by lock, so a job is either queued before close()
+    // or rejected, and nobody waits on a queue the encoder no longer drains
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<Job> queue;
+    private final int queueCapacity;
+    private boolean closed;
+    private Throwable encoderFailure;
+
+    private final int compressionLevel;
+    private final boolean reuseBuffers;
+    private final int maxPooledPerSize;
+    private final Map<Long, Deque<BufferedImage>> pool;
+    private final Thread encoderThread;
+
+    public PngEncodingPipeline() {
+        this(DEFAULT_QUEUE_CAPACITY, DEFAULT_COMPRESSION_LEVEL, false);
+    }
+
+    /**
+     * Creates a pipeline and starts its encoder thread.
+     *
+     * @param queueCapacity the number of images that may wait for encoding
+     * @param compressionLevel the deflate level from 0 to 9, or {@link #DEFAULT_COMPRESSION_LEVEL}
+     * @param reuseBuffers whether written images are pooled for {@link #acquireImage(int, int)}
+     * @throws IllegalArgumentException if the capacity is not positive or the level is out of range
+     */
+    public PngEncodingPipeline(int queueCapacity, int compressionLevel, boolean reuseBuffers) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (compressionLevel < DEFAULT_COMPRESSION_LEVEL || compressionLevel > 9) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9");
+        }
+        this.queue = new ArrayDeque<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.compressionLevel = compressionLevel;
+        this.reuseBuffers = reuseBuffers;
+        this.maxPooledPerSize = queueCapacity + 1;
+        this.pool = new ConcurrentHashMap<>();
+        this.encoderThread = new Thread(this::encodeLoop, "png-encoder-" + THREAD_COUNTER.incrementAndGet());
+        this.encoderThread.setDaemon(true);
+        this.encoderThread.start();
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public boolean isReusingBuffers() {
+        return reuseBuffers;
+    }
+
+    /**
+     * Returns an RGB image of the given size, taken from the pool when buffer reuse is enabled.
+     *
+     * <p>Pooled images still hold the pixels of a previous view; renderers are expected to
+     * paint every pixel.
+     *
+     * @param width the image width in pixels
+     * @param height the image height in pixels
+     * @return an image the caller owns until it is submitted
+     */
+    public BufferedImage acquireImage(int width, int height) {
+        if (reuseBuffers) {
+            Deque<BufferedImage> free = pool.get(sizeKey(width, height));
+            BufferedImage image = free == null ? null : free.pollFirst();
+            if (image != null) {
+                return image;
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Queues an image for encoding, blocking while the queue is full.
+     *
+     * <p>Ownership of the image passes to the pipeline: the caller must not draw on it
+     * afterwards, because it may be handed out again by {@link #acquireImage(int, int)}.
+     *
+     * @param image the rendered image
+     * @param target the file to write
+     * @return a future completing with {@code target} once the file is written, or
+     *         exceptionally with an {@link UncheckedIOException}, or with an
+     *         {@link IllegalStateException} if the encoder thread has died
+     * @throws IllegalStateException if the pipeline is closed before the image is queued
+     */
+    public CompletableFuture<Path> submit(BufferedImage image, Path target) {
+        Job job = new Job(image, target, new CompletableFuture<>());
+        lock.lock();
+        try {
+            while (!closed && encoderFailure == null && queue.size() == queueCapacity) {
+                notFull.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("Pipeline is closed");
+            }
+            if (encoderFailure != null) {
+                job.result.completeExceptionally(encoderStopped());
+            } else {
+                queue.addLast(job);
+                notEmpty.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.result.completeExceptionally(e);
+        } finally {
+            lock.unlock();
+        }
+        return job.result;
+    }
+
+    /**
+     * Encodes an image as PNG on the calling thread, using the given compression level.
+     *
+     * @param image the image to encode
+     * @param out the stream to write to; it is not closed
+     * @param compressionLevel the deflate level from 0 to 9, or {@link #DEFAULT_COMPRESSION_LEVEL}
+     * @throws IOException if writing fails
+     */
+    public static void writePng(RenderedImage image, OutputStream out, int compressionLevel) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        try {
+            writePng(writer, image, out, compressionLevel);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Waits for all queued images to be written and stops the encoder thread.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            encoderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void encodeLoop() {
+        ImageWriter writer = null;
+        Job job = null;
+        Throwable failure = null;
+        try {
+            writer = ImageIO.getImageWritersByFormatName("png").next();
+            while ((job = take()) != null) {
+                encode(writer, job);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (writer != null) {
+                writer.dispose();
+            }
+            if (failure != null) {
+                failPending(job, failure);
+            }
+        }
+    }
+
+    private Job take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+            Job job = queue.pollFirst();
+            if (job != null) {
+                notFull.signal();
+            }
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void encode(ImageWriter writer, Job job) {
+        RuntimeException failure = null;
+        try (OutputStream out = Files.newOutputStream(job.target)) {
+            writePng(writer, job.image, out, compressionLevel);
+        } catch (IOException e) {
+            failure = new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        // Pool the buffer before completing so callers waiting on the future can reuse it
+        release(job.image);
+        if (failure == null) {
+            job.result.complete(job.target);
+        } else {
+            job.result.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Fails the job the encoder died on and every job still queued, and makes later
+     * submissions fail instead of waiting for an encoder that is gone.
+     */
+    private void failPending(Job current, Throwable cause) {
+        lock.lock();
+        try {
+            encoderFailure = cause;
+            if (current != null) {
+                current.result.completeExceptionally(encoderStopped());
+            }
+            for (Job job : queue) {
+                job.result.completeExceptionally(encoderStopped());
+            }
+            queue.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private IllegalStateException encoderStopped() {
+        return new IllegalStateException("PNG encoder thread stopped", encoderFailure);
+    }
+
+    private void release(BufferedImage image) {
+        if (!reuseBuffers) {
+            return;
+        }
+        Deque<BufferedImage> free = pool.computeIfAbsent(sizeKey(image.getWidth(), image.getHeight()),
+            k -> new ConcurrentLinkedDeque<>());
+        if (free.size() < maxPooledPerSize) {
+            free.offerFirst(image);
+        }
+    }
+
+    private static void writePng(ImageWriter writer, RenderedImage image, OutputStream out,
+                                 int compressionLevel) throws IOException {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (compressionLevel != DEFAULT_COMPRESSION_LEVEL) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(1.0f - compressionLevel / 9.0f);
+        }
+        // Memory cache keeps ImageIO from spilling into temporary files
+        try (ImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.reset();
+        }
+    }
+
+    private static long sizeKey(int width, int height) {
+        return ((long) width << 32) | (height & 0xFFFFFFFFL);
+    }
+
+    private static final class Job {
+        private final BufferedImage image;
+        private final Path target;
+        private final CompletableFuture<Path> result;
+
+        Job(BufferedImage image, Path target, CompletableFuture<Path> result) {
+            this.image = image;
+            this.target = target;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.LayoutFingerprint;
+import com.roomlayout.model.RoomLayout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Caches encoded views of rooms so that rendering an unchanged room again costs a hash
+ * lookup instead of a rasterization.
+ *
+ * <p>Entries are keyed by a fingerprint of the room's contents together with the view,
+ * the scale and the output format. The fingerprint is computed from the dimensions and
+ * every furniture piece, door and window on each lookup, so editing a room, or rendering
+ * an equal copy of it, needs no explicit invalidation. Entries hold the encoded bytes,
+ * either a PNG from {@link ImageVisualizer} or UTF-8 text from {@link TextVisualizer}, and
+ * the least recently used ones are evicted once their total size exceeds the limit.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * RenderCache cache = new RenderCache(64 * 1024 * 1024);
+ * cache.write(room, View.FLOOR_PLAN, 50, RenderCache.Format.PNG, response.getOutputStream());
+ * }</pre>
+ *
+ * <p>The cache is safe to share between threads. Rendering happens outside the lock, so
+ * threads that miss on the same key at the same time may each render it. The room must
+ * not be modified during a lookup.
+ *
+ * @since 1.1.0
+ */
+public final class RenderCache {
+    /**
+     * The encodings a view can be cached in.
+     */
+    public enum Format {
+        /** A PNG image as drawn by {@link ImageVisualizer}; the scale is in pixels per meter. */
+        PNG,
+        /** UTF-8 text as written by {@link TextVisualizer}; the scale is in characters per meter. */
+        TEXT
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxBytes the total size of the cached outputs to keep
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public RenderCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns an encoded view of a room, rendering it only if it is not cached.
+     *
+     * <p>Outputs larger than the whole cache are returned but not kept.
+     *
+     * @param room the room to render
+     * @param view the view to render
+     * @param scale pixels or characters per meter, depending on the format
+     * @param format the output encoding
+     * @return the encoded output; a new array that the caller may modify
+     * @throws IllegalArgumentException if the scale is not positive
+     * @throws UncheckedIOException if encoding fails
+     */
+    public byte[] get(RoomLayout room, View view, int scale, Format format) {
+        return lookup(room, view, scale, format).clone();
+    }
+
+    private byte[] lookup(RoomLayout room, View view, int scale, Format format) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Scale must be positive");
+        }
+        Key key = new Key(fingerprint(room), view, scale, format);
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        byte[] rendered = render(room, view, scale, format);
+        if (rendered.length > maxBytes) {
+            // Caching it would evict every other entry and then the output itself
+            return rendered;
+        }
+        synchronized (this) {
+            byte[] previous = entries.put(key, rendered);
+            if (previous != null) {
+                bytes -= previous.length;
+            }
+            bytes += rendered.length;
+            evict();
+        }
+        return rendered;
+    }
+
+    /**
+     * Writes an encoded view of a room to a stream, rendering it only if it is not cached.
+     *
+     * <p>Unlike {@link #get(RoomLayout, View, int, Format)}, cached bytes are written
+     * without being copied first.
+     *
+     * @param room the room to render
+     * @param view the view to render
+     * @param scale pixels or characters per meter, depending on the format
+     * @param format the output encoding
+     * @param out the stream to write to; it is not closed
+     * @return the number of bytes written
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the scale is not positive
+     */
+    public int write(RoomLayout room, View view, int scale, Format format, OutputStream out) throws IOException {
+        byte[] encoded = lookup(room, view, scale, format);
+        out.write(encoded);
+        return encoded.length;
+    }
+
+    /**
+     * Removes all entries. The hit, miss and eviction counts are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that rendered the view
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entries removed to stay within the size limit
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the fraction of lookups answered from the cache, or 0 before the first lookup
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return the number of cached outputs
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return the total size of the cached outputs in bytes
+     */
+    public synchronized long getSize() {
+        return bytes;
+    }
+
+    public long getMaxSize() {
+        return maxBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("RenderCache: %d entries, %d/%d bytes, %d hits, %d misses, %d evictions",
+            entries.size(), bytes, maxBytes, hits, misses, evictions);
+    }
+
+    private void evict() {
+        Iterator<byte[]> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static byte[] render(RoomLayout room, View view, int scale, Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ViewEncoder encoder = format == Format.PNG
+            ? ImageVisualizer.forStreams(room, scale) : TextVisualizer.forStreams(room, scale);
+        try {
+            encoder.write(view, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Computes a 64-bit hash of everything that affects how a room is drawn.
+     *
+     * @param room the room
+     * @return the fingerprint; equal rooms have equal fingerprints
+     */
+    static long fingerprint(RoomLayout room) {
+        return LayoutFingerprint.of(room);
+    }
+
+    private static final class Key {
+        private final long fingerprint;
+        private final View view;
+        private final int scale;
+        private final Format format;
+
+        Key(long fingerprint, View view, int scale, Format format) {
+            this.fingerprint = fingerprint;
+            this.view = view;
+            this.scale = scale;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return fingerprint == other.fingerprint && view == other.view
+                && scale == other.scale && format == other.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, view, scale, format);
+        }
+    }
+}
@@ -1,53 +1,107 @@
 package com.roomlayout.visualization;
 
+import com.roomlayout.geometry.OrientedBox;
 import com.roomlayout.model.*;
 
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Text-based visualizer that can save room layouts to text files.
  * Provides the same visualization as ConsoleVisualizer but with file output capability.
+ * 
+ * <p>For large floors at high resolution, the {@code write} methods stream each view to a
+ * {@link Writer} or channel one grid row at a time instead of building it in memory.
  */
-public class TextVisualizer implements Visualizer {
+public class TextVisualizer implements Visualizer, ViewEncoder {
     private static final char WALL_CHAR = '#';
     private static final char EMPTY_CHAR = ' ';
     private static final char DOOR_CHAR = 'D';
     private static final char WINDOW_CHAR = 'W';
     private static final char FURNITURE_CHAR = 'F';
     
-    private final Room room;
+    private final RoomLayout room;
     private final int charactersPerMeter;
     private final String outputDirectory;
     private StringBuilder currentOutput;
     
-    public TextVisualizer(Room room, String outputDirectory) {
+    public TextVisualizer(RoomLayout room, String outputDirectory) {
         this(room, outputDirectory, calculateOptimalScale(room));
     }
     
-    public TextVisualizer(Room room, String outputDirectory, int charactersPerMeter) {
+    public TextVisualizer(RoomLayout room, String outputDirectory, int charactersPerMeter) {
+        this(room, outputDirectory, charactersPerMeter, true);
+    }
+    
+    private TextVisualizer(RoomLayout room, String outputDirectory, int charactersPerMeter, boolean createDirectory) {
         this.room = room;
         this.charactersPerMeter = Math.max(1, charactersPerMeter);
         this.outputDirectory = outputDirectory;
         this.currentOutput = new StringBuilder();
         
         // Create output directory if it doesn't exist
-        try {
-            Files.createDirectories(Paths.get(outputDirectory));
-        } catch (IOException e) {
-            System.err.println("Warning: Could not create output directory: " + e.getMessage());
+        if (createDirectory) {
+            try {
+                Files.createDirectories(Paths.get(outputDirectory));
+            } catch (IOException e) {
+                System.err.println("Warning: Could not create output directory: " + e.getMessage());
+            }
         }
     }
     
+    /**
+     * Returns a visualizer that only writes to streams, channels and buffers.
+     * 
+     * <p>Unlike the constructors, this creates no output directory. The {@code visualize}
+     * methods throw an {@link IllegalStateException} on the result; use the
+     * {@link ViewEncoder} {@code write} methods instead.
+     * 
+     * @param room the room to draw
+     * @param charactersPerMeter the number of characters per meter
+     * @return a visualizer without an output directory
+     * @since 1.1.0
+     */
+    public static TextVisualizer forStreams(RoomLayout room, int charactersPerMeter) {
+        return new TextVisualizer(room, null, charactersPerMeter, false);
+    }
+    
+    /**
+     * Returns a visualizer for another room with the same scale and output directory,
+     * without touching the file system.
+     */
+    TextVisualizer withRoom(RoomLayout room) {
+        return new TextVisualizer(room, outputDirectory, charactersPerMeter, false);
+    }
+    
+    RoomLayout getRoom() {
+        return room;
+    }
+    
+    int getCharactersPerMeter() {
+        return charactersPerMeter;
+    }
+    
     /**
      * Calculate optimal charactersPerMeter for text files - can be larger than console since files can handle more
      */
-    private static int calculateOptimalScale(Room room) {
+    private static int calculateOptimalScale(RoomLayout room) {
         double maxDimension = Math.max(room.getWidth(), room.getLength());
         int maxFileSize = 150; // Reasonable width for text files
         
@@ -84,218 +138,426 @@ public class TextVisualizer implements Visualizer {
     
     @Override
     public void visualizeFloorPlan() {
-        StringBuilder output = new StringBuilder();
-        
-        output.append("\n--- FLOOR PLAN (Top-down view) ---\n");
-        output.append(String.format("Scale: %d characters per meter (1 character = %.2f meters)%n", 
-            charactersPerMeter, (1.0 / charactersPerMeter)));
-        
-        int width = (int)(room.getWidth() * charactersPerMeter);
-        int length = (int)(room.getLength() * charactersPerMeter);
-        char[][] grid = new char[length + 2][width + 2];
-        
-        // Initialize grid with walls and empty space
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[0].length; j++) {
-                if (i == 0 || i == grid.length - 1 || j == 0 || j == grid[0].length - 1) {
-                    grid[i][j] = WALL_CHAR;
-                } else {
-                    grid[i][j] = EMPTY_CHAR;
-                }
-            }
+        StringWriter output = new StringWriter();
+        try {
+            writeFloorPlan(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
         
-        // Place furniture
-        for (Furniture f : room.getFurniture()) {
-            placeFurnitureOnGrid(grid, f);
-        }
+        // Add to main output and save individual file
+        currentOutput.append(output.toString());
+        saveToFile("floor_plan.txt", output.toString());
+    }
+    
+    @Override
+    public void visualizeWall(Wall wall) {
+        if (wall == Wall.FLOOR || wall == Wall.CEILING) return;
         
-        // Place doors
-        for (Door d : room.getDoors()) {
-            placeWallItemOnFloorGrid(grid, d, DOOR_CHAR);
+        StringWriter output = new StringWriter();
+        try {
+            writeWall(wall, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
         
-        // Place windows
-        for (Window w : room.getWindows()) {
-            placeWallItemOnFloorGrid(grid, w, WINDOW_CHAR);
+        // Add to main output and save individual file
+        currentOutput.append(output.toString());
+        saveToFile(wall.toString().toLowerCase() + "_wall.txt", output.toString());
+    }
+    
+    @Override
+    public void visualizeCeiling() {
+        StringWriter output = new StringWriter();
+        try {
+            writeCeiling(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
         
-        // Add compass
-        output.append("   N\n");
-        output.append("W     E\n");
-        output.append("   S\n\n");
+        // Add to main output and save individual file
+        currentOutput.append(output.toString());
+        saveToFile("ceiling.txt", output.toString());
+    }
+    
+    /**
+     * Streams the complete layout document, the same text {@link #visualizeAll()} saves to
+     * {@code complete_layout.txt}.
+     * 
+     * <p>Grid rows are produced one at a time and written straight to {@code out}, so
+     * memory use stays at a single row however large the floor is. No files are written.
+     * 
+     * @param out the writer to stream to; it is flushed but not closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    public void writeAll(Writer out) throws IOException {
+        writeLine(out, "=" .repeat(80));
+        writeLine(out, "ROOM LAYOUT VISUALIZATION");
+        writeLine(out, "Generated: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        writeLine(out, "=" .repeat(80));
+        writeLine(out, room.toString());
+        writeLine(out, "");
+        
+        writeFloorPlan(out);
+        writeWall(Wall.NORTH, out);
+        writeWall(Wall.SOUTH, out);
+        writeWall(Wall.EAST, out);
+        writeWall(Wall.WEST, out);
+        writeCeiling(out);
+        out.flush();
+    }
+    
+    /**
+     * Streams the complete layout document to a channel as UTF-8.
+     * 
+     * @param channel the channel to stream to; it is not closed
+     * @throws IOException if writing fails
+     * @see #writeAll(Writer)
+     * @since 1.1.0
+     */
+    public void writeAll(WritableByteChannel channel) throws IOException {
+        writeAll(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Streams the floor plan view row by row.
+     * 
+     * @param out the writer to stream to; it is not flushed or closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    public void writeFloorPlan(Writer out) throws IOException {
+        out.write("\n--- FLOOR PLAN (Top-down view) ---\n");
+        out.write(String.format("Scale: %d characters per meter (1 character = %.2f meters)%n", 
+            charactersPerMeter, (1.0 / charactersPerMeter)));
         
-        // Add grid
-        for (char[] row : grid) {
-            output.append(new String(row)).append("\n");
-        }
+        // Add compass
+        out.write("   N\n");
+        out.write("W     E\n");
+        out.write("   S\n\n");
         
-        appendLegend(output);
+        writeTopDownGrid(out, EMPTY_CHAR, FURNITURE_CHAR, false);
         
-        // Add to main output and save individual file
-        currentOutput.append(output);
-        saveToFile("floor_plan.txt", output.toString());
+        writeLegend(out);
+    }
+    
+    /**
+     * Returns a retained-mode renderer of the floor plan grid that repaints only what
+     * changed.
+     * 
+     * @return a renderer holding the current floor plan grid of this visualizer's room
+     * @see IncrementalTextFloorPlanRenderer
+     * @since 1.1.0
+     */
+    public IncrementalTextFloorPlanRenderer incremental() {
+        return new IncrementalTextFloorPlanRenderer(this);
     }
     
     @Override
-    public void visualizeWall(Wall wall) {
+    public String getContentType() {
+        return "text/plain; charset=UTF-8";
+    }
+    
+    /**
+     * Streams one view as UTF-8 text, without saving a file.
+     * 
+     * @param view the view to write
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    @Override
+    public void write(View view, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        write(view, writer);
+        writer.flush();
+    }
+    
+    /**
+     * Streams one view, like the matching {@code write} method.
+     * 
+     * @param view the view to write
+     * @param out the writer to stream to; it is not flushed or closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    public void write(View view, Writer out) throws IOException {
+        switch (view) {
+            case FLOOR_PLAN:
+                writeFloorPlan(out);
+                break;
+            case CEILING:
+                writeCeiling(out);
+                break;
+            default:
+                writeWall(view.getWall(), out);
+        }
+    }
+    
+    /**
+     * Streams the view of one wall row by row.
+     * 
+     * @param wall one of NORTH, SOUTH, EAST or WEST
+     * @param out the writer to stream to; it is not flushed or closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    public void writeWall(Wall wall, Writer out) throws IOException {
         if (wall == Wall.FLOOR || wall == Wall.CEILING) return;
         
-        StringBuilder output = new StringBuilder();
-        
-        output.append("\n--- ").append(wall.toString().toUpperCase()).append(" WALL VIEW ---\n");
+        out.write("\n--- " + wall.toString().toUpperCase() + " WALL VIEW ---\n");
         
         double wallWidth = (wall == Wall.NORTH || wall == Wall.SOUTH) ? room.getWidth() : room.getLength();
-        int width = (int)(wallWidth * charactersPerMeter);
-        int height = (int)(room.getHeight() * charactersPerMeter);
-        char[][] grid = new char[height + 2][width + 2];
-        
-        // Initialize grid
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[0].length; j++) {
-                if (i == 0 || i == grid.length - 1 || j == 0 || j == grid[0].length - 1) {
-                    grid[i][j] = WALL_CHAR;
-                } else {
-                    grid[i][j] = EMPTY_CHAR;
+        int columns = (int)(wallWidth * charactersPerMeter) + 2;
+        int rows = (int)(room.getHeight() * charactersPerMeter) + 2;
+        List<Furniture> projected = room.furnitureNearWall(wall, room.getLength() / 3);
+        char[] row = new char[columns];
+        
+        for (int i = 0; i < rows; i++) {
+            fillRow(row, i, rows, EMPTY_CHAR);
+            
+            // Place doors and windows on wall
+            for (Door d : room.getDoorView()) {
+                if (d.getWall() == wall) {
+                    placeWallItemOnWallRow(row, i, rows, d, DOOR_CHAR, wall);
                 }
             }
-        }
-        
-        // Place doors on wall
-        for (Door d : room.getDoors()) {
-            if (d.getWall() == wall) {
-                placeWallItemOnWallGrid(grid, d, DOOR_CHAR, wall);
+            for (Window w : room.getWindowView()) {
+                if (w.getWall() == wall) {
+                    placeWallItemOnWallRow(row, i, rows, w, WINDOW_CHAR, wall);
+                }
             }
-        }
-        
-        // Place windows on wall
-        for (Window w : room.getWindows()) {
-            if (w.getWall() == wall) {
-                placeWallItemOnWallGrid(grid, w, WINDOW_CHAR, wall);
+            
+            // Project furniture onto wall
+            for (Furniture f : projected) {
+                projectFurnitureOnRow(row, i, rows, f, wall);
             }
+            
+            out.write(row);
+            out.write('\n');
         }
+    }
+    
+    /**
+     * Streams the ceiling view row by row.
+     * 
+     * @param out the writer to stream to; it is not flushed or closed
+     * @throws IOException if writing fails
+     * @since 1.1.0
+     */
+    public void writeCeiling(Writer out) throws IOException {
+        out.write("\n--- CEILING VIEW (Looking up) ---\n");
         
-        // Project furniture onto wall
-        projectFurnitureOnWall(grid, wall);
+        writeTopDownGrid(out, '.', '*', true);
         
-        // Add grid to output
-        for (char[] row : grid) {
-            output.append(new String(row)).append("\n");
+        out.write("\n* = Tall furniture visible from ceiling\n");
+    }
+    
+    /**
+     * Writes a top-down grid one row at a time. Furniture is looked up in the room's
+     * spatial index one band of rows at a time instead of being rasterized up front.
+     */
+    private void writeTopDownGrid(Writer out, char fill, char symbol, boolean tallOnly) throws IOException {
+        Dimension size = topDownGridSize();
+        int rows = size.height;
+        char[] row = new char[size.width];
+        List<Furniture> band = List.of();
+        int bandEnd = 0;
+        
+        for (int i = 0; i < rows; i++) {
+            if (i >= bandEnd) {
+                bandEnd = i + charactersPerMeter;
+                band = furnitureInRows(i, bandEnd);
+            }
+            drawTopDownRow(row, i, rows, band, fill, symbol, tallOnly);
+            out.write(row);
+            out.write('\n');
         }
-        
-        // Add to main output and save individual file
-        currentOutput.append(output);
-        saveToFile(wall.toString().toLowerCase() + "_wall.txt", output.toString());
     }
     
-    @Override
-    public void visualizeCeiling() {
-        StringBuilder output = new StringBuilder();
-        
-        output.append("\n--- CEILING VIEW (Looking up) ---\n");
-        
-        int width = (int)(room.getWidth() * charactersPerMeter);
-        int length = (int)(room.getLength() * charactersPerMeter);
-        char[][] grid = new char[length + 2][width + 2];
+    /**
+     * Returns the number of columns and rows of the floor plan and ceiling grids.
+     */
+    Dimension topDownGridSize() {
+        return new Dimension((int)(room.getWidth() * charactersPerMeter) + 2, (int)(room.getLength() * charactersPerMeter) + 2);
+    }
+    
+    /**
+     * Draws row {@code i} of the floor plan grid.
+     * 
+     * @param row the row to overwrite, as wide as the grid
+     * @param i the row index
+     * @param furniture furniture that may cover the row, in drawing order
+     */
+    void drawFloorPlanRow(char[] row, int i, List<Furniture> furniture) {
+        drawTopDownRow(row, i, topDownGridSize().height, furniture, EMPTY_CHAR, FURNITURE_CHAR, false);
+    }
+    
+    private void drawTopDownRow(char[] row, int i, int rows, List<Furniture> furniture, char fill, char symbol, boolean tallOnly) {
+        fillRow(row, i, rows, fill);
         
-        // Initialize grid
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[0].length; j++) {
-                if (i == 0 || i == grid.length - 1 || j == 0 || j == grid[0].length - 1) {
-                    grid[i][j] = WALL_CHAR;
-                } else {
-                    grid[i][j] = '.';
-                }
+        for (Furniture f : furniture) {
+            if (!tallOnly || f.getHeight() > room.getHeight() * 0.5) {
+                placeFurnitureOnRow(row, i, rows, f, symbol);
             }
         }
         
-        // Show tall furniture
-        for (Furniture f : room.getFurniture()) {
-            if (f.getHeight() > room.getHeight() * 0.5) {
-                placeFurnitureOnGrid(grid, f, '*');
+        if (!tallOnly) {
+            for (Door d : room.getDoorView()) {
+                placeWallItemOnFloorRow(row, i, rows, d, DOOR_CHAR);
+            }
+            for (Window w : room.getWindowView()) {
+                placeWallItemOnFloorRow(row, i, rows, w, WINDOW_CHAR);
             }
         }
-        
-        // Add grid to output
-        for (char[] row : grid) {
-            output.append(new String(row)).append("\n");
+    }
+    
+    /**
+     * Returns the furniture that may cover grid rows {@code [fromRow, toRow)} of a top-down
+     * view, in insertion order. The band is padded by a row on each side because rounding
+     * can shift a piece by one character.
+     */
+    List<Furniture> furnitureInRows(int fromRow, int toRow) {
+        double top = (fromRow - 2) / (double) charactersPerMeter;
+        double bottom = (toRow + 1) / (double) charactersPerMeter;
+        return room.furnitureIntersecting(-1, top, room.getWidth() + 2, bottom - top);
+    }
+    
+    /**
+     * Returns the grid cells of the floor plan a piece of furniture may cover, as a
+     * rectangle of columns and rows.
+     */
+    Rectangle furnitureCells(Furniture f) {
+        OrientedBox footprint = f.getFootprint();
+        int startX = (int)(footprint.getMinX() * charactersPerMeter) + 1;
+        int startY = (int)(footprint.getMinY() * charactersPerMeter) + 1;
+        if (f.getRotation() != 0) {
+            // Rotated pieces cover the cells whose centers lie in the footprint, up to the last partial cell
+            return new Rectangle(startX, startY,
+                (int)(footprint.getMaxX() * charactersPerMeter) + 2 - startX,
+                (int)(footprint.getMaxY() * charactersPerMeter) + 2 - startY);
         }
-        
-        output.append("\n* = Tall furniture visible from ceiling\n");
-        
-        // Add to main output and save individual file
-        currentOutput.append(output);
-        saveToFile("ceiling.txt", output.toString());
+        return new Rectangle(startX, startY,
+            (int)(f.getWidth() * charactersPerMeter), (int)(f.getLength() * charactersPerMeter));
     }
     
-    private void placeFurnitureOnGrid(char[][] grid, Furniture f) {
-        placeFurnitureOnGrid(grid, f, FURNITURE_CHAR);
+    private void fillRow(char[] row, int i, int rows, char fill) {
+        if (i == 0 || i == rows - 1) {
+            Arrays.fill(row, WALL_CHAR);
+        } else {
+            Arrays.fill(row, fill);
+            row[0] = WALL_CHAR;
+            row[row.length - 1] = WALL_CHAR;
+        }
     }
     
-    private void placeFurnitureOnGrid(char[][] grid, Furniture f, char symbol) {
+    private void placeFurnitureOnRow(char[] row, int i, int rows, Furniture f, char symbol) {
+        if (f.getRotation() != 0) {
+            placeRotatedFurnitureOnRow(row, i, rows, f, symbol, charactersPerMeter);
+            return;
+        }
         int startX = (int)(f.getX() * charactersPerMeter) + 1;
         int startY = (int)(f.getY() * charactersPerMeter) + 1;
-        int endX = Math.min(startX + (int)(f.getWidth() * charactersPerMeter), grid[0].length - 1);
-        int endY = Math.min(startY + (int)(f.getLength() * charactersPerMeter), grid.length - 1);
+        int endX = Math.min(startX + (int)(f.getWidth() * charactersPerMeter), row.length - 1);
+        int endY = Math.min(startY + (int)(f.getLength() * charactersPerMeter), rows - 1);
+        if (i < startY || i >= endY) {
+            return;
+        }
         
         // For very small furniture (1-2 characters), fill completely
         if (endX - startX <= 2 && endY - startY <= 2) {
-            for (int i = startY; i < endY; i++) {
-                for (int j = startX; j < endX; j++) {
-                    grid[i][j] = symbol;
-                }
+            for (int j = startX; j < endX; j++) {
+                row[j] = symbol;
             }
             // Add initial in center if space allows
-            if (endX - startX >= 1 && endY - startY >= 1) {
-                int centerY = startY + (endY - startY) / 2;
+            if (endX - startX >= 1 && i == startY + (endY - startY) / 2) {
                 int centerX = startX + (endX - startX) / 2;
-                String initial = f.getName().substring(0, 1).toUpperCase();
-                grid[centerY][centerX] = initial.charAt(0);
+                row[centerX] = f.getName().substring(0, 1).toUpperCase().charAt(0);
             }
         } else {
             // For larger furniture, draw outline with initial
-            for (int i = startY; i < endY; i++) {
-                for (int j = startX; j < endX; j++) {
-                    if (i == startY || i == endY - 1 || j == startX || j == endX - 1) {
-                        grid[i][j] = symbol;
-                    } else if (i == startY + 1 && j == startX + 1) {
-                        String initial = f.getName().substring(0, 1).toUpperCase();
-                        grid[i][j] = initial.charAt(0);
-                    }
+            for (int j = startX; j < endX; j++) {
+                if (i == startY || i == endY - 1 || j == startX || j == endX - 1) {
+                    row[j] = symbol;
+                } else if (i == startY + 1 && j == startX + 1) {
+                    row[j] = f.getName().substring(0, 1).toUpperCase().charAt(0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Draws row {@code i} of a rotated piece onto a top-down grid whose walls take the
+     * first and last rows and columns. A cell belongs to the piece if its center lies in
+     * the footprint; covered cells next to an uncovered one form the outline, and the
+     * initial goes in the cell under the piece's center.
+     */
+    static void placeRotatedFurnitureOnRow(char[] row, int i, int rows, Furniture f, char symbol,
+                                           int charactersPerMeter) {
+        OrientedBox footprint = f.getFootprint();
+        int startY = Math.max((int)(footprint.getMinY() * charactersPerMeter) + 1, 1);
+        int endY = Math.min((int)(footprint.getMaxY() * charactersPerMeter) + 2, rows - 1);
+        if (i < startY || i >= endY) {
+            return;
+        }
+        int startX = Math.max((int)(footprint.getMinX() * charactersPerMeter) + 1, 1);
+        int endX = Math.min((int)(footprint.getMaxX() * charactersPerMeter) + 2, row.length - 1);
+        for (int j = startX; j < endX; j++) {
+            if (coversCell(footprint, j, i, charactersPerMeter)) {
+                boolean inside = coversCell(footprint, j - 1, i, charactersPerMeter)
+                    && coversCell(footprint, j + 1, i, charactersPerMeter)
+                    && coversCell(footprint, j, i - 1, charactersPerMeter)
+                    && coversCell(footprint, j, i + 1, charactersPerMeter);
+                if (!inside) {
+                    row[j] = symbol;
                 }
             }
         }
+        int centerX = (int)(footprint.getCenterX() * charactersPerMeter) + 1;
+        int centerY = (int)(footprint.getCenterY() * charactersPerMeter) + 1;
+        if (i == centerY && centerX >= startX && centerX < endX) {
+            row[centerX] = f.getName().substring(0, 1).toUpperCase().charAt(0);
+        }
     }
     
-    private void placeWallItemOnFloorGrid(char[][] grid, WallItem item, char symbol) {
+    private static boolean coversCell(OrientedBox footprint, int column, int row, int charactersPerMeter) {
+        return footprint.contains((column - 0.5) / charactersPerMeter, (row - 0.5) / charactersPerMeter);
+    }
+    
+    private void placeWallItemOnFloorRow(char[] row, int i, int rows, WallItem item, char symbol) {
         int pos = (int)(item.getPosition() * charactersPerMeter) + 1;
         int width = (int)(item.getWidth() * charactersPerMeter);
         
         switch (item.getWall()) {
             case NORTH:
-                for (int j = pos; j < Math.min(pos + width, grid[0].length - 1); j++) {
-                    grid[0][j] = symbol;
+                if (i == 0) {
+                    for (int j = pos; j < Math.min(pos + width, row.length - 1); j++) {
+                        row[j] = symbol;
+                    }
                 }
                 break;
             case SOUTH:
-                for (int j = pos; j < Math.min(pos + width, grid[0].length - 1); j++) {
-                    grid[grid.length - 1][j] = symbol;
+                if (i == rows - 1) {
+                    for (int j = pos; j < Math.min(pos + width, row.length - 1); j++) {
+                        row[j] = symbol;
+                    }
                 }
                 break;
             case EAST:
-                for (int i = pos; i < Math.min(pos + width, grid.length - 1); i++) {
-                    grid[i][grid[0].length - 1] = symbol;
+                if (i >= pos && i < Math.min(pos + width, rows - 1)) {
+                    row[row.length - 1] = symbol;
                 }
                 break;
             case WEST:
-                for (int i = pos; i < Math.min(pos + width, grid.length - 1); i++) {
-                    grid[i][0] = symbol;
+                if (i >= pos && i < Math.min(pos + width, rows - 1)) {
+                    row[0] = symbol;
                 }
                 break;
         }
     }
     
-    private void placeWallItemOnWallGrid(char[][] grid, WallItem item, char symbol, Wall wall) {
+    private void placeWallItemOnWallRow(char[] row, int i, int rows, WallItem item, char symbol, Wall wall) {
         double wallWidth = (wall == Wall.NORTH || wall == Wall.SOUTH) ? room.getWidth() : room.getLength();
         double position = item.getPosition();
         
@@ -309,106 +571,109 @@ public class TextVisualizer implements Visualizer {
         int bottomHeight = (int)(item.getBottomHeight() * charactersPerMeter);
         int height = (int)(item.getHeight() * charactersPerMeter);
         
-        int startRow = grid.length - 2 - bottomHeight - height;
-        int endRow = grid.length - 2 - bottomHeight;
+        int startRow = rows - 2 - bottomHeight - height;
+        int endRow = rows - 2 - bottomHeight;
         
-        for (int i = Math.max(startRow, 1); i < Math.min(endRow, grid.length - 1); i++) {
-            for (int j = pos; j < Math.min(pos + width, grid[0].length - 1); j++) {
-                grid[i][j] = symbol;
+        if (i >= Math.max(startRow, 1) && i < Math.min(endRow, rows - 1)) {
+            for (int j = pos; j < Math.min(pos + width, row.length - 1); j++) {
+                row[j] = symbol;
             }
         }
     }
     
-    private void projectFurnitureOnWall(char[][] grid, Wall wall) {
-        for (Furniture f : room.getFurniture()) {
-            projectSingleFurniture(grid, f, wall);
-        }
-    }
-    
-    private void projectSingleFurniture(char[][] grid, Furniture f, Wall wall) {
+    private void projectFurnitureOnRow(char[] row, int i, int rows, Furniture f, Wall wall) {
+        OrientedBox footprint = f.getFootprint();
         double distance = 0;
         double projStart = 0;
         double projWidth = 0;
         
         switch (wall) {
             case NORTH:
-                distance = f.getY();
-                projStart = f.getX();
-                projWidth = f.getWidth();
+                distance = footprint.getMinY();
+                projStart = footprint.getMinX();
+                projWidth = footprint.getBoundsWidth();
                 break;
             case SOUTH:
-                distance = room.getLength() - (f.getY() + f.getLength());
-                projStart = f.getX();
-                projWidth = f.getWidth();
+                distance = room.getLength() - footprint.getMaxY();
+                projStart = footprint.getMinX();
+                projWidth = footprint.getBoundsWidth();
                 break;
             case EAST:
-                distance = room.getWidth() - (f.getX() + f.getWidth());
-                projStart = f.getY();
-                projWidth = f.getLength();
+                distance = room.getWidth() - footprint.getMaxX();
+                projStart = footprint.getMinY();
+                projWidth = footprint.getBoundsLength();
                 break;
             case WEST:
-                distance = f.getX();
+                distance = footprint.getMinX();
                 // Flip coordinate for west wall to show from inside perspective
-                projStart = room.getLength() - (f.getY() + f.getLength());
-                projWidth = f.getLength();
+                projStart = room.getLength() - footprint.getMaxY();
+                projWidth = footprint.getBoundsLength();
                 break;
         }
         
         if (distance < room.getLength() / 3) {
             int start = (int)(projStart * charactersPerMeter) + 1;
             int width = (int)(projWidth * charactersPerMeter);
-            int bottomRow = grid.length - 2;
+            int bottomRow = rows - 2;
             int topRow = bottomRow - (int)(f.getHeight() * charactersPerMeter);
             
             char projChar = (distance < 1.0) ? '+' : '.';
             
-            for (int i = Math.max(topRow, 1); i <= bottomRow; i++) {
-                for (int j = start; j < Math.min(start + width, grid[0].length - 1); j++) {
-                    if (grid[i][j] == EMPTY_CHAR) {
-                        grid[i][j] = projChar;
+            if (i >= Math.max(topRow, 1) && i <= bottomRow) {
+                for (int j = start; j < Math.min(start + width, row.length - 1); j++) {
+                    if (row[j] == EMPTY_CHAR) {
+                        row[j] = projChar;
                     }
                 }
             }
         }
     }
     
-    private void appendLegend(StringBuilder output) {
-        output.append("\nLegend:\n");
-        output.append("  # = Wall\n");
-        output.append("  D = Door\n");
-        output.append("  W = Window\n");
-        output.append("  F = Furniture outline\n");
-        output.append("  [Letter] = First letter of furniture name\n");
-        output.append("  + = Close furniture projection\n");
-        output.append("  . = Distant furniture projection\n");
-        
-        if (!room.getFurniture().isEmpty()) {
-            output.append("\nFurniture:\n");
-            for (Furniture f : room.getFurniture()) {
-                output.append("  ").append(f).append("\n");
+    private void writeLegend(Writer output) throws IOException {
+        output.write("\nLegend:\n");
+        output.write("  # = Wall\n");
+        output.write("  D = Door\n");
+        output.write("  W = Window\n");
+        output.write("  F = Furniture outline\n");
+        output.write("  [Letter] = First letter of furniture name\n");
+        output.write("  + = Close furniture projection\n");
+        output.write("  . = Distant furniture projection\n");
+        
+        if (!room.getFurnitureView().isEmpty()) {
+            output.write("\nFurniture:\n");
+            for (Furniture f : room.getFurnitureView()) {
+                writeLine(output, "  " + f);
             }
         }
         
-        if (!room.getDoors().isEmpty()) {
-            output.append("\nDoors:\n");
-            for (Door d : room.getDoors()) {
-                output.append("  ").append(d).append("\n");
+        if (!room.getDoorView().isEmpty()) {
+            output.write("\nDoors:\n");
+            for (Door d : room.getDoorView()) {
+                writeLine(output, "  " + d);
             }
         }
         
-        if (!room.getWindows().isEmpty()) {
-            output.append("\nWindows:\n");
-            for (Window w : room.getWindows()) {
-                output.append("  ").append(w).append("\n");
+        if (!room.getWindowView().isEmpty()) {
+            output.write("\nWindows:\n");
+            for (Window w : room.getWindowView()) {
+                writeLine(output, "  " + w);
             }
         }
     }
     
+    private static void writeLine(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+    }
+    
     private void appendLine(String line) {
         currentOutput.append(line).append("\n");
     }
     
     private void saveToFile(String filename, String content) {
+        if (outputDirectory == null) {
+            throw new IllegalStateException("Visualizer has no output directory");
+        }
         Path filePath = Paths.get(outputDirectory, filename);
         try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(filePath))) {
             writer.print(content);
@@ -430,7 +695,8 @@ public class TextVisualizer implements Visualizer {
     }
     
     /**
-     * Get the output directory being used
+     * Get the output directory being used, or {@code null} for a visualizer made by
+     * {@link #forStreams(RoomLayout, int)}
      */
     public String getOutputDirectory() {
         return outputDirectory;
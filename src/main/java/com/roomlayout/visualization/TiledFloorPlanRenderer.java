@@ -0,0 +1,396 @@
+package com.roomlayout.visualization;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Renders the floor plan of an {@link ImageVisualizer} in fixed-size square tiles.
+ *
+ * <p>A single floor plan image grows with the room: a 200m x 100m warehouse at 50 pixels
+ * per meter is a 10000x5000 image of about 200MB. The tiled renderer never holds the whole
+ * image. Each tile is drawn from the furniture the room's spatial index reports near it,
+ * and tiles are rendered in parallel on a caller-supplied executor.
+ *
+ * <p>Tiles can be consumed in two ways:
+ * <ul>
+ * <li>{@link #renderTiles(TileSink, Executor, boolean)} hands each tile to a sink as soon as
+ * it is drawn, optionally skipping tiles without furniture. Memory use is bounded by the
+ * number of executor threads.</li>
+ * <li>{@link #writePng(OutputStream, Executor)} streams one PNG of the whole floor plan,
+ * holding a single row of tiles at a time.</li>
+ * </ul>
+ *
+ * <p>Example:
+ * <pre>{@code
+ * TiledFloorPlanRenderer tiles = new ImageVisualizer(warehouse, "out", 20).tiled(512);
+ * tiles.writeTiles(Paths.get("out/tiles"), ForkJoinPool.commonPool(), true);
+ * }</pre>
+ *
+ * <p>Tiles of one room may be rendered on any number of threads at once: each tile only
+ * queries the room, and spatial index queries leave the index untouched. The room must not
+ * be modified while tiles are being rendered.
+ *
+ * @see ImageVisualizer#tiled(int)
+ * @since 1.1.0
+ */
+public final class TiledFloorPlanRenderer {
+    private final ImageVisualizer visualizer;
+    private final int tileSize;
+    private final int imageWidth;
+    private final int imageHeight;
+
+    TiledFloorPlanRenderer(ImageVisualizer visualizer, int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+        Dimension size = visualizer.imageSize(View.FLOOR_PLAN);
+        this.visualizer = visualizer;
+        this.tileSize = tileSize;
+        this.imageWidth = size.width;
+        this.imageHeight = size.height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getImageWidth() {
+        return imageWidth;
+    }
+
+    public int getImageHeight() {
+        return imageHeight;
+    }
+
+    public int getColumns() {
+        return (imageWidth + tileSize - 1) / tileSize;
+    }
+
+    public int getRows() {
+        return (imageHeight + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Returns the pixel bounds of a tile within the full floor plan.
+     *
+     * <p>Tiles in the last column and row are cut to the image size.
+     *
+     * @param column the tile column, counted from the left
+     * @param row the tile row, counted from the top
+     * @return the tile bounds
+     * @throws IndexOutOfBoundsException if there is no such tile
+     */
+    public Rectangle tileBounds(int column, int row) {
+        if (column < 0 || column >= getColumns() || row < 0 || row >= getRows()) {
+            throw new IndexOutOfBoundsException("No tile at column " + column + ", row " + row);
+        }
+        int x = column * tileSize;
+        int y = row * tileSize;
+        return new Rectangle(x, y, Math.min(tileSize, imageWidth - x), Math.min(tileSize, imageHeight - y));
+    }
+
+    /**
+     * Tells whether no furniture is drawn on a tile.
+     *
+     * @param column the tile column
+     * @param row the tile row
+     * @return {@code true} if the tile shows only floor, walls, doors and windows
+     */
+    public boolean isEmpty(int column, int row) {
+        return visualizer.furnitureNear(tileBounds(column, row)).isEmpty();
+    }
+
+    /**
+     * Renders one tile on the calling thread.
+     *
+     * @param column the tile column
+     * @param row the tile row
+     * @return a new image holding the tile's pixels of the floor plan
+     */
+    public BufferedImage renderTile(int column, int row) {
+        Rectangle bounds = tileBounds(column, row);
+        BufferedImage tile = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = tile.createGraphics();
+        g.translate(-bounds.x, -bounds.y);
+        visualizer.drawFloorPlan(g, bounds);
+        g.dispose();
+        return tile;
+    }
+
+    /**
+     * Renders all tiles in parallel and passes each one to a sink.
+     *
+     * <p>The sink is called from executor threads, possibly concurrently, and in no
+     * particular order. Culled tiles are not rendered and never reach the sink; a viewer
+     * can show the plain floor color in their place.
+     *
+     * @param sink receives the rendered tiles
+     * @param executor the executor that renders the tiles
+     * @param cullEmptyTiles whether to skip tiles without furniture
+     * @return the number of tiles passed to the sink
+     * @throws IOException if the sink fails to write a tile
+     */
+    public int renderTiles(TileSink sink, Executor executor, boolean cullEmptyTiles) throws IOException {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int row = 0; row < getRows(); row++) {
+            for (int column = 0; column < getColumns(); column++) {
+                if (cullEmptyTiles && isEmpty(column, row)) {
+                    continue;
+                }
+                int c = column;
+                int r = row;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        sink.accept(c, r, renderTile(c, r));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+            }
+        }
+        await(futures);
+        return futures.size();
+    }
+
+    /**
+     * Renders all tiles in parallel and writes each one as a PNG file.
+     *
+     * <p>Tiles are named {@code floor_plan_<row>_<column>.png}.
+     *
+     * @param directory the directory to write to; it must exist
+     * @param executor the executor that renders and encodes the tiles
+     * @param cullEmptyTiles whether to skip tiles without furniture
+     * @return the number of files written
+     * @throws IOException if a file cannot be written
+     */
+    public int writeTiles(Path directory, Executor executor, boolean cullEmptyTiles) throws IOException {
+        return renderTiles((column, row, tile) -> {
+            Path path = directory.resolve(View.FLOOR_PLAN.getBaseName() + "_" + row + "_" + column + ".png");
+            try (OutputStream out = Files.newOutputStream(path)) {
+                PngEncodingPipeline.writePng(tile, out, PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL);
+            }
+        }, executor, cullEmptyTiles);
+    }
+
+    /**
+     * Streams the whole floor plan as a single PNG.
+     *
+     * <p>The encoder pulls the image row by row. Whenever it reaches a new row of tiles,
+     * the tiles of that row are rendered in parallel into a strip buffer, so memory stays
+     * at one strip of {@code imageWidth x tileSize} pixels however long the room is.
+     *
+     * @param out the stream to write to; it is not closed
+     * @param executor the executor that renders the tiles of each strip
+     * @throws IOException if writing fails
+     */
+    public void writePng(OutputStream out, Executor executor) throws IOException {
+        PngEncodingPipeline.writePng(new StripImage(executor), out, PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    private static void await(List<CompletableFuture<Void>> futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Receives rendered tiles.
+     */
+    @FunctionalInterface
+    public interface TileSink {
+        /**
+         * Consumes a tile. The image is not used by the renderer afterwards.
+         *
+         * @param column the tile column
+         * @param row the tile row
+         * @param tile the tile pixels
+         * @throws IOException if the tile cannot be written
+         */
+        void accept(int column, int row, BufferedImage tile) throws IOException;
+    }
+
+    /**
+     * The full floor plan as an image whose pixels are rendered on demand, one strip of
+     * tiles at a time.
+     */
+    private final class StripImage implements RenderedImage {
+        private final Executor executor;
+        private final BufferedImage strip;
+        private final ColorModel colorModel;
+        private final SampleModel sampleModel;
+        private int stripRow = -1;
+
+        StripImage(Executor executor) {
+            this.executor = executor;
+            this.strip = new BufferedImage(imageWidth, Math.min(tileSize, imageHeight), BufferedImage.TYPE_INT_RGB);
+            this.colorModel = strip.getColorModel();
+            this.sampleModel = strip.getSampleModel().createCompatibleSampleModel(imageWidth, imageHeight);
+        }
+
+        @Override
+        public Raster getData(Rectangle rect) {
+            WritableRaster raster = Raster.createWritableRaster(
+                sampleModel.createCompatibleSampleModel(rect.width, rect.height), new Point(rect.x, rect.y));
+            copyData(raster);
+            return raster;
+        }
+
+        @Override
+        public WritableRaster copyData(WritableRaster raster) {
+            if (raster == null) {
+                raster = Raster.createWritableRaster(sampleModel, null);
+            }
+            Rectangle bounds = raster.getBounds().intersection(new Rectangle(0, 0, imageWidth, imageHeight));
+            int y = bounds.y;
+            while (y < bounds.y + bounds.height) {
+                int row = y / tileSize;
+                loadStrip(row);
+                int stripTop = row * tileSize;
+                int rows = Math.min(bounds.y + bounds.height, stripTop + strip.getHeight()) - y;
+                raster.setRect(strip.getRaster().createChild(bounds.x, y - stripTop, bounds.width, rows,
+                    bounds.x, y, null));
+                y += rows;
+            }
+            return raster;
+        }
+
+        private void loadStrip(int row) {
+            if (row == stripRow) {
+                return;
+            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int column = 0; column < getColumns(); column++) {
+                Rectangle bounds = tileBounds(column, row);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    Graphics2D g = strip.createGraphics();
+                    g.setClip(bounds.x, 0, bounds.width, bounds.height);
+                    g.translate(0, -bounds.y);
+                    visualizer.drawFloorPlan(g, bounds);
+                    g.dispose();
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            stripRow = row;
+        }
+
+        @Override
+        public Raster getData() {
+            return getData(new Rectangle(0, 0, imageWidth, imageHeight));
+        }
+
+        @Override
+        public Raster getTile(int tileX, int tileY) {
+            int y = tileY * tileSize;
+            return getData(new Rectangle(0, y, imageWidth, Math.min(tileSize, imageHeight - y)));
+        }
+
+        @Override
+        public Vector<RenderedImage> getSources() {
+            return null;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            return java.awt.Image.UndefinedProperty;
+        }
+
+        @Override
+        public String[] getPropertyNames() {
+            return null;
+        }
+
+        @Override
+        public ColorModel getColorModel() {
+            return colorModel;
+        }
+
+        @Override
+        public SampleModel getSampleModel() {
+            return sampleModel;
+        }
+
+        @Override
+        public int getWidth() {
+            return imageWidth;
+        }
+
+        @Override
+        public int getHeight() {
+            return imageHeight;
+        }
+
+        @Override
+        public int getMinX() {
+            return 0;
+        }
+
+        @Override
+        public int getMinY() {
+            return 0;
+        }
+
+        @Override
+        public int getNumXTiles() {
+            return 1;
+        }
+
+        @Override
+        public int getNumYTiles() {
+            return getRows();
+        }
+
+        @Override
+        public int getMinTileX() {
+            return 0;
+        }
+
+        @Override
+        public int getMinTileY() {
+            return 0;
+        }
+
+        @Override
+        public int getTileWidth() {
+            return imageWidth;
+        }
+
+        @Override
+        public int getTileHeight() {
+            return tileSize;
+        }
+
+        @Override
+        public int getTileGridXOffset() {
+            return 0;
+        }
+
+        @Override
+        public int getTileGridYOffset() {
+            return 0;
+        }
+    }
+}
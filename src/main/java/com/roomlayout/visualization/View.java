@@ -0,0 +1,64 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.Wall;
+
+/**
+ * The views a {@link Visualizer} can produce for a room.
+ *
+ * <p>Each view has a base name used for its output file, for example
+ * {@code floor_plan.png} or {@code north_wall.txt}.
+ *
+ * @since 1.1.0
+ */
+public enum View {
+    FLOOR_PLAN("floor_plan", null),
+    NORTH_WALL("north_wall", Wall.NORTH),
+    SOUTH_WALL("south_wall", Wall.SOUTH),
+    EAST_WALL("east_wall", Wall.EAST),
+    WEST_WALL("west_wall", Wall.WEST),
+    CEILING("ceiling", null);
+
+    private final String baseName;
+    private final Wall wall;
+
+    View(String baseName, Wall wall) {
+        this.baseName = baseName;
+        this.wall = wall;
+    }
+
+    /**
+     * @return the file name of this view without extension
+     */
+    public String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * @return the wall shown by a wall view, or {@code null} for the floor plan and ceiling
+     */
+    public Wall getWall() {
+        return wall;
+    }
+
+    /**
+     * Returns the view showing the given wall.
+     *
+     * @param wall one of NORTH, SOUTH, EAST or WEST
+     * @return the matching wall view
+     * @throws IllegalArgumentException for the floor and ceiling
+     */
+    public static View ofWall(Wall wall) {
+        switch (wall) {
+            case NORTH:
+                return NORTH_WALL;
+            case SOUTH:
+                return SOUTH_WALL;
+            case EAST:
+                return EAST_WALL;
+            case WEST:
+                return WEST_WALL;
+            default:
+                throw new IllegalArgumentException("No wall view for " + wall);
+        }
+    }
+}
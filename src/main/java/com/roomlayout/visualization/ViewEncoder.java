@@ -0,0 +1,79 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.RoomLayout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes views of a room into caller-supplied sinks instead of files.
+ *
+ * <p>The {@code visualize} methods of a {@link Visualizer} save files under an output
+ * directory and report them on the console. A server that sends views over the network
+ * can write the encoded bytes straight to the response instead, without a temporary file:
+ * <pre>{@code
+ * ViewEncoder encoder = ImageVisualizer.forStreams(room, 50);
+ * response.setContentType(encoder.getContentType());
+ * encoder.write(View.FLOOR_PLAN, response.getOutputStream());
+ * }</pre>
+ *
+ * <p>None of the {@code write} methods touch the file system or print anything, and
+ * {@link ImageVisualizer#forStreams(RoomLayout, int)} and
+ * {@link TextVisualizer#forStreams(RoomLayout, int)} create encoders without an output
+ * directory.
+ *
+ * @since 1.1.0
+ */
+public interface ViewEncoder {
+    /**
+     * @return the media type of the encoded views, for example {@code image/png}
+     */
+    String getContentType();
+
+    /**
+     * Encodes a view to a stream.
+     *
+     * @param view the view to encode
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    void write(View view, OutputStream out) throws IOException;
+
+    /**
+     * Encodes a view to a channel, for example a socket channel.
+     *
+     * @param view the view to encode
+     * @param channel the channel to write to; it is not closed
+     * @throws IOException if writing fails
+     */
+    default void write(View view, WritableByteChannel channel) throws IOException {
+        write(view, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Encodes a view into a buffer, for example one taken from a pool of direct buffers.
+     *
+     * <p>The bytes are written from the buffer's position, which is advanced past them.
+     *
+     * @param view the view to encode
+     * @param buffer the buffer to write to
+     * @return the number of bytes written
+     * @throws IOException if encoding fails
+     * @throws BufferOverflowException if the encoded view doesn't fit in the buffer's
+     *         remaining space; the buffer's position is then left unchanged
+     */
+    default int write(View view, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        try {
+            write(view, new ByteBufferOutputStream(buffer));
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer.position() - start;
+    }
+}
@@ -0,0 +1,213 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+
+/**
+ * The distance from every point of a room's floor to the nearest wall or obstacle,
+ * precomputed so that each query is a single array lookup.
+ *
+ * <p>The floor is rasterized the same way as for a {@link WalkabilityAnalyzer}: cells
+ * covered by any part of a piece are blocked, the walls are a border of blocked cells
+ * broken by the door openings, and pieces lower than
+ * {@link WalkabilityAnalyzer#MIN_OBSTACLE_HEIGHT} are ignored. Every free cell stores the
+ * squared distance to its nearest blocked cell and which cell that is, about 9 bytes per
+ * cell, so the cell size sets both the precision and the memory footprint; see
+ * {@link #withMemoryLimit(RoomLayout, long)}. Clearances are accurate to one cell.
+ *
+ * <p>Adding a piece with {@link #add(Furniture)} updates only the cells that are now
+ * closer to it than to anything else, by passing the new nearest obstacle from cell to
+ * neighbouring cell; the result matches a full recomputation to within a fraction of a
+ * cell. Removing pieces needs a new field.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ClearanceField field = new ClearanceField(room);
+ * room.addFurniture(sofa);
+ * field.add(sofa);
+ * double clearance = field.getClearance(2.0, 1.5);
+ * }</pre>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class ClearanceField {
+    /** The memory used per grid cell, in bytes. */
+    static final int BYTES_PER_CELL = 9;
+
+    final OccupancyRaster raster;
+    final int[] distances;
+    private final int[] nearest;
+    // Cells whose nearest obstacle changed during an update, first in first out
+    private int[] queue = new int[64];
+    private int head;
+    private int size;
+
+    /**
+     * Computes the field with {@link WalkabilityAnalyzer#DEFAULT_CELL_SIZE} cells.
+     *
+     * @param room the room
+     */
+    public ClearanceField(RoomLayout room) {
+        this(room, WalkabilityAnalyzer.DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Computes the field.
+     *
+     * @param room the room
+     * @param cellSize the side of a grid cell in meters
+     * @throws IllegalArgumentException if the cell size is not positive
+     */
+    public ClearanceField(RoomLayout room, double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.raster = new OccupancyRaster(room, cellSize, WalkabilityAnalyzer.MIN_OBSTACLE_HEIGHT);
+        this.nearest = new int[raster.blocked.length];
+        this.distances = DistanceTransform.squared(raster.blocked, raster.columns, raster.rows, nearest);
+    }
+
+    /**
+     * Copies a field, so that pieces can be added to the copy without changing the original.
+     */
+    ClearanceField(ClearanceField other) {
+        this.raster = new OccupancyRaster(other.raster);
+        this.distances = other.distances.clone();
+        this.nearest = other.nearest.clone();
+    }
+
+    /**
+     * Computes the field with the smallest cells that fit in a memory budget.
+     *
+     * @param room the room
+     * @param maxBytes the most memory the field may use
+     * @return the field
+     * @throws IllegalArgumentException if the budget can't hold even a coarse grid
+     */
+    public static ClearanceField withMemoryLimit(RoomLayout room, long maxBytes) {
+        long maxCells = maxBytes / BYTES_PER_CELL;
+        // At least a few cells across the floor, plus the border
+        if (maxCells < 25) {
+            throw new IllegalArgumentException("Memory limit too small: " + maxBytes + " bytes");
+        }
+        double cellSize = Math.sqrt(room.getWidth() * room.getLength() / maxCells);
+        while (cellCount(room, cellSize) > maxCells) {
+            cellSize *= 1.05;
+        }
+        return new ClearanceField(room, cellSize);
+    }
+
+    private static long cellCount(RoomLayout room, double cellSize) {
+        long columns = (long) Math.ceil(room.getWidth() / cellSize - 1e-9) + 2;
+        long rows = (long) Math.ceil(room.getLength() / cellSize - 1e-9) + 2;
+        return columns * rows;
+    }
+
+    /**
+     * Returns the distance from a point to the nearest wall or obstacle.
+     *
+     * @param x the distance from the west wall in meters
+     * @param y the distance from the north wall in meters
+     * @return the clearance in meters, 0 on an obstacle or off the floor
+     */
+    public double getClearance(double x, double y) {
+        int cell = raster.cellAt(x, y);
+        if (cell < 0) {
+            return 0;
+        }
+        return clearance(distances[cell], raster.cellSize);
+    }
+
+    /**
+     * Adds a piece to the field, updating the clearance around it.
+     *
+     * @param furniture the piece; it should also be added to the room
+     */
+    public void add(Furniture furniture) {
+        if (furniture.getHeight() < WalkabilityAnalyzer.MIN_OBSTACLE_HEIGHT) {
+            return;
+        }
+        head = 0;
+        size = 0;
+        // Newly blocked cells are the sources of the update
+        raster.block(furniture.getFootprint(), cell -> {
+            distances[cell] = 0;
+            nearest[cell] = cell;
+            push(cell);
+        });
+        int columns = raster.columns;
+        while (size > 0) {
+            int cell = queue[head];
+            head = (head + 1) % queue.length;
+            size--;
+            int site = nearest[cell];
+            int row = cell / columns;
+            int column = cell % columns;
+            for (int r = Math.max(0, row - 1); r <= Math.min(raster.rows - 1, row + 1); r++) {
+                for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                    int neighbour = r * columns + c;
+                    int d = squaredDistance(neighbour, site, columns);
+                    if (d < distances[neighbour]) {
+                        distances[neighbour] = d;
+                        nearest[neighbour] = site;
+                        push(neighbour);
+                    }
+                }
+            }
+        }
+    }
+
+    private void push(int cell) {
+        if (size == queue.length) {
+            int[] grown = new int[queue.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[i] = queue[(head + i) % queue.length];
+            }
+            queue = grown;
+            head = 0;
+        }
+        queue[(head + size++) % queue.length] = cell;
+    }
+
+    private static int squaredDistance(int a, int b, int columns) {
+        int dx = a % columns - b % columns;
+        int dy = a / columns - b / columns;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * @return the side of a grid cell in meters
+     */
+    public double getCellSize() {
+        return raster.cellSize;
+    }
+
+    /**
+     * @return the number of grid cells, including the border for the walls
+     */
+    public int getCellCount() {
+        return raster.blocked.length;
+    }
+
+    /**
+     * @return the memory used by the grid, in bytes
+     */
+    public long getMemoryUsage() {
+        return (long) raster.blocked.length * BYTES_PER_CELL;
+    }
+
+    /**
+     * Converts a squared distance in cells between cell centers to the clearance from a
+     * cell's center to the edge of the nearest blocked cell.
+     */
+    static double clearance(int squaredDistance, double cellSize) {
+        return Math.max(0, Math.sqrt(squaredDistance) - 0.5) * cellSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClearanceField: %d x %d cells of %.3fm", raster.columns, raster.rows, raster.cellSize);
+    }
+}
@@ -0,0 +1,98 @@
+package com.roomlayout.walkability;
+
+/**
+ * Exact squared Euclidean distance transform of a raster, after Felzenszwalb and
+ * Huttenlocher: one pass of lower envelopes of parabolas down every column, then one
+ * along every row, in time linear in the number of cells.
+ *
+ * <p>Besides the distances, the transform can record which blocked cell is the nearest,
+ * which is what later incremental updates propagate.
+ */
+final class DistanceTransform {
+
+    private DistanceTransform() {
+    }
+
+    /**
+     * Computes, for every cell, the squared distance in cells to the nearest blocked cell.
+     *
+     * @param blocked the raster, row by row
+     * @param nearest receives the index of the nearest blocked cell for every cell, or
+     *                {@code null} if not needed
+     * @return the squared distances, 0 for blocked cells
+     */
+    static int[] squared(boolean[] blocked, int columns, int rows, int[] nearest) {
+        // Farther than any two cells can be apart, but small enough not to overflow below
+        int infinity = columns * columns + rows * rows + 1;
+        int[] distances = new int[blocked.length];
+        for (int i = 0; i < blocked.length; i++) {
+            distances[i] = blocked[i] ? 0 : infinity;
+        }
+        int n = Math.max(columns, rows);
+        int[] f = new int[n];
+        int[] out = new int[n];
+        int[] arg = new int[n];
+        int[] v = new int[n];
+        double[] z = new double[n + 1];
+        // The row of the nearest blocked cell in the same column, after the first pass
+        int[] nearestRows = nearest == null ? null : new int[blocked.length];
+        for (int c = 0; c < columns; c++) {
+            for (int r = 0; r < rows; r++) {
+                f[r] = distances[r * columns + c];
+            }
+            transform(f, rows, v, z, out, arg);
+            for (int r = 0; r < rows; r++) {
+                distances[r * columns + c] = out[r];
+                if (nearestRows != null) {
+                    nearestRows[r * columns + c] = arg[r];
+                }
+            }
+        }
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(distances, r * columns, f, 0, columns);
+            transform(f, columns, v, z, out, arg);
+            System.arraycopy(out, 0, distances, r * columns, columns);
+            if (nearest != null) {
+                for (int c = 0; c < columns; c++) {
+                    nearest[r * columns + c] = nearestRows[r * columns + arg[c]] * columns + arg[c];
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * One-dimensional pass: {@code out[q] = min over p of (q - p)^2 + f[p]}, with the
+     * minimizing {@code p} in {@code arg[q]}.
+     */
+    private static void transform(int[] f, int n, int[] v, double[] z, int[] out, int[] arg) {
+        int k = 0;
+        v[0] = 0;
+        z[0] = Double.NEGATIVE_INFINITY;
+        z[1] = Double.POSITIVE_INFINITY;
+        for (int q = 1; q < n; q++) {
+            double s = intersection(f, q, v[k]);
+            while (s <= z[k]) {
+                k--;
+                s = intersection(f, q, v[k]);
+            }
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = Double.POSITIVE_INFINITY;
+        }
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[k + 1] < q) {
+                k++;
+            }
+            int d = q - v[k];
+            out[q] = d * d + f[v[k]];
+            arg[q] = v[k];
+        }
+    }
+
+    private static double intersection(int[] f, int q, int p) {
+        return ((f[q] + (double) q * q) - (f[p] + (double) p * p)) / (2.0 * (q - p));
+    }
+}
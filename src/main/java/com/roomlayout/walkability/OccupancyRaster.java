@@ -0,0 +1,156 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.RoomLayout;
+import com.roomlayout.model.Wall;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A room's floor rasterized into square cells, each either free or blocked.
+ *
+ * <p>Like the grids {@code ConsoleVisualizer} draws, the floor is framed by a one-cell
+ * border that stands for the walls, so cell {@code (1, 1)} is the north-west corner of the
+ * floor. Border cells are blocked except where a door opens, which lets paths leave the
+ * room and keeps clearance near the walls honest. Unlike the drawn grids, footprints are
+ * not rounded down: a cell is blocked if any piece covers part of it, so free cells are
+ * free all the way across.
+ */
+final class OccupancyRaster {
+    final double cellSize;
+    final int columns;
+    final int rows;
+    final boolean[] blocked;
+
+    OccupancyRaster(RoomLayout room, double cellSize, double minObstacleHeight) {
+        this.cellSize = cellSize;
+        // Two extra cells for the border; the epsilon keeps 5.0 / 0.05 from becoming 101 cells
+        this.columns = Math.max(1, (int) Math.ceil(room.getWidth() / cellSize - 1e-9)) + 2;
+        this.rows = Math.max(1, (int) Math.ceil(room.getLength() / cellSize - 1e-9)) + 2;
+        this.blocked = new boolean[columns * rows];
+        for (int c = 0; c < columns; c++) {
+            blocked[c] = true;
+            blocked[(rows - 1) * columns + c] = true;
+        }
+        for (int r = 0; r < rows; r++) {
+            blocked[r * columns] = true;
+            blocked[r * columns + columns - 1] = true;
+        }
+        for (Door door : room.getDoorView()) {
+            for (int cell : doorCells(door)) {
+                blocked[cell] = false;
+            }
+        }
+        for (Furniture f : room.getFurnitureView()) {
+            if (f.getHeight() >= minObstacleHeight) {
+                block(f.getFootprint());
+            }
+        }
+    }
+
+    OccupancyRaster(OccupancyRaster other) {
+        this.cellSize = other.cellSize;
+        this.columns = other.columns;
+        this.rows = other.rows;
+        this.blocked = other.blocked.clone();
+    }
+
+    /**
+     * Blocks every floor cell a footprint covers part of.
+     */
+    void block(OrientedBox box) {
+        block(box, cell -> { });
+    }
+
+    /**
+     * Blocks every floor cell a footprint covers part of.
+     *
+     * @param newlyBlocked receives each cell that was free before
+     */
+    void block(OrientedBox box, IntConsumer newlyBlocked) {
+        int firstColumn = Math.max(1, (int) Math.floor(box.getMinX() / cellSize) + 1);
+        int lastColumn = Math.min(columns - 2, (int) Math.ceil(box.getMaxX() / cellSize));
+        int firstRow = Math.max(1, (int) Math.floor(box.getMinY() / cellSize) + 1);
+        int lastRow = Math.min(rows - 2, (int) Math.ceil(box.getMaxY() / cellSize));
+        boolean aligned = box.isAxisAligned();
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                int i = r * columns + c;
+                if (blocked[i]) {
+                    continue;
+                }
+                // Inner cells of an axis-aligned box are covered; only its edges can just touch
+                boolean inner = aligned && r > firstRow && r < lastRow && c > firstColumn && c < lastColumn;
+                if (inner || box.intersects((c - 1) * cellSize, (r - 1) * cellSize, cellSize, cellSize)) {
+                    blocked[i] = true;
+                    newlyBlocked.accept(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the border cells a door opens, those whose centers lie within the opening.
+     *
+     * @return the cell indices from the start of the door to its end; empty if the door is
+     *         narrower than a cell or not on a wall of the floor plan
+     */
+    int[] doorCells(Door door) {
+        double start = door.getPosition() / cellSize + 0.5;
+        double end = (door.getPosition() + door.getWidth()) / cellSize + 0.5;
+        boolean horizontal = door.getWall() == Wall.NORTH || door.getWall() == Wall.SOUTH;
+        int limit = horizontal ? columns - 2 : rows - 2;
+        int first = Math.max(1, (int) Math.ceil(start));
+        int last = Math.min(limit, (int) Math.floor(end));
+        if (last < first) {
+            return new int[0];
+        }
+        int[] cells = new int[last - first + 1];
+        for (int k = first; k <= last; k++) {
+            int cell;
+            switch (door.getWall()) {
+                case NORTH:
+                    cell = k;
+                    break;
+                case SOUTH:
+                    cell = (rows - 1) * columns + k;
+                    break;
+                case WEST:
+                    cell = k * columns;
+                    break;
+                case EAST:
+                    cell = k * columns + columns - 1;
+                    break;
+                default:
+                    return new int[0];
+            }
+            cells[k - first] = cell;
+        }
+        return cells;
+    }
+
+    /**
+     * @return the index of the cell containing a floor point, or -1 if it is off the floor
+     */
+    int cellAt(double x, double y) {
+        if (x < 0 || y < 0) {
+            return -1;
+        }
+        int c = (int) (x / cellSize) + 1;
+        int r = (int) (y / cellSize) + 1;
+        if (c > columns - 2 || r > rows - 2) {
+            return -1;
+        }
+        return r * columns + c;
+    }
+
+    double centerX(int cell) {
+        return (cell % columns - 0.5) * cellSize;
+    }
+
+    double centerY(int cell) {
+        return (cell / columns - 0.5) * cellSize;
+    }
+}
@@ -0,0 +1,66 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Point2D;
+
+/**
+ * The widest route between two doors of a room, described by its narrowest point.
+ *
+ * <p>Of all the routes from one door to the other, this is the one whose tightest squeeze
+ * is widest, so {@link #getWidth()} is the widest object that can be carried through.
+ *
+ * @since 1.1.0
+ */
+public final class Passage {
+    private final Door from;
+    private final Door to;
+    private final double width;
+    private final Point2D location;
+    private final boolean wideEnough;
+
+    Passage(Door from, Door to, double width, Point2D location, boolean wideEnough) {
+        this.from = from;
+        this.to = to;
+        this.width = width;
+        this.location = location;
+        this.wideEnough = wideEnough;
+    }
+
+    public Door getFrom() {
+        return from;
+    }
+
+    public Door getTo() {
+        return to;
+    }
+
+    /**
+     * @return the width at the narrowest point in meters, or 0 if the doors are not
+     *         connected at all
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * @return the center of the narrowest point, or {@code null} if the doors are not
+     *         connected at all
+     */
+    public Point2D getLocation() {
+        return location;
+    }
+
+    /**
+     * @return {@code true} if the passage meets the minimum aisle width it was measured against
+     */
+    public boolean isWideEnough() {
+        return wideEnough;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Passage from %s door at %.1fm to %s door at %.1fm: %.2fm wide%s",
+            from.getWall(), from.getPosition(), to.getWall(), to.getPosition(), width,
+            location == null ? "" : " at " + location);
+    }
+}
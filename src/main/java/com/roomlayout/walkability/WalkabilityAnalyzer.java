@@ -0,0 +1,315 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.Door;
+import com.roomlayout.model.Furniture;
+import com.roomlayout.model.LayoutFingerprint;
+import com.roomlayout.model.Point2D;
+import com.roomlayout.model.RoomLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Checks that people can get around a room: that every door is clear and that the aisles
+ * between doors are at least a minimum width.
+ *
+ * <p>The floor is rasterized into square cells, a cell being blocked if any piece covers
+ * part of it, with the walls as a border of blocked cells broken by the door openings.
+ * A {@link ClearanceField} then gives every free cell its clearance, the distance to the
+ * nearest wall or piece. A door is blocked if the clearance at the middle of its
+ * opening is too small, which covers both narrow doors and pieces standing in front of
+ * them. Routes between doors are found by adding cells in order of decreasing clearance
+ * and joining neighbours, so two doors become connected exactly when the widest route
+ * between them is complete; the cell that completes it is the narrowest point.
+ *
+ * <p>Pieces lower than {@link #MIN_OBSTACLE_HEIGHT}, like rugs, can be walked over and
+ * are ignored.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * WalkabilityAnalyzer analyzer = new WalkabilityAnalyzer();
+ * WalkabilityReport report = analyzer.analyze(room);
+ * for (Door door : report.getBlockedDoors()) {
+ *     System.out.println("Blocked: " + door);
+ * }
+ * }</pre>
+ *
+ * <p>Reports are cached per room and reused as long as the room's contents are unchanged,
+ * so an editor can ask for a report after every change and only pay for the rooms that
+ * changed. When a room has only gained furniture since its last report, the analyzer
+ * copies that report's clearance field and adds the new pieces to it with
+ * {@link ClearanceField#add(Furniture)} instead of rasterizing the whole room again. Any
+ * other change rebuilds the field. The analyzer is safe to share between threads; the room must not be modified
+ * during an analysis.
+ *
+ * @since 1.1.0
+ */
+public final class WalkabilityAnalyzer {
+    /** The default side of a grid cell in meters. */
+    public static final double DEFAULT_CELL_SIZE = 0.05;
+    /** The default minimum width of an aisle in meters. */
+    public static final double DEFAULT_MIN_AISLE_WIDTH = 0.6;
+    /** Pieces lower than this, in meters, don't block the way. */
+    public static final double MIN_OBSTACLE_HEIGHT = 0.05;
+
+    private final double cellSize;
+    private final double minAisleWidth;
+    private final Map<RoomLayout, Cached> cache = new WeakHashMap<>();
+    private long hits;
+    private long misses;
+    private long incrementalUpdates;
+
+    public WalkabilityAnalyzer() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_MIN_AISLE_WIDTH);
+    }
+
+    /**
+     * @param cellSize the side of a grid cell in meters; smaller cells measure more
+     *                 precisely but take quadratically longer
+     * @param minAisleWidth the narrowest aisle people should have to pass through, in meters
+     * @throws IllegalArgumentException if the cell size is not positive or the width is negative
+     */
+    public WalkabilityAnalyzer(double cellSize, double minAisleWidth) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        if (!(minAisleWidth >= 0)) {
+            throw new IllegalArgumentException("Minimum aisle width must not be negative");
+        }
+        this.cellSize = cellSize;
+        this.minAisleWidth = minAisleWidth;
+    }
+
+    /**
+     * Analyzes a room, or returns the cached report if the room hasn't changed since.
+     *
+     * @param room the room to analyze
+     * @return the report
+     */
+    public WalkabilityReport analyze(RoomLayout room) {
+        long fingerprint = LayoutFingerprint.of(room);
+        Cached cached;
+        synchronized (this) {
+            cached = cache.get(room);
+            if (cached != null && cached.fingerprint == fingerprint) {
+                hits++;
+                return cached.report;
+            }
+            misses++;
+        }
+        List<Furniture> furniture = room.getFurnitureView();
+        long walls = LayoutFingerprint.ofWalls(room);
+        ClearanceField field;
+        if (cached != null && cached.walls == walls && furniture.size() > cached.furnitureCount
+                && LayoutFingerprint.ofFurniture(furniture.subList(0, cached.furnitureCount)) == cached.furniture) {
+            // Published fields are never modified, so earlier reports keep their clearances
+            field = new ClearanceField(cached.field);
+            for (Furniture f : furniture.subList(cached.furnitureCount, furniture.size())) {
+                field.add(f);
+            }
+            synchronized (this) {
+                incrementalUpdates++;
+            }
+        } else {
+            field = new ClearanceField(room, cellSize);
+        }
+        WalkabilityReport report = compute(room, field);
+        synchronized (this) {
+            cache.put(room, new Cached(fingerprint, walls, furniture.size(),
+                LayoutFingerprint.ofFurniture(furniture), field, report));
+        }
+        return report;
+    }
+
+    /**
+     * @return the number of analyses answered from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of analyses that had to be computed
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of computed analyses that updated the previous clearance field
+     *         of the room instead of building a new one
+     */
+    public synchronized long getIncrementalUpdates() {
+        return incrementalUpdates;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public double getMinAisleWidth() {
+        return minAisleWidth;
+    }
+
+    private WalkabilityReport compute(RoomLayout room, ClearanceField field) {
+        OccupancyRaster raster = field.raster;
+        int[] distances = field.distances;
+
+        List<Door> doors = new ArrayList<>(room.getDoorView());
+        int[] middles = new int[doors.size()];
+        List<Door> blocked = new ArrayList<>();
+        int origin = -1;
+        for (int i = 0; i < doors.size(); i++) {
+            int[] opening = raster.doorCells(doors.get(i));
+            middles[i] = opening.length == 0 ? -1 : opening[opening.length / 2];
+            if (middles[i] < 0 || !isWideEnough(width(distances[middles[i]]))) {
+                blocked.add(doors.get(i));
+            } else if (origin < 0) {
+                origin = i;
+            }
+        }
+
+        List<Passage> passages = new ArrayList<>();
+        List<Door> unreachable = new ArrayList<>();
+        if (origin < 0 && !doors.isEmpty()) {
+            // Every door is blocked; still measure the routes from the first one
+            origin = 0;
+        }
+        if (origin >= 0 && doors.size() > 1) {
+            Passage[] widest = widestRoutes(raster, distances, doors, middles, origin);
+            for (int i = 0; i < doors.size(); i++) {
+                if (i == origin) {
+                    continue;
+                }
+                passages.add(widest[i]);
+                if (!widest[i].isWideEnough() && !blocked.contains(doors.get(i)) && !blocked.contains(doors.get(origin))) {
+                    unreachable.add(doors.get(i));
+                }
+            }
+        }
+        return new WalkabilityReport(field, minAisleWidth, blocked, unreachable, passages);
+    }
+
+    /**
+     * Finds the widest route from one door to every other by adding free cells in order of
+     * decreasing clearance to a union-find forest.
+     */
+    private Passage[] widestRoutes(OccupancyRaster raster, int[] distances, List<Door> doors, int[] middles,
+                                   int origin) {
+        int columns = raster.columns;
+        boolean[] blocked = raster.blocked;
+        int free = 0;
+        for (boolean b : blocked) {
+            if (!b) {
+                free++;
+            }
+        }
+        long[] order = new long[free];
+        for (int i = 0, k = 0; i < blocked.length; i++) {
+            if (!blocked[i]) {
+                order[k++] = ((long) distances[i] << 32) | i;
+            }
+        }
+        Arrays.sort(order);
+
+        Passage[] widest = new Passage[doors.size()];
+        int pending = 0;
+        for (int i = 0; i < doors.size(); i++) {
+            if (i != origin) {
+                if (middles[i] < 0 || middles[origin] < 0) {
+                    widest[i] = new Passage(doors.get(origin), doors.get(i), 0, null, false);
+                } else {
+                    pending++;
+                }
+            }
+        }
+
+        // -1 marks cells not added yet
+        int[] parent = new int[blocked.length];
+        Arrays.fill(parent, -1);
+        for (int k = free - 1; k >= 0 && pending > 0; k--) {
+            int cell = (int) order[k];
+            parent[cell] = cell;
+            int column = cell % columns;
+            if (column > 0) {
+                union(parent, cell, cell - 1);
+            }
+            if (column < columns - 1) {
+                union(parent, cell, cell + 1);
+            }
+            if (cell >= columns) {
+                union(parent, cell, cell - columns);
+            }
+            if (cell + columns < blocked.length) {
+                union(parent, cell, cell + columns);
+            }
+            if (parent[middles[origin]] < 0) {
+                continue;
+            }
+            int root = find(parent, middles[origin]);
+            for (int i = 0; i < doors.size(); i++) {
+                if (widest[i] == null && i != origin && parent[middles[i]] >= 0 && find(parent, middles[i]) == root) {
+                    double width = width(distances[cell]);
+                    Point2D location = new Point2D(raster.centerX(cell), raster.centerY(cell));
+                    widest[i] = new Passage(doors.get(origin), doors.get(i), width, location, isWideEnough(width));
+                    pending--;
+                }
+            }
+        }
+        for (int i = 0; i < doors.size(); i++) {
+            if (widest[i] == null && i != origin) {
+                widest[i] = new Passage(doors.get(origin), doors.get(i), 0, null, false);
+            }
+        }
+        return widest;
+    }
+
+    private static void union(int[] parent, int cell, int neighbour) {
+        if (parent[neighbour] < 0) {
+            return;
+        }
+        int a = find(parent, cell);
+        int b = find(parent, neighbour);
+        if (a != b) {
+            parent[b] = a;
+        }
+    }
+
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    private boolean isWideEnough(double width) {
+        return width + cellSize >= minAisleWidth - 1e-9;
+    }
+
+    private double width(int squaredDistance) {
+        return 2 * ClearanceField.clearance(squaredDistance, cellSize);
+    }
+
+    private static final class Cached {
+        private final long fingerprint;
+        private final long walls;
+        private final int furnitureCount;
+        private final long furniture;
+        private final ClearanceField field;
+        private final WalkabilityReport report;
+
+        Cached(long fingerprint, long walls, int furnitureCount, long furniture, ClearanceField field,
+               WalkabilityReport report) {
+            this.fingerprint = fingerprint;
+            this.walls = walls;
+            this.furnitureCount = furnitureCount;
+            this.furniture = furniture;
+            this.field = field;
+            this.report = report;
+        }
+    }
+}
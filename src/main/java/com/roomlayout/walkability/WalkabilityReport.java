@@ -0,0 +1,113 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.Door;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a {@link WalkabilityAnalyzer} run over one room: which doors can be
+ * used, how wide the routes between them are, and the clearance anywhere on the floor.
+ *
+ * <p>Widths are measured on the analyzer's grid and are accurate to one cell; a passage
+ * counts as wide enough if it is within one cell of the minimum aisle width.
+ *
+ * @since 1.1.0
+ */
+public final class WalkabilityReport {
+    // Never modified once the report is built
+    private final ClearanceField field;
+    private final double minAisleWidth;
+    private final List<Door> blockedDoors;
+    private final List<Door> unreachableDoors;
+    private final List<Passage> passages;
+
+    WalkabilityReport(ClearanceField field, double minAisleWidth, List<Door> blockedDoors,
+                      List<Door> unreachableDoors, List<Passage> passages) {
+        this.field = field;
+        this.minAisleWidth = minAisleWidth;
+        this.blockedDoors = Collections.unmodifiableList(blockedDoors);
+        this.unreachableDoors = Collections.unmodifiableList(unreachableDoors);
+        this.passages = Collections.unmodifiableList(passages);
+    }
+
+    /**
+     * @return {@code true} if every door can be used and reached from the others
+     */
+    public boolean isWalkable() {
+        return blockedDoors.isEmpty() && unreachableDoors.isEmpty();
+    }
+
+    /**
+     * Returns the doors that can't be walked through, because the opening or the floor
+     * right in front of it is narrower than the minimum aisle width.
+     *
+     * @return the blocked doors in the room's order
+     */
+    public List<Door> getBlockedDoors() {
+        return blockedDoors;
+    }
+
+    /**
+     * Returns the doors that are clear themselves but can only be reached from the first
+     * usable door of the room through an aisle narrower than the minimum.
+     *
+     * @return the unreachable doors in the room's order
+     */
+    public List<Door> getUnreachableDoors() {
+        return unreachableDoors;
+    }
+
+    /**
+     * Returns the widest route from the first usable door to each other door.
+     *
+     * @return one passage per other door, in the room's order; empty for rooms with fewer
+     *         than two doors
+     */
+    public List<Passage> getPassages() {
+        return passages;
+    }
+
+    /**
+     * @return the passage with the smallest width, or {@code null} if there are none
+     */
+    public Passage getNarrowestPassage() {
+        Passage narrowest = null;
+        for (Passage passage : passages) {
+            if (narrowest == null || passage.getWidth() < narrowest.getWidth()) {
+                narrowest = passage;
+            }
+        }
+        return narrowest;
+    }
+
+    /**
+     * Returns the distance from a point to the nearest wall or obstacle.
+     *
+     * @param x the distance from the west wall in meters
+     * @param y the distance from the north wall in meters
+     * @return the clearance in meters, 0 on an obstacle or off the floor
+     */
+    public double getClearance(double x, double y) {
+        return field.getClearance(x, y);
+    }
+
+    public double getMinAisleWidth() {
+        return minAisleWidth;
+    }
+
+    /**
+     * @return the side of a grid cell in meters
+     */
+    public double getCellSize() {
+        return field.getCellSize();
+    }
+
+    @Override
+    public String toString() {
+        Passage narrowest = getNarrowestPassage();
+        return String.format("WalkabilityReport: %d blocked doors, %d unreachable doors, narrowest passage %s",
+            blockedDoors.size(), unreachableDoors.size(),
+            narrowest == null ? "none" : String.format("%.2fm", narrowest.getWidth()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.*;
+import com.roomlayout.spatial.GridSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildingTest {
+    private Building building;
+    private Floor ground;
+    private Floor first;
+    private Room lobby;
+    private Room landing;
+
+    @BeforeEach
+    void setUp() {
+        building = new Building("Office");
+        ground = building.addFloor("Ground", 0.0);
+        first = building.addFloor("First", 3.0);
+
+        lobby = new Room(6.0, 4.0, 3.0);
+        lobby.addDoor(new Door(Wall.SOUTH, 2.0, 1.2, 2.1));
+        lobby.addDoor(new Door(Wall.EAST, 1.0, 0.9, 2.1));
+        ground.addRoom("Lobby", lobby, 0, 0);
+        ground.addRoom("Cafe", new Room(5.0, 4.0, 3.0), 6.0, 0);
+
+        landing = new Room(3.0, 3.0, 3.0);
+        landing.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1));
+        first.addRoom("Landing", landing, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should keep floors by name in insertion order")
+    void testFloors() {
+        assertEquals(List.of(ground, first), building.getFloors());
+        assertSame(first, building.getFloor("First"));
+        assertNull(building.getFloor("Roof"));
+        assertEquals(3, building.getRoomCount());
+        assertThrows(IllegalArgumentException.class, () -> building.addFloor("Ground", 6.0));
+    }
+
+    @Test
+    @DisplayName("Should collect exits from every floor")
+    void testExits() {
+        List<Doorway> exits = building.getExits();
+
+        assertEquals(2, exits.size());
+        assertSame(ground, exits.get(0).getRoom().getFloor());
+        assertSame(first, exits.get(1).getRoom().getFloor());
+    }
+
+    @Test
+    @DisplayName("Should find furniture near exits on each exit's own floor")
+    void testFurnitureNearExits() {
+        Furniture bench = new Furniture("Bench", 1.5, 0.5, 0.5, 2.0, 3.0);
+        Furniture desk = new Furniture("Desk", 1.2, 0.6, 0.75, 4.5, 0.5);
+        Furniture shelf = new Furniture("Shelf", 1.0, 0.4, 1.8, 1.0, 0.5);
+        lobby.addFurniture(bench);
+        lobby.addFurniture(desk);
+        landing.addFurniture(shelf);
+
+        List<LocatedFurniture> near = building.furnitureNear(building.getExits(), 3.0);
+
+        assertEquals(2, near.size());
+        assertSame(bench, near.get(0).getFurniture());
+        assertSame(shelf, near.get(1).getFurniture());
+        assertSame(first, near.get(1).getFloor());
+    }
+
+    @Test
+    @DisplayName("Should report a piece near several doorways once")
+    void testFurnitureNearIsDistinct() {
+        lobby.addFurniture(new Furniture("Plant", 0.5, 0.5, 1.0, 5.0, 3.0));
+
+        List<LocatedFurniture> near = building.furnitureNear(ground.getDoorways(), 3.0);
+
+        assertEquals(1, near.size());
+        assertThrows(IllegalArgumentException.class, () -> building.furnitureNear(List.of(), -1.0));
+    }
+
+    @Test
+    @DisplayName("Should report a piece near two doorways once when the room creates pieces on read")
+    void testFurnitureNearIsDistinctForStoredPieces() {
+        Room hall = new Room(6.0, 4.0, 3.0, new GridSpatialIndex(), new FurnitureStore());
+        hall.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1));
+        hall.addDoor(new Door(Wall.NORTH, 2.5, 0.9, 2.1));
+        hall.addFurniture(new Furniture("Coat Rack", 0.4, 0.4, 1.8, 2.0, 0.6));
+        Floor basement = building.addFloor("Basement", -3.0);
+        basement.addRoom("Hall", hall, 0, 0);
+
+        List<LocatedFurniture> near = building.furnitureNear(basement.getDoorways(), 2.0);
+
+        assertEquals(2, basement.getDoorways().size());
+        assertEquals(1, near.size());
+        assertEquals("Coat Rack", near.get(0).getFurniture().getName());
+    }
+}
@@ -0,0 +1,155 @@
+package com.roomlayout.building;
+
+import com.roomlayout.model.*;
+import com.roomlayout.spatial.GridSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloorTest {
+    private Floor floor;
+    private Room hallRoom;
+    private Room officeRoom;
+    private Door hallToOffice;
+    private Door frontDoor;
+    private Door officeToHall;
+    private Door storageToOffice;
+    private PlacedRoom hall;
+    private PlacedRoom office;
+    private PlacedRoom storage;
+
+    @BeforeEach
+    void setUp() {
+        hallRoom = new Room(4.0, 3.0, 2.5);
+        hallToOffice = new Door(Wall.EAST, 1.0, 0.9, 2.1);
+        frontDoor = new Door(Wall.SOUTH, 1.0, 1.0, 2.1);
+        hallRoom.addDoor(hallToOffice);
+        hallRoom.addDoor(frontDoor);
+
+        officeRoom = new Room(3.0, 3.0, 2.5);
+        officeToHall = new Door(Wall.WEST, 1.0, 0.9, 2.1);
+        officeRoom.addDoor(officeToHall);
+
+        Room storageRoom = new Room(2.0, 3.0, 2.5);
+        storageToOffice = new Door(Wall.WEST, 0.5, 0.8, 2.1);
+        storageRoom.addDoor(storageToOffice);
+
+        floor = new Floor("Ground", 0.0);
+        hall = floor.addRoom("Hall", hallRoom, 0, 0);
+        office = floor.addRoom("Office", officeRoom, 4.0, 0);
+        storage = floor.addRoom("Storage", storageRoom, 7.0, 0);
+    }
+
+    @Test
+    @DisplayName("Should reject rooms that overlap but allow shared walls")
+    void testAddRoom() {
+        assertThrows(IllegalArgumentException.class,
+            () -> floor.addRoom("Closet", new Room(1.0, 1.0, 2.5), 3.5, 0.5));
+        PlacedRoom corridor = floor.addRoom("Corridor", new Room(9.0, 1.5, 2.5), 0, 3.0);
+
+        assertEquals(4, floor.getRooms().size());
+        assertSame(corridor, floor.getRooms().get(3));
+        assertSame(floor, corridor.getFloor());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-empty room index")
+    void testNonEmptyIndex() {
+        GridSpatialIndex index = new GridSpatialIndex();
+        index.insert(0, 0, 0, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> new Floor("Basement", -3.0, index));
+    }
+
+    @Test
+    @DisplayName("Should find the room covering a point")
+    void testRoomAt() {
+        assertSame(hall, floor.roomAt(1.0, 1.0));
+        assertSame(office, floor.roomAt(5.0, 1.0));
+        assertNull(floor.roomAt(4.0, 1.0));
+        assertNull(floor.roomAt(20.0, 1.0));
+        assertEquals(List.of(hall, office), floor.roomsIntersecting(3.0, 0, 2.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should link doors to the rooms behind them")
+    void testDoorways() {
+        List<Doorway> doorways = floor.getDoorways();
+
+        assertEquals(3, doorways.size());
+        Doorway toOffice = doorways.get(0);
+        assertSame(hallToOffice, toOffice.getDoor());
+        assertSame(office, toOffice.getOtherRoom());
+        assertSame(officeToHall, toOffice.getOtherDoor());
+        assertEquals(4.0, toOffice.getCenter().getX(), 1e-9);
+        assertEquals(1.45, toOffice.getCenter().getY(), 1e-9);
+
+        Doorway front = doorways.get(1);
+        assertTrue(front.isExit());
+        assertSame(frontDoor, front.getDoor());
+
+        Doorway fromStorage = doorways.get(2);
+        assertSame(storage, fromStorage.getRoom());
+        assertSame(office, fromStorage.getOtherRoom());
+        assertNull(fromStorage.getOtherDoor());
+        assertTrue(fromStorage.connects(office));
+        assertFalse(fromStorage.connects(hall));
+    }
+
+    @Test
+    @DisplayName("Should list only doors leading outside as exits")
+    void testExits() {
+        List<Doorway> exits = floor.getExits();
+
+        assertEquals(1, exits.size());
+        assertSame(frontDoor, exits.get(0).getDoor());
+        assertEquals(1.5, exits.get(0).getCenter().getX(), 1e-9);
+        assertEquals(3.0, exits.get(0).getCenter().getY(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should list the doorways of one room, including those only a neighbour lists")
+    void testDoorwaysOfRoom() {
+        List<Doorway> doorways = floor.getDoorways(office);
+
+        assertEquals(2, doorways.size());
+        assertSame(officeToHall, doorways.get(0).getDoor());
+        assertSame(hall, doorways.get(0).getOtherRoom());
+        assertSame(storageToOffice, doorways.get(1).getDoor());
+        assertThrows(IllegalArgumentException.class,
+            () -> new Floor("Other", 3.0).getDoorways(office));
+    }
+
+    @Test
+    @DisplayName("Should find furniture across room boundaries")
+    void testFurnitureIntersecting() {
+        Furniture desk = new Furniture("Desk", 1.0, 0.6, 0.75, 3.0, 0.2);
+        Furniture cabinet = new Furniture("Cabinet", 0.5, 0.5, 1.2, 0.0, 0.2);
+        hallRoom.addFurniture(desk);
+        officeRoom.addFurniture(cabinet);
+
+        List<LocatedFurniture> found = floor.furnitureIntersecting(3.5, 0, 1.5, 1.0);
+
+        assertEquals(2, found.size());
+        assertSame(desk, found.get(0).getFurniture());
+        assertSame(hall, found.get(0).getRoom());
+        assertSame(cabinet, found.get(1).getFurniture());
+        assertEquals(4.0, found.get(1).getFootprint().getMinX(), 1e-9);
+        assertTrue(floor.furnitureIntersecting(5.0, 2.0, 1.0, 1.0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find furniture within a distance of a point")
+    void testFurnitureWithin() {
+        Furniture chair = new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 2.0);
+        hallRoom.addFurniture(chair);
+
+        assertEquals(1, floor.furnitureWithin(1.5, 3.0, 1.0).size());
+        assertEquals(new LocatedFurniture(hall, chair), floor.furnitureWithin(1.5, 3.0, 1.0).get(0));
+        assertTrue(floor.furnitureWithin(1.5, 3.0, 0.4).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> floor.furnitureWithin(1.5, 3.0, -1.0));
+    }
+}
@@ -0,0 +1,146 @@
+package com.roomlayout.geometry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrientedBoxTest {
+
+    @Test
+    @DisplayName("Unrotated box should keep its edges exactly")
+    void testUnrotatedBounds() {
+        OrientedBox box = new OrientedBox(0.1, 0.2, 1.3, 0.7, 0);
+
+        assertTrue(box.isAxisAligned());
+        assertEquals(0.1, box.getMinX());
+        assertEquals(0.2, box.getMinY());
+        assertEquals(0.1 + 1.3, box.getMaxX());
+        assertEquals(0.2 + 0.7, box.getMaxY());
+        assertEquals(1.3, box.getBoundsWidth());
+        assertEquals(0.7, box.getBoundsLength());
+    }
+
+    @Test
+    @DisplayName("Quarter turn should swap the extents about the center")
+    void testQuarterTurnBounds() {
+        OrientedBox box = new OrientedBox(1.0, 1.0, 2.0, 1.0, 90);
+
+        assertTrue(box.isAxisAligned());
+        assertEquals(1.5, box.getMinX(), 1e-12);
+        assertEquals(0.5, box.getMinY(), 1e-12);
+        assertEquals(2.5, box.getMaxX(), 1e-12);
+        assertEquals(2.5, box.getMaxY(), 1e-12);
+        assertEquals(1.0, box.getBoundsWidth());
+        assertEquals(2.0, box.getBoundsLength());
+    }
+
+    @Test
+    @DisplayName("Rotation should turn the box clockwise on the floor plan")
+    void testClockwiseCorners() {
+        OrientedBox box = new OrientedBox(0, 0, 2.0, 1.0, 90);
+
+        // The north-west corner ends up in the north-east
+        assertEquals(1.5, box.getCornerX(0), 1e-12);
+        assertEquals(-0.5, box.getCornerY(0), 1e-12);
+        assertEquals(1.5, box.getCornerX(1), 1e-12);
+        assertEquals(1.5, box.getCornerY(1), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Diagonal box should have wider bounds than its size")
+    void testDiagonalBounds() {
+        OrientedBox box = new OrientedBox(0, 0, 1.0, 1.0, 45);
+
+        assertFalse(box.isAxisAligned());
+        double halfDiagonal = Math.sqrt(2) / 2;
+        assertEquals(0.5 - halfDiagonal, box.getMinX(), 1e-12);
+        assertEquals(0.5 + halfDiagonal, box.getMaxY(), 1e-12);
+        assertEquals(Math.sqrt(2), box.getBoundsWidth(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Boxes whose bounds overlap but shapes don't should not intersect")
+    void testSeparatedByRotatedAxis() {
+        OrientedBox diamond = new OrientedBox(0, 0, 1.0, 1.0, 45);
+        // Fits in the corner of the diamond's bounds, outside the diamond itself
+        OrientedBox corner = new OrientedBox(0.9, 0.9, 0.3, 0.3, 0);
+
+        assertTrue(diamond.getMaxX() > corner.getMinX() && diamond.getMaxY() > corner.getMinY());
+        assertFalse(diamond.intersects(corner));
+        assertFalse(corner.intersects(diamond));
+        assertFalse(diamond.intersects(0.9, 0.9, 0.3, 0.3));
+    }
+
+    @Test
+    @DisplayName("Overlapping rotated boxes should intersect")
+    void testRotatedIntersection() {
+        OrientedBox a = new OrientedBox(0, 0, 2.0, 0.5, 30);
+        OrientedBox b = new OrientedBox(0.5, 0, 2.0, 0.5, -30);
+
+        assertTrue(a.intersects(b));
+        assertTrue(b.intersects(a));
+        assertTrue(a.intersects(0.9, 0.2, 0.2, 0.2));
+    }
+
+    @Test
+    @DisplayName("Boxes touching along an edge should not intersect")
+    void testTouchingEdges() {
+        OrientedBox a = new OrientedBox(0, 0, 1.0, 1.0, 0);
+        OrientedBox b = new OrientedBox(1.0, 0, 1.0, 1.0, 0);
+        OrientedBox c = new OrientedBox(0, 0, 1.0, 1.0, 45);
+        OrientedBox d = new OrientedBox(Math.sqrt(2), 0, 1.0, 1.0, 45);
+
+        assertFalse(a.intersects(b));
+        assertFalse(c.intersects(d));
+    }
+
+    @Test
+    @DisplayName("Should contain points on the rotated shape only")
+    void testContains() {
+        OrientedBox diamond = new OrientedBox(0, 0, 1.0, 1.0, 45);
+
+        assertTrue(diamond.contains(0.5, 0.5));
+        assertTrue(diamond.contains(0.5, 0.5 - Math.sqrt(2) / 2));
+        assertFalse(diamond.contains(0.95, 0.95));
+    }
+
+    @Test
+    @DisplayName("Should compute the area shared by two boxes")
+    void testIntersectionArea() {
+        OrientedBox a = new OrientedBox(0, 0, 1.0, 1.0, 0);
+        OrientedBox b = new OrientedBox(0.5, 0.5, 1.0, 1.0, 0);
+        OrientedBox diamond = new OrientedBox(0, 0, 1.0, 1.0, 45);
+        OrientedBox square = new OrientedBox(0, 0, 1.0, 1.0, 0);
+
+        assertEquals(0.25, a.intersectionArea(b), 1e-12);
+        // The square cuts four corner triangles off the diamond
+        double cut = Math.sqrt(2) / 2 - 0.5;
+        assertEquals(1.0 - 4 * cut * cut, diamond.intersectionArea(square), 1e-9);
+        assertEquals(diamond.intersectionArea(square), square.intersectionArea(diamond), 1e-9);
+        assertEquals(0.0, a.intersectionArea(new OrientedBox(2, 2, 1, 1, 45)));
+    }
+
+    @Test
+    @DisplayName("Should measure the distance from a point to the rotated shape")
+    void testDistanceTo() {
+        OrientedBox box = new OrientedBox(0, 0, 2.0, 1.0, 0);
+        OrientedBox diamond = new OrientedBox(0, 0, 1.0, 1.0, 45);
+
+        assertEquals(0.0, box.distanceTo(1.0, 0.5));
+        assertEquals(1.0, box.distanceTo(3.0, 0.5), 1e-12);
+        assertEquals(5.0, box.distanceTo(5.0, 5.0), 1e-12);
+        // The diamond's tip points east, so the corner of its bounds is off the shape
+        assertEquals(0.5, diamond.distanceTo(0.5 + Math.sqrt(2) / 2 + 0.5, 0.5), 1e-12);
+        assertEquals(Math.sqrt(0.5) - 0.5, diamond.distanceTo(1.0, 1.0), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Should tell whether the rotated shape fits a rectangle")
+    void testIsWithin() {
+        assertTrue(new OrientedBox(0, 0, 2.0, 1.0, 0).isWithin(0, 0, 2.0, 1.0));
+        assertFalse(new OrientedBox(0, 0, 2.0, 1.0, 90).isWithin(0, 0, 2.0, 1.0));
+        assertTrue(new OrientedBox(1.0, 1.0, 1.0, 1.0, 45).isWithin(0, 0, 3.0, 3.0));
+        assertFalse(new OrientedBox(0, 0, 1.0, 1.0, 45).isWithin(0, 0, 3.0, 3.0));
+    }
+}
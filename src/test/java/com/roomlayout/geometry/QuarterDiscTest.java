@@ -0,0 +1,47 @@
+package com.roomlayout.geometry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuarterDiscTest {
+    // A door hinged at (1, 0) swinging south-east into the room
+    private final QuarterDisc swing = new QuarterDisc(1.0, 0.0, 0.9, true, true);
+
+    @Test
+    @DisplayName("Should intersect boxes reaching into the arc")
+    void testIntersects() {
+        assertTrue(swing.intersects(new OrientedBox(1.2, 0.1, 0.3, 0.3, 0)));
+        assertTrue(swing.intersects(new OrientedBox(0.0, 0.0, 3.0, 3.0, 0)));
+        assertTrue(swing.intersects(new OrientedBox(1.5, 0.5, 0.5, 0.5, 45)));
+    }
+
+    @Test
+    @DisplayName("Should not intersect boxes in the corner beyond the arc or on the other side")
+    void testOutside() {
+        assertFalse(swing.intersects(new OrientedBox(1.7, 0.7, 0.2, 0.2, 0)));
+        assertFalse(swing.intersects(new OrientedBox(0.2, 0.1, 0.5, 0.5, 0)));
+        assertFalse(swing.intersects(new OrientedBox(1.2, -0.5, 0.5, 0.4, 0)));
+    }
+
+    @Test
+    @DisplayName("Boxes touching the straight edges or the arc should not intersect")
+    void testTouching() {
+        assertFalse(swing.intersects(new OrientedBox(0.5, 0.0, 0.5, 0.5, 0)));
+        assertFalse(swing.intersects(new OrientedBox(1.9, 0.0, 0.5, 0.5, 0)));
+        assertFalse(swing.intersects(new OrientedBox(1.0, 0.9, 0.5, 0.5, 0)));
+    }
+
+    @Test
+    @DisplayName("Should open in the given direction")
+    void testDirections() {
+        QuarterDisc northWest = new QuarterDisc(5.0, 4.0, 1.0, false, false);
+
+        assertEquals(4.0, northWest.getMinX());
+        assertEquals(3.0, northWest.getMinY());
+        assertTrue(northWest.intersects(new OrientedBox(4.5, 3.5, 0.2, 0.2, 0)));
+        assertFalse(northWest.intersects(new OrientedBox(5.0, 3.5, 0.2, 0.2, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new QuarterDisc(0, 0, 0, true, true));
+    }
+}
@@ -0,0 +1,202 @@
+package com.roomlayout.io;
+
+import com.roomlayout.model.*;
+import com.roomlayout.placement.Corner;
+import com.roomlayout.placement.Side;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLayoutReaderTest {
+    
+    @Test
+    @DisplayName("Placement intents should resolve like the fluent API")
+    void testPlacementIntents() throws IOException {
+        String json = "{\"version\": 1, \"width\": 6.0, \"length\": 4.0, \"height\": 2.7,\n"
+            + " \"doors\": [{\"wall\": \"NORTH\", \"position\": 2.5, \"width\": 0.9, \"height\": 2.1}],\n"
+            + " \"windows\": [{\"wall\": \"EAST\", \"position\": 1.0, \"width\": 1.5, \"height\": 1.2, \"bottomHeight\": 0.9, \"type\": \"Bay\"}],\n"
+            + " \"furniture\": [\n"
+            + "  {\"name\": \"Sofa\", \"width\": 2.0, \"length\": 0.8, \"height\": 0.8,\n"
+            + "   \"placement\": {\"type\": \"corner\", \"corner\": \"SOUTH_WEST\", \"gap\": 0.2, \"shiftX\": 0.3}},\n"
+            + "  {\"name\": \"Table\", \"width\": 1.0, \"length\": 0.6, \"height\": 0.4,\n"
+            + "   \"placement\": {\"type\": \"relative\", \"reference\": \"Sofa\", \"side\": \"NORTH\", \"gap\": 0.4}},\n"
+            + "  {\"placement\": {\"type\": \"wall\", \"wall\": \"NORTH\", \"position\": \"FROM_START\", \"offset\": 0.5},\n"
+            + "   \"name\": \"Shelf\", \"width\": 1.0, \"length\": 0.3, \"height\": 2.0, \"color\": [\"ignored\"]},\n"
+            + "  {\"name\": \"Lamp\", \"width\": 0.3, \"length\": 0.3, \"height\": 1.6, \"placement\": {\"type\": \"center\"}},\n"
+            + "  {\"name\": \"Desk\", \"width\": 1.2, \"length\": 0.6, \"height\": 0.75, \"x\": 4.8, \"y\": 0.3, \"rotation\": 90}\n"
+            + " ]}";
+        
+        Room room = JsonLayoutReader.read(new StringReader(json));
+        
+        Room expected = new Room(6.0, 4.0, 2.7);
+        Furniture sofa = expected.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_WEST)
+            .withGap(0.2).shiftEast(0.3).build();
+        expected.place("Table", 1.0, 0.6, 0.4).nextTo(sofa).onSide(Side.NORTH).withGap(0.4).build();
+        assertEquals(expected.getFurniture(), room.getFurniture().subList(0, 2));
+        assertEquals(0.5, room.getFurniture().get(2).getX(), 0.001);
+        assertEquals(0.0, room.getFurniture().get(2).getY(), 0.001);
+        assertEquals(2.85, room.getFurniture().get(3).getX(), 0.001);
+        assertEquals(90.0, room.getFurniture().get(4).getRotation());
+        assertEquals(Wall.NORTH, room.getDoors().get(0).getWall());
+        assertEquals("Standard", room.getDoors().get(0).getType());
+        assertEquals("Bay", room.getWindows().get(0).getType());
+    }
+    
+    @Test
+    @DisplayName("Written rooms should read back equal")
+    void testRoundTrip() throws IOException {
+        Room room = new Room(6.0, 5.0, 2.7);
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        room.addFurniture(new Furniture("Sofa \"corner\"\n\\", 2.0, 0.8, 0.8, 0, 4.2));
+        room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 4.0, 45));
+        room.addDoor(new Door(Wall.SOUTH, 3.0, 0.9, 2.1, "Sliding"));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_END));
+        room.addWindow(new Window(Wall.WEST, 1.0, 1.5, 1.2, 0.9));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.2, 0.9, "Standard", true));
+        StringWriter out = new StringWriter();
+        
+        JsonLayoutWriter.write(room, out);
+        Room loaded = JsonLayoutReader.read(new StringReader(out.toString()));
+        
+        assertEquals(room.getFurniture(), loaded.getFurniture());
+        assertEquals(OverlapPolicy.ALLOW, loaded.getOverlapPolicy());
+        assertEquals(1, loaded.getOverlaps().size());
+        assertEquals("Sliding", loaded.getDoors().get(0).getType());
+        assertEquals(Door.Swing.NONE, loaded.getDoors().get(0).getSwing());
+        assertEquals(Door.Swing.INWARD_HINGED_AT_END, loaded.getDoors().get(1).getSwing());
+        assertEquals(0.9, loaded.getWindows().get(0).getBottomHeight());
+        assertFalse(loaded.getWindows().get(0).isSillKeptClear());
+        assertTrue(loaded.getWindows().get(1).isSillKeptClear());
+    }
+    
+    @Test
+    @DisplayName("Multi-room documents should stream one room at a time")
+    void testStreamingManyRooms() throws IOException {
+        int rooms = 20;
+        int piecesPerRoom = 5000;
+        List<Integer> sizes = new ArrayList<>();
+        
+        JsonLayoutReader.forEachRoom(new GeneratedLayout(rooms, piecesPerRoom), 500,
+            room -> sizes.add(room.getFurnitureView().size()));
+        
+        assertEquals(rooms, sizes.size());
+        assertTrue(sizes.stream().allMatch(size -> size == piecesPerRoom));
+    }
+    
+    @Test
+    @DisplayName("Malformed or incomplete documents should be rejected")
+    void testInvalidDocuments() {
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader("{\"width\": 6.0, ")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader("{\"width\" 6.0}")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader("[1, ]")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader(
+            "{\"furniture\": [], \"width\": 6.0, \"length\": 4.0, \"height\": 2.7}")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader(
+            "{\"version\": 3, \"width\": 6.0, \"length\": 4.0, \"height\": 2.7}")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader(
+            "{\"width\": 6.0, \"length\": 4.0, \"height\": 2.7, \"furniture\": [{\"name\": \"A\", \"width\": 1,"
+                + " \"length\": 1, \"height\": 1, \"placement\": {\"type\": \"relative\", \"reference\": \"B\", \"side\": \"NORTH\"}}]}")));
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader("[]")));
+        assertThrows(IllegalArgumentException.class, () -> JsonLayoutReader.read(new StringReader(
+            "{\"width\": 6.0, \"length\": 4.0, \"height\": 2.7, \"furniture\": ["
+                + "{\"name\": \"A\", \"width\": 1, \"length\": 1, \"height\": 1, \"x\": 0, \"y\": 0},"
+                + "{\"name\": \"B\", \"width\": 1, \"length\": 1, \"height\": 1, \"x\": 0.5, \"y\": 0}]}")));
+    }
+    
+    @Test
+    @DisplayName("Placements should see positioned and placed pieces of their own batch")
+    void testReferencesWithinBatch() throws IOException {
+        String json = "{\"width\": 6.0, \"length\": 4.0, \"height\": 2.7, \"furniture\": [\n"
+            + "  {\"name\": \"Bed\", \"width\": 1.6, \"length\": 2.0, \"height\": 0.5, \"x\": 2.0, \"y\": 1.0},\n"
+            + "  {\"name\": \"Nightstand\", \"width\": 0.4, \"length\": 0.4, \"height\": 0.5,\n"
+            + "   \"placement\": {\"type\": \"relative\", \"reference\": \"Bed\", \"side\": \"EAST\", \"gap\": 0.1}},\n"
+            + "  {\"name\": \"Lamp\", \"width\": 0.3, \"length\": 0.3, \"height\": 1.5,\n"
+            + "   \"placement\": {\"type\": \"relative\", \"reference\": \"Nightstand\", \"side\": \"EAST\"}}\n"
+            + " ]}";
+        
+        List<Room> rooms = new ArrayList<>();
+        JsonLayoutReader.forEachRoom(new StringReader(json), 2, rooms::add);
+        
+        Room expected = new Room(6.0, 4.0, 2.7);
+        Furniture bed = new Furniture("Bed", 1.6, 2.0, 0.5, 2.0, 1.0);
+        expected.addFurniture(bed);
+        Furniture nightstand = expected.place("Nightstand", 0.4, 0.4, 0.5).nextTo(bed).onSide(Side.EAST)
+            .withGap(0.1).build();
+        expected.place("Lamp", 0.3, 0.3, 1.5).nextTo(nightstand).onSide(Side.EAST).build();
+        assertEquals(expected.getFurniture(), rooms.get(0).getFurniture());
+    }
+    
+    @Test
+    @DisplayName("Explicit null types should be rejected rather than defaulted")
+    void testNullType() throws IOException {
+        assertThrows(IOException.class, () -> JsonLayoutReader.read(new StringReader(
+            "{\"width\": 6.0, \"length\": 4.0, \"height\": 2.7, \"doors\": [{\"wall\": \"NORTH\","
+                + " \"position\": 1.0, \"width\": 0.9, \"height\": 2.1, \"type\": null}]}")));
+        Room room = JsonLayoutReader.read(new StringReader(
+            "{\"width\": 6.0, \"length\": 4.0, \"height\": 2.7, \"windows\": [{\"wall\": \"NORTH\","
+                + " \"position\": 1.0, \"width\": 0.9, \"height\": 1.0, \"bottomHeight\": 0.9}]}"));
+        assertEquals("Standard", room.getWindows().get(0).getType());
+        
+        Room untyped = new Room(6.0, 4.0, 2.7);
+        untyped.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1, null));
+        assertThrows(IllegalArgumentException.class, () -> JsonLayoutWriter.write(untyped, new StringWriter()));
+    }
+    
+    /**
+     * Produces a large multi-room document on the fly without holding it in memory.
+     */
+    private static final class GeneratedLayout extends Reader {
+        private final int rooms;
+        private final int piecesPerRoom;
+        private final StringBuilder pending = new StringBuilder("[");
+        private int room;
+        private int piece = -1;
+        
+        GeneratedLayout(int rooms, int piecesPerRoom) {
+            this.rooms = rooms;
+            this.piecesPerRoom = piecesPerRoom;
+        }
+        
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            while (pending.length() < length && room < rooms) {
+                if (piece == -1) {
+                    pending.append(room == 0 ? "" : ",")
+                        .append("{\"width\": 100, \"length\": 100, \"height\": 3, \"furniture\": [");
+                    piece = 0;
+                } else if (piece < piecesPerRoom) {
+                    pending.append(piece == 0 ? "" : ",")
+                        .append("{\"name\": \"Box\", \"width\": 0.5, \"length\": 0.5, \"height\": 0.5, \"x\": ")
+                        .append(piece % 100).append(", \"y\": ").append(piece / 100).append('}');
+                    piece++;
+                } else {
+                    pending.append("]}");
+                    piece = -1;
+                    room++;
+                    if (room == rooms) {
+                        pending.append(']');
+                    }
+                }
+            }
+            if (pending.length() == 0) {
+                return -1;
+            }
+            int count = Math.min(length, pending.length());
+            pending.getChars(0, count, buffer, offset);
+            pending.delete(0, count);
+            return count;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
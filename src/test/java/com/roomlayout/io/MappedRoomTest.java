@@ -0,0 +1,145 @@
+package com.roomlayout.io;
+
+import com.roomlayout.model.*;
+import com.roomlayout.visualization.TextVisualizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRoomTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private Room sampleRoom() {
+        Room room = new Room(6.0, 5.0, 2.7);
+        room.addFurniture(new Furniture("Sofa", 2.0, 0.8, 0.8, 0, 4.2));
+        room.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.75, 4.8, 0.3, 90));
+        room.addFurniture(new Furniture("Pouf", 0.5, 0.5, 0.5, 3.0, 3.0));
+        room.addFurniture(new Furniture("Sofa", 2.0, 0.8, 0.8, 3.5, 4.2));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Sliding"));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.2, 0.9, "Bay W\u00efndow"));
+        return room;
+    }
+    
+    @Test
+    @DisplayName("Written rooms should read back equal")
+    void testRoundTrip() throws IOException {
+        Room room = sampleRoom();
+        room.addFurniture(new Furniture(null, 0.5, 0.5, 0.5, 0.5, 0.5));
+        Path file = tempDir.resolve("room.rlay");
+        
+        LayoutWriter.write(room, file);
+        MappedRoom mapped = MappedRoom.open(file);
+        
+        assertEquals(6.0, mapped.getWidth());
+        assertEquals(5.0, mapped.getLength());
+        assertEquals(2.7, mapped.getHeight());
+        assertEquals(room.getFurniture(), mapped.getFurnitureView());
+        assertEquals(90.0, mapped.getFurnitureView().get(1).getRotation());
+        assertNull(mapped.getName(4));
+        assertEquals(1, mapped.getDoorView().size());
+        assertEquals("Sliding", mapped.getDoorView().get(0).getType());
+        assertEquals(Wall.NORTH, mapped.getDoorView().get(0).getWall());
+        assertEquals(0.9, mapped.getDoorView().get(0).getWidth());
+        Window window = mapped.getWindowView().get(0);
+        assertEquals("Bay W\u00efndow", window.getType());
+        assertEquals(Wall.EAST, window.getWall());
+        assertEquals(0.9, window.getBottomHeight());
+    }
+    
+    @Test
+    @DisplayName("Mapped rooms should render and load into a room like the original")
+    void testRenderAndLoad() throws IOException {
+        Room room = sampleRoom();
+        Path file = tempDir.resolve("room.rlay");
+        LayoutWriter.write(room, file);
+        MappedRoom mapped = MappedRoom.open(file);
+        
+        StringWriter original = new StringWriter();
+        StringWriter loaded = new StringWriter();
+        new TextVisualizer(room, tempDir.toString()).writeAll(original);
+        new TextVisualizer(mapped, tempDir.toString()).writeAll(loaded);
+        assertEquals(original.toString(), loaded.toString());
+        
+        Room copy = mapped.toRoom();
+        assertEquals(room.getFurniture(), copy.getFurniture());
+        assertEquals(room.furnitureIntersecting(2.5, 3.5, 2.0, 1.0), mapped.furnitureIntersecting(2.5, 3.5, 2.0, 1.0));
+    }
+    
+    @Test
+    @DisplayName("Large layouts should be readable through primitive accessors")
+    void testLargeLayout() throws IOException {
+        FurnitureStore store = new FurnitureStore(100_000);
+        Room warehouse = new Room(400.0, 250.0, 8.0, new com.roomlayout.spatial.GridSpatialIndex(), store);
+        for (int i = 0; i < 100_000; i++) {
+            warehouse.addFurniture(new Furniture("Pallet", 1.0, 1.0, 1.5, (i % 400), (i / 400)));
+        }
+        Path file = tempDir.resolve("warehouse.rlay");
+        
+        LayoutWriter.write(warehouse, file);
+        MappedRoom mapped = MappedRoom.open(file);
+        
+        assertEquals(100_000, mapped.getFurnitureCount());
+        assertEquals(123.0, mapped.getX(99_723));
+        assertEquals(249.0, mapped.getY(99_723));
+        assertEquals("Pallet", mapped.getName(99_999));
+        assertTrue(Files.size(file) < 100_000 * 60L);
+    }
+    
+    @Test
+    @DisplayName("Door swings and sill clearance should survive the binary format")
+    void testDoorSwingRoundTrip() throws IOException {
+        Room room = sampleRoom();
+        room.addDoor(new Door(Wall.WEST, 0.5, 0.8, 2.0, null, Door.Swing.INWARD_HINGED_AT_END));
+        room.addWindow(new Window(Wall.SOUTH, 4.0, 1.0, 1.0, 1.0, "Standard", true));
+        Path file = tempDir.resolve("room.rlay");
+        
+        LayoutWriter.write(room, file);
+        MappedRoom mapped = MappedRoom.open(file);
+        
+        assertEquals(Door.Swing.NONE, mapped.getDoorView().get(0).getSwing());
+        assertEquals(Door.Swing.INWARD_HINGED_AT_END, mapped.getDoorView().get(1).getSwing());
+        assertEquals(Door.Swing.INWARD_HINGED_AT_END, mapped.toRoom().getDoors().get(1).getSwing());
+        assertFalse(mapped.getWindowView().get(0).isSillKeptClear());
+        assertTrue(mapped.getWindowView().get(1).isSillKeptClear());
+    }
+    
+    @Test
+    @DisplayName("Opening foreign, unknown-version or truncated files should fail")
+    void testInvalidFiles() throws IOException {
+        Path foreign = tempDir.resolve("foreign.rlay");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IOException.class, () -> MappedRoom.open(foreign));
+        
+        Path file = tempDir.resolve("room.rlay");
+        LayoutWriter.write(sampleRoom(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        
+        byte[] newer = bytes.clone();
+        ByteBuffer.wrap(newer).putShort(4, (short) (LayoutFormat.VERSION + 1));
+        Path newerFile = tempDir.resolve("newer.rlay");
+        Files.write(newerFile, newer);
+        assertThrows(IOException.class, () -> MappedRoom.open(newerFile));
+        
+        for (short version : new short[] {0, -1}) {
+            byte[] invalid = bytes.clone();
+            ByteBuffer.wrap(invalid).putShort(4, version);
+            Path invalidFile = tempDir.resolve("version" + version + ".rlay");
+            Files.write(invalidFile, invalid);
+            assertThrows(IOException.class, () -> MappedRoom.open(invalidFile));
+        }
+        
+        Path truncated = tempDir.resolve("truncated.rlay");
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> MappedRoom.open(truncated));
+    }
+}
@@ -0,0 +1,158 @@
+package com.roomlayout.model;
+
+import com.roomlayout.placement.Corner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentRoomTest {
+    private static final int THREADS = 8;
+    
+    private ConcurrentRoom room;
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() {
+        room = new ConcurrentRoom(40.0, 40.0, 3.0);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("Concurrent writers should add every non-overlapping piece")
+    void testConcurrentAdds() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int row = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 40; i++) {
+                    room.addFurniture(new Furniture("Box " + row + "-" + i, 0.9, 0.9, 1.0, i, row * 5.0));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        assertEquals(THREADS * 40, room.getFurniture().size());
+        assertEquals(1, room.furnitureIntersecting(3.1, 10.1, 0.1, 0.1).size());
+    }
+    
+    @Test
+    @DisplayName("Exactly one of many racing writers should claim the same spot")
+    void testOverlapValidationIsLinearizable() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            double shift = t * 0.1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    room.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.75, 10.0 + shift, 10.0));
+                    accepted.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        assertEquals(1, accepted.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(1, room.getFurnitureView().size());
+    }
+    
+    @Test
+    @DisplayName("Readers should see a consistent prefix while writers add")
+    void testReadersDuringWrites() throws Exception {
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 1000; i++) {
+                room.addFurniture(new Furniture("Crate", 0.5, 0.5, 0.5, (i % 40) + 0.25, (i / 40) + 0.25));
+            }
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int t = 1; t < THREADS; t++) {
+            readers.add(executor.submit(() -> {
+                while (!writer.isDone()) {
+                    List<Furniture> view = room.getFurnitureView();
+                    int size = view.size();
+                    for (int i = 0; i < size; i++) {
+                        assertNotNull(view.get(i));
+                    }
+                    for (Furniture f : room.getFurniture()) {
+                        assertNotNull(f);
+                    }
+                    room.furnitureIntersecting(0, 0, 10, 10);
+                }
+                return null;
+            }));
+        }
+        writer.get(10, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        assertEquals(1000, room.getFurnitureView().size());
+    }
+    
+    @Test
+    @DisplayName("Concurrent spatial queries should not disturb each other")
+    void testConcurrentQueries() throws Exception {
+        for (int i = 0; i < 2500; i++) {
+            room.addFurniture(new Furniture("Crate", 0.5, 0.5, 0.5, (i % 50) * 0.8, (i / 50) * 0.8));
+        }
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int q = 0; q < 2000; q++) {
+            results.add(executor.submit(() -> room.furnitureIntersecting(0, 0, 40, 40).size()));
+            results.add(executor.submit(() -> room.nearest(new Point2D(20, 20), 50).size()));
+        }
+        for (int q = 0; q < results.size(); q++) {
+            assertEquals(q % 2 == 0 ? 2500 : 50, (int) results.get(q).get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Concurrent room should behave like a room for single-threaded use")
+    void testSingleThreadedBehaviour() {
+        executor.shutdown();
+        Furniture sofa = room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_WEST).build();
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1));
+        room.addWindow(new Window(Wall.EAST, 2.0, 1.5, 1.2, 0.9));
+        
+        assertEquals(List.of(sofa), room.getFurniture());
+        assertEquals(1, room.getDoorView().size());
+        assertEquals(1, room.getWindowView().size());
+        assertThrows(IllegalArgumentException.class, () -> room.addFurniture(sofa));
+        
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        room.addFurniture(sofa);
+        assertEquals(1, room.getOverlaps().size());
+        assertThrows(UnsupportedOperationException.class, () -> room.getFurnitureView().add(sofa));
+    }
+}
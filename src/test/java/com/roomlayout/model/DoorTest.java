@@ -107,4 +107,16 @@ class DoorTest {
         assertEquals("Sliding", sliding.getType());
         assertEquals("Pocket", pocket.getType());
     }
+    
+    @Test
+    @DisplayName("Should not swing unless told to")
+    void testSwing() {
+        Door plain = new Door(Wall.NORTH, 1.0, 0.9, 2.1);
+        Door hinged = new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START);
+        
+        assertEquals(Door.Swing.NONE, plain.getSwing());
+        assertEquals(Door.Swing.INWARD_HINGED_AT_START, hinged.getSwing());
+        assertThrows(IllegalArgumentException.class,
+            () -> new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", null));
+    }
 }
\ No newline at end of file
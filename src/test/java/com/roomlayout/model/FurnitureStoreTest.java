@@ -0,0 +1,107 @@
+package com.roomlayout.model;
+
+import com.roomlayout.geometry.OrientedBox;
+import com.roomlayout.spatial.GridSpatialIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FurnitureStoreTest {
+    private FurnitureStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new FurnitureStore(2);
+    }
+    
+    @Test
+    @DisplayName("Stored furniture should read back equal to the original")
+    void testRoundTrip() {
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.5, 4.0, 90.0);
+        store.add(sofa);
+        
+        assertEquals(1, store.size());
+        assertEquals(sofa, store.get(0));
+        assertEquals(0.5, store.getX(0));
+        assertEquals(4.0, store.getY(0));
+        assertEquals(2.0, store.getWidth(0));
+        assertEquals(0.8, store.getLength(0));
+        assertEquals(0.8, store.getHeight(0));
+        assertEquals(90.0, store.getRotation(0));
+        assertEquals("Sofa", store.getName(0));
+    }
+    
+    @Test
+    @DisplayName("Store should grow and intern repeated names")
+    void testGrowthAndNameInterning() {
+        for (int i = 0; i < 1000; i++) {
+            store.add(new Furniture(i % 2 == 0 ? "Rack" : "Pallet", 1.0, 1.0, 1.0, i, 0));
+        }
+        
+        assertEquals(1000, store.size());
+        assertEquals(2, store.getDistinctNameCount());
+        assertEquals(999.0, store.getX(999));
+        assertEquals("Pallet", store.get(999).getName());
+    }
+    
+    @Test
+    @DisplayName("Views should reuse rotated footprints and columnar tests should agree with them")
+    void testFootprints() {
+        Furniture turned = new Furniture("Desk", 1.2, 0.6, 0.75, 1.0, 1.0, 30.0);
+        Furniture square = new Furniture("Crate", 0.5, 0.5, 0.5, 3.0, 1.0);
+        store.add(turned);
+        store.add(square);
+        
+        assertSame(turned.getFootprint(), store.get(0).getFootprint());
+        assertEquals(square.getFootprint().getMinX(), store.get(1).getFootprint().getMinX());
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 5;
+            double y = random.nextDouble() * 3;
+            double w = random.nextDouble() * 1.5;
+            double l = random.nextDouble() * 1.5;
+            OrientedBox box = new OrientedBox(x, y, w + 0.01, l + 0.01, random.nextInt(4) * 25);
+            assertEquals(turned.getFootprint().intersects(box), store.intersects(0, box));
+            assertEquals(square.getFootprint().intersects(box), store.intersects(1, box));
+            assertEquals(turned.getFootprint().intersects(x, y, w, l), store.intersects(0, x, y, w, l));
+            assertEquals(square.getFootprint().intersects(x, y, w, l), store.intersects(1, x, y, w, l));
+        }
+        assertFalse(store.intersects(1, 3.5, 1.0, 1.0, 1.0));
+    }
+    
+    @Test
+    @DisplayName("Should reject out of range indexes")
+    void testIndexBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getX(-1));
+        assertThrows(IllegalArgumentException.class, () -> new FurnitureStore(-1));
+    }
+    
+    @Test
+    @DisplayName("Room backed by a store should behave like a regular room")
+    void testColumnarRoom() {
+        Room room = new Room(5.0, 6.0, 3.0, new GridSpatialIndex(), store);
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.5, 4.0);
+        room.addFurniture(table);
+        room.addFurniture(sofa);
+        
+        assertEquals(2, store.size());
+        assertEquals(List.of(table, sofa), room.getFurniture());
+        assertEquals(List.of(sofa), room.furnitureIntersecting(0.0, 3.0, 5.0, 3.0));
+        assertThrows(IllegalArgumentException.class,
+            () -> room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.5, 1.5)));
+    }
+    
+    @Test
+    @DisplayName("Room should refuse a store that already holds furniture")
+    void testNonEmptyStoreRejected() {
+        store.add(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Room(5.0, 6.0, 3.0, new GridSpatialIndex(), store));
+    }
+}
@@ -117,4 +117,17 @@ class FurnitureTest {
         assertEquals(center1.getX(), center2.getX());
         assertEquals(center1.getY(), center2.getY());
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Furniture with the same values should be equal")
+    void testValueEquality() {
+        Furniture a = new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 1.0, 45.0);
+        Furniture b = new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 1.0, 405.0);
+        Furniture moved = new Furniture("Chair", 0.5, 0.5, 0.9, 1.5, 1.0, 45.0);
+        
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, moved);
+        assertNotEquals(a, new Furniture("Stool", 0.5, 0.5, 0.9, 1.0, 1.0, 45.0));
+    }
+}
@@ -0,0 +1,134 @@
+package com.roomlayout.model;
+
+import com.roomlayout.visualization.TextVisualizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomSnapshotTest {
+    private RoomSnapshot empty;
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeEach
+    void setUp() {
+        empty = new RoomSnapshot(6.0, 5.0, 2.7);
+    }
+    
+    @Test
+    @DisplayName("Adding should return a new version and leave the old one unchanged")
+    void testAddReturnsNewVersion() {
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0, 4.2);
+        RoomSnapshot withSofa = empty.addFurniture(sofa);
+        RoomSnapshot withDoor = withSofa.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1));
+        RoomSnapshot withWindow = withDoor.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.2, 0.9));
+        
+        assertTrue(empty.getFurnitureView().isEmpty());
+        assertEquals(List.of(sofa), withSofa.getFurnitureView());
+        assertTrue(withSofa.getDoorView().isEmpty());
+        assertEquals(1, withDoor.getDoorView().size());
+        assertTrue(withDoor.getWindowView().isEmpty());
+        assertEquals(1, withWindow.getWindowView().size());
+        assertEquals(List.of(sofa), withWindow.getFurnitureView());
+    }
+    
+    @Test
+    @DisplayName("Branches from one version should not see each other's changes")
+    void testBranching() {
+        RoomSnapshot base = empty.addFurniture(new Furniture("Table", 1.0, 1.0, 0.75, 2.0, 2.0));
+        RoomSnapshot left = base.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 2.0));
+        RoomSnapshot right = base.addFurniture(new Furniture("Lamp", 0.3, 0.3, 1.6, 1.0, 2.0));
+        
+        assertEquals(1, base.getFurnitureView().size());
+        assertEquals("Chair", left.getFurnitureView().get(1).getName());
+        assertEquals("Lamp", right.getFurnitureView().get(1).getName());
+        assertEquals(1, left.furnitureIntersecting(1.0, 2.0, 0.5, 0.5).size());
+        assertEquals("Chair", left.furnitureIntersecting(1.0, 2.0, 0.5, 0.5).get(0).getName());
+        assertEquals("Lamp", right.furnitureIntersecting(1.0, 2.0, 0.5, 0.5).get(0).getName());
+        assertTrue(base.furnitureIntersecting(1.0, 2.0, 0.5, 0.5).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Snapshots should reject pieces that overlap or do not fit")
+    void testValidation() {
+        RoomSnapshot withDesk = empty.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.75, 0, 0));
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> withDesk.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 0.3)));
+        assertThrows(IllegalArgumentException.class,
+            () -> withDesk.addFurniture(new Furniture("Wardrobe", 1.0, 0.6, 3.0, 3.0, 3.0)));
+        assertThrows(IllegalArgumentException.class,
+            () -> withDesk.addDoor(new Door(Wall.NORTH, 5.5, 0.9, 2.1)));
+        assertDoesNotThrow(() -> withDesk.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.2, 0)));
+        assertThrows(UnsupportedOperationException.class,
+            () -> withDesk.getFurnitureView().add(new Furniture("Chair", 0.5, 0.5, 0.9, 1.2, 0)));
+    }
+    
+    @Test
+    @DisplayName("Snapshots should keep door swings and window fronts clear")
+    void testDoorsAndWindowsStayClear() {
+        RoomSnapshot withDoor = empty.addDoor(new Door(Wall.SOUTH, 2.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_END))
+            .addWindow(new Window(Wall.NORTH, 1.0, 1.5, 1.2, 0.9, "Standard", true));
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> withDoor.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 2.2, 4.3)));
+        assertThrows(IllegalArgumentException.class,
+            () -> withDoor.addFurniture(new Furniture("Bookcase", 1.0, 0.3, 2.0, 1.2, 0)));
+        RoomSnapshot withDesk = withDoor.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.75, 1.2, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> withDesk.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START)));
+    }
+    
+    @Test
+    @DisplayName("Large snapshots should keep every piece and answer spatial queries like a room")
+    void testManyPieces() {
+        Room room = new Room(60.0, 60.0, 3.0);
+        RoomSnapshot snapshot = new RoomSnapshot(60.0, 60.0, 3.0);
+        for (int i = 0; i < 3000; i++) {
+            Furniture crate = new Furniture("Crate " + i, 0.8, 0.8, 1.0, (i % 60) + 0.1, (i / 60) + 0.1);
+            room.addFurniture(crate);
+            snapshot = snapshot.addFurniture(crate);
+        }
+        
+        assertEquals(room.getFurniture(), snapshot.getFurnitureView());
+        assertEquals(room.furnitureIntersecting(10.5, 20.5, 5.0, 3.0), snapshot.furnitureIntersecting(10.5, 20.5, 5.0, 3.0));
+        assertEquals(room.furnitureNearWall(Wall.SOUTH, 11.0), snapshot.furnitureNearWall(Wall.SOUTH, 11.0));
+    }
+    
+    @Test
+    @DisplayName("Snapshots should round-trip through a room and render like it")
+    void testRoomRoundTripAndRendering() throws Exception {
+        Room room = new Room(6.0, 5.0, 2.7);
+        room.addFurniture(new Furniture("Sofa", 2.0, 0.8, 0.8, 0, 4.2));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.2, 0.9));
+        
+        RoomSnapshot snapshot = RoomSnapshot.of(room);
+        Room copy = snapshot.toRoom();
+        
+        assertEquals(room.getFurniture(), copy.getFurniture());
+        assertEquals(1, copy.getDoors().size());
+        assertEquals(1, copy.getWindows().size());
+        
+        StringWriter fromRoom = new StringWriter();
+        StringWriter fromSnapshot = new StringWriter();
+        // writeAll includes a timestamp, so compare the views without the header
+        TextVisualizer roomText = new TextVisualizer(room, tempDir.toString());
+        TextVisualizer snapshotText = new TextVisualizer(snapshot, tempDir.toString());
+        roomText.writeFloorPlan(fromRoom);
+        roomText.writeWall(Wall.EAST, fromRoom);
+        roomText.writeCeiling(fromRoom);
+        snapshotText.writeFloorPlan(fromSnapshot);
+        snapshotText.writeWall(Wall.EAST, fromSnapshot);
+        snapshotText.writeCeiling(fromSnapshot);
+        assertEquals(fromRoom.toString(), fromSnapshot.toString());
+    }
+}
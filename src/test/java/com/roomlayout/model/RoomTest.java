@@ -3,6 +3,8 @@ package com.roomlayout.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RoomTest {
@@ -143,6 +145,196 @@ class RoomTest {
         assertEquals(1, room.getFurniture().size());
     }
     
+    @Test
+    @DisplayName("Should return live read-only views without copying")
+    void testLiveViews() {
+        var view = room.getFurnitureView();
+        assertSame(view, room.getFurnitureView());
+        assertTrue(view.isEmpty());
+
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 1.0, 2.0));
+        assertEquals(1, view.size());
+        assertEquals(1, room.getDoorView().size());
+        assertTrue(room.getWindowView().isEmpty());
+
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertThrows(UnsupportedOperationException.class, () -> room.getDoorView().clear());
+    }
+
+    @Test
+    @DisplayName("Should visit each furniture piece in insertion order")
+    void testForEachFurniture() {
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+        room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 3.0, 3.0));
+
+        StringBuilder names = new StringBuilder();
+        room.forEachFurniture(f -> names.append(f.getName()).append(';'));
+        assertEquals("Table;Chair;", names.toString());
+    }
+
+    @Test
+    @DisplayName("Should find furniture intersecting an area")
+    void testFurnitureIntersecting() {
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.5, 4.0);
+        room.addFurniture(table);
+        room.addFurniture(sofa);
+
+        assertEquals(List.of(table), room.furnitureIntersecting(0.0, 0.0, 1.5, 1.5));
+        assertEquals(List.of(table, sofa), room.furnitureIntersecting(0.0, 0.0, 5.0, 6.0));
+        assertTrue(room.furnitureIntersecting(3.0, 0.0, 1.0, 1.0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find nearest furniture to a point")
+    void testNearest() {
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        Furniture chair = new Furniture("Chair", 0.5, 0.5, 0.9, 3.0, 3.0);
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.5, 4.0);
+        room.addFurniture(table);
+        room.addFurniture(chair);
+        room.addFurniture(sofa);
+
+        assertEquals(List.of(chair, sofa), room.nearest(new Point2D(3.2, 3.9), 2));
+        assertEquals(3, room.nearest(new Point2D(0, 0), 10).size());
+    }
+
+    @Test
+    @DisplayName("Should find furniture near a wall")
+    void testFurnitureNearWall() {
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.5, 4.0);
+        room.addFurniture(table);
+        room.addFurniture(sofa);
+
+        assertEquals(List.of(table), room.furnitureNearWall(Wall.NORTH, 1.5));
+        assertEquals(List.of(sofa), room.furnitureNearWall(Wall.SOUTH, 1.5));
+        assertEquals(List.of(table, sofa), room.furnitureNearWall(Wall.WEST, 1.5));
+        assertTrue(room.furnitureNearWall(Wall.EAST, 1.5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject overlapping furniture by default")
+    void testRejectOverlap() {
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.5, 1.5)));
+        assertEquals(1, room.getFurniture().size());
+
+        // Touching edges is not an overlap
+        room.addFurniture(new Furniture("Stool", 0.5, 0.5, 0.5, 2.0, 1.0));
+        assertEquals(2, room.getFurniture().size());
+    }
+
+    @Test
+    @DisplayName("Should record overlaps when allowed")
+    void testAllowOverlapWithReport() {
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        Furniture chair = new Furniture("Chair", 0.5, 0.5, 0.9, 1.5, 1.5);
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        room.addFurniture(table);
+        room.addFurniture(chair);
+
+        assertEquals(2, room.getFurniture().size());
+        List<Overlap> overlaps = room.getOverlaps();
+        assertEquals(1, overlaps.size());
+        assertSame(table, overlaps.get(0).getExisting());
+        assertSame(chair, overlaps.get(0).getAdded());
+        assertEquals(0.25, overlaps.get(0).getArea(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should stay fast when checking overlaps in a crowded room")
+    void testOverlapCheckInCrowdedRoom() {
+        Room warehouse = new Room(100.0, 100.0, 3.0);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j++) {
+                warehouse.addFurniture(new Furniture("Rack", 0.8, 0.8, 2.0, i, j));
+            }
+        }
+
+        assertEquals(10000, warehouse.getFurniture().size());
+        assertThrows(IllegalArgumentException.class,
+            () -> warehouse.addFurniture(new Furniture("Crate", 0.5, 0.5, 0.5, 50.5, 50.5)));
+    }
+
+    @Test
+    @DisplayName("Should reject rotated furniture that sticks out of the room")
+    void testRotatedFurnitureOutsideRoom() {
+        // Turned upright about its center, the sofa reaches past the north wall
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0, 0, 90);
+
+        assertThrows(IllegalArgumentException.class, () -> room.addFurniture(sofa));
+        room.addFurniture(new Furniture("Sofa", 2.0, 0.8, 0.8, 0, 0.6, 90));
+        assertEquals(1, room.getFurniture().size());
+    }
+
+    @Test
+    @DisplayName("Should check overlaps against the rotated shape, not its bounds")
+    void testRotatedFurnitureOverlap() {
+        Furniture table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0, 45);
+        room.addFurniture(table);
+
+        // Inside the diamond's bounds but clear of the diamond
+        Furniture stool = new Furniture("Stool", 0.3, 0.3, 0.5, 2.0, 2.0);
+        room.addFurniture(stool);
+        assertEquals(2, room.getFurniture().size());
+        assertTrue(room.furnitureIntersecting(2.0, 2.0, 0.1, 0.1).contains(stool));
+        assertFalse(room.furnitureIntersecting(2.0, 2.0, 0.1, 0.1).contains(table));
+
+        Furniture chair = new Furniture("Chair", 0.3, 0.3, 0.9, 1.9, 1.4);
+        assertThrows(IllegalArgumentException.class, () -> room.addFurniture(chair));
+    }
+
+    @Test
+    @DisplayName("Should keep furniture out of a door's swing")
+    void testDoorSwing() {
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START));
+        
+        Furniture wardrobe = new Furniture("Wardrobe", 1.0, 0.6, 2.0, 1.5, 0.2);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> room.addFurniture(wardrobe));
+        assertTrue(e.getMessage().contains("swing"));
+        
+        // In the corner of the swing's square, beyond the arc
+        room.addFurniture(new Furniture("Plant", 0.2, 0.2, 1.0, 1.7, 0.7));
+        assertEquals(1, room.getFurniture().size());
+        
+        // A door that slides needs no clearance
+        room.addDoor(new Door(Wall.SOUTH, 1.0, 0.9, 2.1, "Sliding"));
+        room.addFurniture(new Furniture("Bench", 0.9, 0.4, 0.5, 1.0, 5.6));
+        assertThrows(IllegalArgumentException.class, () -> room.addDoor(
+            new Door(Wall.SOUTH, 0.5, 1.0, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_END)));
+        assertEquals(2, room.getDoors().size());
+    }
+    
+    @Test
+    @DisplayName("Should keep furniture taller than the sill out from in front of a window that asks for it")
+    void testWindowSill() {
+        room.addWindow(new Window(Wall.EAST, 2.0, 1.2, 1.2, 0.9, "Standard", true));
+        
+        Furniture cabinet = new Furniture("Cabinet", 0.5, 1.0, 1.8, 4.5, 2.0);
+        assertThrows(IllegalArgumentException.class, () -> room.addFurniture(cabinet));
+        assertThrows(IllegalArgumentException.class, () -> room.addAllFurniture(List.of(cabinet)));
+        
+        room.addFurniture(new Furniture("Desk", 0.6, 1.2, 0.75, 4.4, 2.0));
+        room.addFurniture(new Furniture("Shelf", 0.4, 1.0, 1.8, 4.6, 3.2));
+        assertEquals(2, room.getFurniture().size());
+        assertThrows(IllegalArgumentException.class,
+            () -> room.addWindow(new Window(Wall.EAST, 3.2, 1.0, 1.0, 1.0, "Standard", true)));
+    }
+    
+    @Test
+    @DisplayName("Should let furniture stand in front of windows that don't keep their sill clear")
+    void testWindowSillOptIn() {
+        room.addWindow(new Window(Wall.EAST, 2.0, 1.2, 1.2, 0.9));
+        room.addFurniture(new Furniture("Cabinet", 0.5, 1.0, 1.8, 4.5, 2.0));
+        
+        assertDoesNotThrow(() -> room.addWindow(new Window(Wall.EAST, 3.2, 1.0, 1.0, 1.0)));
+        assertFalse(room.getWindows().get(0).isSillKeptClear());
+    }
+    
     @Test
     @DisplayName("Should format toString correctly")
     void testToString() {
@@ -0,0 +1,161 @@
+package com.roomlayout.placement;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchPlacementTest {
+    
+    private Room room;
+    
+    @BeforeEach
+    void setUp() {
+        room = new Room(8.0, 6.0, 2.7);
+    }
+    
+    @Test
+    void testPlaceAllResolvesEveryRequest() {
+        List<Furniture> placed = room.placeAll(List.of(
+            room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_WEST).withGap(0.2).toRequest(),
+            room.place("TV", 1.5, 0.3, 0.6).onWall(Wall.NORTH).centered().toRequest(),
+            room.place("Rug", 2.0, 1.5, 0.1).inCenter().toRequest()));
+        
+        assertEquals(3, placed.size());
+        assertEquals(placed, room.getFurniture());
+        assertEquals(0.2, placed.get(0).getX(), 0.001);
+        assertEquals(5.0, placed.get(0).getY(), 0.001);
+        assertEquals(3.25, placed.get(1).getX(), 0.001);
+        assertEquals(0.0, placed.get(1).getY(), 0.001);
+        assertEquals(3.0, placed.get(2).getX(), 0.001);
+        assertEquals(2.25, placed.get(2).getY(), 0.001);
+    }
+    
+    @Test
+    void testPlaceAllIsAtomicWhenBatchOverlapsItself() {
+        room.place("Desk", 1.2, 0.6, 0.75).inCorner(Corner.NORTH_WEST).build();
+        
+        List<PlacementRequest> requests = List.of(
+            room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_EAST).toRequest(),
+            room.place("Chair", 0.6, 0.6, 0.9).inCorner(Corner.SOUTH_EAST).withGap(0.1).toRequest());
+        
+        assertThrows(IllegalArgumentException.class, () -> room.placeAll(requests));
+        assertEquals(1, room.getFurniture().size());
+    }
+    
+    @Test
+    void testPlaceAllIsAtomicWhenPieceOverlapsExistingFurniture() {
+        room.place("Desk", 1.2, 0.6, 0.75).inCorner(Corner.NORTH_WEST).build();
+        
+        List<PlacementRequest> requests = List.of(
+            room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_EAST).toRequest(),
+            room.place("Lamp", 0.3, 0.3, 1.6).inCorner(Corner.NORTH_WEST).toRequest());
+        
+        assertThrows(IllegalArgumentException.class, () -> room.placeAll(requests));
+        assertEquals(1, room.getFurniture().size());
+    }
+    
+    @Test
+    void testPlaceAllIsAtomicWhenPieceDoesNotFit() {
+        List<PlacementRequest> requests = List.of(
+            room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_EAST).toRequest(),
+            room.place("Wall Unit", 9.0, 0.5, 2.0).onWall(Wall.NORTH).toRequest());
+        
+        assertThrows(IllegalArgumentException.class, () -> room.placeAll(requests));
+        assertTrue(room.getFurniture().isEmpty());
+    }
+    
+    @Test
+    void testPlaceAllRecordsOverlapsWhenAllowed() {
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        
+        room.placeAll(List.of(
+            room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_EAST).toRequest(),
+            room.place("Chair", 0.6, 0.6, 0.9).inCorner(Corner.SOUTH_EAST).toRequest()));
+        
+        assertEquals(2, room.getFurniture().size());
+        assertEquals(1, room.getOverlaps().size());
+        assertEquals("Sofa", room.getOverlaps().get(0).getExisting().getName());
+    }
+    
+    @Test
+    void testRelativeRequestRequiresSide() {
+        Furniture sofa = room.place("Sofa", 2.0, 0.8, 0.8).inCorner(Corner.SOUTH_EAST).build();
+        
+        assertThrows(IllegalStateException.class, () -> room.place("Lamp", 0.3, 0.3, 1.6).nextTo(sofa).toRequest());
+    }
+    
+    @Test
+    void testStrategiesSeeEarlierPiecesOfTheBatch() {
+        // Lines pieces up along the north wall, east of whatever the batch placed so far
+        PlacementStrategy nextInRow = context -> {
+            double x = 0;
+            for (Furniture earlier : context.getPlacedInBatch()) {
+                x = Math.max(x, earlier.getFootprint().getMinX() + earlier.getFootprint().getBoundsWidth());
+            }
+            return new Point2D(x, 0);
+        };
+        
+        List<Furniture> placed = room.placeAll(List.of(
+            new PlacementRequest("Crate 1", 1.0, 0.5, 0.5, nextInRow),
+            new PlacementRequest("Crate 2", 1.0, 0.5, 0.5, 90, nextInRow),
+            new PlacementRequest("Crate 3", 1.0, 0.5, 0.5, nextInRow)));
+        
+        assertEquals(0.0, placed.get(0).getFootprint().getMinX(), 0.001);
+        assertEquals(1.0, placed.get(1).getFootprint().getMinX(), 0.001);
+        assertEquals(1.5, placed.get(2).getFootprint().getMinX(), 0.001);
+        assertTrue(room.getOverlaps().isEmpty());
+    }
+    
+    @Test
+    void testRotatedRequestMatchesSinglePlacement() {
+        PlacementStrategy corner = new CornerPlacementStrategy(Corner.SOUTH_EAST, Gap.of(0.1));
+        
+        List<Furniture> placed = PositionResolver.resolveAll(
+            List.of(new PlacementRequest("Sofa", 2.0, 0.8, 0.8, 90, corner)), room);
+        
+        assertEquals(PositionResolver.createFurnitureAt("Sofa", 2.0, 0.8, 0.8, 90, corner, room), placed.get(0));
+        assertEquals(7.1, placed.get(0).getFootprint().getMinX(), 0.001);
+        assertEquals(3.9, placed.get(0).getFootprint().getMinY(), 0.001);
+    }
+    
+    @Test
+    void testPositionedRequestsJoinTheBatch() {
+        Furniture desk = new Furniture("Desk", 1.2, 0.6, 0.75, 1.0, 2.0, 30);
+        List<Integer> seen = new ArrayList<>();
+        PlacementStrategy corner = new CornerPlacementStrategy(Corner.NORTH_WEST);
+        
+        List<Furniture> placed = room.placeAll(List.of(
+            PlacementRequest.at(desk),
+            new PlacementRequest("Chair", 0.5, 0.5, 0.9, context -> {
+                seen.add(context.getPlacedInBatch().size());
+                return corner.calculatePosition(context);
+            })));
+        
+        assertSame(desk, placed.get(0));
+        assertEquals(List.of(1), seen);
+        assertEquals(2, room.getFurniture().size());
+        assertThrows(IllegalArgumentException.class, () -> PlacementRequest.at(null));
+    }
+    
+    @Test
+    void testLargeBatch() {
+        Room warehouse = new Room(200.0, 100.0, 8.0);
+        List<PlacementRequest> requests = new ArrayList<>();
+        for (int row = 0; row < 100; row++) {
+            for (int col = 0; col < 200; col++) {
+                requests.add(new PlacementRequest("Rack", 0.9, 0.9, 2.0,
+                    new CornerPlacementStrategy(Corner.NORTH_WEST, Gap.NO_GAP, col, row)));
+            }
+        }
+        
+        List<Furniture> placed = warehouse.placeAll(requests);
+        
+        assertEquals(20000, placed.size());
+        assertEquals(20000, warehouse.getFurnitureView().size());
+    }
+}
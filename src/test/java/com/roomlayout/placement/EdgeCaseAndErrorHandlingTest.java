@@ -110,6 +110,9 @@ class EdgeCaseAndErrorHandlingTest {
     
     @Test
     void testBoundaryConditions() {
+        // Both pieces are only checked for position, they are allowed to overlap
+        room.setOverlapPolicy(OverlapPolicy.ALLOW);
+        
         // Test furniture that just barely fits
         Furniture furniture = room.place("Boundary", 1.5, 1.0, 1.0)
             .inCorner(Corner.NORTH_WEST)
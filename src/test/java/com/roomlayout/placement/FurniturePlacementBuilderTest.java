@@ -162,6 +162,32 @@ class FurniturePlacementBuilderTest {
         assertEquals(1.2, furniture.getY()); // center (1.7) - shiftNorth (0.5)
     }
     
+    @Test
+    void testRotatedCornerPlacement() {
+        FurniturePlacementBuilder builder = new FurniturePlacementBuilder("Bed", 2.0, 1.0, 0.5, room);
+        
+        Furniture furniture = builder.rotated(90).inCorner(Corner.SOUTH_EAST).build();
+        
+        // The rotated bounds are 1.0m wide and 2.0m long, flush with the corner
+        assertEquals(90.0, furniture.getRotation());
+        assertEquals(5.0, furniture.getFootprint().getMinX(), 1e-9);
+        assertEquals(2.0, furniture.getFootprint().getMinY(), 1e-9);
+        assertEquals(6.0, furniture.getFootprint().getMaxX(), 1e-9);
+        assertEquals(4.0, furniture.getFootprint().getMaxY(), 1e-9);
+    }
+    
+    @Test
+    void testRotatedRelativePlacement() {
+        Furniture bed = new FurniturePlacementBuilder("Bed", 2.0, 1.0, 0.5, room)
+            .rotated(90).inCorner(Corner.NORTH_WEST).build();
+        
+        Furniture nightstand = new FurniturePlacementBuilder("Nightstand", 0.5, 0.4, 0.6, room)
+            .nextTo(bed).onSide(Side.EAST).build();
+        
+        assertEquals(1.0, nightstand.getX(), 1e-9);
+        assertEquals(0.0, nightstand.getY(), 1e-9);
+    }
+    
     @Test
     void testRelativePlacementWithoutSideThrowsException() {
         Furniture referenceFurniture = new Furniture("Reference", 1.0, 0.5, 0.8, 2.0, 1.0);
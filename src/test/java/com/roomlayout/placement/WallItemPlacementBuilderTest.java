@@ -174,4 +174,35 @@ class WallItemPlacementBuilderTest {
                 .build();
         });
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSwingingDoorKeepsFurnitureOut() {
+        Door door = (Door) room.placeDoor("Side Door", 0.9, 2.1)
+            .onWall(Wall.WEST)
+            .fromNorth(0.2)
+            .swinging(Door.Swing.INWARD_HINGED_AT_START)
+            .build();
+        
+        assertEquals(Door.Swing.INWARD_HINGED_AT_START, door.getSwing());
+        assertThrows(IllegalArgumentException.class,
+            () -> room.place("Chair", 0.5, 0.5, 0.9).inCorner(Corner.NORTH_WEST).build());
+        assertTrue(room.getFurniture().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+            () -> room.placeWindow("Window", 1.0, 1.0, 1.0).onWall(Wall.EAST).swinging(Door.Swing.OUTWARD));
+    }
+    
+    @Test
+    void testWindowKeepingSillClear() {
+        Window plain = (Window) room.placeWindow("Plain", 1.0, 1.0, 1.0).onWall(Wall.WEST).fromNorth(0.5).build();
+        Window kept = (Window) room.placeWindow("Kept", 1.0, 1.0, 1.0).onWall(Wall.EAST).fromNorth(0.5)
+            .keepingSillClear().build();
+        
+        assertFalse(plain.isSillKeptClear());
+        assertTrue(kept.isSillKeptClear());
+        room.addFurniture(new Furniture("Wardrobe", 0.4, 1.0, 2.0, 0, 0.5));
+        assertThrows(IllegalArgumentException.class,
+            () -> room.addFurniture(new Furniture("Shelf", 0.4, 1.0, 2.0, room.getWidth() - 0.4, 0.5)));
+        assertThrows(IllegalArgumentException.class,
+            () -> room.placeDoor("Door", 0.9, 2.1).onWall(Wall.NORTH).keepingSillClear());
+    }
+}
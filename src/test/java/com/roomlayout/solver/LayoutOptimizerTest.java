@@ -0,0 +1,133 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutOptimizerTest {
+    
+    private Room room;
+    
+    @BeforeEach
+    void setUp() {
+        room = new Room(6.0, 5.0, 2.7);
+    }
+    
+    @Test
+    void testOptimizePlacesEveryItemWithoutOverlap() {
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Sofa", 2.0, 0.9, 0.8).prefer(Preference.againstWall(Wall.SOUTH)),
+            new LayoutItem("Coffee table", 1.0, 0.6, 0.4).prefer(Preference.nextTo("Sofa", 0.4)),
+            new LayoutItem("Bookshelf", 1.0, 0.35, 2.0).prefer(Preference.againstAnyWall()),
+            new LayoutItem("Armchair", 0.8, 0.8, 0.9).prefer(Preference.inCorner()));
+        
+        LayoutSolution solution = new LayoutOptimizer(room).chains(4).timeBudget(300).optimize(items);
+        
+        assertTrue(solution.isComplete());
+        solution.applyTo(room);
+        assertTrue(room.getOverlaps().isEmpty());
+        assertEquals(4, room.getFurniture().size());
+    }
+    
+    @Test
+    void testOptimizeMeetsPreferences() {
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Sofa", 2.0, 0.9, 0.8).prefer(Preference.againstWall(Wall.SOUTH)),
+            new LayoutItem("Coffee table", 1.0, 0.6, 0.4).prefer(Preference.nextTo("Sofa", 0.4)));
+        
+        LayoutSolution solution = new LayoutOptimizer(room).chains(2).seed(7).optimize(items);
+        
+        assertEquals(solution.getMaxScore(), solution.getScore(), 0.05);
+    }
+    
+    @Test
+    void testOptimizeKeepsDoorAreaClear() {
+        Room tight = new Room(3.0, 1.0, 2.7);
+        tight.addDoor(new Door(Wall.NORTH, 0.0, 1.0, 2.1));
+        
+        LayoutSolution solution = new LayoutOptimizer(tight).chains(2).seed(3)
+            .optimize(List.of(new LayoutItem("Cabinet", 1.0, 1.0, 1.0)));
+        
+        Furniture cabinet = solution.getPlaced().get(0);
+        assertTrue(cabinet.getX() >= 1.0 - 0.001, "Cabinet blocks the door at x=" + cabinet.getX());
+    }
+    
+    @Test
+    void testOptimizeKeepsClearanceBetweenUnrelatedPieces() {
+        Room wide = new Room(6.0, 1.0, 2.7);
+        
+        LayoutSolution solution = new LayoutOptimizer(wide).chains(2).seed(5).wallAdjacency(0)
+            .optimize(List.of(new LayoutItem("Chest", 1.0, 1.0, 1.0), new LayoutItem("Cabinet", 1.0, 1.0, 1.0)));
+        
+        List<Furniture> placed = solution.getPlaced();
+        assertTrue(Preference.distanceBetween(placed.get(0), placed.get(1)) >= LayoutOptimizer.DEFAULT_CLEARANCE - 0.001);
+    }
+    
+    @Test
+    void testOptimizeIsReproducibleWhenLimitedByIterations() {
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Desk", 1.2, 0.6, 0.75).prefer(Preference.againstAnyWall()),
+            new LayoutItem("Chair", 0.5, 0.5, 0.9).prefer(Preference.nextTo("Desk")));
+        
+        LayoutSolution first = new LayoutOptimizer(room).chains(3).seed(42).iterations(2_000).timeBudget(60_000).optimize(items);
+        LayoutSolution second = new LayoutOptimizer(room).chains(3).seed(42).iterations(2_000).timeBudget(60_000).optimize(items);
+        
+        assertEquals(first.getPlaced(), second.getPlaced());
+    }
+    
+    @Test
+    void testOptimizeRunsOnCallerExecutor() {
+        Room large = new Room(20.0, 15.0, 3.0);
+        List<LayoutItem> items = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            LayoutItem item = new LayoutItem("Item " + i, 0.5 + (i % 4) * 0.25, 0.5 + (i % 3) * 0.2, 1.0);
+            items.add(i % 2 == 0 ? item.prefer(Preference.againstAnyWall()) : item.prefer(Preference.nextTo("Item " + (i - 1))));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            LayoutSolution solution = new LayoutOptimizer(large).chains(8).timeBudget(300).optimize(items, executor);
+            
+            assertTrue(solution.isComplete());
+            solution.applyTo(large);
+            assertTrue(large.getOverlaps().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        LayoutOptimizer optimizer = new LayoutOptimizer(room);
+        
+        assertThrows(IllegalArgumentException.class, () -> new LayoutOptimizer(null));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.chains(0));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.iterations(0));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.timeBudget(-1));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.clearance(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.doorAccess(-1));
+    }
+    
+    @Test
+    void testOptimizeKeepsDoorsAndWindowsClear() {
+        room.addWindow(new Window(Wall.NORTH, 0.0, 2.5, 1.2, 0.9, "Standard", true));
+        room.addDoor(new Door(Wall.WEST, 0.5, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START));
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Shelf", 1.0, 0.4, 1.8).prefer(Preference.againstWall(Wall.NORTH)),
+            new LayoutItem("Cabinet", 0.6, 0.5, 1.2).prefer(Preference.againstWall(Wall.WEST)));
+        
+        LayoutSolution solution = new LayoutOptimizer(room).chains(2).timeBudget(200).optimize(items);
+        
+        assertTrue(solution.isComplete());
+        solution.applyTo(room);
+        Furniture shelf = room.getFurniture().get(0);
+        assertTrue(shelf.getX() >= 2.5 - 1e-9 || shelf.getY() >= Window.SILL_CLEARANCE_DEPTH - 1e-9);
+        assertEquals(2, room.getFurniture().size());
+    }
+}
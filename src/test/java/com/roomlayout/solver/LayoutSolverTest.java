@@ -0,0 +1,144 @@
+package com.roomlayout.solver;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutSolverTest {
+    
+    private Room room;
+    
+    @BeforeEach
+    void setUp() {
+        room = new Room(6.0, 5.0, 2.7);
+    }
+    
+    @Test
+    void testSolvePlacesEveryItemWithoutOverlap() {
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Sofa", 2.0, 0.9, 0.8).prefer(Preference.againstWall(Wall.SOUTH)),
+            new LayoutItem("Coffee table", 1.0, 0.6, 0.4).prefer(Preference.nextTo("Sofa", 0.4)),
+            new LayoutItem("Bookshelf", 1.0, 0.35, 2.0).prefer(Preference.againstAnyWall()),
+            new LayoutItem("Armchair", 0.8, 0.8, 0.9).prefer(Preference.inCorner()));
+        
+        LayoutSolution solution = new LayoutSolver(room).timeBudget(500).solve(items);
+        
+        assertTrue(solution.isComplete());
+        assertEquals(4, solution.getPlaced().size());
+        solution.applyTo(room);
+        assertTrue(room.getOverlaps().isEmpty());
+        assertEquals(4, room.getFurniture().size());
+    }
+    
+    @Test
+    void testSolveMeetsSimplePreferencesFully() {
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Sofa", 2.0, 0.9, 0.8).prefer(Preference.againstWall(Wall.SOUTH)),
+            new LayoutItem("Coffee table", 1.0, 0.6, 0.4).prefer(Preference.nextTo("Sofa", 0.4)));
+        
+        LayoutSolution solution = new LayoutSolver(room).solve(items);
+        
+        assertEquals(solution.getMaxScore(), solution.getScore(), 0.001);
+        Furniture sofa = solution.getPlaced().get(0);
+        Furniture table = solution.getPlaced().get(1);
+        assertEquals(room.getLength(), sofa.getY() + sofa.getLength(), 0.001);
+        assertTrue(Preference.distanceBetween(sofa, table) <= 0.4 + 0.001);
+    }
+    
+    @Test
+    void testSolveDoesNotModifyRoom() {
+        new LayoutSolver(room).solve(List.of(new LayoutItem("Desk", 1.2, 0.6, 0.75)));
+        
+        assertTrue(room.getFurniture().isEmpty());
+    }
+    
+    @Test
+    void testSolveAvoidsExistingFurniture() {
+        room.addFurniture(new Furniture("Bed", 6.0, 2.0, 0.5, 0, 0));
+        
+        LayoutSolution solution = new LayoutSolver(room).solve(List.of(
+            new LayoutItem("Nightstand", 0.5, 0.5, 0.6).prefer(Preference.nextTo("Bed", 0.1))));
+        
+        assertTrue(solution.isComplete());
+        Furniture nightstand = solution.getPlaced().get(0);
+        assertTrue(nightstand.getY() >= 2.0 - 0.001);
+        assertEquals(1.0, solution.getScore(), 0.001);
+    }
+    
+    @Test
+    void testSolveReportsItemsThatDoNotFit() {
+        LayoutSolution solution = new LayoutSolver(room).solve(List.of(
+            new LayoutItem("Table", 1.0, 1.0, 0.75),
+            new LayoutItem("Wall Unit", 7.0, 0.5, 2.0),
+            new LayoutItem("Wardrobe", 1.0, 0.6, 3.0)));
+        
+        assertFalse(solution.isComplete());
+        assertEquals(1, solution.getPlaced().size());
+        assertEquals(2, solution.getUnplaced().size());
+        assertEquals("Wall Unit", solution.getUnplaced().get(0).getName());
+        assertEquals("Wardrobe", solution.getUnplaced().get(1).getName());
+    }
+    
+    @Test
+    void testSolvePlacesMoreItemsBeforeHigherScore() {
+        Room narrow = new Room(2.0, 2.0, 2.7);
+        
+        LayoutSolution solution = new LayoutSolver(narrow).solve(List.of(
+            new LayoutItem("A", 2.0, 1.0, 1.0).prefer(Preference.centered().weighted(5.0)),
+            new LayoutItem("B", 2.0, 1.0, 1.0)));
+        
+        assertTrue(solution.isComplete());
+    }
+    
+    @Test
+    void testSolveStaysWithinTimeBudgetForManyItems() {
+        Room large = new Room(20.0, 15.0, 3.0);
+        List<LayoutItem> items = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            LayoutItem item = new LayoutItem("Item " + i, 0.5 + (i % 4) * 0.25, 0.5 + (i % 3) * 0.2, 1.0);
+            items.add(i % 2 == 0 ? item.prefer(Preference.againstAnyWall()) : item.prefer(Preference.nextTo("Item " + (i - 1))));
+        }
+        
+        LayoutSolution solution = new LayoutSolver(large).timeBudget(300).solve(items);
+        
+        assertTrue(solution.getElapsedMillis() < 1000);
+        assertTrue(solution.isComplete());
+        solution.applyTo(large);
+        assertTrue(large.getOverlaps().isEmpty());
+    }
+    
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        LayoutSolver solver = new LayoutSolver(room);
+        
+        assertThrows(IllegalArgumentException.class, () -> new LayoutSolver(null));
+        assertThrows(IllegalArgumentException.class, () -> solver.timeBudget(0));
+        assertThrows(IllegalArgumentException.class, () -> solver.gridStep(-1));
+        assertThrows(IllegalArgumentException.class, () -> solver.maxCandidates(0));
+        assertThrows(IllegalArgumentException.class, () -> Preference.againstWall(Wall.FLOOR));
+        assertThrows(IllegalArgumentException.class, () -> Preference.nextTo("Sofa", -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new LayoutItem("Chair", 0, 0.5, 0.9));
+    }
+    
+    @Test
+    void testSolveKeepsDoorsAndWindowsClear() {
+        room.addWindow(new Window(Wall.NORTH, 0.0, 2.5, 1.2, 0.9, "Standard", true));
+        room.addDoor(new Door(Wall.WEST, 0.5, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START));
+        List<LayoutItem> items = List.of(
+            new LayoutItem("Shelf", 1.0, 0.4, 1.8).prefer(Preference.againstWall(Wall.NORTH)),
+            new LayoutItem("Cabinet", 0.6, 0.5, 1.2).prefer(Preference.againstWall(Wall.WEST)));
+        
+        LayoutSolution solution = new LayoutSolver(room).timeBudget(300).solve(items);
+        
+        assertTrue(solution.isComplete());
+        solution.applyTo(room);
+        Furniture shelf = room.getFurniture().get(0);
+        assertTrue(shelf.getX() >= 2.5 - 1e-9 || shelf.getY() >= Window.SILL_CLEARANCE_DEPTH - 1e-9);
+        assertEquals(2, room.getFurniture().size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.roomlayout.spatial;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridSpatialIndexTest {
+    private GridSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GridSpatialIndex(1.0);
+        index.insert(0, 0.0, 0.0, 1.0, 1.0);
+        index.insert(1, 2.5, 2.5, 0.5, 0.5);
+        index.insert(2, 0.5, 4.0, 3.0, 0.8);
+    }
+
+    @Test
+    @DisplayName("Query should return intersecting ids in ascending order")
+    void testQuery() {
+        assertArrayEquals(new int[] {0, 2}, index.query(0.0, 0.0, 1.0, 5.0));
+        assertArrayEquals(new int[] {1}, index.query(2.0, 2.0, 1.0, 1.0));
+        assertArrayEquals(new int[0], index.query(5.0, 5.0, 1.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Rectangles touching only along an edge should not intersect")
+    void testTouchingEdgesDoNotIntersect() {
+        assertArrayEquals(new int[0], index.query(1.0, 0.0, 1.0, 1.0));
+        assertArrayEquals(new int[] {0}, index.query(0.99, 0.0, 1.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Entries spanning many cells should be reported once")
+    void testLargeEntryReportedOnce() {
+        assertArrayEquals(new int[] {2}, index.query(0.0, 3.9, 10.0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Nearest should order ids by distance and stop at k")
+    void testNearest() {
+        assertArrayEquals(new int[] {0, 1}, index.nearest(0.5, 0.5, 2));
+        assertArrayEquals(new int[] {2, 1, 0}, index.nearest(2.0, 4.5, 5));
+        assertArrayEquals(new int[0], index.nearest(0.5, 0.5, 0));
+    }
+
+    @Test
+    @DisplayName("Nearest should find entries far outside the starting cell")
+    void testNearestFarAway() {
+        assertArrayEquals(new int[] {2}, index.nearest(50.0, 2.7, 1));
+        assertArrayEquals(new int[] {0, 1}, index.nearest(2.75, -40.0, 2));
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate and negative ids")
+    void testInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> index.insert(1, 0, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.insert(-1, 0, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GridSpatialIndex(0));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Query results should match a linear scan on a dense layout")
+    void testMatchesLinearScan() {
+        GridSpatialIndex dense = new GridSpatialIndex(0.7);
+        double[][] boxes = new double[500][];
+        for (int i = 0; i < boxes.length; i++) {
+            double x = (i * 37 % 100) / 5.0;
+            double y = (i * 53 % 100) / 5.0;
+            double w = 0.2 + (i % 7) * 0.3;
+            double l = 0.2 + (i % 5) * 0.4;
+            boxes[i] = new double[] {x, y, w, l};
+            dense.insert(i, x, y, w, l);
+        }
+
+        int[] actual = dense.query(5.0, 5.0, 3.0, 2.0);
+        int count = 0;
+        for (double[] b : boxes) {
+            if (b[0] < 8.0 && b[0] + b[2] > 5.0 && b[1] < 7.0 && b[1] + b[3] > 5.0) {
+                count++;
+            }
+        }
+        assertEquals(count, actual.length);
+        for (int i = 1; i < actual.length; i++) {
+            assertTrue(actual[i - 1] < actual[i]);
+        }
+    }
+}
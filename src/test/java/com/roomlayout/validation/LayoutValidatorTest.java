@@ -0,0 +1,254 @@
+package com.roomlayout.validation;
+
+import com.roomlayout.building.Building;
+import com.roomlayout.building.Floor;
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutValidatorTest {
+    private Building building;
+    private Floor ground;
+    private Room hall;
+    private Room office;
+
+    @BeforeEach
+    void setUp() {
+        building = new Building("Office");
+        ground = building.addFloor("Ground", 0.0);
+        hall = new Room(4.0, 3.0, 2.5);
+        hall.addDoor(new Door(Wall.EAST, 1.0, 0.9, 2.1));
+        hall.addWindow(new Window(Wall.NORTH, 1.0, 1.2, 1.0, 0.9));
+        hall.addFurniture(new Furniture("Bench", 1.5, 0.5, 0.5, 0.2, 0.2));
+        office = new Room(3.0, 3.0, 2.5);
+        office.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.75, 1.5, 2.2));
+        ground.addRoom("Hall", hall, 0, 0);
+        ground.addRoom("Office", office, 4.0, 0);
+    }
+
+    /**
+     * A room that holds whatever it is given, like layouts read from external data.
+     */
+    private static final class UncheckedLayout implements RoomLayout {
+        private final List<Furniture> furniture = new ArrayList<>();
+        private final List<Door> doors = new ArrayList<>();
+        private final List<Window> windows = new ArrayList<>();
+
+        @Override
+        public double getWidth() {
+            return 5.0;
+        }
+
+        @Override
+        public double getLength() {
+            return 4.0;
+        }
+
+        @Override
+        public double getHeight() {
+            return 2.5;
+        }
+
+        @Override
+        public List<Furniture> getFurnitureView() {
+            return furniture;
+        }
+
+        @Override
+        public List<Door> getDoorView() {
+            return doors;
+        }
+
+        @Override
+        public List<Window> getWindowView() {
+            return windows;
+        }
+
+        @Override
+        public List<Furniture> furnitureIntersecting(double x, double y, double width, double length) {
+            List<Furniture> result = new ArrayList<>();
+            for (Furniture f : furniture) {
+                if (f.getFootprint().intersects(x, y, width, length)) {
+                    result.add(f);
+                }
+            }
+            return result;
+        }
+    }
+
+    @Test
+    @DisplayName("Valid building should produce an empty report")
+    void testValidBuilding() {
+        ValidationReport report = new LayoutValidator().validate(building);
+
+        assertTrue(report.isValid());
+        assertEquals(2, report.getRoomCount());
+        assertEquals(4, report.getItemCount());
+    }
+
+    @Test
+    @DisplayName("Should report each overlapping pair once")
+    void testOverlap() {
+        hall.setOverlapPolicy(OverlapPolicy.ALLOW);
+        Furniture stool = new Furniture("Stool", 0.4, 0.4, 0.5, 1.0, 0.5);
+        hall.addFurniture(stool);
+
+        ValidationReport report = new LayoutValidator().validate(building);
+
+        assertEquals(1, report.getViolations().size());
+        Violation overlap = report.getViolations().get(0);
+        assertEquals(Violation.Kind.OVERLAP, overlap.getKind());
+        assertEquals("Hall", overlap.getRoom().getName());
+        assertSame(hall, overlap.getLayout());
+        assertEquals(0.2 * 0.4, new Overlap(overlap.getFurniture(), overlap.getOtherFurniture()).getArea(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should report pieces outside the room and wall items that don't fit")
+    void testBoundsAndWallItems() {
+        UncheckedLayout room = new UncheckedLayout();
+        Furniture wardrobe = new Furniture("Wardrobe", 1.0, 0.6, 3.0, 0.5, 0.5);
+        Furniture sofa = new Furniture("Sofa", 2.0, 0.8, 0.8, 0.0, 0.0, 90);
+        Door wide = new Door(Wall.NORTH, 4.5, 0.9, 2.1);
+        room.furniture.add(wardrobe);
+        room.furniture.add(sofa);
+        room.doors.add(wide);
+        room.windows.add(new Window(Wall.EAST, 1.0, 1.2, 1.0, 0.9));
+
+        ValidationReport report = new LayoutValidator().validate(room);
+
+        assertEquals(1, report.getRoomCount());
+        assertEquals(4, report.getItemCount());
+        assertEquals(1, report.getViolations(Violation.Kind.WALL_ITEM).size());
+        assertSame(wide, report.getViolations(Violation.Kind.WALL_ITEM).get(0).getWallItem());
+        List<Violation> outside = report.getViolations(Violation.Kind.OUT_OF_BOUNDS);
+        assertEquals(2, outside.size());
+        assertNull(outside.get(0).getRoom());
+    }
+
+    @Test
+    @DisplayName("Should keep an outward door's swing clear in the room it opens into")
+    void testDoorClearance() {
+        // The office doesn't list the hall's doors, but the openings are in its west wall
+        Door outward = new Door(Wall.EAST, 2.0, 0.8, 2.1, "Standard", Door.Swing.OUTWARD);
+        hall.addDoor(outward);
+        Furniture cabinet = new Furniture("Cabinet", 0.5, 0.5, 1.2, 0.2, 1.2);
+        office.addFurniture(cabinet);
+        Furniture crate = new Furniture("Crate", 0.4, 0.4, 0.5, 0.2, 2.2);
+        office.addFurniture(crate);
+        Furniture plant = new Furniture("Plant", 0.4, 0.4, 1.0, 3.5, 1.2);
+        hall.addFurniture(plant);
+
+        ValidationReport report = new LayoutValidator().validate(ground);
+
+        // The hall's first door doesn't swing, so the cabinet and plant beside it are fine
+        List<Violation> blocked = report.getViolations(Violation.Kind.DOOR_CLEARANCE);
+        assertEquals(2, blocked.size());
+        for (Violation violation : blocked) {
+            assertSame(crate, violation.getFurniture());
+            assertEquals("Office", violation.getRoom().getName());
+            assertEquals(Wall.WEST, violation.getWallItem().getWall());
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply the same door swing and sill rules as rooms do")
+    void testKeepOutZonesMatchRoom() {
+        UncheckedLayout room = new UncheckedLayout();
+        Door door = new Door(Wall.NORTH, 1.0, 0.9, 2.1, "Standard", Door.Swing.INWARD_HINGED_AT_START);
+        Window kept = new Window(Wall.EAST, 1.0, 1.2, 1.0, 0.9, "Standard", true);
+        Window plain = new Window(Wall.WEST, 1.0, 1.2, 1.0, 0.9);
+        room.doors.add(door);
+        room.windows.add(kept);
+        room.windows.add(plain);
+        Furniture chair = new Furniture("Chair", 0.5, 0.5, 0.9, 1.2, 0.2);
+        Furniture shelf = new Furniture("Shelf", 0.4, 1.0, 1.8, 4.6, 1.1);
+        Furniture wardrobe = new Furniture("Wardrobe", 0.4, 1.0, 1.8, 0, 1.1);
+        Furniture desk = new Furniture("Desk", 0.6, 1.2, 0.75, 4.4, 2.5);
+        room.furniture.addAll(List.of(chair, shelf, wardrobe, desk));
+
+        ValidationReport report = new LayoutValidator().validate(room);
+
+        assertEquals(1, report.getViolations(Violation.Kind.DOOR_CLEARANCE).size());
+        assertSame(chair, report.getViolations(Violation.Kind.DOOR_CLEARANCE).get(0).getFurniture());
+        assertSame(door, report.getViolations(Violation.Kind.DOOR_CLEARANCE).get(0).getWallItem());
+        assertEquals(1, report.getViolations(Violation.Kind.SILL_CLEARANCE).size());
+        assertSame(shelf, report.getViolations(Violation.Kind.SILL_CLEARANCE).get(0).getFurniture());
+        for (Furniture f : room.furniture) {
+            Room strict = new Room(5.0, 4.0, 2.5);
+            strict.addDoor(door);
+            strict.addWindow(kept);
+            strict.addWindow(plain);
+            if (f == chair || f == shelf) {
+                assertThrows(IllegalArgumentException.class, () -> strict.addFurniture(f));
+            } else {
+                assertDoesNotThrow(() -> strict.addFurniture(f));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Splitting a large room into cells should find the same violations")
+    void testLargeRoomCells() {
+        Room warehouse = new Room(100.0, 60.0, 3.0);
+        warehouse.setOverlapPolicy(OverlapPolicy.ALLOW);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 60; j++) {
+                warehouse.addFurniture(new Furniture("Rack", 0.8, 0.8, 2.0, i, j));
+            }
+        }
+        // Crates across the corners of racks, some on the lines between cells
+        for (int i = 5; i < 100; i += 10) {
+            for (int j = 5; j < 60; j += 10) {
+                warehouse.addFurniture(new Furniture("Crate", 1.5, 1.5, 1.0, i - 0.5, j - 0.5, 30));
+            }
+        }
+
+        ValidationReport whole = new LayoutValidator(ForkJoinPool.commonPool(), Integer.MAX_VALUE).validate(warehouse);
+        ValidationReport split = new LayoutValidator(new ForkJoinPool(4), 50).validate(warehouse);
+
+        assertFalse(whole.isValid());
+        assertEquals(whole.getViolations().size(), split.getViolations().size());
+        assertEquals(whole.getItemCount(), split.getItemCount());
+        assertEquals(overlapKeys(whole), overlapKeys(split));
+    }
+
+    private static List<String> overlapKeys(ValidationReport report) {
+        List<String> keys = new ArrayList<>();
+        for (Violation v : report.getViolations(Violation.Kind.OVERLAP)) {
+            keys.add(v.getFurniture().getX() + "," + v.getFurniture().getY() + "/"
+                + v.getOtherFurniture().getX() + "," + v.getOtherFurniture().getY());
+        }
+        keys.sort(null);
+        return keys;
+    }
+
+    @Test
+    @DisplayName("Reports should not depend on how the work is split")
+    void testDeterministicOrder() {
+        hall.setOverlapPolicy(OverlapPolicy.ALLOW);
+        hall.addFurniture(new Furniture("Stool", 0.4, 0.4, 0.5, 1.0, 0.5));
+        office.setOverlapPolicy(OverlapPolicy.ALLOW);
+        office.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.5, 2.2));
+
+        List<Violation> first = new LayoutValidator(new ForkJoinPool(2), 1).validate(building).getViolations();
+        List<Violation> second = new LayoutValidator().validate(building).getViolations();
+
+        assertEquals(2, first.size());
+        assertEquals(first.toString(), second.toString());
+        assertEquals("Hall", first.get(0).getRoom().getName());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive task size")
+    void testInvalidTaskSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LayoutValidator(ForkJoinPool.commonPool(), 0));
+    }
+}
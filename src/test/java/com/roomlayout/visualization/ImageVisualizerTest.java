@@ -0,0 +1,230 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageVisualizerTest {
+    private Room room;
+    
+    @BeforeEach
+    void setUp() {
+        room = new Room(4.0, 5.0, 3.0);
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+        room.addFurniture(new Furniture("Bookshelf", 1.0, 0.3, 2.5, 2.5, 0.2));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 1.0, 2.0));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.0, 1.0));
+    }
+    
+    @Test
+    @DisplayName("Parallel export should produce the same images as sequential export")
+    void testParallelMatchesSequential(@TempDir Path tempDir) throws Exception {
+        Path sequentialDir = tempDir.resolve("sequential");
+        Path parallelDir = tempDir.resolve("parallel");
+        new ImageVisualizer(room, sequentialDir.toString()).visualizeAll();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Map<View, CompletableFuture<Path>> futures =
+                new ImageVisualizer(room, parallelDir.toString()).visualizeAllAsync(executor);
+            assertEquals(View.values().length, futures.size());
+            
+            for (View view : View.values()) {
+                Path written = futures.get(view).get();
+                assertEquals(parallelDir.resolve(view.getBaseName() + ".png"), written);
+                assertArrayEquals(Files.readAllBytes(sequentialDir.resolve(view.getBaseName() + ".png")),
+                    Files.readAllBytes(written));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Concurrent renders sharing one room should match serial export")
+    void testConcurrentRendersMatchSerial(@TempDir Path tempDir) throws Exception {
+        Room crowded = new Room(12.0, 10.0, 3.0);
+        for (int i = 0; i < 60; i++) {
+            crowded.addFurniture(new Furniture("Crate" + i, 0.4, 0.4, 1.0 + (i % 3) * 0.5,
+                0.2 + (i % 10) * 1.1, 0.2 + (i / 10) * 1.5));
+        }
+        crowded.addDoor(new Door(Wall.SOUTH, 5.0, 1.0, 2.0));
+        Path serialDir = tempDir.resolve("serial");
+        new ImageVisualizer(crowded, serialDir.toString()).visualizeAll();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Map<View, CompletableFuture<Path>>> rounds = new ArrayList<>();
+            for (int round = 0; round < 4; round++) {
+                rounds.add(new ImageVisualizer(crowded, tempDir.resolve("round" + round).toString())
+                    .visualizeAllAsync(executor));
+            }
+            for (Map<View, CompletableFuture<Path>> futures : rounds) {
+                for (View view : View.values()) {
+                    assertArrayEquals(Files.readAllBytes(serialDir.resolve(view.getBaseName() + ".png")),
+                        Files.readAllBytes(futures.get(view).get()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Async export should report write failures through the future")
+    void testAsyncFailure(@TempDir Path tempDir) throws Exception {
+        Path blocker = tempDir.resolve("not-a-directory");
+        Files.createFile(blocker);
+        ImageVisualizer visualizer = new ImageVisualizer(room, blocker.toString());
+        
+        CompletableFuture<Path> future = visualizer.visualizeAsync(Runnable::run, View.CEILING).get(View.CEILING);
+        assertTrue(future.isCompletedExceptionally());
+    }
+    
+    @Test
+    @DisplayName("Render should size images from the room dimensions")
+    void testRenderSizes() {
+        ImageVisualizer visualizer = new ImageVisualizer(room, System.getProperty("java.io.tmpdir"));
+        
+        assertEquals(240, visualizer.render(View.FLOOR_PLAN).getWidth());
+        assertEquals(290, visualizer.render(View.FLOOR_PLAN).getHeight());
+        assertEquals(290, visualizer.render(View.EAST_WALL).getWidth());
+        assertEquals(190, visualizer.render(View.EAST_WALL).getHeight());
+    }
+    
+    @Test
+    @DisplayName("Pipelined export should write the same pixels as direct rendering")
+    void testPipelinedExport(@TempDir Path tempDir) throws Exception {
+        ImageVisualizer visualizer = new ImageVisualizer(room, tempDir.toString());
+        Map<View, CompletableFuture<Path>> futures;
+        try (PngEncodingPipeline pipeline = new PngEncodingPipeline(2, 1, true)) {
+            futures = visualizer.visualizeAll(pipeline);
+        }
+        
+        for (View view : View.values()) {
+            assertTrue(futures.get(view).isDone());
+            BufferedImage written = ImageIO.read(futures.get(view).get().toFile());
+            BufferedImage expected = visualizer.render(view);
+            assertEquals(expected.getWidth(), written.getWidth());
+            assertEquals(expected.getHeight(), written.getHeight());
+            for (int y = 0; y < expected.getHeight(); y += 7) {
+                for (int x = 0; x < expected.getWidth(); x += 7) {
+                    assertEquals(expected.getRGB(x, y), written.getRGB(x, y));
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Pipeline should hand written buffers out again when reuse is enabled")
+    void testBufferReuse(@TempDir Path tempDir) throws Exception {
+        try (PngEncodingPipeline pipeline = new PngEncodingPipeline(1, PngEncodingPipeline.DEFAULT_COMPRESSION_LEVEL, true)) {
+            BufferedImage first = pipeline.acquireImage(20, 10);
+            pipeline.submit(first, tempDir.resolve("first.png")).get();
+            
+            assertSame(first, pipeline.acquireImage(20, 10));
+            assertNotSame(first, pipeline.acquireImage(20, 10));
+            assertThrows(IllegalArgumentException.class, () -> new PngEncodingPipeline(0, 5, false));
+            assertThrows(IllegalArgumentException.class, () -> new PngEncodingPipeline(1, 10, false));
+        }
+    }
+    
+    @Test
+    @DisplayName("Higher compression levels should produce smaller files")
+    void testCompressionLevel() throws Exception {
+        BufferedImage image = new ImageVisualizer(room, System.getProperty("java.io.tmpdir")).render(View.FLOOR_PLAN);
+        ByteArrayOutputStream fast = new ByteArrayOutputStream();
+        ByteArrayOutputStream small = new ByteArrayOutputStream();
+        
+        PngEncodingPipeline.writePng(image, fast, 0);
+        PngEncodingPipeline.writePng(image, small, 9);
+        
+        assertTrue(small.size() < fast.size());
+    }
+    
+    @Test
+    @DisplayName("Submissions racing close should either be written or refused")
+    void testSubmitRacingClose(@TempDir Path tempDir) throws Exception {
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                PngEncodingPipeline pipeline = new PngEncodingPipeline(1, 0, false);
+                List<Future<CompletableFuture<Path>>> submissions = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    Path target = tempDir.resolve(round + "-" + i + ".png");
+                    submissions.add(submitters.submit(
+                        () -> pipeline.submit(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), target)));
+                }
+                pipeline.close();
+                
+                for (Future<CompletableFuture<Path>> submission : submissions) {
+                    try {
+                        CompletableFuture<Path> written = submission.get(10, TimeUnit.SECONDS);
+                        assertTrue(written.isDone());
+                    } catch (ExecutionException e) {
+                        assertTrue(e.getCause() instanceof IllegalStateException);
+                    }
+                }
+            }
+        } finally {
+            submitters.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("Pipeline should fail pending images instead of hanging when the encoder dies")
+    void testEncoderDeath(@TempDir Path tempDir) throws Exception {
+        BufferedImage poison = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB) {
+            @Override
+            public java.awt.image.SampleModel getSampleModel() {
+                throw new AssertionError("encoder killed");
+            }
+        };
+        PngEncodingPipeline pipeline = new PngEncodingPipeline(1, 0, false);
+        try {
+            CompletableFuture<Path> killed = pipeline.submit(poison, tempDir.resolve("poison.png"));
+            List<CompletableFuture<Path>> later = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                later.add(pipeline.submit(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB),
+                    tempDir.resolve(i + ".png")));
+            }
+            
+            assertThrows(ExecutionException.class,
+                () -> killed.get(10, TimeUnit.SECONDS));
+            for (CompletableFuture<Path> future : later) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            pipeline.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("Closed pipeline should refuse new images")
+    void testClosedPipeline(@TempDir Path tempDir) {
+        PngEncodingPipeline pipeline = new PngEncodingPipeline();
+        pipeline.close();
+        
+        assertThrows(IllegalStateException.class,
+            () -> pipeline.submit(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), tempDir.resolve("x.png")));
+    }
+}
@@ -0,0 +1,139 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalFloorPlanRendererTest {
+    @TempDir
+    Path tempDir;
+    private Furniture table;
+    private Furniture bookshelf;
+    private Furniture bed;
+    private Door door;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        table = new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0);
+        bookshelf = new Furniture("Bookshelf", 1.0, 0.3, 2.5, 2.5, 0.2);
+        bed = new Furniture("Bed", 2.0, 1.6, 0.5, 4.0, 2.0);
+        door = new Door(Wall.NORTH, 1.0, 1.0, 2.0);
+        room = layout(table, bookshelf, bed);
+    }
+
+    private Room layout(Furniture... furniture) {
+        Room r = new Room(8.0, 5.0, 3.0);
+        for (Furniture f : furniture) {
+            r.addFurniture(f);
+        }
+        r.addDoor(door);
+        return r;
+    }
+
+    private void assertSameImage(BufferedImage expected, BufferedImage actual) {
+        int w = expected.getWidth();
+        int h = expected.getHeight();
+        assertArrayEquals(expected.getRGB(0, 0, w, h, null, 0, w), actual.getRGB(0, 0, w, h, null, 0, w));
+    }
+
+    @Test
+    @DisplayName("First frame should match a full render")
+    void testInitialFrame() {
+        ImageVisualizer visualizer = new ImageVisualizer(room, tempDir.toString(), 20);
+        assertSameImage(visualizer.render(View.FLOOR_PLAN), visualizer.incremental().getImage());
+    }
+
+    @Test
+    @DisplayName("Moving a piece should repaint only its old and new bounds")
+    void testMovedPiece() {
+        ImageVisualizer visualizer = new ImageVisualizer(room, tempDir.toString(), 20);
+        IncrementalFloorPlanRenderer canvas = visualizer.incremental();
+        Furniture moved = new Furniture("Bed", 2.0, 1.6, 0.5, 4.2, 2.1);
+        Room next = layout(table, bookshelf, moved);
+
+        List<Rectangle> damaged = canvas.update(next);
+
+        // The old and new positions overlap, so they merge into one region
+        assertEquals(1, damaged.size());
+        Rectangle region = damaged.get(0);
+        assertTrue(region.contains(visualizer.furnitureBounds(bed)));
+        assertTrue(region.contains(visualizer.furnitureBounds(moved)));
+        assertFalse(region.intersects(visualizer.furnitureBounds(table)));
+        assertSameImage(new ImageVisualizer(next, tempDir.toString(), 20).render(View.FLOOR_PLAN), canvas.getImage());
+    }
+
+    @Test
+    @DisplayName("Unchanged layouts should repaint nothing")
+    void testNoChange() {
+        IncrementalFloorPlanRenderer canvas = new ImageVisualizer(room, tempDir.toString(), 20).incremental();
+        assertTrue(canvas.update(room).isEmpty());
+        // Equal pieces draw the same pixels even when they are different objects
+        Furniture sameBed = new Furniture("Bed", 2.0, 1.6, 0.5, 4.0, 2.0);
+        assertTrue(canvas.update(layout(table, bookshelf, sameBed)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Pieces added to a mutable room should be repainted")
+    void testMutatedRoom() {
+        IncrementalFloorPlanRenderer canvas = new ImageVisualizer(room, tempDir.toString(), 20).incremental();
+        room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 6.0, 3.5));
+
+        assertEquals(1, canvas.update(room).size());
+        assertSameImage(new ImageVisualizer(room, tempDir.toString(), 20).render(View.FLOOR_PLAN), canvas.getImage());
+    }
+
+    @Test
+    @DisplayName("Snapshots should be diffed like rooms")
+    void testSnapshots() {
+        RoomSnapshot before = RoomSnapshot.of(room);
+        RoomSnapshot after = before.addFurniture(new Furniture("Lamp", 0.4, 0.4, 1.5, 7.0, 0.5));
+        IncrementalFloorPlanRenderer canvas = new ImageVisualizer(before, tempDir.toString(), 20).incremental();
+
+        assertEquals(1, canvas.update(after).size());
+        assertSameImage(new ImageVisualizer(after, tempDir.toString(), 20).render(View.FLOOR_PLAN), canvas.getImage());
+    }
+
+    @Test
+    @DisplayName("Changing doors should repaint the whole plan")
+    void testDoorChange() {
+        ImageVisualizer visualizer = new ImageVisualizer(room, tempDir.toString(), 20);
+        IncrementalFloorPlanRenderer canvas = visualizer.incremental();
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.0, 1.0));
+
+        List<Rectangle> damaged = canvas.update(room);
+
+        BufferedImage image = canvas.getImage();
+        assertEquals(List.of(new Rectangle(0, 0, image.getWidth(), image.getHeight())), damaged);
+        assertSameImage(visualizer.render(View.FLOOR_PLAN), image);
+    }
+
+    @Test
+    @DisplayName("Invalidated regions should be restored")
+    void testInvalidate() {
+        ImageVisualizer visualizer = new ImageVisualizer(room, tempDir.toString(), 20);
+        IncrementalFloorPlanRenderer canvas = visualizer.incremental();
+        BufferedImage image = canvas.getImage();
+        image.setRGB(30, 30, 0x123456);
+
+        List<Rectangle> damaged = canvas.invalidate(new Rectangle(25, 25, 10, 10), new Rectangle(-5, -5, 10, 10));
+
+        assertEquals(2, damaged.size());
+        assertEquals(new Rectangle(0, 0, 5, 5), damaged.get(1));
+        assertSameImage(visualizer.render(View.FLOOR_PLAN), image);
+    }
+
+    @Test
+    @DisplayName("Rooms of another size should be rejected")
+    void testDifferentDimensions() {
+        IncrementalFloorPlanRenderer canvas = new ImageVisualizer(room, tempDir.toString(), 20).incremental();
+        assertThrows(IllegalArgumentException.class, () -> canvas.update(new Room(9.0, 5.0, 3.0)));
+    }
+}
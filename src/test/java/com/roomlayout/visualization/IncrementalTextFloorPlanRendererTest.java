@@ -0,0 +1,132 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.awt.Rectangle;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalTextFloorPlanRendererTest {
+    @TempDir
+    Path tempDir;
+    private Furniture sofa;
+    private Furniture desk;
+    private Door door;
+    private Window window;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        sofa = new Furniture("Sofa", 2.0, 0.9, 0.8, 0.5, 0.5);
+        desk = new Furniture("Desk", 1.2, 0.6, 0.75, 3.0, 2.5);
+        door = new Door(Wall.SOUTH, 1.0, 0.9, 2.0);
+        window = new Window(Wall.WEST, 1.0, 1.2, 1.0, 0.9);
+        room = layout(sofa, desk);
+    }
+
+    private Room layout(Furniture... furniture) {
+        Room r = new Room(5.0, 4.0, 2.5);
+        for (Furniture f : furniture) {
+            r.addFurniture(f);
+        }
+        r.addDoor(door);
+        r.addWindow(window);
+        return r;
+    }
+
+    /**
+     * Returns the grid rows of the streamed floor plan, between the compass and the legend.
+     */
+    private String expectedGrid(Room r) throws Exception {
+        StringWriter out = new StringWriter();
+        new TextVisualizer(r, tempDir.toString(), 10).writeFloorPlan(out);
+        String text = out.toString();
+        int start = text.indexOf("   S\n\n") + 6;
+        return text.substring(start, text.indexOf("\nLegend:"));
+    }
+
+    private String gridText(IncrementalTextFloorPlanRenderer renderer) {
+        StringBuilder text = new StringBuilder();
+        for (char[] row : renderer.getGrid()) {
+            text.append(row).append('\n');
+        }
+        return text.toString();
+    }
+
+    @Test
+    @DisplayName("First frame should match the streamed floor plan")
+    void testInitialFrame() throws Exception {
+        IncrementalTextFloorPlanRenderer renderer = new TextVisualizer(room, tempDir.toString(), 10).incremental();
+        assertEquals(expectedGrid(room), gridText(renderer));
+    }
+
+    @Test
+    @DisplayName("Moving a piece should redraw only its cells")
+    void testMovedPiece() throws Exception {
+        TextVisualizer visualizer = new TextVisualizer(room, tempDir.toString(), 10);
+        IncrementalTextFloorPlanRenderer renderer = visualizer.incremental();
+        Furniture moved = new Furniture("Desk", 1.2, 0.6, 0.75, 3.5, 3.0);
+        Room next = layout(sofa, moved);
+
+        List<Rectangle> damaged = renderer.update(next);
+
+        assertEquals(1, damaged.size());
+        assertTrue(damaged.get(0).contains(visualizer.furnitureCells(desk)));
+        assertTrue(damaged.get(0).contains(visualizer.furnitureCells(moved)));
+        assertFalse(damaged.get(0).intersects(visualizer.furnitureCells(sofa)));
+        assertEquals(expectedGrid(next), gridText(renderer));
+    }
+
+    @Test
+    @DisplayName("Rotating a piece should redraw the cells under its rotated shape")
+    void testRotatedPiece() throws Exception {
+        TextVisualizer visualizer = new TextVisualizer(room, tempDir.toString(), 10);
+        IncrementalTextFloorPlanRenderer renderer = visualizer.incremental();
+        Furniture rotated = new Furniture("Desk", 1.2, 0.6, 0.75, 3.0, 2.5, 30);
+        Room next = layout(sofa, rotated);
+
+        List<Rectangle> damaged = renderer.update(next);
+
+        assertEquals(1, damaged.size());
+        assertTrue(damaged.get(0).contains(visualizer.furnitureCells(rotated)));
+        assertEquals(expectedGrid(next), gridText(renderer));
+        // The initial sits at the desk's center, which rotation doesn't move
+        assertEquals('D', renderer.getGrid()[29][37]);
+        // The unrotated corner is no longer covered
+        assertEquals(' ', renderer.getGrid()[26][31]);
+    }
+
+    @Test
+    @DisplayName("Distant changes should be reported as separate regions")
+    void testSeparateRegions() throws Exception {
+        IncrementalTextFloorPlanRenderer renderer = new TextVisualizer(room, tempDir.toString(), 10).incremental();
+        Room next = layout(new Furniture("Sofa", 2.0, 0.9, 0.8, 0.5, 1.0), desk,
+            new Furniture("Plant", 0.4, 0.4, 1.0, 4.3, 0.2));
+
+        assertEquals(2, renderer.update(next).size());
+        assertEquals(expectedGrid(next), gridText(renderer));
+        assertTrue(renderer.update(next).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalidated cells should be restored")
+    void testInvalidate() throws Exception {
+        IncrementalTextFloorPlanRenderer renderer = new TextVisualizer(room, tempDir.toString(), 10).incremental();
+        renderer.getGrid()[2][3] = '@';
+
+        assertEquals(List.of(new Rectangle(3, 2, 1, 1)), renderer.invalidate(new Rectangle(3, 2, 1, 1)));
+        assertEquals(expectedGrid(room), gridText(renderer));
+    }
+
+    @Test
+    @DisplayName("Rooms of another size should be rejected")
+    void testDifferentDimensions() {
+        IncrementalTextFloorPlanRenderer renderer = new TextVisualizer(room, tempDir.toString(), 10).incremental();
+        assertThrows(IllegalArgumentException.class, () -> renderer.update(new Room(5.0, 4.5, 2.5)));
+    }
+}
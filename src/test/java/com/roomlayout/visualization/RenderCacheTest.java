@@ -0,0 +1,159 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderCacheTest {
+    @TempDir
+    Path tempDir;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(5.0, 4.0, 2.5);
+        room.addFurniture(new Furniture("Sofa", 2.0, 0.9, 0.8, 0.5, 0.5));
+        room.addFurniture(new Furniture("Wardrobe", 1.2, 0.6, 2.0, 3.0, 0.0));
+        room.addDoor(new Door(Wall.SOUTH, 1.0, 0.9, 2.0));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.2, 1.0, 0.9));
+    }
+
+    @Test
+    @DisplayName("Cached PNG should decode to the rendered view")
+    void testPng() throws Exception {
+        RenderCache cache = new RenderCache(1 << 20);
+        byte[] png = cache.get(room, View.NORTH_WALL, 20, RenderCache.Format.PNG);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        BufferedImage expected = new ImageVisualizer(room, tempDir.toString(), 20).render(View.NORTH_WALL);
+        int w = expected.getWidth();
+        int h = expected.getHeight();
+        assertEquals(w, decoded.getWidth());
+        assertArrayEquals(expected.getRGB(0, 0, w, h, null, 0, w), decoded.getRGB(0, 0, w, h, null, 0, w));
+    }
+
+    @Test
+    @DisplayName("Cached text should match the streamed view")
+    void testText() throws Exception {
+        RenderCache cache = new RenderCache(1 << 20);
+        StringWriter expected = new StringWriter();
+        new TextVisualizer(room, tempDir.toString(), 10).writeCeiling(expected);
+
+        byte[] text = cache.get(room, View.CEILING, 10, RenderCache.Format.TEXT);
+
+        assertEquals(expected.toString(), new String(text, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Repeated lookups of an unchanged room should hit")
+    void testHits() {
+        RenderCache cache = new RenderCache(1 << 20);
+        byte[] first = cache.get(room, View.FLOOR_PLAN, 20, RenderCache.Format.PNG);
+        byte[] second = cache.get(room, View.FLOOR_PLAN, 20, RenderCache.Format.PNG);
+
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+        assertEquals(first.length, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("Equal copies of a room should share entries")
+    void testEqualRooms() {
+        RenderCache cache = new RenderCache(1 << 20);
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        cache.get(RoomSnapshot.of(room), View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Changing the room, view, scale or format should miss")
+    void testKeyParts() {
+        RenderCache cache = new RenderCache(1 << 20);
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        cache.get(room, View.CEILING, 10, RenderCache.Format.TEXT);
+        cache.get(room, View.FLOOR_PLAN, 12, RenderCache.Format.TEXT);
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.PNG);
+        room.addFurniture(new Furniture("Lamp", 0.3, 0.3, 1.5, 4.5, 3.5));
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+
+        assertEquals(0, cache.getHits());
+        assertEquals(5, cache.getMisses());
+        assertEquals(5, cache.getEntryCount());
+    }
+
+    @Test
+    @DisplayName("Least recently used entries should be evicted first")
+    void testEviction() {
+        int size = new RenderCache(1 << 20).get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT).length;
+        RenderCache cache = new RenderCache(2L * size);
+        Room other = new Room(5.0, 4.0, 2.5);
+        Room third = new Room(5.0, 4.0, 2.5);
+        third.addFurniture(new Furniture("Desk", 1.2, 0.6, 0.8, 0.0, 0.0));
+
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        cache.get(other, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        cache.get(third, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.getSize() <= cache.getMaxSize());
+        cache.get(room, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        assertEquals(2, cache.getHits());
+        cache.get(other, View.FLOOR_PLAN, 10, RenderCache.Format.TEXT);
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Cached views should be written to streams")
+    void testWrite() throws Exception {
+        RenderCache cache = new RenderCache(1 << 20);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        int length = cache.write(room, View.SOUTH_WALL, 10, RenderCache.Format.TEXT, first);
+        cache.write(room, View.SOUTH_WALL, 10, RenderCache.Format.TEXT, second);
+
+        assertEquals(first.size(), length);
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Outputs larger than the cache should not be kept")
+    void testOversizedOutput() {
+        RenderCache unbounded = new RenderCache(1 << 20);
+        int small = unbounded.get(room, View.CEILING, 2, RenderCache.Format.TEXT).length
+            + unbounded.get(room, View.NORTH_WALL, 2, RenderCache.Format.TEXT).length;
+        RenderCache cache = new RenderCache(small);
+        cache.get(room, View.CEILING, 2, RenderCache.Format.TEXT);
+        cache.get(room, View.NORTH_WALL, 2, RenderCache.Format.TEXT);
+
+        assertTrue(cache.get(room, View.FLOOR_PLAN, 40, RenderCache.Format.TEXT).length > small);
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(small, cache.getSize());
+        cache.get(room, View.CEILING, 2, RenderCache.Format.TEXT);
+        cache.get(room, View.NORTH_WALL, 2, RenderCache.Format.TEXT);
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RenderCache(-1));
+        RenderCache cache = new RenderCache(1 << 20);
+        assertThrows(IllegalArgumentException.class, () -> cache.get(room, View.CEILING, 0, RenderCache.Format.PNG));
+    }
+}
@@ -0,0 +1,79 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import com.roomlayout.placement.Corner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the streaming write methods produce the same text as the file-based views
+ */
+class TextVisualizerStreamingTest {
+
+    private Room room;
+    private TextVisualizer viz;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(6.0, 8.0, 2.7);
+        room.place("Sofa", 2.0, 1.0, 0.8)
+            .inCorner(Corner.SOUTH_WEST)
+            .build();
+        room.place("Wardrobe", 1.2, 0.6, 2.2)
+            .inCorner(Corner.NORTH_EAST)
+            .build();
+        room.addFurniture(new Furniture("Lamp", 0.1, 0.1, 1.5, 3.0, 4.0));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 0.9, 2.0));
+        room.addDoor(new Door(Wall.WEST, 2.0, 0.9, 2.0));
+        room.addWindow(new Window(Wall.EAST, 3.0, 1.2, 1.0, 0.9));
+        viz = new TextVisualizer(room, tempDir.toString(), 10);
+    }
+
+    @Test
+    void testStreamedViewsMatchSavedFiles() throws Exception {
+        viz.visualizeAll();
+
+        StringWriter floorPlan = new StringWriter();
+        viz.writeFloorPlan(floorPlan);
+        assertEquals(Files.readString(tempDir.resolve("floor_plan.txt")), floorPlan.toString());
+
+        for (Wall wall : new Wall[]{Wall.NORTH, Wall.SOUTH, Wall.EAST, Wall.WEST}) {
+            StringWriter wallView = new StringWriter();
+            viz.writeWall(wall, wallView);
+            assertEquals(Files.readString(tempDir.resolve(wall.toString().toLowerCase() + "_wall.txt")),
+                wallView.toString());
+        }
+
+        StringWriter ceiling = new StringWriter();
+        viz.writeCeiling(ceiling);
+        assertEquals(Files.readString(tempDir.resolve("ceiling.txt")), ceiling.toString());
+    }
+
+    @Test
+    void testStreamCompleteLayoutToChannel() throws Exception {
+        viz.visualizeAll();
+        Path streamed = tempDir.resolve("streamed.txt");
+
+        try (FileChannel channel = FileChannel.open(streamed, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            viz.writeAll(channel);
+        }
+
+        // Only the generation timestamp may differ
+        String expected = Files.readString(tempDir.resolve("complete_layout.txt"));
+        String actual = Files.readString(streamed);
+        assertEquals(expected.replaceAll("Generated: .*", ""), actual.replaceAll("Generated: .*", ""));
+        assertTrue(actual.contains("--- CEILING VIEW (Looking up) ---"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TiledFloorPlanRendererTest {
+    @TempDir
+    Path tempDir;
+    private Room room;
+    private ImageVisualizer visualizer;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(12.0, 8.0, 3.0);
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.8, 1.0, 1.0));
+        room.addFurniture(new Furniture("Bookshelf", 1.0, 0.3, 2.5, 2.5, 0.2));
+        room.addFurniture(new Furniture("Bed", 2.0, 1.6, 0.5, 4.0, 2.0));
+        room.addDoor(new Door(Wall.NORTH, 1.0, 1.0, 2.0));
+        room.addWindow(new Window(Wall.EAST, 1.0, 1.5, 1.0, 1.0));
+        visualizer = new ImageVisualizer(room, tempDir.toString(), 20);
+    }
+
+    @Test
+    @DisplayName("Tiles should hold the same pixels as the full floor plan")
+    void testTilesMatchFullRender() throws Exception {
+        BufferedImage full = visualizer.render(View.FLOOR_PLAN);
+        TiledFloorPlanRenderer tiles = visualizer.tiled(64);
+        assertEquals(full.getWidth(), tiles.getImageWidth());
+        assertEquals(full.getHeight(), tiles.getImageHeight());
+        assertEquals(5, tiles.getColumns());
+        assertEquals(4, tiles.getRows());
+
+        ConcurrentHashMap<Rectangle, BufferedImage> rendered = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int count = tiles.renderTiles(
+                (column, row, tile) -> rendered.put(tiles.tileBounds(column, row), tile), executor, false);
+            assertEquals(20, count);
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Rectangle bounds : rendered.keySet()) {
+            BufferedImage tile = rendered.get(bounds);
+            assertEquals(bounds.width, tile.getWidth());
+            assertEquals(bounds.height, tile.getHeight());
+            assertArrayEquals(full.getRGB(bounds.x, bounds.y, bounds.width, bounds.height, null, 0, bounds.width),
+                tile.getRGB(0, 0, bounds.width, bounds.height, null, 0, bounds.width));
+        }
+    }
+
+    @Test
+    @DisplayName("Tiles rendered on many threads over a crowded room should match the full floor plan")
+    void testConcurrentTilesOverCrowdedRoom() throws Exception {
+        Room crowded = new Room(12.0, 8.0, 3.0);
+        for (int i = 0; i < 60; i++) {
+            crowded.addFurniture(new Furniture("Crate" + i, 0.6, 0.5, 1.0,
+                0.5 + (i % 12) * 0.9, 0.5 + (i / 12) * 1.4, (i % 4) * 30));
+        }
+        ImageVisualizer crowdedVisualizer = new ImageVisualizer(crowded, tempDir.toString(), 20);
+        BufferedImage full = crowdedVisualizer.render(View.FLOOR_PLAN);
+        TiledFloorPlanRenderer tiles = crowdedVisualizer.tiled(16);
+
+        ConcurrentHashMap<Rectangle, BufferedImage> rendered = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 3; round++) {
+                tiles.renderTiles((column, row, tile) -> rendered.put(tiles.tileBounds(column, row), tile),
+                    executor, false);
+                for (Rectangle bounds : rendered.keySet()) {
+                    assertArrayEquals(full.getRGB(bounds.x, bounds.y, bounds.width, bounds.height, null, 0, bounds.width),
+                        rendered.get(bounds).getRGB(0, 0, bounds.width, bounds.height, null, 0, bounds.width));
+                }
+                rendered.clear();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Streamed PNG should match the full floor plan")
+    void testStreamedPng() throws Exception {
+        BufferedImage full = visualizer.render(View.FLOOR_PLAN);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            visualizer.tiled(50).writePng(out, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(full.getWidth(), decoded.getWidth());
+        assertEquals(full.getHeight(), decoded.getHeight());
+        int width = full.getWidth();
+        int height = full.getHeight();
+        assertArrayEquals(full.getRGB(0, 0, width, height, null, 0, width),
+            decoded.getRGB(0, 0, width, height, null, 0, width));
+    }
+
+    @Test
+    @DisplayName("Culling should skip tiles without furniture")
+    void testCullEmptyTiles() throws Exception {
+        TiledFloorPlanRenderer tiles = visualizer.tiled(64);
+        assertFalse(tiles.isEmpty(0, 0));
+        assertTrue(tiles.isEmpty(4, 3));
+
+        Path tileDir = Files.createDirectory(tempDir.resolve("tiles"));
+        int written = tiles.writeTiles(tileDir, Runnable::run, true);
+
+        assertEquals(6, written);
+        assertTrue(Files.exists(tileDir.resolve("floor_plan_1_1.png")));
+        assertFalse(Files.exists(tileDir.resolve("floor_plan_3_4.png")));
+    }
+
+    @Test
+    @DisplayName("Sink failures should surface as IOException")
+    void testSinkFailure() {
+        TiledFloorPlanRenderer tiles = visualizer.tiled(128);
+
+        assertThrows(IOException.class, () -> tiles.renderTiles((column, row, tile) -> {
+            throw new IOException("disk full");
+        }, Runnable::run, false));
+        assertThrows(IllegalArgumentException.class, () -> visualizer.tiled(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tiles.tileBounds(tiles.getColumns(), 0));
+    }
+}
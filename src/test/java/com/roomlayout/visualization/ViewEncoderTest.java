@@ -0,0 +1,139 @@
+package com.roomlayout.visualization;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewEncoderTest {
+    @TempDir
+    Path tempDir;
+    private Room room;
+    private ImageVisualizer image;
+    private TextVisualizer text;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(4.0, 3.0, 2.5);
+        room.addFurniture(new Furniture("Bed", 2.0, 1.6, 0.5, 0.5, 0.5));
+        room.addDoor(new Door(Wall.SOUTH, 1.0, 0.9, 2.0));
+        image = new ImageVisualizer(room, tempDir.resolve("images").toString(), 20);
+        text = new TextVisualizer(room, tempDir.resolve("text").toString(), 10);
+    }
+
+    private void assertSameImage(BufferedImage expected, byte[] png) throws Exception {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        int w = expected.getWidth();
+        int h = expected.getHeight();
+        assertEquals(w, decoded.getWidth());
+        assertEquals(h, decoded.getHeight());
+        assertArrayEquals(expected.getRGB(0, 0, w, h, null, 0, w), decoded.getRGB(0, 0, w, h, null, 0, w));
+    }
+
+    private long fileCount(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Images should be encoded as PNG to a stream")
+    void testImageToStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.write(View.EAST_WALL, out);
+
+        assertEquals("image/png", image.getContentType());
+        assertSameImage(image.render(View.EAST_WALL), out.toByteArray());
+        assertEquals(0, fileCount(tempDir.resolve("images")));
+    }
+
+    @Test
+    @DisplayName("Text should be encoded as UTF-8 to a stream")
+    void testTextToStream() throws Exception {
+        StringWriter expected = new StringWriter();
+        text.writeFloorPlan(expected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        text.write(View.FLOOR_PLAN, out);
+
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(text.getContentType().startsWith("text/plain"));
+        assertEquals(0, fileCount(tempDir.resolve("text")));
+    }
+
+    @Test
+    @DisplayName("Views should be written to channels")
+    void testChannel() throws Exception {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        text.write(View.NORTH_WALL, expected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        text.write(View.NORTH_WALL, Channels.newChannel(out));
+
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Views should be written into buffers from their position")
+    void testBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        buffer.put((byte) 42);
+
+        int written = image.write(View.FLOOR_PLAN, buffer);
+
+        assertEquals(1 + written, buffer.position());
+        buffer.flip();
+        assertEquals(42, buffer.get());
+        byte[] png = new byte[written];
+        buffer.get(png);
+        assertSameImage(image.render(View.FLOOR_PLAN), png);
+    }
+
+    @Test
+    @DisplayName("Buffers that are too small should be left unchanged")
+    void testBufferOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.position(10);
+
+        assertThrows(BufferOverflowException.class, () -> text.write(View.FLOOR_PLAN, buffer));
+        assertEquals(10, buffer.position());
+        assertThrows(BufferOverflowException.class, () -> image.write(View.FLOOR_PLAN, buffer));
+        assertEquals(10, buffer.position());
+    }
+
+    @Test
+    @DisplayName("Stream-only encoders should match the others without creating directories")
+    void testForStreams() throws Exception {
+        try (Stream<Path> before = Files.list(tempDir)) {
+            long entries = before.count();
+            ImageVisualizer streamImage = ImageVisualizer.forStreams(room, 20);
+            TextVisualizer streamText = TextVisualizer.forStreams(room, 10);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+            text.write(View.FLOOR_PLAN, expected);
+            streamText.write(View.FLOOR_PLAN, actual);
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            streamImage.write(View.CEILING, png);
+            assertSameImage(image.render(View.CEILING), png.toByteArray());
+            assertThrows(IllegalStateException.class, streamImage::visualizeFloorPlan);
+            assertThrows(IllegalStateException.class, streamText::visualizeFloorPlan);
+            try (Stream<Path> after = Files.list(tempDir)) {
+                assertEquals(entries, after.count());
+            }
+        }
+    }
+}
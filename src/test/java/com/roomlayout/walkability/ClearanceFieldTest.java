@@ -0,0 +1,71 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClearanceFieldTest {
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(6.0, 4.0, 2.5);
+        room.addDoor(new Door(Wall.SOUTH, 2.0, 0.9, 2.1));
+    }
+
+    @Test
+    @DisplayName("Should measure clearance to the walls of an empty room")
+    void testEmptyRoom() {
+        ClearanceField field = new ClearanceField(room);
+
+        assertEquals(2.0, field.getClearance(3.0, 2.0), 0.05);
+        assertEquals(0.5, field.getClearance(0.5, 2.0), 0.05);
+        assertEquals(0.0, field.getClearance(-1.0, 2.0));
+    }
+
+    @Test
+    @DisplayName("Adding pieces should match a full recomputation")
+    void testIncrementalAdd() {
+        ClearanceField field = new ClearanceField(room);
+        List<Furniture> pieces = List.of(
+            new Furniture("Sofa", 2.0, 0.9, 0.8, 0.5, 0.5),
+            new Furniture("Table", 1.2, 0.8, 0.75, 3.0, 1.8, 30),
+            new Furniture("Lamp", 0.3, 0.3, 1.6, 5.5, 3.5),
+            new Furniture("Rug", 1.5, 1.0, 0.01, 1.0, 2.5));
+        for (Furniture piece : pieces) {
+            room.addFurniture(piece);
+            field.add(piece);
+        }
+
+        ClearanceField fresh = new ClearanceField(room);
+        for (double x = 0.05; x < 6.0; x += 0.1) {
+            for (double y = 0.05; y < 4.0; y += 0.1) {
+                assertEquals(fresh.getClearance(x, y), field.getClearance(x, y), 0.05, "at " + x + ", " + y);
+            }
+        }
+        assertEquals(0.0, field.getClearance(1.0, 1.0));
+        assertEquals(0.5, field.getClearance(1.0, 1.9), 0.05);
+    }
+
+    @Test
+    @DisplayName("Should choose the cell size from a memory budget")
+    void testMemoryLimit() {
+        ClearanceField field = ClearanceField.withMemoryLimit(room, 100_000);
+
+        assertTrue(field.getMemoryUsage() <= 100_000);
+        assertTrue(field.getCellSize() < 0.1);
+        assertEquals(field.getCellCount() * 9L, field.getMemoryUsage());
+        assertThrows(IllegalArgumentException.class, () -> ClearanceField.withMemoryLimit(room, 100));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive cell size")
+    void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ClearanceField(room, 0));
+    }
+}
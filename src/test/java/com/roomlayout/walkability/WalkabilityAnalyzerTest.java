@@ -0,0 +1,150 @@
+package com.roomlayout.walkability;
+
+import com.roomlayout.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalkabilityAnalyzerTest {
+    private Room room;
+    private Door west;
+    private Door east;
+    private WalkabilityAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(6.0, 4.0, 2.5);
+        west = new Door(Wall.WEST, 1.5, 0.9, 2.1);
+        east = new Door(Wall.EAST, 1.5, 0.9, 2.1);
+        room.addDoor(west);
+        room.addDoor(east);
+        analyzer = new WalkabilityAnalyzer();
+    }
+
+    @Test
+    @DisplayName("Empty room should be walkable with doors as the narrowest points")
+    void testEmptyRoom() {
+        WalkabilityReport report = analyzer.analyze(room);
+
+        assertTrue(report.isWalkable());
+        assertEquals(1, report.getPassages().size());
+        Passage passage = report.getNarrowestPassage();
+        assertSame(west, passage.getFrom());
+        assertSame(east, passage.getTo());
+        assertTrue(passage.isWideEnough());
+        assertEquals(0.9, passage.getWidth(), 0.05 + 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should report a door with a piece standing in front of it")
+    void testBlockedDoor() {
+        Door north = new Door(Wall.NORTH, 1.0, 0.9, 2.1);
+        room.addDoor(north);
+        room.addFurniture(new Furniture("Wardrobe", 1.0, 0.6, 2.0, 1.0, 0.2));
+
+        WalkabilityReport report = analyzer.analyze(room);
+
+        assertEquals(List.of(north), report.getBlockedDoors());
+        assertTrue(report.getUnreachableDoors().isEmpty());
+        assertFalse(report.isWalkable());
+    }
+
+    @Test
+    @DisplayName("Should find the narrow gap that cuts a door off")
+    void testNarrowestCorridor() {
+        // Shelves across the room, leaving a 0.3m gap between y = 1.7 and y = 2.0
+        room.addFurniture(new Furniture("Shelf", 0.4, 1.7, 2.0, 3.0, 0.0));
+        room.addFurniture(new Furniture("Shelf", 0.4, 2.0, 2.0, 3.0, 2.0));
+
+        WalkabilityReport report = analyzer.analyze(room);
+
+        assertTrue(report.getBlockedDoors().isEmpty());
+        assertEquals(List.of(east), report.getUnreachableDoors());
+        Passage gap = report.getNarrowestPassage();
+        assertFalse(gap.isWideEnough());
+        assertEquals(0.3, gap.getWidth(), 0.05 + 1e-9);
+        assertEquals(3.2, gap.getLocation().getX(), 0.2);
+        assertEquals(1.85, gap.getLocation().getY(), 0.05);
+
+        WalkabilityReport relaxed = new WalkabilityAnalyzer(0.05, 0.3).analyze(room);
+        assertTrue(relaxed.isWalkable());
+    }
+
+    @Test
+    @DisplayName("Doors cut off completely should have no passage width")
+    void testDisconnectedDoor() {
+        room.addFurniture(new Furniture("Partition", 0.1, 4.0, 2.0, 3.0, 0.0));
+
+        WalkabilityReport report = analyzer.analyze(room);
+
+        Passage none = report.getNarrowestPassage();
+        assertEquals(0.0, none.getWidth());
+        assertNull(none.getLocation());
+        assertEquals(List.of(east), report.getUnreachableDoors());
+    }
+
+    @Test
+    @DisplayName("Should measure clearance to walls and pieces but walk over rugs")
+    void testClearance() {
+        room.addFurniture(new Furniture("Rug", 2.0, 1.5, 0.01, 2.0, 1.0));
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.75, 4.0, 1.5));
+
+        WalkabilityReport report = analyzer.analyze(room);
+
+        assertEquals(2.0, report.getClearance(2.0, 2.0), 0.05);
+        assertEquals(1.0, report.getClearance(3.0, 2.0), 0.05);
+        assertEquals(0.0, report.getClearance(4.5, 2.0));
+        assertEquals(0.0, report.getClearance(7.0, 2.0));
+    }
+
+    @Test
+    @DisplayName("Should reuse reports until the room changes")
+    void testCache() {
+        WalkabilityReport first = analyzer.analyze(room);
+        assertSame(first, analyzer.analyze(room));
+        assertEquals(1, analyzer.getHits());
+
+        room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 1.0));
+        WalkabilityReport second = analyzer.analyze(room);
+
+        assertNotSame(first, second);
+        assertEquals(2, analyzer.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should update the previous clearance field when furniture is only added")
+    void testIncrementalUpdate() {
+        room.addFurniture(new Furniture("Chair", 0.5, 0.5, 0.9, 1.0, 1.0));
+        WalkabilityReport first = analyzer.analyze(room);
+        double before = first.getClearance(2.5, 2.0);
+
+        room.addFurniture(new Furniture("Table", 1.0, 1.0, 0.75, 2.5, 2.5));
+        WalkabilityReport second = analyzer.analyze(room);
+        WalkabilityReport fresh = new WalkabilityAnalyzer().analyze(room);
+
+        assertEquals(1, analyzer.getIncrementalUpdates());
+        assertEquals(before, first.getClearance(2.5, 2.0));
+        assertEquals(fresh.getClearance(2.5, 2.0), second.getClearance(2.5, 2.0), analyzer.getCellSize());
+        assertEquals(fresh.isWalkable(), second.isWalkable());
+        assertEquals(fresh.getPassages().get(0).getWidth(), second.getPassages().get(0).getWidth(),
+            analyzer.getCellSize());
+
+        room.addDoor(new Door(Wall.NORTH, 4.0, 0.9, 2.1));
+        room.addFurniture(new Furniture("Lamp", 0.3, 0.3, 1.6, 5.0, 3.0));
+        analyzer.analyze(room);
+
+        assertEquals(1, analyzer.getIncrementalUpdates());
+        assertEquals(3, analyzer.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new WalkabilityAnalyzer(0, 0.6));
+        assertThrows(IllegalArgumentException.class, () -> new WalkabilityAnalyzer(0.05, -1));
+    }
+}